@@ -207,6 +207,16 @@ public interface Conf {
 
     Conf withFallback(final Conf fallback);
 
+    /**
+     * Gets an immutable view of this {@link Conf}, including all its fallbacks, which is optimized
+     * for configurations that are resolved repeatedly.
+     *
+     * @return  a new {@link FrozenConf} instance.
+     */
+    default Conf freeze() {
+        return FrozenConf.of(this);
+    }
+
     /**
      * Gets a required parameter as a list of instances of type {@link T}.
      *
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.config;
+
+import io.streamthoughts.azkarra.api.errors.InvalidConfException;
+import io.streamthoughts.azkarra.api.errors.MissingConfException;
+import io.streamthoughts.azkarra.api.util.TypeConverter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * An immutable {@link Conf} implementation which collapses a {@link Conf} and all its fallbacks
+ * into a single flat index.
+ *
+ * Lookups are resolved with a single hash lookup and converted values are memoized, so that
+ * configurations which are resolved repeatedly do not have to walk nested maps and fallback chains.
+ * The {@link #getConfAsMap()} and {@link #getConfAsProperties()} views are computed only once.
+ *
+ * @see Conf#freeze()
+ */
+public final class FrozenConf extends AbstractConf {
+
+    private static final int TYPE_STRING = 0;
+    private static final int TYPE_LONG = 1;
+    private static final int TYPE_INT = 2;
+    private static final int TYPE_BOOLEAN = 3;
+    private static final int TYPE_DOUBLE = 4;
+    private static final int TYPE_LIST = 5;
+    private static final int NUM_TYPES = 6;
+
+    private final Map<String, Entry> entries;
+
+    private final Set<String> prefixes;
+
+    private final Map<String, Object> confAsMap;
+
+    private final Properties confAsProperties;
+
+    private final Map<String, FrozenConf> subConfs = new ConcurrentHashMap<>();
+
+    /**
+     * Freezes the specified {@link Conf}.
+     *
+     * @param conf  the {@link Conf} to freeze.
+     * @return      a {@link FrozenConf} instance, or the given one if it is already frozen.
+     */
+    public static FrozenConf of(final Conf conf) {
+        Objects.requireNonNull(conf, "conf cannot be null");
+        if (conf instanceof FrozenConf) return (FrozenConf) conf;
+        return new FrozenConf(conf.getConfAsMap());
+    }
+
+    private FrozenConf(final Map<String, Object> flatten) {
+        final Map<String, Entry> entries = new HashMap<>(flatten.size() * 2);
+        final Set<String> prefixes = new HashSet<>();
+        for (Map.Entry<String, Object> e : flatten.entrySet()) {
+            final String key = e.getKey();
+            entries.put(key, new Entry(e.getValue()));
+            int index = key.indexOf('.');
+            while (index > 0) {
+                prefixes.add(key.substring(0, index));
+                index = key.indexOf('.', index + 1);
+            }
+        }
+        this.entries = Collections.unmodifiableMap(entries);
+        this.prefixes = Collections.unmodifiableSet(prefixes);
+        this.confAsMap = Collections.unmodifiableMap(new HashMap<>(flatten));
+        this.confAsProperties = new Properties();
+        this.confAsProperties.putAll(confAsMap);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getString(final String path) {
+        return (String) getConverted(path, TYPE_STRING, "String", TypeConverter::getString);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLong(final String path) {
+        return (Long) getConverted(path, TYPE_LONG, "Long", TypeConverter::getLong);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getInt(final String path) {
+        return (Integer) getConverted(path, TYPE_INT, "Integer", TypeConverter::getInt);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getBoolean(final String path) {
+        return (Boolean) getConverted(path, TYPE_BOOLEAN, "Boolean", TypeConverter::getBool);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDouble(final String path) {
+        return (Double) getConverted(path, TYPE_DOUBLE, "Double", TypeConverter::getDouble);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> getStringList(final String path) {
+        // the memoized list is shared by all callers, so it must not be modifiable.
+        return (List<String>) getConverted(path, TYPE_LIST, "List",
+            value -> Collections.unmodifiableList(new ArrayList<>(TypeConverter.getList(value))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Conf getSubConf(final String path) {
+        if (!prefixes.contains(path)) {
+            if (entries.containsKey(path)) {
+                throw new InvalidConfException(
+                    "Type mismatch for path '" + path + "': " + entries.get(path).typeName() + "<> Conf");
+            }
+            throw new MissingConfException(path);
+        }
+        return subConfs.computeIfAbsent(path, this::newSubConf);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Conf> getSubConfList(final String path) {
+        return (List<Conf>) getEntryOrThrow(path).value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasPath(final String path) {
+        return entries.containsKey(path) || prefixes.contains(path);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Conf withFallback(final Conf fallback) {
+        final Map<String, Object> merged = new HashMap<>(fallback.getConfAsMap());
+        merged.putAll(confAsMap);
+        return new FrozenConf(merged);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Conf freeze() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return  an immutable {@link Map}, computed only once.
+     */
+    @Override
+    public Map<String, Object> getConfAsMap() {
+        return confAsMap;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return  a copy of the {@link Properties} computed only once.
+     */
+    @Override
+    public Properties getConfAsProperties() {
+        // Properties are mutable, a copy must be returned to keep this conf immutable.
+        return (Properties) confAsProperties.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "FrozenConf{" + confAsMap + "}";
+    }
+
+    private FrozenConf newSubConf(final String path) {
+        final String prefix = path + '.';
+        final Map<String, Object> sub = new HashMap<>();
+        for (Map.Entry<String, Object> e : confAsMap.entrySet()) {
+            if (e.getKey().startsWith(prefix)) {
+                sub.put(e.getKey().substring(prefix.length()), e.getValue());
+            }
+        }
+        return new FrozenConf(sub);
+    }
+
+    private Entry getEntryOrThrow(final String path) {
+        final Entry entry = entries.get(path);
+        if (entry == null) {
+            throw new MissingConfException(path);
+        }
+        return entry;
+    }
+
+    private Object getConverted(final String path,
+                                final int type,
+                                final String typeName,
+                                final Function<Object, Object> converter) {
+        final Entry entry = getEntryOrThrow(path);
+        Object converted = entry.converted.get(type);
+        if (converted == null) {
+            try {
+                converted = converter.apply(entry.value);
+            } catch (final IllegalArgumentException e) {
+                throw new InvalidConfException(
+                    "Type mismatch for path '" + path + "': " + entry.typeName() + "<> " + typeName);
+            }
+            // benign race : the conversion is idempotent, and the array publishes the converted value safely.
+            entry.converted.set(type, converted);
+        }
+        return converted;
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final AtomicReferenceArray<Object> converted = new AtomicReferenceArray<>(NUM_TYPES);
+
+        Entry(final Object value) {
+            this.value = value;
+        }
+
+        String typeName() {
+            return value == null ? "null" : value.getClass().getSimpleName();
+        }
+    }
+}
@@ -31,9 +31,16 @@ public class RocksDBConfig {
     public static String ROCKS_DB_WRITE_BUFFER_SIZE_CONFIG       = "rocksdb.write.buffer.size";
     public static String ROCKS_DB_STATS_ENABLE_CONFIG            = "rocksdb.stats.enable";
     public static String ROCKS_DB_STATS_DUMP_PERIOD_SEC_CONFIG   = "rocksdb.stats.dump.period.sec";
+    public static String ROCKS_DB_STATS_POLL_INTERVAL_MS_CONFIG  = "rocksdb.stats.poll.interval.ms";
     public static String ROCKS_DB_LOG_DIR_CONFIG                 = "rocksdb.log.dir";
     public static String ROCKS_DB_LOG_LEVEL_CONFIG               = "rocksdb.log.level";
     public static String ROCKS_DB_LOG_MAX_FILE_SIZE_CONFIG       = "rocksdb.log.max.file.size";
+    public static String ROCKS_DB_MEMORY_MANAGED_CONFIG          = "rocksdb.memory.managed";
+    public static String ROCKS_DB_MEMORY_TOTAL_OFF_HEAP_CONFIG   = "rocksdb.memory.total.off.heap.bytes";
+    public static String ROCKS_DB_MEMORY_WRITE_BUFFER_RATIO_CONFIG = "rocksdb.memory.write.buffer.ratio";
+    public static String ROCKS_DB_MEMORY_HIGH_PRIO_POOL_RATIO_CONFIG = "rocksdb.memory.high.prio.pool.ratio";
+    public static String ROCKS_DB_MEMORY_STRICT_CAPACITY_LIMIT_CONFIG = "rocksdb.memory.strict.capacity.limit";
+    public static String ROCKS_DB_STORE_OVERRIDES_PREFIX         = "rocksdb.store.overrides.";
 
     private Map<String, String> configs = new HashMap<>();
 
@@ -67,6 +74,11 @@ public class RocksDBConfig {
         return this;
     }
 
+    public RocksDBConfig withStatsPollInterval(final Duration duration) {
+        configs.put(ROCKS_DB_STATS_POLL_INTERVAL_MS_CONFIG, String.valueOf(duration.toMillis()));
+        return this;
+    }
+
     public RocksDBConfig withLogDir(final String logDir) {
         configs.put(ROCKS_DB_LOG_DIR_CONFIG, logDir);
         return this;
@@ -82,6 +94,34 @@ public class RocksDBConfig {
         return this;
     }
 
+    public RocksDBConfig withMemoryManaged(final long totalOffHeapBytes) {
+        configs.put(ROCKS_DB_MEMORY_MANAGED_CONFIG, "true");
+        configs.put(ROCKS_DB_MEMORY_TOTAL_OFF_HEAP_CONFIG, String.valueOf(totalOffHeapBytes));
+        return this;
+    }
+
+    public RocksDBConfig withMemoryWriteBufferRatio(final double writeBufferRatio) {
+        configs.put(ROCKS_DB_MEMORY_WRITE_BUFFER_RATIO_CONFIG, String.valueOf(writeBufferRatio));
+        return this;
+    }
+
+    public RocksDBConfig withMemoryHighPriorityPoolRatio(final double highPriorityPoolRatio) {
+        configs.put(ROCKS_DB_MEMORY_HIGH_PRIO_POOL_RATIO_CONFIG, String.valueOf(highPriorityPoolRatio));
+        return this;
+    }
+
+    public RocksDBConfig withMemoryStrictCapacityLimit(final boolean strictCapacityLimit) {
+        configs.put(ROCKS_DB_MEMORY_STRICT_CAPACITY_LIMIT_CONFIG, String.valueOf(strictCapacityLimit));
+        return this;
+    }
+
+    public RocksDBConfig withStoreOverride(final String name, final String storePattern, final String option,
+                                           final String value) {
+        configs.put(ROCKS_DB_STORE_OVERRIDES_PREFIX + name + ".pattern", storePattern);
+        configs.put(ROCKS_DB_STORE_OVERRIDES_PREFIX + name + "." + option, value);
+        return this;
+    }
+
     public Conf conf() {
         return new MapConf(configs);
     }
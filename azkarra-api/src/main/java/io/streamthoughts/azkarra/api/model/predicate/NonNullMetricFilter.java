@@ -30,7 +30,16 @@ public class NonNullMetricFilter implements Predicate<Tuple<String, Metric>> {
      */
     @Override
     public boolean test(final Tuple<String, Metric> t) {
-        final Object value = t.right().value();
+        return isNotEmpty(t.right().value());
+    }
+
+    /**
+     * Checks whether the specified metric value is neither null, zero nor empty.
+     *
+     * @param value the metric value.
+     * @return      {@code true} if the value is not empty.
+     */
+    public static boolean isNotEmpty(final Object value) {
         if (value == null) return false;
 
         if (value instanceof Number) {
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An aggregation computed by each instance over its local store, so that only partial aggregates
+ * have to be returned to the instance serving the query.
+ *
+ * A partial aggregate is a {@link Map} which can be serialized to JSON and merged with the partial aggregates
+ * of the other instances. Its {@code result} entry always contains the aggregate value computed so far.
+ */
+public final class Aggregation {
+
+    public static final String PARTIAL_COUNT = "count";
+    public static final String PARTIAL_SUM = "sum";
+    public static final String PARTIAL_MIN = "min";
+    public static final String PARTIAL_MAX = "max";
+    public static final String PARTIAL_RESULT = "result";
+    public static final String TOP_ENTRY_KEY = "key";
+    public static final String TOP_ENTRY_VALUE = "value";
+
+    public enum Function {
+        /**
+         * The exact number of records.
+         */
+        COUNT,
+        /**
+         * The sum of the numeric values.
+         */
+        SUM,
+        /**
+         * The minimum numeric value.
+         */
+        MIN,
+        /**
+         * The maximum numeric value.
+         */
+        MAX,
+        /**
+         * The average of the numeric values.
+         */
+        AVG,
+        /**
+         * The N records having the highest numeric values.
+         */
+        TOP;
+
+        public static Optional<Function> parse(final String function) {
+            return Arrays.stream(values()).filter(f -> f.name().equalsIgnoreCase(function)).findFirst();
+        }
+
+        public String prettyName() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final Comparator<Map<String, Object>> TOP_ENTRY_COMPARATOR =
+        Comparator.comparingDouble(e -> ((Number) e.get(TOP_ENTRY_VALUE)).doubleValue());
+
+    private final Function function;
+
+    private final String[] field;
+
+    private final int topN;
+
+    // accessors of the fields of non-map values, keyed by class and field name.
+    private final Map<String, FieldAccessor> accessors = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link Aggregation} instance.
+     *
+     * @param function  the aggregate {@link Function}.
+     * @param field     the path of the numeric field of the record values, or {@code null} for numeric values.
+     *                  Each name of the path is resolved as a {@link Map} key, a getter, or through a
+     *                  {@code get(String)} method (e.g. Avro {@code GenericRecord}). Records for which the field
+     *                  cannot be resolved fail the aggregation, while records with a {@code null} value are ignored.
+     * @param topN      the number of records to return for {@link Function#TOP}.
+     */
+    public Aggregation(final Function function, final String field, final int topN) {
+        this.function = Objects.requireNonNull(function, "function cannot be null");
+        this.field = field == null || field.isEmpty() ? new String[0] : field.split("\\.");
+        if (topN <= 0) {
+            throw new IllegalArgumentException("topN must be positive, was: " + topN);
+        }
+        this.topN = topN;
+    }
+
+    public Function function() {
+        return function;
+    }
+
+    /**
+     * Creates a new accumulator for computing the partial aggregate of local records.
+     *
+     * @return  a new {@link Accumulator} instance.
+     */
+    public Accumulator newAccumulator() {
+        return new Accumulator();
+    }
+
+    /**
+     * Merges the specified partial aggregates into a single one.
+     *
+     * @param partials  the partial aggregates, possibly deserialized from the responses of remote instances.
+     * @return          the merged partial aggregate.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> merge(final Collection<?> partials) {
+        final Accumulator accumulator = new Accumulator();
+        partials.forEach(partial -> accumulator.merge((Map<String, Object>) partial));
+        return accumulator.partial();
+    }
+
+    private Number extract(final Object value) {
+        Object current = value;
+        for (String name : field) {
+            if (current == null) return null;
+            current = resolve(current, name);
+        }
+        if (current == null || current instanceof Number) return (Number) current;
+        throw new AzkarraException(
+            "Cannot aggregate non-numeric value of type " + current.getClass().getName() +
+            " for field '" + String.join(".", field) + "'");
+    }
+
+    private Object resolve(final Object object, final String name) {
+        if (object instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) object;
+            if (!map.containsKey(name)) throw unresolvedField(object, name);
+            return map.get(name);
+        }
+        final FieldAccessor accessor = accessors.computeIfAbsent(
+            object.getClass().getName() + "#" + name,
+            k -> findAccessor(object.getClass(), name));
+        try {
+            return accessor.get(object, name);
+        } catch (ReflectiveOperationException e) {
+            throw new AzkarraException("Failed to read field '" + name + "' of " + object.getClass().getName(), e);
+        }
+    }
+
+    private static FieldAccessor findAccessor(final Class<?> type, final String name) {
+        final String getter = "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        final Optional<Method> accessor = Arrays.stream(type.getMethods())
+            .filter(m -> m.getParameterCount() == 0)
+            .filter(m -> m.getName().equals(getter) || m.getName().equals(name))
+            .findFirst();
+        if (accessor.isPresent()) {
+            return (object, field) -> accessor.get().invoke(object);
+        }
+        final Optional<Method> getByName = findMethod(type, "get", String.class);
+        if (getByName.isEmpty()) {
+            return (object, field) -> {
+                throw unresolvedField(object, field);
+            };
+        }
+        // Avro GenericRecord returns null for unknown fields, their existence has to be checked through the schema.
+        final Optional<Method> getSchema = findMethod(type, "getSchema");
+        final Optional<Method> getField = getSchema
+            .flatMap(m -> findMethod(m.getReturnType(), "getField", String.class));
+        return (object, field) -> {
+            if (getField.isPresent() && getField.get().invoke(getSchema.get().invoke(object), field) == null) {
+                throw unresolvedField(object, field);
+            }
+            return getByName.get().invoke(object, field);
+        };
+    }
+
+    private static Optional<Method> findMethod(final Class<?> type, final String name, final Class<?>... parameters) {
+        try {
+            return Optional.of(type.getMethod(name, parameters));
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static AzkarraException unresolvedField(final Object object, final String name) {
+        return new AzkarraException(
+            "Cannot resolve field '" + name + "' of value of type " + object.getClass().getName());
+    }
+
+    private static boolean isIntegral(final Number n) {
+        return n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte ||
+               n instanceof BigInteger;
+    }
+
+    private static Number plus(final Number n1, final Number n2) {
+        if (n1 == null) return n2;
+        if (n2 == null) return n1;
+        if (n1 instanceof BigDecimal || n2 instanceof BigDecimal) return toBigDecimal(n1).add(toBigDecimal(n2));
+        if (!isIntegral(n1) || !isIntegral(n2)) return n1.doubleValue() + n2.doubleValue();
+        if (!(n1 instanceof BigInteger) && !(n2 instanceof BigInteger)) {
+            try {
+                return Math.addExact(n1.longValue(), n2.longValue());
+            } catch (ArithmeticException e) {
+                // the sum overflows a long, fallback to BigInteger.
+            }
+        }
+        return toBigInteger(n1).add(toBigInteger(n2));
+    }
+
+    private static BigInteger toBigInteger(final Number n) {
+        return n instanceof BigInteger ? (BigInteger) n : BigInteger.valueOf(n.longValue());
+    }
+
+    private static BigDecimal toBigDecimal(final Number n) {
+        if (n instanceof BigDecimal) return (BigDecimal) n;
+        if (n instanceof BigInteger) return new BigDecimal((BigInteger) n);
+        return isIntegral(n) ? BigDecimal.valueOf(n.longValue()) : BigDecimal.valueOf(n.doubleValue());
+    }
+
+    private static Number min(final Number n1, final Number n2) {
+        if (n1 == null) return n2;
+        if (n2 == null) return n1;
+        return n2.doubleValue() < n1.doubleValue() ? n2 : n1;
+    }
+
+    private static Number max(final Number n1, final Number n2) {
+        if (n1 == null) return n2;
+        if (n2 == null) return n1;
+        return n2.doubleValue() > n1.doubleValue() ? n2 : n1;
+    }
+
+    @FunctionalInterface
+    private interface FieldAccessor {
+
+        Object get(final Object object, final String field) throws ReflectiveOperationException;
+    }
+
+    /**
+     * Accumulates records into a partial aggregate. This class is not thread-safe.
+     */
+    public final class Accumulator {
+
+        private long count = 0L;
+        private Number sum;
+        private Number min;
+        private Number max;
+        private final PriorityQueue<Map<String, Object>> top = new PriorityQueue<>(TOP_ENTRY_COMPARATOR);
+
+        /**
+         * Adds the specified record to this aggregate.
+         *
+         * @param key   the record key.
+         * @param value the record value.
+         */
+        public void add(final Object key, final Object value) {
+            if (function == Function.COUNT) {
+                count++;
+                return;
+            }
+            final Number number = extract(value);
+            if (number == null) return;
+
+            if (function == Function.TOP) {
+                final Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put(TOP_ENTRY_KEY, key);
+                entry.put(TOP_ENTRY_VALUE, number);
+                offer(entry);
+            } else {
+                count++;
+                sum = plus(sum, number);
+                min = min(min, number);
+                max = max(max, number);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void merge(final Map<String, Object> partial) {
+            if (function == Function.TOP) {
+                ((List<Map<String, Object>>) partial.get(PARTIAL_RESULT)).forEach(this::offer);
+                return;
+            }
+            count += ((Number) partial.get(PARTIAL_COUNT)).longValue();
+            sum = plus(sum, (Number) partial.get(PARTIAL_SUM));
+            min = min(min, (Number) partial.get(PARTIAL_MIN));
+            max = max(max, (Number) partial.get(PARTIAL_MAX));
+        }
+
+        private void offer(final Map<String, Object> entry) {
+            top.offer(entry);
+            if (top.size() > topN) {
+                top.poll();
+            }
+        }
+
+        /**
+         * Gets the partial aggregate of all the records added so far.
+         *
+         * @return  the partial aggregate.
+         */
+        public Map<String, Object> partial() {
+            final Map<String, Object> partial = new LinkedHashMap<>();
+            if (function == Function.TOP) {
+                final List<Map<String, Object>> entries = new ArrayList<>(top);
+                entries.sort(TOP_ENTRY_COMPARATOR.reversed());
+                partial.put(PARTIAL_RESULT, entries);
+                return partial;
+            }
+            partial.put(PARTIAL_COUNT, count);
+            if (function != Function.COUNT) {
+                partial.put(PARTIAL_SUM, sum);
+                partial.put(PARTIAL_MIN, min);
+                partial.put(PARTIAL_MAX, max);
+            }
+            partial.put(PARTIAL_RESULT, result());
+            return partial;
+        }
+
+        private Object result() {
+            switch (function) {
+                case COUNT: return count;
+                case SUM: return sum == null ? 0L : sum;
+                case MIN: return min;
+                case MAX: return max;
+                case AVG: return count == 0 ? null : sum.doubleValue() / count;
+                default: throw new IllegalStateException("Unexpected function: " + function);
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@ import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Either;
 import io.streamthoughts.azkarra.api.monad.Retry;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.api.query.internal.PreparedQuery;
 import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
 import io.streamthoughts.azkarra.api.query.result.QueryError;
@@ -34,6 +35,7 @@ import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
 import io.streamthoughts.azkarra.api.query.result.QueryStatus;
 import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.KeyQueryInfo;
 import io.streamthoughts.azkarra.api.streams.StreamsServerInfo;
 import io.streamthoughts.azkarra.api.time.Time;
 import io.streamthoughts.azkarra.api.util.FutureCollectors;
@@ -44,14 +46,24 @@ import org.apache.kafka.streams.errors.InvalidStateStoreException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -62,20 +74,67 @@ public class DistributedQuery<K, V> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DistributedQuery.class);
 
+    /**
+     * The time after which a parallel query without timeout stops waiting for the instances.
+     */
+    static final Duration DEFAULT_PARALLEL_QUERY_TIMEOUT = Duration.ofSeconds(30);
+
     private final RemoteQueryClient remoteQueryClient;
 
     private final PreparedQuery<K, V> query;
 
+    private final ScheduledExecutorService executor;
+
+    private final LatencyTracker latencies;
+
+    private final NearCache nearCache;
+
     /**
      * Creates a new {@link DistributedQuery} instance.
      *
      */
     public DistributedQuery(final RemoteQueryClient remoteQueryClient,
                             final PreparedQuery<K, V> query) {
+        this(remoteQueryClient, query, null, new LatencyTracker());
+    }
+
+    /**
+     * Creates a new {@link DistributedQuery} instance.
+     *
+     * @param remoteQueryClient the {@link RemoteQueryClient} used to query remote instances.
+     * @param query             the {@link PreparedQuery} to execute.
+     * @param executor          the {@link ScheduledExecutorService} used in parallel execution mode.
+     * @param latencies         the {@link LatencyTracker} used for sending hedged requests.
+     */
+    public DistributedQuery(final RemoteQueryClient remoteQueryClient,
+                            final PreparedQuery<K, V> query,
+                            final ScheduledExecutorService executor,
+                            final LatencyTracker latencies) {
+        this(remoteQueryClient, query, executor, latencies, null);
+    }
+
+    /**
+     * Creates a new {@link DistributedQuery} instance.
+     *
+     * @param remoteQueryClient the {@link RemoteQueryClient} used to query remote instances.
+     * @param query             the {@link PreparedQuery} to execute.
+     * @param executor          the {@link ScheduledExecutorService} used in parallel execution mode.
+     * @param latencies         the {@link LatencyTracker} used for sending hedged requests.
+     * @param nearCache         the {@link NearCache} used for serving key-queries, may be {@code null}.
+     */
+    public DistributedQuery(final RemoteQueryClient remoteQueryClient,
+                            final PreparedQuery<K, V> query,
+                            final ScheduledExecutorService executor,
+                            final LatencyTracker latencies,
+                            final NearCache nearCache) {
         Objects.requireNonNull(remoteQueryClient, "remoteQueryClient cannot be null");
         Objects.requireNonNull(query, "query cannot be null");
+        Objects.requireNonNull(latencies, "latencies cannot be null");
         this.remoteQueryClient = remoteQueryClient;
         this.query = query;
+        this.executor = executor;
+        this.latencies = latencies;
+        this.nearCache = nearCache;
     }
 
     /**
@@ -103,8 +162,12 @@ public class DistributedQuery<K, V> {
         }
 
         QueryResult<K, V> result;
-        if (query.isKeyedQuery()) {
+        if (options.partitions().isPresent()) {
+            result = queryLocalPartitions(streams, options, false);
+        } else if (query.isKeyedQuery()) {
             result = querySingleHostStateStore(streams, options);
+        } else if (query.isMultiKeyedQuery()) {
+            result = queryMultiKeysStateStore(streams, options);
         } else {
             result = queryMultiHostStateStore(streams, options);
         }
@@ -123,44 +186,325 @@ public class DistributedQuery<K, V> {
             return buildNotAvailableResult(streams.applicationServer(), error);
         }
 
-        List<CompletableFuture<QueryResult<K, V>>> remotes = null;
-        if (options.remoteAccessAllowed()) {
-            // Forward query to all remote instances
-            RemoteQueryContext context = new RemoteQueryContext(
-                streams.applicationServer(),
-                options.withRemoteAccessAllowed(false));
-            remotes = servers.stream()
-                .filter(Predicate.not(StreamsServerInfo::isLocal))
-                .map(server -> context.executeAsyncQueryRemotely(server, false))
-                .collect(Collectors.toList());
-        }
-        //Execute the query locally only if the local instance own the queried store.
-        LocalQueryContext localQueryContext = new LocalQueryContext(streams, options);
-        servers.stream()
-            .filter(StreamsServerInfo::isLocal)
+        final Optional<QueryCursor> cursor = options.isPaginated() && query.isPageableQuery() ?
+            options.cursor() :
+            Optional.empty();
+
+        // Skip all instances for which the store was already fully scanned by a previous page.
+        final List<StreamsServerInfo> targets = servers.stream()
+            .filter(server -> cursor.map(c -> !c.isCompleted(server.hostAndPort())).orElse(true))
+            .collect(Collectors.toList());
+
+        boolean timeout = false;
+        if (options.isParallel() && executor != null) {
+            timeout = executeInParallel(streams, targets, options, results);
+        } else {
+            List<CompletableFuture<QueryResult<K, V>>> remotes = null;
+            if (options.remoteAccessAllowed()) {
+                // Forward query to all remote instances
+                RemoteQueryContext context = new RemoteQueryContext(
+                    streams.applicationServer(),
+                    options.withRemoteAccessAllowed(false));
+                remotes = targets.stream()
+                    .filter(Predicate.not(StreamsServerInfo::isLocal))
+                    .map(server -> context.executeAsyncQueryRemotely(server, false))
+                    .collect(Collectors.toList());
+            }
+            //Execute the query locally only if the local instance own the queried store.
+            LocalQueryContext localQueryContext = new LocalQueryContext(streams, options);
+            targets.stream()
+                .filter(StreamsServerInfo::isLocal)
+                .findFirst()
+                .map(target -> localQueryContext.execute(target, false).getResult().unwrap().get(0)
+                ).ifPresent(results::add);
+
+            if (remotes != null) {
+                // Blocking
+                results.addAll(waitRemoteThenGet(remotes));
+            }
+        }
+
+        final QueryResult<K, V> result = buildQueryResult(
+            streams.applicationServer(),
+            maybeMergeAggregates(streams.applicationServer(), results)
+        ).timeout(timeout);
+        if (cursor.isEmpty()) {
+            return result;
+        }
+
+        final QueryCursor next = nextCursor(cursor.get(), results);
+        final List<String> allServers = servers.stream()
+            .map(StreamsServerInfo::hostAndPort)
+            .collect(Collectors.toList());
+        return result.cursor(next.isCompleted(allServers) ? null : next);
+    }
+
+    /**
+     * Merges the partial aggregates returned by all the instances into a single result set, if this query
+     * is an aggregate query.
+     * The merged aggregate is still a partial one, so that it can be merged again by the instance which
+     * may have forwarded this query.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Either<SuccessResultSet<K, V>, ErrorResultSet>> maybeMergeAggregates(
+            final String localServerName,
+            final List<Either<SuccessResultSet<K, V>, ErrorResultSet>> results) {
+        if (!query.isAggregateQuery()) {
+            return results;
+        }
+        final List<Object> partials = new LinkedList<>();
+        final List<Either<SuccessResultSet<K, V>, ErrorResultSet>> merged = new LinkedList<>();
+        for (Either<SuccessResultSet<K, V>, ErrorResultSet> rs : results) {
+            if (rs.isLeft()) {
+                rs.left().get().getRecords().forEach(kv -> partials.add(kv.value()));
+            } else {
+                merged.add(rs);
+            }
+        }
+        if (!partials.isEmpty()) {
+            final Aggregation aggregation = query.aggregation();
+            final KV<K, V> record = (KV<K, V>) KV.of(
+                aggregation.function().prettyName(),
+                aggregation.merge(partials));
+            merged.add(0, Either.left(new SuccessResultSet<>(localServerName, false, List.of(record))));
+        }
+        return merged;
+    }
+
+    /**
+     * Groups the keys of this multi-keys query by the instance hosting them, then sends a single sub-query
+     * per instance. Remote sub-queries are sent concurrently and all results are merged.
+     */
+    private QueryResult<K, V> queryMultiKeysStateStore(final KafkaStreamsContainer streams,
+                                                       final Queried options) {
+        final String serverName = streams.applicationServer();
+        final Serializer<K> keySerializer = keySerializer(streams);
+
+        final Map<StreamsServerInfo, List<K>> keysByServer = new LinkedHashMap<>();
+        final List<K> unavailable = new LinkedList<>();
+        for (K key : query.keys()) {
+            streams.getMetadataForStoreAndKey(query.storeName(), key, keySerializer)
+                .ifPresentOrElse(
+                    server -> keysByServer.computeIfAbsent(server, s -> new ArrayList<>()).add(key),
+                    () -> unavailable.add(key));
+        }
+
+        final List<Either<SuccessResultSet<K, V>, ErrorResultSet>> results = new LinkedList<>();
+        final List<Either<SuccessResultSet<K, V>, ErrorResultSet>> notQueried = new LinkedList<>();
+        final List<CompletableFuture<QueryResult<K, V>>> remotes = new LinkedList<>();
+        // Sub-queries must only be executed on the instance which is hosting the keys.
+        final Queried remoteOptions = options.withRemoteAccessAllowed(false);
+        keysByServer.forEach((server, keys) -> {
+            if (server.isLocal()) return;
+            if (options.remoteAccessAllowed()) {
+                final RemoteQueryContext context = new RemoteQueryContext(
+                    serverName,
+                    remoteOptions,
+                    query.withKeys(keys));
+                remotes.add(context.executeAsyncQueryRemotely(server, false));
+            } else {
+                // the keys may have been migrated to another instance since this query was forwarded.
+                final QueryError error = new QueryError(
+                    "remote access is not allowed, keys " + keys + " are hosted by '" + server.hostAndPort() + "'");
+                notQueried.add(Either.right(new ErrorResultSet(server.hostAndPort(), true, error)));
+            }
+        });
+
+        keysByServer.entrySet().stream()
+            .filter(e -> e.getKey().isLocal())
             .findFirst()
-            .map(target -> localQueryContext.execute(target, false).getResult().unwrap().get(0)
-            ).ifPresent(results::add);
+            .map(e -> new LocalQueryContext(streams, options, query.withKeys(e.getValue()))
+                .execute(e.getKey(), false).getResult().unwrap().get(0))
+            .ifPresent(results::add);
+
+        results.addAll(waitRemoteThenGet(remotes));
+        results.addAll(notQueried);
+
+        if (!unavailable.isEmpty()) {
+            final QueryError error = new QueryError(
+                "no metadata available for store '" + query.storeName() + "', keys " + unavailable);
+            results.add(Either.right(new ErrorResultSet(serverName, false, error)));
+        }
+        return buildQueryResult(serverName, results);
+    }
+
+    /**
+     * Executes the query concurrently on all the specified instances and waits for their results until
+     * the query timeout expires, or {@link #DEFAULT_PARALLEL_QUERY_TIMEOUT} if none is set.
+     * Instances which did not respond in time are reported as failed.
+     *
+     * @return {@code true} if the query timed out before all results were received.
+     */
+    private boolean executeInParallel(final KafkaStreamsContainer streams,
+                                      final List<StreamsServerInfo> targets,
+                                      final Queried options,
+                                      final List<Either<SuccessResultSet<K, V>, ErrorResultSet>> results) {
+        final String localServerName = streams.applicationServer();
+        final RemoteQueryContext remoteContext = new RemoteQueryContext(
+            localServerName,
+            options.withRemoteAccessAllowed(false));
+        final LocalQueryContext localContext = new LocalQueryContext(streams, options);
+
+        final Map<StreamsServerInfo, CompletableFuture<QueryResult<K, V>>> futures = new LinkedHashMap<>();
+        for (StreamsServerInfo target : targets) {
+            if (target.isLocal()) {
+                futures.put(target, CompletableFuture
+                    .supplyAsync(() -> localContext.execute(target, false), executor)
+                    .exceptionally(t -> buildInternalErrorResult(localServerName, target.hostAndPort(), t)));
+            } else if (options.remoteAccessAllowed()) {
+                futures.put(target, executeHedgedQueryRemotely(streams, remoteContext, target, options));
+            }
+        }
+
+        boolean timeout = false;
+        final Duration deadline = options.queryTimeout().isZero() ?
+            DEFAULT_PARALLEL_QUERY_TIMEOUT :
+            options.queryTimeout();
+        final CompletableFuture<Void> all = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]));
+        try {
+            all.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeout = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timeout = true;
+        } catch (ExecutionException e) {
+            // futures should never complete exceptionally.
+            LOG.error("Unexpected error happens while waiting for query results", e);
+        }
+
+        futures.forEach((target, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                results.addAll(future.join().getResult().unwrap());
+            } else {
+                future.cancel(true);
+                final QueryError error = new QueryError(
+                    "No result received before query timeout (" + deadline.toMillis() + "ms)");
+                results.add(Either.right(new ErrorResultSet(target.hostAndPort(), !target.isLocal(), error)));
+            }
+        });
+        return timeout;
+    }
 
-        if (remotes != null) {
-            // Blocking
-            results.addAll(waitRemoteThenGet(remotes));
+    /**
+     * Forwards the query to the specified remote instance. If hedging is enabled and the instance does not
+     * respond within its latency percentile, then a duplicate request is sent to a standby replica hosting
+     * the same partitions. The first successful result is returned.
+     */
+    private CompletableFuture<QueryResult<K, V>> executeHedgedQueryRemotely(final KafkaStreamsContainer streams,
+                                                                          final RemoteQueryContext context,
+                                                                          final StreamsServerInfo target,
+                                                                          final Queried options) {
+        final CompletableFuture<QueryResult<K, V>> primary = executeTimedQueryRemotely(context, target, options);
+
+        // Paginated queries are resumed using the position of each instance and cannot be hedged.
+        if (!options.isHedgingEnabled() || options.isPaginated()) {
+            return primary;
         }
 
-        return buildQueryResult(streams.applicationServer(), results);
+        final Optional<Duration> delay = latencies.percentile(target.hostAndPort(), options.hedgingPercentile());
+        if (delay.isEmpty()) {
+            return primary;
+        }
+
+        final Set<Integer> partitions = streams.getStorePartitions(query.storeName(), target.assignments());
+        final Optional<StreamsServerInfo> standby = findStandbyFor(streams, target, partitions, options);
+        if (partitions.isEmpty() || standby.isEmpty()) {
+            return primary;
+        }
+
+        final CompletableFuture<QueryResult<K, V>> result = new CompletableFuture<>();
+        primary.thenAccept(result::complete);
+        final ScheduledFuture<?> hedge = executor.schedule(() -> {
+            if (result.isDone()) return;
+            LOG.debug("Sending hedged query to standby server {} for slow server {}",
+                standby.get().hostAndPort(), target.hostAndPort());
+            final RemoteQueryContext hedgeContext = new RemoteQueryContext(
+                context.localServerName,
+                context.options.withPartitions(partitions));
+            executeTimedQueryRemotely(hedgeContext, standby.get(), options)
+                .thenAccept(rs -> {
+                    // Ignore a failed hedged request, the primary one may still succeed.
+                    if (rs.getStatus() == QueryStatus.SUCCESS) result.complete(rs);
+                });
+        }, delay.get().toMillis(), TimeUnit.MILLISECONDS);
+        result.whenComplete((rs, t) -> hedge.cancel(false));
+        return result;
+    }
+
+    private CompletableFuture<QueryResult<K, V>> executeTimedQueryRemotely(final RemoteQueryContext context,
+                                                                         final StreamsServerInfo target,
+                                                                         final Queried options) {
+        final long start = Time.SYSTEM.milliseconds();
+        return context.executeAsyncQueryRemotely(target, false).whenComplete((rs, t) -> {
+            if (rs != null && rs.getStatus() != QueryStatus.ERROR) {
+                latencies.record(target.hostAndPort(), Time.SYSTEM.milliseconds() - start);
+            }
+        });
+    }
+
+    private Optional<StreamsServerInfo> findStandbyFor(final KafkaStreamsContainer streams,
+                                                       final StreamsServerInfo active,
+                                                       final Set<Integer> partitions,
+                                                       final Queried options) {
+        return streams.getAllMetadata()
+            .stream()
+            .filter(server -> !server.hostAndPort().equals(active.hostAndPort()))
+            .filter(server -> options.remoteAccessAllowed() || server.isLocal())
+            .filter(server -> server.standbyStores().contains(query.storeName()))
+            .filter(server -> streams.getStorePartitions(query.storeName(), server.standbyAssignments())
+                .containsAll(partitions))
+            .min(Comparator.comparing(server -> latencies
+                .percentile(server.hostAndPort(), options.hedgingPercentile())
+                .orElse(Duration.ZERO)));
+    }
+
+    /**
+     * Executes the query on the local instance for the requested partitions only, reading them either from
+     * active or standby replicas. This is used for serving hedged requests and key-queries on standby replicas.
+     */
+    private QueryResult<K, V> queryLocalPartitions(final KafkaStreamsContainer streams,
+                                                   final Queried options,
+                                                   final boolean failable) {
+        final Set<Integer> partitions = options.partitions().orElseThrow();
+        if (options.maxOffsetLag().isPresent()) {
+            final long maxOffsetLag = options.maxOffsetLag().get();
+            for (Integer partition : partitions) {
+                final Optional<Long> lag = streams.getLocalStorePartitionLag(query.storeName(), partition);
+                if (lag.isEmpty() || lag.get() > maxOffsetLag) {
+                    String error = "offset lag for store '" + query.storeName() + "', partition " + partition +
+                        " is " + lag.map(String::valueOf).orElse("unknown") + " (max " + maxOffsetLag + ")";
+                    return buildNotAvailableResult(streams.applicationServer(), error);
+                }
+            }
+        }
+        final LocalQueryContext context = new LocalQueryContext(streams, options);
+        return streams.executeOnPartitions(partitions, () -> context.execute(null, failable));
+    }
+
+    /**
+     * Computes the cursor to be used for querying the next page from the positions returned by each instance.
+     * The position of an instance is left unchanged if it failed to respond, so that its page can be re-queried.
+     */
+    private QueryCursor nextCursor(final QueryCursor cursor,
+                                   final List<Either<SuccessResultSet<K, V>, ErrorResultSet>> results) {
+        QueryCursor next = cursor;
+        for (Either<SuccessResultSet<K, V>, ErrorResultSet> rs : results) {
+            if (rs.isLeft()) {
+                final SuccessResultSet<K, V> success = rs.left().get();
+                if (success.getPosition() == null) {
+                    next = next.withCompleted(success.getServer());
+                } else {
+                    next = next.withPosition(success.getServer(), success.getPosition());
+                }
+            }
+        }
+        return next;
     }
 
     private QueryResult<K, V> querySingleHostStateStore(final KafkaStreamsContainer streams,
                                                         final Queried options) {
-        final Serializer<K> keySerializer;
-        if (query.keySerializer() != null) {
-            keySerializer = query.keySerializer();
-        } else {
-            // Let's try to get the default configured key serializer, fallback to StringSerializer otherwise.
-            @SuppressWarnings("unchecked")
-            final Serde<K> serde = (Serde<K>) streams.getDefaultKeySerde().orElse(Serdes.String());
-            keySerializer = serde.serializer();
-        }
+        final Serializer<K> keySerializer = keySerializer(streams);
 
         // Try to query
         final Retry retry = Retry
@@ -198,7 +542,7 @@ public class DistributedQuery<K, V> {
                                                         final Queried options) throws AzkarraException {
         final String serverName = streams.applicationServer();
 
-        final Optional<StreamsServerInfo> info = streams.getMetadataForStoreAndKey(
+        final Optional<KeyQueryInfo> info = streams.getKeyQueryInfoForStore(
             query.storeName(),
             query.key(),
             keySerializer
@@ -209,10 +553,83 @@ public class DistributedQuery<K, V> {
             return buildNotAvailableResult(serverName, error);
         }
 
-        final StreamsServerInfo targetServer = info.get();
+        final KeyQueryInfo keyQueryInfo = info.get();
+        if (isNearCacheEnabled(options)) {
+            return executeKeyQueryWithNearCache(streams, keySerializer, keyQueryInfo, options);
+        }
+        return executeKeyQuery(streams, keyQueryInfo, options);
+    }
+
+    private QueryResult<K, V> executeKeyQuery(final KafkaStreamsContainer streams,
+                                              final KeyQueryInfo keyQueryInfo,
+                                              final Queried options) {
+        if (options.maxOffsetLag().isEmpty() || keyQueryInfo.standbys().isEmpty()) {
+            return executeKeyQuery(streams, keyQueryInfo.active(), options);
+        }
+        return executeKeyQueryWithStandbys(streams, keyQueryInfo, options);
+    }
+
+    /**
+     * Executes this key-query on the active replica first, then on each standby replica (the local one first)
+     * until one of them is available. Standby replicas are only read if their offset lag does not exceed
+     * the {@link Queried#maxOffsetLag()}, which is checked by the instance hosting the replica.
+     *
+     * @throws AzkarraRetriableException if neither the active replica nor any standby replica is available.
+     */
+    private QueryResult<K, V> executeKeyQueryWithStandbys(final KafkaStreamsContainer streams,
+                                                          final KeyQueryInfo keyQueryInfo,
+                                                          final Queried options) {
+        final List<StreamsServerInfo> candidates = new ArrayList<>();
+        candidates.add(keyQueryInfo.active());
+        candidates.addAll(keyQueryInfo.standbys());
+
+        // The active replica should fail fast while restoring so that standby replicas can be queried.
+        final Queried activeOptions = options.withRetries(0);
+        // A standby sub-query must be executed by the instance hosting the replica and never be routed again.
+        final Queried standbyOptions = options
+            .withPartitions(Set.of(keyQueryInfo.partition()))
+            .withRemoteAccessAllowed(false);
+
+        AzkarraRetriableException lastError = null;
+        for (StreamsServerInfo target : candidates) {
+            final boolean isActive = target == keyQueryInfo.active();
+            try {
+                final QueryResult<K, V> result = isActive ?
+                    executeKeyQuery(streams, target, activeOptions) :
+                    executeStandbyKeyQuery(streams, target, options.remoteAccessAllowed(), standbyOptions);
+                if (isAvailable(result)) {
+                    return result;
+                }
+                lastError = new AzkarraRetriableException(
+                    "replica on '" + target.hostAndPort() + "' is not available: " + result.getStatus());
+            } catch (AzkarraRetriableException e) {
+                lastError = e;
+            }
+            LOG.debug("Cannot query {} replica on {} for key '{}', store '{}'",
+                isActive ? "active" : "standby", target.hostAndPort(), query.key(), query.storeName());
+        }
+        throw lastError;
+    }
+
+    private QueryResult<K, V> executeStandbyKeyQuery(final KafkaStreamsContainer streams,
+                                                     final StreamsServerInfo targetServer,
+                                                     final boolean remoteAccessAllowed,
+                                                     final Queried standbyOptions) throws AzkarraException {
+        if (targetServer.isLocal() || !remoteAccessAllowed) {
+            return executeKeyQuery(streams, targetServer, standbyOptions);
+        }
+        return new RemoteQueryContext(streams.applicationServer(), standbyOptions).execute(targetServer, true);
+    }
 
+    private QueryResult<K, V> executeKeyQuery(final KafkaStreamsContainer streams,
+                                              final StreamsServerInfo targetServer,
+                                              final Queried options) throws AzkarraException {
+        final String serverName = streams.applicationServer();
         final QueryContext<K, V> context;
         if (targetServer.isLocal()) {
+            if (options.partitions().isPresent()) {
+                return queryLocalPartitions(streams, options, true);
+            }
             context = new LocalQueryContext(streams, options);
         } else if (options.remoteAccessAllowed()) {
             context = new RemoteQueryContext(streams.applicationServer(), options);
@@ -222,6 +639,76 @@ public class DistributedQuery<K, V> {
         return context.execute(targetServer, true);
     }
 
+    private boolean isNearCacheEnabled(final Queried options) {
+        return nearCache != null &&
+            query.operation() == StoreOperation.GET &&
+            nearCache.isEnabledFor(query.storeName(), options);
+    }
+
+    /**
+     * Executes this key-query using the near-cache. A cached result is only returned if the key is still owned
+     * by the same instance and, for a local store, if the store partition was not updated since the result
+     * was cached. The result of a remote store is only bounded by the near-cache TTL.
+     *
+     * For a local store, the version is read both before and after the lookup, so that a result is never cached
+     * under a version that was committed while the store was being queried.
+     */
+    private QueryResult<K, V> executeKeyQueryWithNearCache(final KafkaStreamsContainer streams,
+                                                           final Serializer<K> keySerializer,
+                                                           final KeyQueryInfo keyQueryInfo,
+                                                           final Queried options) {
+        final StreamsServerInfo owner = keyQueryInfo.active();
+        long version = NearCache.UNKNOWN_VERSION;
+        if (owner.isLocal()) {
+            final Optional<Long> localVersion = streams.getLocalStoreVersion(
+                query.storeName(),
+                keyQueryInfo.partition());
+            // without a version, a stale result could be returned for a local store that is cheap to query.
+            if (localVersion.isEmpty()) {
+                return executeKeyQuery(streams, keyQueryInfo, options);
+            }
+            version = localVersion.get();
+        }
+
+        final NearCache.Key cacheKey = new NearCache.Key(
+            streams.applicationId(),
+            query.storeName(),
+            keySerializer.serialize(null, query.key()));
+
+        final Optional<QueryResult<K, V>> cached = nearCache.get(cacheKey, owner.hostAndPort(), version);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        final QueryResult<K, V> result = executeKeyQuery(streams, keyQueryInfo, options);
+        final boolean cacheable = result.getStatus() == QueryStatus.SUCCESS ||
+            result.getStatus() == QueryStatus.NO_RESULT;
+        if (cacheable && (!owner.isLocal() || isSameVersion(streams, keyQueryInfo.partition(), version))) {
+            nearCache.put(cacheKey, owner.hostAndPort(), version, result);
+        }
+        return result;
+    }
+
+    private boolean isSameVersion(final KafkaStreamsContainer streams, final int partition, final long version) {
+        return streams.getLocalStoreVersion(query.storeName(), partition)
+            .filter(current -> current == version)
+            .isPresent();
+    }
+
+    private static boolean isAvailable(final QueryResult<?, ?> result) {
+        return result.getStatus() != QueryStatus.ERROR && result.getStatus() != QueryStatus.NOT_AVAILABLE;
+    }
+
+    private Serializer<K> keySerializer(final KafkaStreamsContainer streams) {
+        if (query.keySerializer() != null) {
+            return query.keySerializer();
+        }
+        // Let's try to get the default configured key serializer, fallback to StringSerializer otherwise.
+        @SuppressWarnings("unchecked")
+        final Serde<K> serde = (Serde<K>) streams.getDefaultKeySerde().orElse(Serdes.String());
+        return serde.serializer();
+    }
+
     private QueryResult<K, V> buildNotAvailableResult(final String server,
                                                       final String error) {
         final QueryResultBuilder<K, V> builder = QueryResultBuilder.newBuilder();
@@ -327,10 +814,18 @@ public class DistributedQuery<K, V> {
 
         private final KafkaStreamsContainer streams;
         private final Queried queried;
+        private final PreparedQuery<K, V> prepared;
 
         LocalQueryContext(final KafkaStreamsContainer streams, final Queried queried) {
+            this(streams, queried, query);
+        }
+
+        LocalQueryContext(final KafkaStreamsContainer streams,
+                          final Queried queried,
+                          final PreparedQuery<K, V> prepared) {
             this.streams = streams;
             this.queried = queried;
+            this.prepared = prepared;
         }
 
         /**
@@ -338,7 +833,7 @@ public class DistributedQuery<K, V> {
          */
         @Override
         public QueryResult<K, V> execute(final StreamsServerInfo target, final boolean failable) {
-            Try<List<KV<K, V>>> executed = query.execute(streams, queried.limit());
+            final Try<Tuple<List<KV<K, V>>, Optional<QueryCursor.Position>>> executed = execute();
 
             if (failable && executed.isFailure()) {
                 Throwable exception = executed.getThrowable();
@@ -348,7 +843,7 @@ public class DistributedQuery<K, V> {
                 // cannot be retriable, ignored exception.
             }
 
-            final Try<Either<List<KV<K, V>>, List<Error>>> attempt = executed
+            final Try<Either<Tuple<List<KV<K, V>>, Optional<QueryCursor.Position>>, List<Error>>> attempt = executed
                 .transform(
                     v -> Try.success(Either.left(v)),
                     t -> Try.success(Either.right(Collections.singletonList(new Error(t))))
@@ -357,28 +852,50 @@ public class DistributedQuery<K, V> {
             final String serverName = streams.applicationServer();
             final Either<SuccessResultSet<K, V>, ErrorResultSet> rs = attempt.get()
                 .left()
-                .map(records -> new SuccessResultSet<>(serverName, false, records))
+                .map(page -> new SuccessResultSet<>(serverName, false, page.left(), page.right().orElse(null)))
                 .right()
                 .map(errors -> new ErrorResultSet(serverName, false, QueryError.allOf(errors)));
 
             return buildQueryResult(streams.applicationServer(), Collections.singletonList(rs));
         }
+
+        private Try<Tuple<List<KV<K, V>>, Optional<QueryCursor.Position>>> execute() {
+            if (!queried.isPaginated()) {
+                return prepared.execute(streams, queried.limit()).map(records -> Tuple.of(records, Optional.empty()));
+            }
+            final QueryCursor.Position position = queried.cursor()
+                .flatMap(cursor -> cursor.positionFor(streams.applicationServer()))
+                .orElse(null);
+            return prepared.execute(streams, queried.limit(), position);
+        }
     }
 
     private class RemoteQueryContext implements QueryContext<K, V>  {
 
         private final Queried options;
         private final String localServerName;
+        private final PreparedQuery<K, V> prepared;
 
         RemoteQueryContext(final String localServerName,
                            final Queried options) {
+            this(localServerName, options, query);
+        }
+
+        RemoteQueryContext(final String localServerName,
+                           final Queried options,
+                           final PreparedQuery<K, V> prepared) {
             this.localServerName = localServerName;
             this.options = options;
+            this.prepared = prepared;
         }
 
         private CompletableFuture<QueryResult<K, V>> executeAsyncQueryRemotely(final StreamsServerInfo remote,
                                                                                final boolean failable) {
-            CompletableFuture<QueryResult<K, V>> future = remoteQueryClient.query(remote, query, options);
+            // Only forward the cursor position of the remote instance (if any).
+            final Queried remoteOptions = options.cursor()
+                .map(cursor -> options.withCursor(cursor.forServer(remote.hostAndPort())))
+                .orElse(options);
+            CompletableFuture<QueryResult<K, V>> future = remoteQueryClient.query(remote, prepared, remoteOptions);
             if (!failable) {
                 future = future.exceptionally(t -> buildInternalErrorResult(localServerName, remote.hostAndPort(), t));
             }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the most recent response latencies of remote instances so that their percentiles
+ * can be used for sending hedged requests.
+ */
+public class LatencyTracker {
+
+    private static final int DEFAULT_WINDOW_SIZE = 128;
+
+    private static final int DEFAULT_MIN_SAMPLES = 10;
+
+    private final Map<String, Samples> samplesByServer = new ConcurrentHashMap<>();
+
+    private final int windowSize;
+
+    private final int minSamples;
+
+    /**
+     * Creates a new {@link LatencyTracker} instance.
+     */
+    public LatencyTracker() {
+        this(DEFAULT_WINDOW_SIZE, DEFAULT_MIN_SAMPLES);
+    }
+
+    /**
+     * Creates a new {@link LatencyTracker} instance.
+     *
+     * @param windowSize    the number of most recent latencies kept for each server.
+     * @param minSamples    the minimum number of latencies required before computing a percentile.
+     */
+    public LatencyTracker(final int windowSize, final int minSamples) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive, was: " + windowSize);
+        }
+        this.windowSize = windowSize;
+        this.minSamples = Math.min(minSamples, windowSize);
+    }
+
+    /**
+     * Records a new latency for the specified server.
+     *
+     * @param server    the server (i.e host:port).
+     * @param latencyMs the latency in milliseconds.
+     */
+    public void record(final String server, final long latencyMs) {
+        Objects.requireNonNull(server, "server cannot be null");
+        samplesByServer.computeIfAbsent(server, k -> new Samples(windowSize)).add(latencyMs);
+    }
+
+    /**
+     * Gets the latency percentile for the specified server.
+     *
+     * @param server        the server (i.e host:port).
+     * @param percentile    the percentile, between 0 and 1.
+     * @return              an optional duration, empty if not enough latencies have been recorded yet.
+     */
+    public Optional<Duration> percentile(final String server, final double percentile) {
+        final Samples samples = samplesByServer.get(server);
+        if (samples == null) return Optional.empty();
+        return samples.percentile(percentile, minSamples).map(Duration::ofMillis);
+    }
+
+    private static final class Samples {
+
+        private final long[] values;
+        private int count = 0;
+        private int next = 0;
+
+        Samples(final int size) {
+            this.values = new long[size];
+        }
+
+        synchronized void add(final long value) {
+            values[next] = value;
+            next = (next + 1) % values.length;
+            count = Math.min(count + 1, values.length);
+        }
+
+        synchronized Optional<Long> percentile(final double percentile, final int minSamples) {
+            if (count == 0 || count < minSamples) return Optional.empty();
+            final long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            final int index = (int) Math.ceil(percentile * count) - 1;
+            return Optional.of(sorted[Math.max(0, Math.min(index, count - 1))]);
+        }
+    }
+}
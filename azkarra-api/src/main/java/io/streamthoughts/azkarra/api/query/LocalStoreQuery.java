@@ -27,6 +27,7 @@ import org.apache.kafka.streams.state.ValueAndTimestamp;
 import java.util.List;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -70,30 +71,42 @@ public interface LocalStoreQuery<K, V> {
     Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, long limit);
 
     static <K, V> List<KV<K, V>> toKeyValueListAndClose(final KeyValueIterator<K, V> it, final long limit) {
-        Stream<KV<K, V>> kvStream = StreamSupport
+        return toKeyValueListAndClose(it, limit, key -> false);
+    }
+
+    static <K, V> List<KV<K, V>> toKeyValueListAndClose(final KeyValueIterator<K, V> it,
+                                                        final long limit,
+                                                        final Predicate<K> skipWhile) {
+        final Stream<KV<K, V>> kvStream = StreamSupport
                 .stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
+                .dropWhile(kv -> skipWhile.test(kv.key))
                 .map(kv -> KV.of(kv.key, kv.value));
 
-        if (limit > 0)
-            kvStream = kvStream.limit(limit);
-
-        final List<KV<K, V>> result = kvStream.collect(Collectors.toList());
-
-        // close the underlying RocksDBs iterator (if persistent) - avoid memory leak.
-        it.close();
-        return result;
+        return collectAndClose(it, kvStream, limit);
     }
 
     static <K, V> List<KV<K, V>> toKeyValueAndTimestampListAndClose(
             final KeyValueIterator<K, ValueAndTimestamp<V>> it, final long limit) {
-        Stream<KV<K, V>> kvStream = StreamSupport
+        return toKeyValueAndTimestampListAndClose(it, limit, key -> false);
+    }
+
+    static <K, V> List<KV<K, V>> toKeyValueAndTimestampListAndClose(
+            final KeyValueIterator<K, ValueAndTimestamp<V>> it,
+            final long limit,
+            final Predicate<K> skipWhile) {
+        final Stream<KV<K, V>> kvStream = StreamSupport
                 .stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
+                .dropWhile(kv -> skipWhile.test(kv.key))
                 .map(kv -> KV.of(kv.key, kv.value.value(), kv.value.timestamp()));
 
-        if (limit > 0)
-            kvStream = kvStream.limit(limit);
+        return collectAndClose(it, kvStream, limit);
+    }
 
-        final List<KV<K, V>> result = kvStream.collect(Collectors.toList());
+    private static <K, V> List<KV<K, V>> collectAndClose(final KeyValueIterator<?, ?> it,
+                                                         final Stream<KV<K, V>> stream,
+                                                         final long limit) {
+        final Stream<KV<K, V>> limited = limit > 0 ? stream.limit(limit) : stream;
+        final List<KV<K, V>> result = limited.collect(Collectors.toList());
 
         // close the underlying RocksDBs iterator (if persistent) - avoid memory leak.
         it.close();
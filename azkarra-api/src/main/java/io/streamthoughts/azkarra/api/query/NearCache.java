@@ -0,0 +1,424 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.model.Metric;
+import io.streamthoughts.azkarra.api.model.MetricGroup;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.apache.kafka.common.utils.Bytes;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * A bounded cache of key-query results which is used for serving hot keys without accessing
+ * the instance hosting them.
+ *
+ * Entries are spread over independently locked segments, so that concurrent lookups of different keys do not
+ * contend on a single lock. Each segment evicts its entries in least-recently-used order when either its share of
+ * the maximum number of entries or of the maximum weight (i.e. the size in bytes) is exceeded, the eviction order
+ * being therefore approximate across the whole cache. An entry is only returned if it has not expired, if it was
+ * cached for the same instance and if the version of the store partition did not move.
+ */
+public class NearCache {
+
+    public static final String METRIC_GROUP = "query-near-cache";
+
+    public static final long UNKNOWN_VERSION = -1L;
+
+    private static final String ALL_STORES = "*";
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private static final int MIN_SEGMENT_ENTRIES = 64;
+
+    private final Segment[] segments;
+
+    private final Duration ttl;
+
+    private final Set<String> stores;
+
+    private final ToLongFunction<QueryResult<?, ?>> weigher;
+
+    private final Time time;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new {@link NearCache} instance which estimates the weight of results from their records.
+     *
+     * @param maxEntries    the maximum number of cached entries.
+     * @param maxWeight     the maximum weight of cached entries, in bytes.
+     * @param ttl           the time-to-live of an entry.
+     * @param stores        the stores for which the cache is enabled without being requested by the query,
+     *                      or "*" for all stores.
+     */
+    public NearCache(final int maxEntries,
+                     final long maxWeight,
+                     final Duration ttl,
+                     final Set<String> stores) {
+        this(maxEntries, maxWeight, ttl, stores, NearCache::estimateWeight);
+    }
+
+    /**
+     * Creates a new {@link NearCache} instance.
+     *
+     * @param maxEntries    the maximum number of cached entries.
+     * @param maxWeight     the maximum weight of cached entries, in bytes.
+     * @param ttl           the time-to-live of an entry.
+     * @param stores        the stores for which the cache is enabled without being requested by the query,
+     *                      or "*" for all stores.
+     * @param weigher       the function computing the size in bytes of a result, e.g. its serialized size.
+     */
+    public NearCache(final int maxEntries,
+                     final long maxWeight,
+                     final Duration ttl,
+                     final Set<String> stores,
+                     final ToLongFunction<QueryResult<?, ?>> weigher) {
+        this(maxEntries, maxWeight, ttl, stores, weigher, Time.SYSTEM);
+    }
+
+    NearCache(final int maxEntries,
+              final long maxWeight,
+              final Duration ttl,
+              final Set<String> stores,
+              final Time time) {
+        this(maxEntries, maxWeight, ttl, stores, NearCache::estimateWeight, time);
+    }
+
+    NearCache(final int maxEntries,
+              final long maxWeight,
+              final Duration ttl,
+              final Set<String> stores,
+              final ToLongFunction<QueryResult<?, ?>> weigher,
+              final Time time) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive, was: " + maxEntries);
+        }
+        this.ttl = Objects.requireNonNull(ttl, "ttl cannot be null");
+        this.stores = stores == null ? Collections.emptySet() : Set.copyOf(stores);
+        this.weigher = Objects.requireNonNull(weigher, "weigher cannot be null");
+        this.time = Objects.requireNonNull(time, "time cannot be null");
+        // small caches use a single segment, so that their eviction order is exact.
+        int numSegments = 1;
+        while (numSegments < MAX_SEGMENTS && maxEntries / (numSegments * 2) >= MIN_SEGMENT_ENTRIES) {
+            numSegments *= 2;
+        }
+        this.segments = new Segment[numSegments];
+        for (int i = 0; i < numSegments; i++) {
+            final int segmentMaxEntries = (maxEntries + numSegments - 1) / numSegments;
+            segments[i] = new Segment(segmentMaxEntries, maxWeight / numSegments);
+        }
+    }
+
+    /**
+     * Checks whether the cache must be used for the specified store.
+     *
+     * @param storeName the name of the store.
+     * @param options   the {@link Queried} options.
+     * @return          {@code true} if the cache is enabled either for the store or by the query options.
+     */
+    public boolean isEnabledFor(final String storeName, final Queried options) {
+        return options.isNearCacheEnabled() || stores.contains(ALL_STORES) || stores.contains(storeName);
+    }
+
+    /**
+     * Gets the cached result for the specified key.
+     *
+     * @param key       the cache {@link Key}.
+     * @param server    the instance currently hosting the key.
+     * @param version   the current version of the store partition, or {@link #UNKNOWN_VERSION}.
+     * @return          an optional {@link QueryResult}, empty if no valid entry is cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Optional<QueryResult<K, V>> get(final Key key,
+                                                  final String server,
+                                                  final long version) {
+        final Segment segment = segmentFor(key);
+        final Entry entry = segment.get(key);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        final boolean expired = time.milliseconds() - entry.cachedAt > ttl.toMillis();
+        // the result is stale if the key has been moved to another instance or if the store has been updated.
+        if (expired || !entry.server.equals(server) || entry.version != version) {
+            segment.remove(key, entry);
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of((QueryResult<K, V>) entry.result);
+    }
+
+    /**
+     * Caches the result for the specified key.
+     *
+     * @param key       the cache {@link Key}.
+     * @param server    the instance hosting the key.
+     * @param version   the version of the store partition, or {@link #UNKNOWN_VERSION}.
+     * @param result    the {@link QueryResult} to cache.
+     */
+    public void put(final Key key,
+                    final String server,
+                    final long version,
+                    final QueryResult<?, ?> result) {
+        // the result is weighed before locking the segment, as the weigher may serialize it.
+        final long weight = ENTRY_OVERHEAD_BYTES + key.key.get().length + weigher.applyAsLong(result);
+        segmentFor(key).put(key, new Entry(server, version, result, time.milliseconds(), weight));
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return  the number of entries.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Gets the ratio of lookups which have been served by the cache.
+     *
+     * @return  the hit rate, between 0 and 1.
+     */
+    public double hitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the metrics of this cache.
+     *
+     * @return  a new {@link MetricGroup} instance.
+     */
+    public MetricGroup metrics() {
+        final List<Metric> metrics = new ArrayList<>();
+        metrics.add(newMetric("hit-count", "The number of lookups served by the cache.", hits.sum()));
+        metrics.add(newMetric("miss-count", "The number of lookups not served by the cache.", misses.sum()));
+        metrics.add(newMetric("hit-rate", "The ratio of lookups served by the cache.", hitRate()));
+        metrics.add(newMetric("eviction-count", "The number of evicted entries.", evictions.sum()));
+        metrics.add(newMetric("entry-count", "The number of cached entries.", size()));
+        metrics.add(newMetric("weight", "The size of cached entries in bytes.", weight()));
+        return new MetricGroup(METRIC_GROUP, metrics);
+    }
+
+    private long weight() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            weight += segment.weight();
+        }
+        return weight;
+    }
+
+    private Segment segmentFor(final Key key) {
+        final int hash = key.hashCode();
+        // spreads the higher bits, as only the lower ones select the segment.
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static Metric newMetric(final String name, final String description, final Object value) {
+        return new Metric(name, METRIC_GROUP, description, Collections.emptyMap(), value);
+    }
+
+    /**
+     * Estimates the size in bytes of the records of the specified result, without serializing them.
+     *
+     * @param result    the {@link QueryResult} to weigh.
+     * @return          the estimated weight.
+     */
+    static long estimateWeight(final QueryResult<?, ?> result) {
+        long weight = 0;
+        if (result.getResult() != null && result.getResult().getSuccess() != null) {
+            for (SuccessResultSet<?, ?> rs : result.getResult().getSuccess()) {
+                for (KV<?, ?> record : rs.getRecords()) {
+                    weight += ENTRY_OVERHEAD_BYTES + estimateWeight(record.value());
+                }
+            }
+        }
+        return weight;
+    }
+
+    private static long estimateWeight(final Object value) {
+        if (value == null) return 0;
+        if (value instanceof byte[]) return ((byte[]) value).length;
+        if (value instanceof Bytes) return ((Bytes) value).get().length;
+        if (value instanceof Number || value instanceof Boolean) return Long.BYTES;
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * The key of a cached entry.
+     */
+    public static final class Key {
+
+        private final String applicationId;
+        private final String storeName;
+        private final Bytes key;
+
+        /**
+         * Creates a new {@link Key} instance.
+         *
+         * @param applicationId the application id.
+         * @param storeName     the name of the store.
+         * @param key           the serialized record key.
+         */
+        public Key(final String applicationId, final String storeName, final byte[] key) {
+            this.applicationId = Objects.requireNonNull(applicationId, "applicationId cannot be null");
+            this.storeName = Objects.requireNonNull(storeName, "storeName cannot be null");
+            this.key = Bytes.wrap(Objects.requireNonNull(key, "key cannot be null"));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return Objects.equals(applicationId, that.applicationId) &&
+                   Objects.equals(storeName, that.storeName) &&
+                   Objects.equals(key, that.key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(applicationId, storeName, key);
+        }
+    }
+
+    /**
+     * A segment of the cache which evicts its own entries in least-recently-used order.
+     */
+    private final class Segment {
+
+        private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final int maxEntries;
+
+        private final long maxWeight;
+
+        private long weight = 0;
+
+        Segment(final int maxEntries, final long maxWeight) {
+            this.maxEntries = maxEntries;
+            this.maxWeight = maxWeight;
+        }
+
+        synchronized Entry get(final Key key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(final Key key, final Entry entry) {
+            if (entry.weight > maxWeight) return;
+            final Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entry.weight;
+            evict();
+        }
+
+        synchronized void remove(final Key key, final Entry entry) {
+            // the entry may have been replaced since it was read.
+            if (entries.remove(key, entry)) {
+                weight -= entry.weight;
+            }
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            weight = 0;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized long weight() {
+            return weight;
+        }
+
+        private void evict() {
+            final Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext() && (entries.size() > maxEntries || weight > maxWeight)) {
+                weight -= it.next().weight;
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        final String server;
+        final long version;
+        final QueryResult<?, ?> result;
+        final long cachedAt;
+        final long weight;
+
+        Entry(final String server,
+              final long version,
+              final QueryResult<?, ?> result,
+              final long cachedAt,
+              final long weight) {
+            this.server = server;
+            this.version = version;
+            this.result = result;
+            this.cachedAt = cachedAt;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.utils.Bytes;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link LocalStoreQuery} which iterates over an ordered store and can be resumed from a given key.
+ *
+ * Pages are resumed from the last returned key: a range query seeks to it, while a full scan skips the keys up to
+ * it, as a store range needs an upper key. The end of the store is detected by reading one record more than the
+ * page limit, so that no extra scan is needed. As a local store spanning several partitions iterates over each
+ * partition in turn,
+ * a page is built from the first records of each partition, ordered by serialized keys. Keys are encoded
+ * in the {@link QueryCursor} using the default key serde of the streams instance, which is therefore
+ * required for paginating a query.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ */
+public interface PageableLocalStoreQuery<K, V> extends LocalStoreQuery<K, V> {
+
+    /**
+     * Executes this query to the specified KafkaStreams application, starting after the specified key.
+     *
+     * @param container     the {@link KafkaStreamsContainer} instance.
+     * @param limit         the maximum number of records the result should be limited to (-1 means no limit).
+     * @param after         the last key returned by the previous page, or {@code null} to start from the beginning.
+     */
+    Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container,
+                                final long limit,
+                                final K after);
+
+    /**
+     * Gets the serde used for encoding the keys of a paginated query.
+     *
+     * @param container the {@link KafkaStreamsContainer} instance.
+     * @return          the default key {@link Serde} of the streams instance.
+     * @throws AzkarraException if no default key serde is configured.
+     */
+    @SuppressWarnings("unchecked")
+    static <K> Serde<K> keySerde(final KafkaStreamsContainer container) {
+        return (Serde<K>) container.getDefaultKeySerde().orElseThrow(() -> new AzkarraException(
+            "Cannot paginate query, no default key serde is configured for application '"
+            + container.applicationId() + "'"));
+    }
+
+    /**
+     * Encodes the specified key for being stored in a {@link QueryCursor}.
+     *
+     * @param serde the key {@link Serde}.
+     * @param key   the key to encode.
+     * @return      the base64 encoded key.
+     */
+    static <K> String encode(final Serde<K> serde, final K key) {
+        return Base64.getEncoder().encodeToString(serde.serializer().serialize(null, key));
+    }
+
+    /**
+     * Decodes the specified key from a {@link QueryCursor}.
+     *
+     * @param serde     the key {@link Serde}.
+     * @param encoded   the base64 encoded key, may be {@code null}.
+     * @return          the decoded key, or {@code null}.
+     */
+    static <K> K decode(final Serde<K> serde, final String encoded) {
+        if (encoded == null) return null;
+        return serde.deserializer().deserialize(null, Base64.getDecoder().decode(encoded));
+    }
+
+    /**
+     * Builds a predicate matching the keys up to the specified one (inclusive), which must be skipped when
+     * resuming a query from it. Keys are compared using their serialized form, as state stores are ordered
+     * by serialized keys.
+     *
+     * @param container the {@link KafkaStreamsContainer} instance.
+     * @param after     the last key returned by the previous page, or {@code null}.
+     * @return          a new {@link Predicate} instance.
+     */
+    static <K> Predicate<K> isAtOrBefore(final KafkaStreamsContainer container, final K after) {
+        if (after == null) {
+            return key -> false;
+        }
+        final Serializer<K> serializer = PageableLocalStoreQuery.<K>keySerde(container).serializer();
+        final Bytes lastKey = Bytes.wrap(serializer.serialize(null, after));
+        return key -> Bytes.wrap(serializer.serialize(null, key)).compareTo(lastKey) <= 0;
+    }
+
+    /**
+     * Executes the specified paginated query so that the returned records are the first ones of all the local
+     * partitions of the store, in the order of their serialized keys.
+     *
+     * @param container the {@link KafkaStreamsContainer} instance.
+     * @param storeName the name of the queried store.
+     * @param limit     the maximum number of records the result should be limited to (-1 means no limit).
+     * @param query     the query to execute, which must return ordered records for a single partition.
+     * @return          the records.
+     */
+    static <K, V> Try<List<KV<K, V>>> executeInKeyOrder(final KafkaStreamsContainer container,
+                                                        final String storeName,
+                                                        final long limit,
+                                                        final Supplier<Try<List<KV<K, V>>>> query) {
+        final Set<Integer> partitions = container.getLocalQueriedPartitions(storeName);
+        if (limit <= 0 || partitions.size() <= 1) {
+            return query.get();
+        }
+        final Function<KV<K, V>, Bytes> serializedKey = serializedKey(container);
+        Try<List<KV<K, V>>> records = Try.success(new ArrayList<>());
+        for (Integer partition : partitions) {
+            final Try<List<KV<K, V>>> page = container.executeOnPartitions(Set.of(partition), query);
+            records = records.flatMap(l -> page.map(r -> {
+                l.addAll(r);
+                return l;
+            }));
+        }
+        return records.map(l -> l.stream()
+            .sorted(Comparator.comparing(serializedKey))
+            .limit(limit)
+            .collect(Collectors.toList()));
+    }
+
+    private static <K, V> Function<KV<K, V>, Bytes> serializedKey(final KafkaStreamsContainer container) {
+        final Serializer<K> serializer = PageableLocalStoreQuery.<K>keySerde(container).serializer();
+        return kv -> Bytes.wrap(serializer.serialize(null, kv.key()));
+    }
+}
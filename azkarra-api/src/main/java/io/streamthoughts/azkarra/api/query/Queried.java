@@ -20,6 +20,8 @@ package io.streamthoughts.azkarra.api.query;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 public class Queried {
 
@@ -65,6 +67,36 @@ public class Queried {
      */
     private final Long limit;
 
+    /**
+     * The cursor used to resume a paginated query.
+     */
+    private final QueryCursor cursor;
+
+    /**
+     * Is the query executed concurrently on all instances.
+     */
+    private final boolean parallel;
+
+    /**
+     * The latency percentile after which a hedged request is sent to a standby replica.
+     */
+    private final double hedgingPercentile;
+
+    /**
+     * The partitions to which the local query is restricted.
+     */
+    private final Set<Integer> partitions;
+
+    /**
+     * The maximum offset lag accepted for reading a key from a standby replica.
+     */
+    private final Long maxOffsetLag;
+
+    /**
+     * Is the result of a key query can be served from the near-cache of the querying instance.
+     */
+    private final boolean nearCache;
+
     /**
      * Creates a new {@link Queried} instance.
      *
@@ -79,31 +111,151 @@ public class Queried {
                    final Duration queryTimeout,
                    final boolean remoteAccessAllowed,
                    final Long limit) {
+        this(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, null);
+    }
+
+    /**
+     * Creates a new {@link Queried} instance.
+     *
+     * @param retries               {@link #retries}.
+     * @param retryBackoff          {@link #retryBackoff}.
+     * @param queryTimeout          {@link #queryTimeout}.
+     * @param remoteAccessAllowed   {@link #retryBackoff}.
+     * @param limit                 {@link #limit}.
+     * @param cursor                {@link #cursor}.
+     */
+    public Queried(final int retries,
+                   final Duration retryBackoff,
+                   final Duration queryTimeout,
+                   final boolean remoteAccessAllowed,
+                   final Long limit,
+                   final QueryCursor cursor) {
+        this(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor, false, 0, null, null, false);
+    }
+
+    private Queried(final int retries,
+                    final Duration retryBackoff,
+                    final Duration queryTimeout,
+                    final boolean remoteAccessAllowed,
+                    final Long limit,
+                    final QueryCursor cursor,
+                    final boolean parallel,
+                    final double hedgingPercentile,
+                    final Set<Integer> partitions,
+                    final Long maxOffsetLag,
+                    final boolean nearCache) {
         this.retries = retries;
         this.retryBackoff = retryBackoff;
         this.queryTimeout = queryTimeout;
         this.remoteAccessAllowed = remoteAccessAllowed;
         this.limit = limit;
+        this.cursor = cursor;
+        this.parallel = parallel;
+        this.hedgingPercentile = hedgingPercentile;
+        this.partitions = partitions;
+        this.maxOffsetLag = maxOffsetLag;
+        this.nearCache = nearCache;
     }
 
     public Queried withRemoteAccessAllowed(final boolean remoteAccessAllowed) {
-        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit);
+        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions, maxOffsetLag, nearCache);
     }
 
     public Queried withQueryTimeout(final Duration timeout) {
-        return new Queried(retries, retryBackoff, timeout, remoteAccessAllowed, limit);
+        return new Queried(retries, retryBackoff, timeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions, maxOffsetLag, nearCache);
     }
 
     public Queried withRetries(final int retries) {
-        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit);
+        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions, maxOffsetLag, nearCache);
     }
 
     public Queried withRetryBackoffMs(final Duration retryBackoff) {
-        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit);
+        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions, maxOffsetLag, nearCache);
     }
 
     public Queried withLimit(final Long limit) {
-        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit);
+        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions, maxOffsetLag, nearCache);
+    }
+
+    /**
+     * Enables pagination for this query. The {@link #limit()} is then used as the page size per instance.
+     *
+     * @param cursor    the {@link QueryCursor} to resume from, or {@link QueryCursor#first()}.
+     * @return          a new {@link Queried} instance.
+     */
+    public Queried withCursor(final QueryCursor cursor) {
+        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions, maxOffsetLag, nearCache);
+    }
+
+    /**
+     * Enables the parallel execution mode. All instances, including the local one, are then queried concurrently
+     * and the results received before the {@link #queryTimeout()} expires are returned.
+     *
+     * @param parallel  {@code true} to execute the query concurrently on all instances.
+     * @return          a new {@link Queried} instance.
+     */
+    public Queried withParallel(final boolean parallel) {
+        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions, maxOffsetLag, nearCache);
+    }
+
+    /**
+     * Sends a hedged request to a standby replica when a remote instance takes longer to respond than
+     * the given percentile of its observed latencies. This is only used in parallel execution mode.
+     *
+     * @param percentile    the latency percentile, between 0 and 1 (exclusive); 0 to disable hedging.
+     * @return              a new {@link Queried} instance.
+     */
+    public Queried withHedgingPercentile(final double percentile) {
+        if (percentile < 0 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be in range [0, 1), was: " + percentile);
+        }
+        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, percentile, partitions, maxOffsetLag, nearCache);
+    }
+
+    /**
+     * Restricts the local query to the given partitions, which can be read from either active or standby replicas.
+     *
+     * @param partitions    the set of partitions to query.
+     * @return              a new {@link Queried} instance.
+     */
+    public Queried withPartitions(final Set<Integer> partitions) {
+        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions == null ? null : Set.copyOf(partitions), maxOffsetLag,
+            nearCache);
+    }
+
+    /**
+     * Allows key queries to be served by a standby replica when the active one is not available
+     * (e.g. while restoring), as long as its offset lag does not exceed the given limit.
+     *
+     * @param maxOffsetLag  the maximum offset lag accepted for standby replicas.
+     * @return              a new {@link Queried} instance.
+     */
+    public Queried withMaxOffsetLag(final long maxOffsetLag) {
+        if (maxOffsetLag < 0) {
+            throw new IllegalArgumentException("maxOffsetLag must be positive, was: " + maxOffsetLag);
+        }
+        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions, maxOffsetLag, nearCache);
+    }
+
+    /**
+     * Allows the result of a key query to be served from, and stored into, the near-cache of the querying instance.
+     *
+     * @param nearCache {@code true} to enable the near-cache.
+     * @return          a new {@link Queried} instance.
+     */
+    public Queried withNearCache(final boolean nearCache) {
+        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions, maxOffsetLag, nearCache);
     }
 
     /**
@@ -151,6 +303,78 @@ public class Queried {
         return limit;
     }
 
+    /**
+     * Gets the cursor used to resume a paginated query.
+     *
+     * @return  an optional {@link QueryCursor}, empty if pagination is not enabled.
+     */
+    public Optional<QueryCursor> cursor() {
+        return Optional.ofNullable(cursor);
+    }
+
+    /**
+     * Checks whether pagination is enabled for this query.
+     *
+     * @return {@code true} if a cursor is set and the limit is positive, {@code false} otherwise.
+     */
+    public boolean isPaginated() {
+        return cursor != null && limit != null && limit > 0;
+    }
+
+    /**
+     * Checks whether the query must be executed concurrently on all instances.
+     *
+     * @return {@code true} if the parallel execution mode is enabled.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Gets the latency percentile after which a hedged request is sent to a standby replica.
+     *
+     * @return  the percentile, or 0 if hedging is disabled.
+     */
+    public double hedgingPercentile() {
+        return hedgingPercentile;
+    }
+
+    /**
+     * Checks whether hedged requests are enabled.
+     *
+     * @return {@code true} if the parallel mode is enabled with a positive hedging percentile.
+     */
+    public boolean isHedgingEnabled() {
+        return parallel && hedgingPercentile > 0;
+    }
+
+    /**
+     * Gets the partitions to which the local query is restricted.
+     *
+     * @return  an optional set of partitions, empty if all local partitions must be queried.
+     */
+    public Optional<Set<Integer>> partitions() {
+        return Optional.ofNullable(partitions);
+    }
+
+    /**
+     * Gets the maximum offset lag accepted for reading a key from a standby replica.
+     *
+     * @return  an optional offset lag, empty if only active replicas can be queried.
+     */
+    public Optional<Long> maxOffsetLag() {
+        return Optional.ofNullable(maxOffsetLag);
+    }
+
+    /**
+     * Checks whether the result of a key query can be served from the near-cache.
+     *
+     * @return  {@code true} if the near-cache is enabled.
+     */
+    public boolean isNearCacheEnabled() {
+        return nearCache;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -163,7 +387,13 @@ public class Queried {
                 remoteAccessAllowed == queried.remoteAccessAllowed &&
                 Objects.equals(retryBackoff, queried.retryBackoff) &&
                 Objects.equals(queryTimeout, queried.queryTimeout) &&
-                Objects.equals(limit, queried.limit);
+                Objects.equals(limit, queried.limit) &&
+                parallel == queried.parallel &&
+                Double.compare(hedgingPercentile, queried.hedgingPercentile) == 0 &&
+                Objects.equals(cursor, queried.cursor) &&
+                Objects.equals(partitions, queried.partitions) &&
+                Objects.equals(maxOffsetLag, queried.maxOffsetLag) &&
+                nearCache == queried.nearCache;
     }
 
     /**
@@ -171,7 +401,8 @@ public class Queried {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit);
+        return Objects.hash(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor,
+            parallel, hedgingPercentile, partitions, maxOffsetLag, nearCache);
     }
 
     /**
@@ -185,6 +416,12 @@ public class Queried {
                 ", queryTimeout=" + queryTimeout +
                 ", remoteAccessAllowed=" + remoteAccessAllowed +
                 ", limit=" + limit +
+                ", cursor=" + cursor +
+                ", parallel=" + parallel +
+                ", hedgingPercentile=" + hedgingPercentile +
+                ", partitions=" + partitions +
+                ", maxOffsetLag=" + maxOffsetLag +
+                ", nearCache=" + nearCache +
                 '}';
     }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A continuation token which is used to resume a paginated query over a multi-host state store.
+ *
+ * For each streams instance, a cursor tracks the {@link Position} of the last key returned for the queried store,
+ * or whether the store has been fully scanned on that instance.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class QueryCursor implements Serializable {
+
+    /**
+     * Creates a new cursor to start a paginated query from the beginning of the store.
+     *
+     * @return  a new {@link QueryCursor} instance.
+     */
+    public static QueryCursor first() {
+        return new QueryCursor(Collections.emptyMap(), Collections.emptySet());
+    }
+
+    /**
+     * The position of the last key returned for each server.
+     */
+    private final Map<String, Position> positions;
+
+    /**
+     * The servers for which the store was fully scanned.
+     */
+    private final Set<String> completed;
+
+    /**
+     * Creates a new {@link QueryCursor} instance.
+     *
+     * @param positions the position of the last key returned for each server.
+     * @param completed the servers for which the store was fully scanned.
+     */
+    @JsonCreator
+    public QueryCursor(@JsonProperty("positions") final Map<String, Position> positions,
+                       @JsonProperty("completed") final Set<String> completed) {
+        this.positions = positions == null ? Collections.emptyMap() : Collections.unmodifiableMap(positions);
+        this.completed = completed == null ? Collections.emptySet() : Collections.unmodifiableSet(completed);
+    }
+
+    @JsonProperty("positions")
+    public Map<String, Position> positions() {
+        return positions;
+    }
+
+    @JsonProperty("completed")
+    public Set<String> completed() {
+        return completed;
+    }
+
+    /**
+     * Gets the position of the last key returned by the specified server.
+     *
+     * @param server    the server (i.e host:port).
+     * @return          an optional position, empty if the store was not queried yet for that server.
+     */
+    public Optional<Position> positionFor(final String server) {
+        return Optional.ofNullable(positions.get(server));
+    }
+
+    /**
+     * Checks whether the store was fully scanned on the specified server.
+     *
+     * @param server    the server (i.e host:port).
+     * @return          {@code true} if no more records are available, {@code false} otherwise.
+     */
+    public boolean isCompleted(final String server) {
+        return completed.contains(server);
+    }
+
+    /**
+     * Checks whether the store was fully scanned on all the specified servers.
+     *
+     * @param servers   the servers (i.e host:port).
+     * @return          {@code true} if no more records are available, {@code false} otherwise.
+     */
+    public boolean isCompleted(final Collection<String> servers) {
+        return completed.containsAll(servers);
+    }
+
+    /**
+     * Gets a new cursor which is restricted to the specified server.
+     *
+     * @param server    the server (i.e host:port).
+     * @return          a new {@link QueryCursor} instance.
+     */
+    public QueryCursor forServer(final String server) {
+        final Map<String, Position> position = new HashMap<>();
+        positionFor(server).ifPresent(p -> position.put(server, p));
+        final Set<String> done = isCompleted(server) ? Collections.singleton(server) : Collections.emptySet();
+        return new QueryCursor(position, done);
+    }
+
+    /**
+     * Gets a new cursor with the position of the last key returned for the specified server.
+     *
+     * @param server    the server (i.e host:port).
+     * @param position  the position of the last key returned.
+     * @return          a new {@link QueryCursor} instance.
+     */
+    public QueryCursor withPosition(final String server, final Position position) {
+        final Map<String, Position> positions = new HashMap<>(this.positions);
+        positions.put(server, position);
+        return new QueryCursor(positions, completed);
+    }
+
+    /**
+     * Gets a new cursor for which the store is marked as fully scanned for the specified server.
+     *
+     * @param server    the server (i.e host:port).
+     * @return          a new {@link QueryCursor} instance.
+     */
+    public QueryCursor withCompleted(final String server) {
+        final Map<String, Position> position = new HashMap<>(positions);
+        position.remove(server);
+        final Set<String> done = new HashSet<>(completed);
+        done.add(server);
+        return new QueryCursor(position, done);
+    }
+
+    @JsonIgnore
+    public boolean isFirst() {
+        return positions.isEmpty() && completed.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof QueryCursor)) return false;
+        QueryCursor that = (QueryCursor) o;
+        return Objects.equals(positions, that.positions) &&
+               Objects.equals(completed, that.completed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(positions, completed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "QueryCursor{" +
+                "positions=" + positions +
+                ", completed=" + completed +
+                '}';
+    }
+
+    /**
+     * The position of the last key returned by an instance. Keys are encoded using the key serde of the
+     * streams instance, so that the query can be resumed from the exact same key whatever its type.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Position implements Serializable {
+
+        /**
+         * The last key returned, serialized and encoded in base64.
+         */
+        private final String after;
+
+        /**
+         * Creates a new {@link Position} instance.
+         *
+         * @param after         the last key returned, encoded in base64.
+         */
+        @JsonCreator
+        public Position(@JsonProperty("after") final String after) {
+            this.after = Objects.requireNonNull(after, "after cannot be null");
+        }
+
+        @JsonProperty("after")
+        public String after() {
+            return after;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Position)) return false;
+            Position that = (Position) o;
+            return Objects.equals(after, that.after);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(after);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "Position{" +
+                    "after=" + after +
+                    '}';
+        }
+    }
+}
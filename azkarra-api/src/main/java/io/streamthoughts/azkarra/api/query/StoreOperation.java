@@ -25,7 +25,7 @@ import java.util.Optional;
 
 public enum StoreOperation {
 
-    GET, ALL, FETCH, FETCH_KEY_RANGE, FETCH_TIME_RANGE, FETCH_ALL, RANGE, COUNT;
+    GET, MULTI_GET, ALL, FETCH, FETCH_KEY_RANGE, FETCH_TIME_RANGE, FETCH_ALL, RANGE, COUNT, AGGREGATE;
 
     private static final Map<String, StoreOperation> CACHE = new HashMap<>();
 
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.Aggregation;
+import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.StoreOperation;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.ValueAndTimestamp;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link LocalStoreQuery} which aggregates all the records of a local store, so that only a single
+ * partial aggregate is returned by each instance.
+ */
+public abstract class AggregateLocalStoreQuery implements LocalStoreQuery<String, Map<String, Object>> {
+
+    private final String storeName;
+    private final Aggregation aggregation;
+
+    /**
+     * Creates a new {@link AggregateLocalStoreQuery} instance.
+     *
+     * @param storeName     the name of the store.
+     * @param aggregation   the {@link Aggregation} to compute.
+     */
+    AggregateLocalStoreQuery(final String storeName,
+                             final Aggregation aggregation) {
+        Objects.requireNonNull(aggregation, "aggregation cannot be null");
+        this.storeName = storeName;
+        this.aggregation = aggregation;
+    }
+
+    public String storeName() {
+        return storeName;
+    }
+
+    public Aggregation aggregation() {
+        return aggregation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoreOperation operationType() {
+        return StoreOperation.AGGREGATE;
+    }
+
+    List<KV<String, Map<String, Object>>> aggregateAndClose(final KeyValueIterator<?, ?> it) {
+        final Aggregation.Accumulator accumulator = aggregation.newAccumulator();
+        try {
+            while (it.hasNext()) {
+                final KeyValue<?, ?> kv = it.next();
+                final Object value = kv.value instanceof ValueAndTimestamp ?
+                    ((ValueAndTimestamp<?>) kv.value).value() :
+                    kv.value;
+                accumulator.add(kv.key, value);
+            }
+        } finally {
+            // close the underlying RocksDBs iterator (if persistent) - avoid memory leak.
+            it.close();
+        }
+        return Collections.singletonList(KV.of(aggregation.function().prettyName(), accumulator.partial()));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.errors.Error;
+import io.streamthoughts.azkarra.api.monad.Validator;
+import io.streamthoughts.azkarra.api.query.Aggregation;
+import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.QueryParams;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds the {@link AggregateLocalStoreQuery} for the {@code aggregate} operation.
+ */
+public class AggregateQueryBuilder implements LocalStoreQueryBuilder<String, Map<String, Object>> {
+
+    public static final String QUERY_PARAM_FUNCTION = "function";
+    public static final String QUERY_PARAM_FIELD = "field";
+    public static final String QUERY_PARAM_N = "n";
+    public static final int DEFAULT_TOP_N = 10;
+
+    public static final Error INVALID_FUNCTION_ERROR = new Error(
+        "invalid parameters: 'function' must be one of [count, sum, min, max, avg, top]");
+    public static final Error INVALID_N_ERROR = new Error(
+        "invalid parameters: 'n' must be positive");
+
+    @FunctionalInterface
+    interface QueryFactory {
+
+        AggregateLocalStoreQuery create(final String store,
+                                        final Aggregation aggregation,
+                                        final QueryParams parameters);
+    }
+
+    private final QueryFactory factory;
+
+    /**
+     * Creates a new {@link AggregateQueryBuilder} instance.
+     *
+     * @param factory   the factory used to create the query for the store type.
+     */
+    AggregateQueryBuilder(final QueryFactory factory) {
+        this.factory = Objects.requireNonNull(factory, "factory cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Validator<QueryParams> validates(final QueryParams parameters) {
+        return Validator.of(parameters)
+            .validates(p -> p.contains(QUERY_PARAM_FUNCTION), MissingRequiredKeyError.of(QUERY_PARAM_FUNCTION))
+            .validates(p -> !p.contains(QUERY_PARAM_FUNCTION) ||
+                Aggregation.Function.parse(p.getString(QUERY_PARAM_FUNCTION)).isPresent(), INVALID_FUNCTION_ERROR)
+            .validates(p -> !p.contains(QUERY_PARAM_N) || p.getLong(QUERY_PARAM_N) > 0, INVALID_N_ERROR);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LocalStoreQuery<String, Map<String, Object>> build(final String store, final QueryParams parameters) {
+        final QueryParams p = validates(parameters).getOrThrow(LocalStoreQueryBuilder::toInvalidQueryException);
+        final Aggregation aggregation = new Aggregation(
+            Aggregation.Function.parse(p.getString(QUERY_PARAM_FUNCTION)).orElseThrow(),
+            p.contains(QUERY_PARAM_FIELD) ? p.getString(QUERY_PARAM_FIELD) : null,
+            p.contains(QUERY_PARAM_N) ? p.getLong(QUERY_PARAM_N).intValue() : DEFAULT_TOP_N
+        );
+        return factory.create(store, aggregation, p);
+    }
+}
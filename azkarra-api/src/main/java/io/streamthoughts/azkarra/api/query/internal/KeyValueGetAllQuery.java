@@ -23,15 +23,16 @@ import io.streamthoughts.azkarra.api.monad.Reader;
 import io.streamthoughts.azkarra.api.monad.Try;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PageableLocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
-import org.apache.kafka.streams.state.KeyValueIterator;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 
 import java.util.List;
+import java.util.function.Predicate;
 
-public class KeyValueGetAllQuery<K, V> implements LocalStoreQuery<K, V> {
+public class KeyValueGetAllQuery<K, V> implements PageableLocalStoreQuery<K, V> {
 
     private String storeName;
 
@@ -65,16 +66,27 @@ public class KeyValueGetAllQuery<K, V> implements LocalStoreQuery<K, V> {
      */
     @Override
     public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+        return execute(container, limit, null);
+    }
 
-        final LocalStoreAccessor<ReadOnlyKeyValueStore<K, V>> accessor = container.getLocalKeyValueStore(storeName);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container,
+                                       final long limit,
+                                       final K after) {
 
-        final Reader<ReadOnlyKeyValueStore<K, V>, List<KV<K, V>>> reader = reader()
-            .map(iterator -> LocalStoreQuery.toKeyValueListAndClose(iterator, limit));
+        final LocalStoreAccessor<ReadOnlyKeyValueStore<K, V>> accessor =
+                container.getLocalKeyValueStore(storeName);
 
-        return new LocalStoreQueryExecutor<>(accessor).execute(reader);
-    }
+        // resume after the last returned key, as a range query would need the last key of the store.
+        final Predicate<K> skipWhile = PageableLocalStoreQuery.isAtOrBefore(container, after);
+        final Reader<ReadOnlyKeyValueStore<K, V>, List<KV<K, V>>> reader =
+            Reader.of((ReadOnlyKeyValueStore<K, V> store) -> store.all())
+            .map(iterator -> LocalStoreQuery.toKeyValueListAndClose(iterator, limit, skipWhile));
 
-    private Reader<ReadOnlyKeyValueStore<K, V>, KeyValueIterator<K, V>> reader() {
-        return Reader.of(ReadOnlyKeyValueStore::all);
+        return PageableLocalStoreQuery.executeInKeyOrder(container, storeName, limit,
+            () -> new LocalStoreQueryExecutor<>(accessor).execute(reader));
     }
 }
@@ -23,6 +23,7 @@ import io.streamthoughts.azkarra.api.monad.Reader;
 import io.streamthoughts.azkarra.api.monad.Try;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PageableLocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
@@ -30,9 +31,10 @@ import org.apache.kafka.streams.state.KeyValueIterator;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.Objects;
 
-public class KeyValueGetRangeQuery<K, V> implements LocalStoreQuery<K, V> {
+public class KeyValueGetRangeQuery<K, V> implements PageableLocalStoreQuery<K, V> {
 
     private final String store;
     private final K keyFrom;
@@ -103,13 +105,27 @@ public class KeyValueGetRangeQuery<K, V> implements LocalStoreQuery<K, V> {
      */
     @Override
     public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+        return execute(container, limit, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container,
+                                       final long limit,
+                                       final K after) {
 
         final LocalStoreAccessor<ReadOnlyKeyValueStore<K, V>> accessor = container.getLocalKeyValueStore(store);
 
-        final Reader<ReadOnlyKeyValueStore<K, V>, List<KV<K, V>>> reader =
-                reader(keyFrom, keyTo).map(iterator -> LocalStoreQuery.toKeyValueListAndClose(iterator, limit));
+        // resume the range from the last returned key (which is itself skipped).
+        final K from = after != null ? after : keyFrom;
+        final Predicate<K> skipWhile = PageableLocalStoreQuery.isAtOrBefore(container, after);
+        final Reader<ReadOnlyKeyValueStore<K, V>, List<KV<K, V>>> reader = reader(from, keyTo)
+            .map(iterator -> LocalStoreQuery.toKeyValueListAndClose(iterator, limit, skipWhile));
 
-        return new LocalStoreQueryExecutor<>(accessor).execute(reader);
+        return PageableLocalStoreQuery.executeInKeyOrder(container, store, limit,
+            () -> new LocalStoreQueryExecutor<>(accessor).execute(reader));
     }
 
     private Reader<ReadOnlyKeyValueStore<K, V>, KeyValueIterator<K, V>> reader(final K keyFrom,
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Reader;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.StoreOperation;
+import io.streamthoughts.azkarra.api.query.StoreType;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class KeyValueMultiGetQuery<K, V> extends MultiKeyedLocalStoreQuery<K, V> {
+
+    /**
+     * Creates a new {@link KeyValueMultiGetQuery} instance.
+     *
+     * @param storeName     the name of the store.
+     * @param keys          the record keys.
+     * @param keySerializer the key serializer.
+     */
+    KeyValueMultiGetQuery(final String storeName,
+                          final List<K> keys,
+                          final Serializer<K> keySerializer) {
+        super(storeName, keys, keySerializer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoreType storeType() {
+        return StoreType.KEY_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoreOperation operationType() {
+        return StoreOperation.MULTI_GET;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    KeyValueMultiGetQuery<K, V> withKeys(final List<K> keys) {
+        return new KeyValueMultiGetQuery<>(storeName(), keys, keySerializer());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+
+        final LocalStoreAccessor<ReadOnlyKeyValueStore<K, V>> accessor = container.getLocalKeyValueStore(storeName());
+
+        final Reader<ReadOnlyKeyValueStore<K, V>, List<KV<K, V>>> reader = Reader.of(store -> {
+            final List<KV<K, V>> records = new ArrayList<>(keys().size());
+            for (K key : keys()) {
+                if (limit != NO_LIMIT && records.size() >= limit) break;
+                final V value = store.get(key);
+                if (value != null) records.add(new KV<>(key, value));
+            }
+            return records;
+        });
+
+        return new LocalStoreQueryExecutor<>(accessor).execute(reader);
+    }
+}
@@ -23,11 +23,17 @@ import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.QueryParams;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class KeyValueQueryBuilder implements QueryOperationBuilder {
 
     public static final String QUERY_PARAM_KEY = "key";
+    public static final String QUERY_PARAM_KEYS = "keys";
     public static final String QUERY_PARAM_KEY_FROM = "keyFrom";
     public static final String QUERY_PARAM_KEY_TO = "keyTo";
 
@@ -50,12 +56,16 @@ public class KeyValueQueryBuilder implements QueryOperationBuilder {
 
         if (operation == StoreOperation.GET)
             return get();
+        if (operation == StoreOperation.MULTI_GET)
+            return multiGet();
         if (operation == StoreOperation.RANGE)
             return range();
         if (operation == StoreOperation.ALL)
             return all();
         if (operation == StoreOperation.COUNT)
             return count();
+        if (operation == StoreOperation.AGGREGATE)
+            return aggregate();
 
         throw new InvalidQueryException("Operation not supported '" + operation.name() + "'");
     }
@@ -68,6 +78,10 @@ public class KeyValueQueryBuilder implements QueryOperationBuilder {
         return new Query<>(storeName, new GetKeyValueQueryBuilder<>());
     }
 
+    public <K, V> Query<K, V> multiGet() {
+        return new Query<>(storeName, new MultiGetKeyValueQueryBuilder<>());
+    }
+
     public <K, V> Query<K, V> range() {
         return new Query<>(storeName, new GetKeyValueRangeQueryBuilder<>());
     }
@@ -76,6 +90,11 @@ public class KeyValueQueryBuilder implements QueryOperationBuilder {
         return new Query<>(storeName, (store, parameters) -> new KeyValueCountQuery(store));
     }
 
+    public Query<String, Map<String, Object>> aggregate() {
+        return new Query<>(storeName, new AggregateQueryBuilder(
+            (store, aggregation, parameters) -> new KeyValueAggregateQuery(store, aggregation)));
+    }
+
     static class GetKeyValueQueryBuilder<K, V> implements LocalStoreQueryBuilder<K, V>  {
 
         /**
@@ -98,6 +117,39 @@ public class KeyValueQueryBuilder implements QueryOperationBuilder {
         }
     }
 
+    static class MultiGetKeyValueQueryBuilder<K, V> implements LocalStoreQueryBuilder<K, V>  {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Validator<QueryParams> validates(final QueryParams parameters) {
+            return Validator.of(parameters)
+                    .validates(p -> p.contains(QUERY_PARAM_KEYS), MissingRequiredKeyError.of(QUERY_PARAM_KEYS))
+                    .validates(
+                        p -> !p.contains(QUERY_PARAM_KEYS) || keys(p).stream().noneMatch(Objects::isNull),
+                        "parameter '" + QUERY_PARAM_KEYS + "' cannot contain null keys.");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public LocalStoreQuery<K, V> build(final String store, final QueryParams parameters) {
+            final QueryParams p = validates(parameters).getOrThrow(LocalStoreQueryBuilder::toInvalidQueryException);
+            return new KeyValueMultiGetQuery<>(store, keys(p), null);
+        }
+
+        @SuppressWarnings("unchecked")
+        static <K> List<K> keys(final QueryParams parameters) {
+            final Object keys = parameters.getValue(QUERY_PARAM_KEYS);
+            // a single key may be passed as a scalar value.
+            return keys instanceof Collection ?
+                new ArrayList<>((Collection<K>) keys) :
+                Collections.singletonList((K) keys);
+        }
+    }
+
     static class GetKeyValueRangeQueryBuilder<K, V> implements LocalStoreQueryBuilder<K, V>  {
 
         /**
@@ -20,15 +20,23 @@ package io.streamthoughts.azkarra.api.query.internal;
 
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.query.Aggregation;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PageableLocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.QueryCursor;
 import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.QueryParams;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class PreparedQuery<K, V> extends QueryInfo {
 
@@ -53,14 +61,50 @@ public class PreparedQuery<K, V> extends QueryInfo {
         return localStoreQuery instanceof KeyedLocalStoreQuery;
     }
 
+    public boolean isMultiKeyedQuery() {
+        return localStoreQuery instanceof MultiKeyedLocalStoreQuery;
+    }
+
+    public boolean isPageableQuery() {
+        return localStoreQuery instanceof PageableLocalStoreQuery;
+    }
+
+    public boolean isAggregateQuery() {
+        return localStoreQuery instanceof AggregateLocalStoreQuery;
+    }
+
+    public Aggregation aggregation() {
+        return ((AggregateLocalStoreQuery)localStoreQuery).aggregation();
+    }
+
     public K key() {
         return ((KeyedLocalStoreQuery<K, ?, V>)localStoreQuery).key();
     }
 
+    public List<K> keys() {
+        return ((MultiKeyedLocalStoreQuery<K, V>)localStoreQuery).keys();
+    }
+
     public Serializer<K> keySerializer() {
+        if (isMultiKeyedQuery()) {
+            return ((MultiKeyedLocalStoreQuery<K, V>)localStoreQuery).keySerializer();
+        }
         return ((KeyedLocalStoreQuery<K, ?, V>)localStoreQuery).keySerializer();
     }
 
+    /**
+     * Creates a copy of this multi-keys query for looking up the specified keys only.
+     *
+     * @param keys  the subset of keys.
+     * @return      a new {@link PreparedQuery} instance.
+     */
+    public PreparedQuery<K, V> withKeys(final List<K> keys) {
+        final Map<String, Object> params = new HashMap<>(parameters.originals());
+        params.put(KeyValueQueryBuilder.QUERY_PARAM_KEYS, keys);
+        final MultiKeyedLocalStoreQuery<K, V> query = (MultiKeyedLocalStoreQuery<K, V>) localStoreQuery;
+        return new PreparedQuery<>(new QueryParams(params), storeName, query.withKeys(keys));
+    }
+
     /**
      * Executes this query locally on the specified streams instance.
      *
@@ -70,7 +114,42 @@ public class PreparedQuery<K, V> extends QueryInfo {
         return logFailure(Try.success(localStoreQuery).flatMap(q -> q.execute(container, limit)));
     }
 
-    private Try<List<KV<K, V>>> logFailure(final Try<List<KV<K, V>>> executed) {
+    /**
+     * Executes this query locally on the specified streams instance, resuming from the specified position.
+     *
+     * @param container the {@link KafkaStreamsContainer} instance.
+     * @param limit     the maximum number of records to return.
+     * @param position  the position returned by a previous execution, or {@code null}.
+     * @return          the records and the position to resume from, empty if no more records are available.
+     */
+    public Try<Tuple<List<KV<K, V>>, Optional<QueryCursor.Position>>> execute(
+            final KafkaStreamsContainer container,
+            final long limit,
+            final QueryCursor.Position position) {
+        if (!isPageableQuery()) {
+            return execute(container, limit).map(records -> Tuple.of(records, Optional.empty()));
+        }
+        final PageableLocalStoreQuery<K, V> pageable = (PageableLocalStoreQuery<K, V>) localStoreQuery;
+        // one more record than the limit is read for knowing whether a next page is available.
+        final long limitAndNext = limit > 0 ? limit + 1 : limit;
+        return logFailure(Try.failable(() -> PageableLocalStoreQuery.<K>keySerde(container)).flatMap(serde -> {
+            final K after = position != null ? PageableLocalStoreQuery.decode(serde, position.after()) : null;
+            return pageable.execute(container, limitAndNext, after).map(records -> nextPage(serde, limit, records));
+        }));
+    }
+
+    private Tuple<List<KV<K, V>>, Optional<QueryCursor.Position>> nextPage(final Serde<K> serde,
+                                                                          final long limit,
+                                                                          final List<KV<K, V>> records) {
+        if (limit <= 0 || records.size() <= limit) {
+            return Tuple.of(records, Optional.empty());
+        }
+        final List<KV<K, V>> page = records.subList(0, (int) limit);
+        final String after = PageableLocalStoreQuery.encode(serde, page.get(page.size() - 1).key());
+        return Tuple.of(page, Optional.of(new QueryCursor.Position(after)));
+    }
+
+    private <T> Try<T> logFailure(final Try<T> executed) {
         if (executed.isFailure()) {
             LOG.error("Error happens while executing query '{}' on state store '{}' with params '{}': {}",
                 localStoreQuery.operationType(),
@@ -23,16 +23,17 @@ import io.streamthoughts.azkarra.api.monad.Reader;
 import io.streamthoughts.azkarra.api.monad.Try;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PageableLocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
-import org.apache.kafka.streams.state.KeyValueIterator;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.kafka.streams.state.ValueAndTimestamp;
 
 import java.util.List;
+import java.util.function.Predicate;
 
-public class TimestampedKeyValueGetAllQuery<K, V> implements LocalStoreQuery<K, V> {
+public class TimestampedKeyValueGetAllQuery<K, V> implements PageableLocalStoreQuery<K, V> {
 
     private String storeName;
 
@@ -66,17 +67,27 @@ public class TimestampedKeyValueGetAllQuery<K, V> implements LocalStoreQuery<K,
      */
     @Override
     public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+        return execute(container, limit, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container,
+                                       final long limit,
+                                       final K after) {
 
         final LocalStoreAccessor<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>> accessor =
                 container.getLocalTimestampedKeyValueStore(storeName);
 
+        // resume after the last returned key, as a range query would need the last key of the store.
+        final Predicate<K> skipWhile = PageableLocalStoreQuery.isAtOrBefore(container, after);
         final Reader<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, List<KV<K, V>>> reader =
-            reader().map(iterator -> LocalStoreQuery.toKeyValueAndTimestampListAndClose(iterator, limit));
-
-        return new LocalStoreQueryExecutor<>(accessor).execute(reader);
-    }
+            Reader.of((ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>> store) -> store.all())
+            .map(iterator -> LocalStoreQuery.toKeyValueAndTimestampListAndClose(iterator, limit, skipWhile));
 
-    private Reader<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, KeyValueIterator<K, ValueAndTimestamp<V>>> reader() {
-        return Reader.of(ReadOnlyKeyValueStore::all);
+        return PageableLocalStoreQuery.executeInKeyOrder(container, storeName, limit,
+            () -> new LocalStoreQueryExecutor<>(accessor).execute(reader));
     }
 }
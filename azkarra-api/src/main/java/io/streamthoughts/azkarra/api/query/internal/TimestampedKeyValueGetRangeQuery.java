@@ -23,6 +23,7 @@ import io.streamthoughts.azkarra.api.monad.Reader;
 import io.streamthoughts.azkarra.api.monad.Try;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PageableLocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
@@ -31,9 +32,10 @@ import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.kafka.streams.state.ValueAndTimestamp;
 
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.Objects;
 
-public class TimestampedKeyValueGetRangeQuery<K, V> implements LocalStoreQuery<K, V> {
+public class TimestampedKeyValueGetRangeQuery<K, V> implements PageableLocalStoreQuery<K, V> {
 
     private final String store;
     private final K keyFrom;
@@ -93,15 +95,28 @@ public class TimestampedKeyValueGetRangeQuery<K, V> implements LocalStoreQuery<K
      */
     @Override
     public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+        return execute(container, limit, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container,
+                                       final long limit,
+                                       final K after) {
 
         final LocalStoreAccessor<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>> accessor =
                 container.getLocalTimestampedKeyValueStore(store);
 
-        final Reader<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, List<KV<K, V>>> reader =
-                reader(keyFrom, keyTo)
-                .map(iterator -> LocalStoreQuery.toKeyValueAndTimestampListAndClose(iterator, limit));
+        // resume the range from the last returned key (which is itself skipped).
+        final K from = after != null ? after : keyFrom;
+        final Predicate<K> skipWhile = PageableLocalStoreQuery.isAtOrBefore(container, after);
+        final Reader<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, List<KV<K, V>>> reader = reader(from, keyTo)
+            .map(iterator -> LocalStoreQuery.toKeyValueAndTimestampListAndClose(iterator, limit, skipWhile));
 
-        return new LocalStoreQueryExecutor<>(accessor).execute(reader);
+        return PageableLocalStoreQuery.executeInKeyOrder(container, store, limit,
+            () -> new LocalStoreQueryExecutor<>(accessor).execute(reader));
     }
 
     private Reader<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, KeyValueIterator<K, ValueAndTimestamp<V>>> reader(
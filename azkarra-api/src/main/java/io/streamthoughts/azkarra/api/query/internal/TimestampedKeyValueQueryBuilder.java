@@ -21,6 +21,8 @@ package io.streamthoughts.azkarra.api.query.internal;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.QueryParams;
 
+import java.util.Map;
+
 public class TimestampedKeyValueQueryBuilder extends KeyValueQueryBuilder {
 
     /**
@@ -40,10 +42,19 @@ public class TimestampedKeyValueQueryBuilder extends KeyValueQueryBuilder {
         return new Query<>(storeName, new TimestampedGetKeyValueQueryBuilder<>());
     }
 
+    public <K, V> Query<K, V> multiGet() {
+        return new Query<>(storeName, new TimestampedMultiGetKeyValueQueryBuilder<>());
+    }
+
     public <K, V> Query<K, V> range() {
         return new Query<>(storeName, new TimestampedGetKeyValueRangeQueryBuilder<>());
     }
 
+    public Query<String, Map<String, Object>> aggregate() {
+        return new Query<>(storeName, new AggregateQueryBuilder(
+            (store, aggregation, parameters) -> new TimestampedKeyValueAggregateQuery(store, aggregation)));
+    }
+
     static class TimestampedGetKeyValueQueryBuilder<K, V> extends KeyValueQueryBuilder.GetKeyValueQueryBuilder<K, V> {
 
         /**
@@ -57,6 +68,18 @@ public class TimestampedKeyValueQueryBuilder extends KeyValueQueryBuilder {
         }
     }
 
+    static class TimestampedMultiGetKeyValueQueryBuilder<K, V> extends MultiGetKeyValueQueryBuilder<K, V> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public LocalStoreQuery<K, V> build(final String store, final QueryParams parameters) {
+            final QueryParams p = validates(parameters).getOrThrow(LocalStoreQueryBuilder::toInvalidQueryException);
+            return new TimestampedKeyValueMultiGetQuery<>(store, keys(p), null);
+        }
+    }
+
     static class TimestampedGetKeyValueRangeQueryBuilder<K, V> extends GetKeyValueRangeQueryBuilder<K, V>  {
 
         /**
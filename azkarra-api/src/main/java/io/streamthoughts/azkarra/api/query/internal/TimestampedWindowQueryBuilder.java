@@ -23,6 +23,7 @@ import io.streamthoughts.azkarra.api.query.QueryParams;
 import org.apache.kafka.streams.kstream.Windowed;
 
 import java.time.Instant;
+import java.util.Map;
 
 public class TimestampedWindowQueryBuilder extends WindowQueryBuilder {
 
@@ -34,6 +35,16 @@ public class TimestampedWindowQueryBuilder extends WindowQueryBuilder {
         super(storeName);
     }
 
+    public Query<String, Map<String, Object>> aggregate() {
+        return new Query<>(storeName, new WindowAggregateQueryBuilder((store, aggregation, p) ->
+            new TimestampedWindowAggregateQuery(
+                store,
+                aggregation,
+                timeOrNull(p, QUERY_PARAM_TIME_FROM),
+                timeOrNull(p, QUERY_PARAM_TIME_TO))
+        ));
+    }
+
     public <K, V> Query<K, V> fetch() {
         return new Query<>(storeName, new TimestampedFetchWindowQueryBuilder<>());
     }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Reader;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.Aggregation;
+import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.StoreType;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import org.apache.kafka.streams.state.ReadOnlyWindowStore;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public class WindowAggregateQuery extends AggregateLocalStoreQuery {
+
+    private final Instant timeFrom;
+    private final Instant timeTo;
+
+    /**
+     * Creates a new {@link WindowAggregateQuery} instance.
+     *
+     * @param storeName     the name of the store.
+     * @param aggregation   the {@link Aggregation} to compute.
+     * @param timeFrom      the time range lower bound, or {@code null} to aggregate all windows.
+     * @param timeTo        the time range upper bound, or {@code null} to aggregate all windows.
+     */
+    WindowAggregateQuery(final String storeName,
+                         final Aggregation aggregation,
+                         final Instant timeFrom,
+                         final Instant timeTo) {
+        super(storeName, aggregation);
+        this.timeFrom = timeFrom;
+        this.timeTo = timeTo;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoreType storeType() {
+        return StoreType.WINDOW;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<String, Map<String, Object>>>> execute(final KafkaStreamsContainer container,
+                                                             final long limit) {
+
+        final LocalStoreAccessor<ReadOnlyWindowStore<Object, Object>> accessor =
+                container.getLocalWindowStore(storeName());
+
+        return new LocalStoreQueryExecutor<>(accessor).execute(Reader.of(store -> aggregateAndClose(
+            timeFrom == null || timeTo == null ? store.all() : store.fetchAll(timeFrom, timeTo))));
+    }
+}
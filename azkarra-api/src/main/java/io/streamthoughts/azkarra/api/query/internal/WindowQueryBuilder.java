@@ -26,6 +26,7 @@ import io.streamthoughts.azkarra.api.query.QueryParams;
 import org.apache.kafka.streams.kstream.Windowed;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -72,6 +73,9 @@ public class WindowQueryBuilder implements QueryOperationBuilder {
         if (operation == StoreOperation.ALL)
             return all();
 
+        if (operation == StoreOperation.AGGREGATE)
+            return aggregate();
+
         throw new InvalidQueryException("Operation not supported '" + operation.name() + "'");
     }
 
@@ -95,6 +99,20 @@ public class WindowQueryBuilder implements QueryOperationBuilder {
         return new Query<>(storeName, (store, parameters) -> new WindowGetAllQuery<>(store));
     }
 
+    public Query<String, Map<String, Object>> aggregate() {
+        return new Query<>(storeName, new WindowAggregateQueryBuilder((store, aggregation, p) ->
+            new WindowAggregateQuery(
+                store,
+                aggregation,
+                timeOrNull(p, QUERY_PARAM_TIME_FROM),
+                timeOrNull(p, QUERY_PARAM_TIME_TO))
+        ));
+    }
+
+    static Instant timeOrNull(final QueryParams parameters, final String key) {
+        return parameters.contains(key) ? Instant.ofEpochMilli(parameters.getLong(key)) : null;
+    }
+
     static class FetchWindowQueryBuilder<K, V> implements LocalStoreQueryBuilder<K, V> {
 
         /**
@@ -209,6 +227,21 @@ public class WindowQueryBuilder implements QueryOperationBuilder {
         }
     }
 
+    static class WindowAggregateQueryBuilder extends AggregateQueryBuilder {
+
+        WindowAggregateQueryBuilder(final QueryFactory factory) {
+            super(factory);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Validator<QueryParams> validates(final QueryParams parameters) {
+            return super.validates(parameters).validates(new TimeValidator(), INVALID_TIME_ERROR);
+        }
+    }
+
     private static class TimeValidator implements Predicate<QueryParams> {
 
         @Override
@@ -21,6 +21,7 @@ package io.streamthoughts.azkarra.api.query.result;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.streamthoughts.azkarra.api.query.QueryCursor;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -53,6 +54,22 @@ public class QueryResult<K, V> implements Serializable {
      */
     private final GlobalResultSet<K, V> result;
 
+    /**
+     * The cursor to be used for querying the next page, {@code null} if no more records are available.
+     */
+    private final QueryCursor cursor;
+
+    /**
+     * Creates a new {@link QueryResult} instance.
+     */
+    QueryResult(final long took,
+                final boolean timeout,
+                final String server,
+                final QueryStatus status,
+                final GlobalResultSet<K, V> result) {
+        this(took, timeout, server, status, result, null);
+    }
+
     /**
      * Creates a new {@link QueryResult} instance.
      */
@@ -61,12 +78,14 @@ public class QueryResult<K, V> implements Serializable {
                 @JsonProperty("timeout")final boolean timeout,
                 @JsonProperty("server")final String server,
                 @JsonProperty("status")final QueryStatus status,
-                @JsonProperty("result")final GlobalResultSet<K, V> result) {
+                @JsonProperty("result")final GlobalResultSet<K, V> result,
+                @JsonProperty("cursor")final QueryCursor cursor) {
         this.took = took;
         this.timeout = timeout;
         this.server = server;
         this.status = status;
         this.result = result;
+        this.cursor = cursor;
     }
 
     public long getTook() {
@@ -89,6 +108,10 @@ public class QueryResult<K, V> implements Serializable {
         return result;
     }
 
+    public QueryCursor getCursor() {
+        return cursor;
+    }
+
     /**
      * Sets the server information.
      *
@@ -101,7 +124,8 @@ public class QueryResult<K, V> implements Serializable {
                 timeout,
                 server,
                 status,
-                result
+                result,
+                cursor
         );
     }
     /**
@@ -116,7 +140,8 @@ public class QueryResult<K, V> implements Serializable {
                 timeout,
                 server,
                 status,
-                result
+                result,
+                cursor
         );
     }
     /**
@@ -131,7 +156,25 @@ public class QueryResult<K, V> implements Serializable {
                 timeout,
                 server,
                 status,
-                result
+                result,
+                cursor
+        );
+    }
+
+    /**
+     * Sets the cursor to be used for querying the next page.
+     *
+     * @param cursor    the {@link QueryCursor}, or {@code null} if no more records are available.
+     * @return          a new {@link QueryResult} instance.
+     */
+    public QueryResult<K, V> cursor(final QueryCursor cursor) {
+        return new QueryResult<>(
+                took,
+                timeout,
+                server,
+                status,
+                result,
+                cursor
         );
     }
 
@@ -147,7 +190,8 @@ public class QueryResult<K, V> implements Serializable {
                 timeout == that.timeout &&
                 Objects.equals(server, that.server) &&
                 status == that.status &&
-                Objects.equals(result, that.result);
+                Objects.equals(result, that.result) &&
+                Objects.equals(cursor, that.cursor);
     }
 
     /**
@@ -155,7 +199,7 @@ public class QueryResult<K, V> implements Serializable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(took, timeout, server, status, result);
+        return Objects.hash(took, timeout, server, status, result, cursor);
     }
 
     @Override
@@ -166,6 +210,7 @@ public class QueryResult<K, V> implements Serializable {
                 ", server='" + server + '\'' +
                 ", status=" + status +
                 ", result=" + result +
+                ", cursor=" + cursor +
                 '}';
     }
 }
\ No newline at end of file
@@ -18,6 +18,8 @@
  */
 package io.streamthoughts.azkarra.api.query.result;
 
+import io.streamthoughts.azkarra.api.query.QueryCursor;
+
 import java.util.Collections;
 import java.util.List;
 
@@ -50,6 +52,8 @@ public final class QueryResultBuilder<K, V> {
 
     private QueryStatus status;
 
+    private QueryCursor cursor;
+
     public QueryResultBuilder<K, V> setError(final String error) {
         this.error = error;
         return this;
@@ -99,6 +103,11 @@ public final class QueryResultBuilder<K, V> {
         return this;
     }
 
+    public QueryResultBuilder<K, V> setCursor(final QueryCursor cursor) {
+        this.cursor = cursor;
+        return this;
+    }
+
     public QueryResult<K, V> build() {
         return new QueryResult<>(
                 took,
@@ -111,7 +120,8 @@ public final class QueryResultBuilder<K, V> {
                     error,
                     failedResultSetList,
                     successResultSetList
-                )
+                ),
+                cursor
         );
     }
 }
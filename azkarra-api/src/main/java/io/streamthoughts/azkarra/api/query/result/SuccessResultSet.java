@@ -19,8 +19,10 @@
 package io.streamthoughts.azkarra.api.query.result;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.QueryCursor;
 
 import java.io.Serializable;
 import java.util.List;
@@ -38,13 +40,26 @@ public class SuccessResultSet<K, V> extends AbstractResultSet implements Seriali
      */
     private List<KV<K, V>> records;
 
+    /**
+     * The position to resume a paginated query from, or {@code null} if no more records are available.
+     */
+    private final QueryCursor.Position position;
+
+    public SuccessResultSet(final String server,
+                            final boolean remote,
+                            final List<KV<K, V>> records) {
+        this(server, remote, records, null);
+    }
+
     @JsonCreator
     public SuccessResultSet(@JsonProperty("server") final String server,
                             @JsonProperty("remote") final boolean remote,
-                            @JsonProperty("records") final List<KV<K, V>> records) {
+                            @JsonProperty("records") final List<KV<K, V>> records,
+                            @JsonProperty("position") final QueryCursor.Position position) {
         super(remote, server);
         this.records = records;
         this.total = records.size();
+        this.position = position;
     }
 
     public long getTotal() {
@@ -55,17 +70,23 @@ public class SuccessResultSet<K, V> extends AbstractResultSet implements Seriali
         return records;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public QueryCursor.Position getPosition() {
+        return position;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof SuccessResultSet)) return false;
         SuccessResultSet<?, ?> that = (SuccessResultSet<?, ?>) o;
         return total == that.total &&
-                Objects.equals(records, that.records);
+                Objects.equals(records, that.records) &&
+                Objects.equals(position, that.position);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(total, records);
+        return Objects.hash(total, records, position);
     }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams;
+
+import io.streamthoughts.azkarra.api.StreamsExecutionEnvironment;
+import io.streamthoughts.azkarra.api.errors.AlreadyExistsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A thread-safe registry which indexes all the {@link KafkaStreamsContainer} instances running in a context
+ * by their {@code application.id}, together with the {@link StreamsExecutionEnvironment} they belong to.
+ *
+ * The registry is updated by the execution environments each time a streams instance is added or removed
+ * so that it can be read from any thread (e.g. for serving HTTP requests or interactive queries).
+ */
+public class ApplicationRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ApplicationRegistry.class);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers a new streams instance.
+     *
+     * @param container     the {@link KafkaStreamsContainer} to register.
+     * @param environment   the {@link StreamsExecutionEnvironment} running the streams instance.
+     *
+     * @throws AlreadyExistsException if another instance is already registered for the same application.id.
+     */
+    public void register(final KafkaStreamsContainer container,
+                         final StreamsExecutionEnvironment environment) {
+        Objects.requireNonNull(container, "container cannot be null");
+        Objects.requireNonNull(environment, "environment cannot be null");
+        final String id = container.applicationId();
+        final Entry entry = new Entry(container, environment);
+        final Entry previous = entries.putIfAbsent(id, entry);
+        if (previous != null && previous.container() != container) {
+            throw new AlreadyExistsException(
+                "A streams instance is already registered for application.id '" + id + "' " +
+                "in environment '" + previous.environment().name() + "'");
+        }
+        if (previous == null) {
+            listeners.forEach(l -> fireSafely(() -> l.onRegistered(entry), id));
+        }
+    }
+
+    /**
+     * Unregisters the streams instance for the specified application.
+     *
+     * @param id    the {@link ApplicationId}.
+     * @return      {@code true} if an instance was registered for the given application.
+     */
+    public boolean unregister(final ApplicationId id) {
+        Objects.requireNonNull(id, "id cannot be null");
+        final Entry removed = entries.remove(id.toString());
+        if (removed != null) {
+            listeners.forEach(l -> fireSafely(() -> l.onUnregistered(removed), id.toString()));
+        }
+        return removed != null;
+    }
+
+    /**
+     * Gets the registered entry for the specified application.
+     *
+     * @param applicationId the {@code application.id}.
+     * @return              an optional {@link Entry}.
+     */
+    public Optional<Entry> get(final String applicationId) {
+        return Optional.ofNullable(entries.get(applicationId));
+    }
+
+    /**
+     * Gets the streams instance for the specified application.
+     *
+     * @param applicationId the {@code application.id}.
+     * @return              an optional {@link KafkaStreamsContainer}.
+     */
+    public Optional<KafkaStreamsContainer> getContainer(final String applicationId) {
+        return get(applicationId).map(Entry::container);
+    }
+
+    /**
+     * Gets the ids of all registered applications.
+     *
+     * @return  an unmodifiable view of the registered ids.
+     */
+    public Set<String> applicationIds() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Gets all the registered streams instances.
+     *
+     * @return  an unmodifiable view of the registered entries.
+     */
+    public Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Adds a listener to be notified each time a streams instance is registered or unregistered.
+     *
+     * @param listener  the {@link Listener} to add.
+     */
+    public void addListener(final Listener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener cannot be null"));
+    }
+
+    private static void fireSafely(final Runnable event, final String applicationId) {
+        try {
+            event.run();
+        } catch (Exception e) {
+            LOG.error("Unexpected error while notifying listener for application.id '{}'", applicationId, e);
+        }
+    }
+
+    /**
+     * A streams instance registered into the {@link ApplicationRegistry}.
+     */
+    public static final class Entry {
+
+        private final KafkaStreamsContainer container;
+        private final StreamsExecutionEnvironment environment;
+
+        Entry(final KafkaStreamsContainer container,
+              final StreamsExecutionEnvironment environment) {
+            this.container = container;
+            this.environment = environment;
+        }
+
+        public KafkaStreamsContainer container() {
+            return container;
+        }
+
+        public StreamsExecutionEnvironment environment() {
+            return environment;
+        }
+    }
+
+    /**
+     * Listener which is notified of the changes of an {@link ApplicationRegistry}.
+     */
+    public interface Listener {
+
+        /**
+         * Invoked after a new streams instance is registered.
+         *
+         * @param entry the registered {@link Entry}.
+         */
+        default void onRegistered(final Entry entry) {
+        }
+
+        /**
+         * Invoked after a streams instance is unregistered.
+         *
+         * @param entry the unregistered {@link Entry}.
+         */
+        default void onUnregistered(final Entry entry) {
+        }
+    }
+}
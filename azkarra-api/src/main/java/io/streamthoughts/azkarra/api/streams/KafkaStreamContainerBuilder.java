@@ -30,6 +30,7 @@ import org.apache.kafka.streams.KafkaStreams;
 import org.apache.kafka.streams.Topology;
 import org.apache.kafka.streams.processor.StateRestoreListener;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -109,7 +110,8 @@ public class KafkaStreamContainerBuilder {
 
         streamsConfig = streamsConfig.withFallback(rocksDBConf);
 
-        topologyContainer.streamsConfig(streamsConfig);
+        // The streams config is resolved repeatedly (e.g. for creating internal clients).
+        topologyContainer.streamsConfig(streamsConfig.freeze());
 
         InternalKafkaStreamsFactory delegate = new InternalKafkaStreamsFactory(kafkaStreamsFactory);
         final KafkaStreamsContainer container = new KafkaStreamsContainer(topologyContainer, delegate);
@@ -174,7 +176,9 @@ public class KafkaStreamContainerBuilder {
 
             kafkaStreams.setStateListener(compositeStateListener);
             kafkaStreams.setUncaughtExceptionHandler(handler);
-            kafkaStreams.setGlobalStateRestoreListener(new CompositeStateRestoreListener(restoreListeners));
+            final List<StateRestoreListener> listeners = new ArrayList<>(restoreListeners);
+            listeners.add(container.restoreTracker());
+            kafkaStreams.setGlobalStateRestoreListener(new CompositeStateRestoreListener(listeners));
 
             return kafkaStreams;
         }
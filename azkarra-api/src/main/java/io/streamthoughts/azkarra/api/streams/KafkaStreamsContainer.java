@@ -22,12 +22,19 @@ import io.streamthoughts.azkarra.api.StreamsLifecycleChain;
 import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.api.model.TimestampedValue;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
 import io.streamthoughts.azkarra.api.streams.consumer.ConsumerClientOffsets;
 import io.streamthoughts.azkarra.api.streams.consumer.ConsumerGroupOffsets;
+import io.streamthoughts.azkarra.api.streams.consumer.ConsumerGroupOffsetsState;
+import io.streamthoughts.azkarra.api.streams.consumer.ConsumerLagEstimate;
 import io.streamthoughts.azkarra.api.streams.consumer.ConsumerLogOffsets;
 import io.streamthoughts.azkarra.api.streams.consumer.GlobalConsumerOffsetsRegistry;
-import io.streamthoughts.azkarra.api.streams.consumer.LogOffsetsFetcher;
+import io.streamthoughts.azkarra.api.streams.consumer.LogOffsetsCache;
+import io.streamthoughts.azkarra.api.streams.consumer.LogOffsetsCacheConfig;
+import io.streamthoughts.azkarra.api.streams.restore.StateRestoreProgress;
+import io.streamthoughts.azkarra.api.streams.restore.StateRestoreTracker;
+import io.streamthoughts.azkarra.api.streams.restore.StoreRestoreProgress;
 import io.streamthoughts.azkarra.api.streams.internal.InternalStreamsLifecycleContext;
 import io.streamthoughts.azkarra.api.streams.topology.TopologyContainer;
 import io.streamthoughts.azkarra.api.streams.topology.TopologyMetadata;
@@ -46,10 +53,13 @@ import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.LagInfo;
 import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.TopologyDescription;
 import org.apache.kafka.streams.errors.StreamsException;
 import org.apache.kafka.streams.processor.ThreadMetadata;
+import org.apache.kafka.streams.state.HostInfo;
 import org.apache.kafka.streams.state.QueryableStoreType;
 import org.apache.kafka.streams.state.QueryableStoreTypes;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
@@ -57,6 +67,7 @@ import org.apache.kafka.streams.state.ReadOnlySessionStore;
 import org.apache.kafka.streams.state.ReadOnlyWindowStore;
 import org.apache.kafka.streams.state.StreamsMetadata;
 import org.apache.kafka.streams.state.ValueAndTimestamp;
+import org.apache.kafka.streams.state.internals.StateStoreProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +75,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -72,13 +84,18 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.apache.kafka.clients.consumer.ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.CLIENT_ID_CONFIG;
+import static org.apache.kafka.streams.StoreQueryParameters.fromNameAndType;
 
 public class KafkaStreamsContainer {
 
@@ -102,7 +119,25 @@ public class KafkaStreamsContainer {
 
     private final LinkedBlockingQueue<StateChangeWatcher> stateChangeWatchers = new LinkedBlockingQueue<>();
 
-    private KafkaConsumer<byte[], byte[]> consumer;
+    /**
+     * The log start/end offsets of the active partitions, refreshed in background.
+     */
+    private volatile LogOffsetsCache logOffsetsCache;
+
+    /**
+     * The restoration progress of the local state stores, which is kept across restarts.
+     */
+    private final StateRestoreTracker restoreTracker = new StateRestoreTracker();
+
+    /**
+     * The partitions to which local state stores accesses are restricted for the current thread, if any.
+     */
+    private final ThreadLocal<Set<Integer>> localStorePartitions = new ThreadLocal<>();
+
+    /**
+     * The accessors to local stores, keyed by store name and type, which are reused across queries.
+     */
+    private final Map<Tuple<String, Class<?>>, LocalStoreAccessor<?>> localStoreAccessors = new ConcurrentHashMap<>();
 
     /**
      * The {@link Executor} which is used top start/stop the internal streams in a non-blocking way.
@@ -114,9 +149,11 @@ public class KafkaStreamsContainer {
      *
      * @param topologyContainer the {@link TopologyContainer} instance.
      * @param streamsFactory    the {@link KafkaStreamsFactory} instance.
+     *
+     * @see KafkaStreamContainerBuilder
      */
-    KafkaStreamsContainer(final TopologyContainer topologyContainer,
-                          final KafkaStreamsFactory streamsFactory) {
+    protected KafkaStreamsContainer(final TopologyContainer topologyContainer,
+                                    final KafkaStreamsFactory streamsFactory) {
         Objects.requireNonNull(topologyContainer, "topologyContainer cannot be null");
         Objects.requireNonNull(streamsFactory, "streamsFactory cannot be null");
         setState(State.NOT_CREATED);
@@ -125,6 +162,7 @@ public class KafkaStreamsContainer {
         this.applicationServer = streamsConfig()
             .getOptionalString(StreamsConfig.APPLICATION_SERVER_CONFIG)
             .orElse(null);
+        addStateChangeWatcher(new LocalStoreAccessorsInvalidator());
     }
 
     /**
@@ -142,6 +180,7 @@ public class KafkaStreamsContainer {
             topologyContainer.streamsConfig()
         );
         reset();
+        startLogOffsetsCache();
         setState(State.CREATED);
         // start() may block during a undefined period of time if the topology has defined GlobalKTables.
         // https://issues.apache.org/jira/browse/KAFKA-7380
@@ -172,8 +211,27 @@ public class KafkaStreamsContainer {
          }, executor);
     }
 
+    private void startLogOffsetsCache() {
+        closeLogOffsetsCache();
+        logOffsetsCache = new LogOffsetsCache(
+            applicationId(),
+            this::newConsumer,
+            this::activeTopicPartitions,
+            new LogOffsetsCacheConfig(streamsConfig())
+        );
+        logOffsetsCache.start();
+    }
+
+    private void closeLogOffsetsCache() {
+        final LogOffsetsCache cache = logOffsetsCache;
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
     private void reset() {
         lastObservedException = null;
+        localStoreAccessors.clear();
     }
 
     public void setState(final State state) {
@@ -284,28 +342,32 @@ public class KafkaStreamsContainer {
        return kafkaStreams.metrics();
     }
 
+    /**
+     * Gets the offsets of the consumers of this {@link KafkaStreams} instance.
+     *
+     * The log start/end offsets of the partitions are periodically fetched in background,
+     * so they may be stale by up to {@link LogOffsetsCacheConfig#LOG_OFFSETS_REFRESH_INTERVAL_MS_CONFIG}.
+     *
+     * @return  the {@link ConsumerGroupOffsets}.
+     */
     public ConsumerGroupOffsets offsets() {
 
-        final ConsumerGroupOffsets consumerGroupOffsets = GlobalConsumerOffsetsRegistry
+        final ConsumerGroupOffsetsState state = GlobalConsumerOffsetsRegistry
             .getInstance()
-            .offsetsFor(applicationId())
-            .snapshot();
+            .offsetsFor(applicationId());
+        final ConsumerGroupOffsets consumerGroupOffsets = state.snapshot();
 
-        final Set<TopicPartition> activeTopicPartitions = threadMetadata()
-            .stream()
-            .flatMap(t -> t.activeTasks().stream())
-            .flatMap(t -> t.topicPartitions().stream())
-            .collect(Collectors.toSet());
+        final Set<TopicPartition> activeTopicPartitions = activeTopicPartitions();
+        final long now = Time.SYSTEM.milliseconds();
 
-        final Map<TopicPartition, Long> logEndOffsets = LogOffsetsFetcher.fetchLogEndOffsetsFor(
-            getConsumer(),
-            activeTopicPartitions
-        );
+        final LogOffsetsCache cache = logOffsetsCache;
+        final Map<TopicPartition, Long> logEndOffsets = cache != null
+            ? cache.logEndOffsets()
+            : Collections.emptyMap();
 
-        final Map<TopicPartition, Long> logStartOffsets = LogOffsetsFetcher.fetchLogStartOffsetsFor(
-            getConsumer(),
-            activeTopicPartitions
-        );
+        final Map<TopicPartition, Long> logStartOffsets = cache != null
+            ? cache.logStartOffsets()
+            : Collections.emptyMap();
 
         final Set<ConsumerClientOffsets> consumerAndOffsets = consumerGroupOffsets.consumers()
             .stream()
@@ -313,11 +375,13 @@ public class KafkaStreamsContainer {
                 Set<ConsumerLogOffsets> offsets = client.positions()
                     .stream()
                     .map(logOffsets -> {
-                        if (!activeTopicPartitions.contains(logOffsets.topicPartition()))
+                        final TopicPartition tp = logOffsets.topicPartition();
+                        if (!activeTopicPartitions.contains(tp))
                             return null;
-                        return logOffsets
-                            .logEndOffset(logEndOffsets.get(logOffsets.topicPartition()))
-                            .logStartOffset(logStartOffsets.get(logOffsets.topicPartition()));
+                        final ConsumerLogOffsets updated = logOffsets
+                            .logEndOffset(logEndOffsets.getOrDefault(tp, -1L))
+                            .logStartOffset(logStartOffsets.get(tp));
+                        return updated.lagEstimate(estimateLag(updated, state, cache, now));
                     })
                     .filter(Objects::nonNull)
                     .collect(Collectors.toSet());
@@ -327,6 +391,68 @@ public class KafkaStreamsContainer {
         return new ConsumerGroupOffsets(consumerGroupOffsets.group(), consumerAndOffsets);
     }
 
+    /**
+     * Gets the restoration progress of the local state stores of this {@link KafkaStreams} instance.
+     *
+     * @return  the {@link StateRestoreProgress}.
+     */
+    public StateRestoreProgress restoreProgress() {
+        return new StateRestoreProgress(restoreTracker.progress(), restoreBytesRate());
+    }
+
+    private double restoreBytesRate() {
+        final KafkaStreams streams = kafkaStreams;
+        if (streams == null) return StoreRestoreProgress.UNKNOWN;
+
+        double rate = 0;
+        for (Map.Entry<MetricName, ? extends Metric> entry : streams.metrics().entrySet()) {
+            final MetricName name = entry.getKey();
+            if (isRestoreConsumerBytesRate(name)) {
+                final Object value = entry.getValue().metricValue();
+                if (value instanceof Number) rate += ((Number) value).doubleValue();
+            }
+        }
+        return rate;
+    }
+
+    private static boolean isRestoreConsumerBytesRate(final MetricName name) {
+        // only the fetch metrics aggregated over all topics, i.e. without a topic tag, are taken into account.
+        final String clientId = name.tags().get("client-id");
+        return "bytes-consumed-rate".equals(name.name())
+            && "consumer-fetch-manager-metrics".equals(name.group())
+            && !name.tags().containsKey("topic")
+            && clientId != null
+            && clientId.endsWith("restore-consumer");
+    }
+
+    /**
+     * Gets the listener used to track the restoration progress of local state stores.
+     *
+     * @return  the {@link StateRestoreTracker}.
+     */
+    StateRestoreTracker restoreTracker() {
+        return restoreTracker;
+    }
+
+    private static ConsumerLagEstimate estimateLag(final ConsumerLogOffsets logOffsets,
+                                                   final ConsumerGroupOffsetsState state,
+                                                   final LogOffsetsCache cache,
+                                                   final long now) {
+        final TopicPartition tp = logOffsets.topicPartition();
+        final double unknown = ConsumerLagEstimate.UNKNOWN;
+        final double consumeRate = state.consumeRate(tp, now).orElse(unknown);
+        final double produceRate = cache != null ? cache.produceRate(tp).orElse(unknown) : unknown;
+        return ConsumerLagEstimate.estimate(logOffsets, consumeRate, produceRate, now);
+    }
+
+    private Set<TopicPartition> activeTopicPartitions() {
+        return threadMetadata()
+            .stream()
+            .flatMap(t -> t.activeTasks().stream())
+            .flatMap(t -> t.topicPartitions().stream())
+            .collect(Collectors.toSet());
+    }
+
     /**
      * Creates a new {@link Producer} instance using the same configs that the Kafka Streams instance.
      *
@@ -349,25 +475,22 @@ public class KafkaStreamsContainer {
     }
 
     /**
-     * Gets an {@link Consumer} instance for this {@link KafkaStreams} instance.
+     * Creates a new {@link Consumer} instance for this {@link KafkaStreams} instance.
      *
      * @return a {@link Consumer} instance.
      */
-    private synchronized Consumer<byte[], byte[]> getConsumer() {
-        if (consumer == null) {
-            final UUID containerId = UUID.randomUUID();
-            final String clientId = streamsConfig()
-                    .getOptionalString(StreamsConfig.CLIENT_ID_CONFIG)
-                    .orElse(applicationId());
-            final String consumerClientId = clientId + "-" + containerId + "-consumer";
-            Map<String, Object> props = getConsumerConfigs(streamsConfig().getConfAsMap());
-            props.put(BOOTSTRAP_SERVERS_CONFIG, streamsConfig().getString(BOOTSTRAP_SERVERS_CONFIG));
-            props.put(CLIENT_ID_CONFIG, consumerClientId);
-            // no need to set group id for a internal consumer
-            props.remove(ConsumerConfig.GROUP_ID_CONFIG);
-            consumer = new KafkaConsumer<>(props, new ByteArrayDeserializer(), new ByteArrayDeserializer());
-        }
-        return consumer;
+    private Consumer<byte[], byte[]> newConsumer() {
+        final UUID containerId = UUID.randomUUID();
+        final String clientId = streamsConfig()
+                .getOptionalString(StreamsConfig.CLIENT_ID_CONFIG)
+                .orElse(applicationId());
+        final String consumerClientId = clientId + "-" + containerId + "-consumer";
+        Map<String, Object> props = getConsumerConfigs(streamsConfig().getConfAsMap());
+        props.put(BOOTSTRAP_SERVERS_CONFIG, streamsConfig().getString(BOOTSTRAP_SERVERS_CONFIG));
+        props.put(CLIENT_ID_CONFIG, consumerClientId);
+        // no need to set group id for a internal consumer
+        props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        return new KafkaConsumer<>(props, new ByteArrayDeserializer(), new ByteArrayDeserializer());
     }
 
     /**
@@ -388,6 +511,7 @@ public class KafkaStreamsContainer {
      */
     public void close(final boolean cleanUp, final Duration timeout) {
         if (cleanUp) reset();
+        closeLogOffsetsCache();
         // close() method can be invoked from a StreamThread (i.e through UncaughtExceptionHandler),
         // to avoid thread deadlock streams instance should be closed using another thread.
         final Thread shutdownThread = new Thread(() -> {
@@ -473,19 +597,132 @@ public class KafkaStreamsContainer {
         Objects.requireNonNull(storeName, "storeName cannot be null");
         Collection<StreamsMetadata> metadata = kafkaStreams.allMetadataForStore(storeName);
         return metadata.stream()
+            // instances which only host standby replicas for the store are also returned.
+            .filter(m -> m.stateStoreNames().contains(storeName))
             .map(this::newServerInfoFor)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the partitions of the specified store that correspond to the given topic-partitions assignments.
+     *
+     * @param storeName     the name of the store.
+     * @param assignments   the set of {@link TopicPartitions} assigned to an instance, either active or standby.
+     * @return              the set of partitions.
+     */
+    public Set<Integer> getStorePartitions(final String storeName, final Set<TopicPartitions> assignments) {
+        Objects.requireNonNull(storeName, "storeName cannot be null");
+        final Set<String> topics = getSourceTopicsForStore(storeName);
+        return assignments.stream()
+            // internal topics are described without being prefixed by the application id.
+            .filter(tp -> topics.stream().anyMatch(t -> isSameTopic(tp.name(), t)))
+            .flatMap(tp -> tp.partitions().stream())
+            .collect(Collectors.toSet());
+    }
+
+    private boolean isSameTopic(final String topic, final String describedTopic) {
+        return topic.equals(describedTopic) || topic.equals(applicationId() + "-" + describedTopic);
+    }
+
+    private Set<String> getSourceTopicsForStore(final String storeName) {
+        final Predicate<TopologyDescription.Subtopology> hasStore = subtopology -> subtopology.nodes()
+            .stream()
+            .filter(node -> node instanceof TopologyDescription.Processor)
+            .anyMatch(node -> ((TopologyDescription.Processor) node).stores().contains(storeName));
+
+        return topologyDescription().subtopologies()
+            .stream()
+            .filter(hasStore)
+            .flatMap(subtopology -> subtopology.nodes().stream())
+            .filter(node -> node instanceof TopologyDescription.Source)
+            .map(node -> ((TopologyDescription.Source) node).topicSet())
+            .filter(Objects::nonNull)
+            .flatMap(Set::stream)
+            .collect(Collectors.toSet());
+    }
+
     public <K> Optional<StreamsServerInfo> getMetadataForStoreAndKey(final String storeName,
                                                            final K key,
                                                            final Serializer<K> keySerializer) {
+        return getKeyQueryInfoForStore(storeName, key, keySerializer).map(KeyQueryInfo::active);
+    }
+
+    /**
+     * Finds the instances hosting the active and standby replicas of the specified key for the given store.
+     *
+     * @param storeName     the name of the store.
+     * @param key           the record key.
+     * @param keySerializer the key serializer.
+     * @param <K>           the record key type.
+     * @return              an optional {@link KeyQueryInfo}, empty if the metadata are not available.
+     */
+    public <K> Optional<KeyQueryInfo> getKeyQueryInfoForStore(final String storeName,
+                                                              final K key,
+                                                              final Serializer<K> keySerializer) {
         Objects.requireNonNull(storeName, "storeName cannot be null");
         Objects.requireNonNull(key, "key cannot be null");
         Objects.requireNonNull(keySerializer, "keySerializer cannot be null");
-        StreamsMetadata metadata = kafkaStreams.metadataForKey(storeName, key, keySerializer);
-        return metadata == null || metadata.equals(StreamsMetadata.NOT_AVAILABLE) ?
-            Optional.empty(): Optional.of(newServerInfoFor(metadata));
+        final KeyQueryMetadata metadata = kafkaStreams.queryMetadataForKey(storeName, key, keySerializer);
+        if (metadata == null || metadata.equals(KeyQueryMetadata.NOT_AVAILABLE)) {
+            return Optional.empty();
+        }
+        final Map<String, StreamsServerInfo> servers = getAllMetadata()
+            .stream()
+            .collect(Collectors.toMap(StreamsServerInfo::hostAndPort, Function.identity()));
+
+        final List<StreamsServerInfo> standbys = metadata.getStandbyHosts()
+            .stream()
+            .map(host -> newServerInfoFor(host, servers))
+            // the local standby is the closest one.
+            .sorted(Comparator.comparing(info -> !info.isLocal()))
+            .collect(Collectors.toList());
+
+        return Optional.of(new KeyQueryInfo(
+            newServerInfoFor(metadata.getActiveHost(), servers),
+            standbys,
+            metadata.getPartition())
+        );
+    }
+
+    /**
+     * Gets the current offset lag of the specified local store partition, either active or standby.
+     *
+     * @param storeName     the name of the store.
+     * @param partition     the store partition.
+     * @return              an optional offset lag, empty if the partition is not hosted by this instance.
+     */
+    public Optional<Long> getLocalStorePartitionLag(final String storeName, final int partition) {
+        Objects.requireNonNull(storeName, "storeName cannot be null");
+        return Optional.ofNullable(kafkaStreams.allLocalStorePartitionLags().get(storeName))
+            .map(lags -> lags.get(partition))
+            .map(LagInfo::offsetLag);
+    }
+
+    /**
+     * Gets the current version of the specified local store partition.
+     *
+     * The version is computed from the offsets committed by this instance for the source topics of the store.
+     * Because offsets are only committed once the records have been processed and the stores flushed, a version
+     * never moves before the corresponding updates are visible in the store. However, the records processed since
+     * the last commit are not reflected by the version, which therefore lags behind the store by at most
+     * the commit interval.
+     *
+     * @param storeName     the name of the store.
+     * @param partition     the store partition.
+     * @return              an optional version, empty if no offsets are tracked for the partition.
+     */
+    public Optional<Long> getLocalStoreVersion(final String storeName, final int partition) {
+        Objects.requireNonNull(storeName, "storeName cannot be null");
+        final ConsumerGroupOffsetsState state = GlobalConsumerOffsetsRegistry.getInstance().offsetsFor(applicationId());
+        long version = -1;
+        for (String topic : getSourceTopicsForStore(storeName)) {
+            final Optional<Long> offset = state.committedOffset(new TopicPartition(topic, partition))
+                .or(() -> state.committedOffset(new TopicPartition(applicationId() + "-" + topic, partition)));
+            if (offset.isPresent()) {
+                version = Math.max(version, 0) + offset.get();
+            }
+        }
+        return version < 0 ? Optional.empty() : Optional.of(version);
     }
 
     public <K, V> LocalStoreAccessor<ReadOnlyKeyValueStore<K, V>> getLocalKeyValueStore(final String storeName) {
@@ -510,9 +747,68 @@ public class KafkaStreamsContainer {
         return getLocalStoreAccess(storeName, QueryableStoreTypes.sessionStore());
     }
 
+    /**
+     * Executes the specified action so that all local state stores accessed by the current thread are restricted
+     * to the given partitions. Partitions are read either from an active or a standby replica.
+     *
+     * @param partitions    the set of partitions to query.
+     * @param action        the action to execute.
+     * @return              the action result.
+     */
+    public <T> T executeOnPartitions(final Set<Integer> partitions, final Supplier<T> action) {
+        Objects.requireNonNull(partitions, "partitions cannot be null");
+        final Set<Integer> previous = localStorePartitions.get();
+        localStorePartitions.set(partitions);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                localStorePartitions.set(previous);
+            } else {
+                localStorePartitions.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the partitions of the specified store which are queried by the current thread, i.e. either
+     * the partitions set through {@link #executeOnPartitions(Set, Supplier)} or the local active partitions.
+     *
+     * @param storeName the name of the store.
+     * @return          the set of partitions.
+     */
+    public Set<Integer> getLocalQueriedPartitions(final String storeName) {
+        Objects.requireNonNull(storeName, "storeName cannot be null");
+        final Set<Integer> partitions = localStorePartitions.get();
+        if (partitions != null) {
+            return partitions;
+        }
+        return getLocalServerInfo()
+            .map(info -> getStorePartitions(storeName, info.assignments()))
+            .orElse(Collections.emptySet());
+    }
+
     private <T> LocalStoreAccessor<T> getLocalStoreAccess(final String storeName,
                                                           final QueryableStoreType<T> storeType) {
-        return new LocalStoreAccessor<>(() -> kafkaStreams.store(storeName, storeType));
+        final Set<Integer> partitions = localStorePartitions.get();
+        if (partitions == null) {
+            // QueryableStoreTypes always returns new instances, so accessors are keyed by the type class.
+            @SuppressWarnings("unchecked")
+            final LocalStoreAccessor<T> accessor = (LocalStoreAccessor<T>) localStoreAccessors.computeIfAbsent(
+                Tuple.of(storeName, storeType.getClass()),
+                k -> new LocalStoreAccessor<>(() -> kafkaStreams.store(fromNameAndType(storeName, storeType))));
+            return accessor;
+        }
+        // Build a composite read-only store over the requested partitions only.
+        final StateStoreProvider provider = new StateStoreProvider() {
+            @Override
+            public <S> List<S> stores(final String name, final QueryableStoreType<S> type) {
+                return partitions.stream()
+                    .map(p -> kafkaStreams.store(fromNameAndType(name, type).enableStaleStores().withPartition(p)))
+                    .collect(Collectors.toList());
+            }
+        };
+        return new LocalStoreAccessor<>(() -> storeType.create(provider, storeName));
     }
 
     Logger logger() {
@@ -520,7 +816,7 @@ public class KafkaStreamsContainer {
     }
 
     public boolean isNotRunning() {
-        return !kafkaStreams.state().isRunning();
+        return !kafkaStreams.state().isRunningOrRebalancing();
     }
 
     /**
@@ -536,6 +832,9 @@ public class KafkaStreamsContainer {
         state = new TimestampedValue<>(stateChangeEvent.timestamp(), stateChangeEvent.newState());
         if (state.value() == State.RUNNING) {
             threadMetadata = kafkaStreams.localThreadsMetadata();
+            // active partitions may have changed, so log offsets should not wait for the next refresh.
+            final LogOffsetsCache cache = logOffsetsCache;
+            if (cache != null) cache.refreshNow();
         } else {
             threadMetadata = Collections.emptySet();
         }
@@ -564,10 +863,26 @@ public class KafkaStreamsContainer {
             metadata.port(),
             metadata.stateStoreNames(),
             groupByTopicThenGet(metadata.topicPartitions()),
+            metadata.standbyStateStoreNames(),
+            groupByTopicThenGet(metadata.standbyTopicPartitions()),
             isLocal(metadata)
         );
     }
 
+    private StreamsServerInfo newServerInfoFor(final HostInfo host, final Map<String, StreamsServerInfo> servers) {
+        final String hostAndPort = host.host() + ":" + host.port();
+        final StreamsServerInfo info = servers.get(hostAndPort);
+        if (info != null) return info;
+        return new StreamsServerInfo(
+            applicationId(),
+            host.host(),
+            host.port(),
+            Collections.emptySet(),
+            Collections.emptySet(),
+            hostAndPort.equals(applicationServer)
+        );
+    }
+
     private boolean isLocal(final StreamsMetadata metadata) {
         return (metadata.host() + ":" + metadata.port()).equals(applicationServer);
     }
@@ -605,6 +920,30 @@ public class KafkaStreamsContainer {
         return parsed;
     }
 
+    /**
+     * Clears all cached local store accessors when the local stores may be migrated or closed.
+     * This watcher re-registers itself after each invalidation.
+     */
+    private final class LocalStoreAccessorsInvalidator implements StateChangeWatcher {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean accept(final State newState) {
+            return newState != State.RUNNING;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onChange(final StateChangeEvent event) {
+            localStoreAccessors.clear();
+            addStateChangeWatcher(this);
+        }
+    }
+
     /**
      * Watch a {@link KafkaStreams} instance for {@link KafkaStreams.State} change.
      *
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Class which is used to describe the instances hosting a given key for a state store.
+ */
+public class KeyQueryInfo {
+
+    private final StreamsServerInfo active;
+    private final List<StreamsServerInfo> standbys;
+    private final int partition;
+
+    /**
+     * Creates a new {@link KeyQueryInfo} instance.
+     *
+     * @param active    the instance hosting the active replica.
+     * @param standbys  the instances hosting a standby replica.
+     * @param partition the store partition of the key.
+     */
+    public KeyQueryInfo(final StreamsServerInfo active,
+                        final List<StreamsServerInfo> standbys,
+                        final int partition) {
+        this.active = Objects.requireNonNull(active, "active cannot be null");
+        this.standbys = standbys == null ? Collections.emptyList() : Collections.unmodifiableList(standbys);
+        this.partition = partition;
+    }
+
+    /**
+     * Gets the instance hosting the active replica for the key.
+     *
+     * @return the {@link StreamsServerInfo}.
+     */
+    public StreamsServerInfo active() {
+        return active;
+    }
+
+    /**
+     * Gets the instances hosting a standby replica for the key.
+     *
+     * @return the list of {@link StreamsServerInfo}.
+     */
+    public List<StreamsServerInfo> standbys() {
+        return standbys;
+    }
+
+    /**
+     * Gets the store partition of the key.
+     *
+     * @return the partition.
+     */
+    public int partition() {
+        return partition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof KeyQueryInfo)) return false;
+        KeyQueryInfo that = (KeyQueryInfo) o;
+        return partition == that.partition &&
+                Objects.equals(active, that.active) &&
+                Objects.equals(standbys, that.standbys);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(active, standbys, partition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "KeyQueryInfo{" +
+                "active=" + active +
+                ", standbys=" + standbys +
+                ", partition=" + partition +
+                '}';
+    }
+}
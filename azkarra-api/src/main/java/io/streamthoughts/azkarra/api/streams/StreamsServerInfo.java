@@ -21,6 +21,7 @@ package io.streamthoughts.azkarra.api.streams;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
@@ -36,6 +37,8 @@ public class StreamsServerInfo {
     private final boolean isLocal;
     private final Set<String> stores;
     private final Set<TopicPartitions> assignments;
+    private final Set<String> standbyStores;
+    private final Set<TopicPartitions> standbyAssignments;
 
     /**
      * Creates a new {@link StreamsServerInfo} instance.
@@ -69,6 +72,28 @@ public class StreamsServerInfo {
                       final Set<String> stores,
                       Set<TopicPartitions> assignments,
                       final boolean isLocal) {
+        this(applicationId, host, port, stores, assignments, Collections.emptySet(), Collections.emptySet(), isLocal);
+    }
+
+    /**
+     * Creates a new {@link StreamsServerInfo} instance.
+     *
+     * @param host                  the host.
+     * @param port                  the port.
+     * @param stores                the set of stores managed by this instance.
+     * @param assignments           the set of topic-partitions assigned to this instance.
+     * @param standbyStores         the set of stores for which this instance hosts standby replicas.
+     * @param standbyAssignments    the set of topic-partitions for which this instance hosts standby replicas.
+     * @param isLocal               is storeName local.
+     */
+    public StreamsServerInfo(final String applicationId,
+                             final String host,
+                             final int port,
+                             final Set<String> stores,
+                             final Set<TopicPartitions> assignments,
+                             final Set<String> standbyStores,
+                             final Set<TopicPartitions> standbyAssignments,
+                             final boolean isLocal) {
         Objects.requireNonNull(applicationId, "id cannot be null");
         Objects.requireNonNull(host, "host cannot be null");
         this.id = applicationId;
@@ -76,6 +101,8 @@ public class StreamsServerInfo {
         this.port = port;
         this.stores = new TreeSet<>(stores);
         this.assignments = new TreeSet<>(assignments);
+        this.standbyStores = new TreeSet<>(standbyStores);
+        this.standbyAssignments = new TreeSet<>(standbyAssignments);
         this.isLocal = isLocal;
     }
 
@@ -142,6 +169,26 @@ public class StreamsServerInfo {
         return assignments;
     }
 
+    /**
+     * Gets the set of store names for which this instance hosts standby replicas.
+     *
+     * @return the set of stores.
+     */
+    @JsonProperty("standbyStores")
+    public Set<String> standbyStores() {
+        return standbyStores;
+    }
+
+    /**
+     * Gets the set of topic-partitions for which this instance hosts standby replicas.
+     *
+     * @return the set of {@link TopicPartitions}.
+     */
+    @JsonProperty("standbyAssignments")
+    public Set<TopicPartitions> standbyAssignments() {
+        return standbyAssignments;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -155,7 +202,9 @@ public class StreamsServerInfo {
                 Objects.equals(id, that.id) &&
                 Objects.equals(host, that.host) &&
                 Objects.equals(stores, that.stores) &&
-                Objects.equals(assignments, that.assignments);
+                Objects.equals(assignments, that.assignments) &&
+                Objects.equals(standbyStores, that.standbyStores) &&
+                Objects.equals(standbyAssignments, that.standbyAssignments);
     }
 
     /**
@@ -163,7 +212,7 @@ public class StreamsServerInfo {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(id, host, port, isLocal, stores, assignments);
+        return Objects.hash(id, host, port, isLocal, stores, assignments, standbyStores, standbyAssignments);
     }
 
     /**
@@ -178,6 +227,8 @@ public class StreamsServerInfo {
                 ", isLocal=" + isLocal +
                 ", stores=" + stores +
                 ", assignments=" + assignments +
+                ", standbyStores=" + standbyStores +
+                ", standbyAssignments=" + standbyAssignments +
                 '}';
     }
 }
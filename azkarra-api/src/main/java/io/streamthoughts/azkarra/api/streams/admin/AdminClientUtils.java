@@ -19,31 +19,19 @@
 package io.streamthoughts.azkarra.api.streams.admin;
 
 import io.streamthoughts.azkarra.api.config.Conf;
-import io.streamthoughts.azkarra.api.time.SystemTime;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
-import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.KafkaFuture;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.time.Duration;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 public class AdminClientUtils {
 
-    private static final Logger LOG = LoggerFactory.getLogger(AdminClientUtils.class);
-
     /**
      * Creates a new {@link AdminClient} instance.
      *
@@ -55,11 +43,18 @@ public class AdminClientUtils {
         return AdminClient.create(props);
     }
 
-    private static Properties getClientConfig(final Conf config) {
+    /**
+     * Gets the {@link AdminClient} properties from the specified configuration.
+     *
+     * @param config            the configuration.
+     * @return                  the {@link AdminClient} properties.
+     */
+    public static Properties getClientConfig(final Conf config) {
+        final Conf frozen = config.freeze();
         final Properties props = new Properties();
         for (final String adminClientConfig : AdminClientConfig.configNames()) {
-            if (config.hasPath(adminClientConfig)) {
-                props.put(adminClientConfig, config.getString(adminClientConfig));
+            if (frozen.hasPath(adminClientConfig)) {
+                props.put(adminClientConfig, frozen.getString(adminClientConfig));
             }
         }
         return props;
@@ -75,47 +70,37 @@ public class AdminClientUtils {
      */
     public static void waitForTopicToExist(final AdminClient client,
                                            final Set<String> topics) throws InterruptedException {
-        Set<String> missingTopics = topics;
-        LOG.debug("Checking for topic(s) to be created: {}", missingTopics);
-        while (true) {
-            missingTopics = checkTopicsMissing(client, missingTopics);
-            if (missingTopics.isEmpty())
-                return;
-
-            LOG.debug("Waiting for topic(s) to be created: {}", missingTopics);
-            SystemTime.SYSTEM.sleep(Duration.ofSeconds(1));
-        }
+        new ClusterMetadataService(client, new ClusterMetadataServiceConfig(Conf.empty()))
+            .waitForTopicsToExist(topics);
     }
 
     public static CompletableFuture<Collection<TopicListing>> listTopics(final AdminClient client) {
         Objects.requireNonNull(client, "client cannot be null");
-
-        KafkaFuture<Collection<TopicListing>> listings = client.listTopics().listings();
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return listings.get();
-            } catch (InterruptedException | ExecutionException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        return toCompletableFuture(client.listTopics().listings());
     }
 
-    private static Set<String> checkTopicsMissing(final AdminClient client, final Set<String> topicsToVerify)
-            throws InterruptedException {
+    /**
+     * Converts the specified {@link KafkaFuture} into a {@link CompletableFuture}.
+     *
+     * The returned future is completed by the {@link AdminClient} thread, no thread is blocked waiting for the result.
+     *
+     * @param future    the {@link KafkaFuture} to convert.
+     * @param <T>       the result type.
+     * @return          a new {@link CompletableFuture} instance.
+     */
+    public static <T> CompletableFuture<T> toCompletableFuture(final KafkaFuture<T> future) {
+        return toCompletableFuture(future, new CompletableFuture<>());
+    }
 
-        try {
-            ListTopicsResult topics = client.listTopics();
-            Set<String> topicNames = topics.names().get(5, TimeUnit.SECONDS);
-            if (topicNames.containsAll(topicsToVerify)) {
-                return Collections.emptySet();
+    static <T> CompletableFuture<T> toCompletableFuture(final KafkaFuture<T> future,
+                                                        final CompletableFuture<T> completable) {
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                completable.completeExceptionally(error);
             } else {
-                Set<String> missing = new HashSet<>(topicsToVerify);
-                missing.removeAll(topicNames);
-                return missing;
+                completable.complete(value);
             }
-        } catch (final ExecutionException | TimeoutException e) {
-            LOG.error("Error while listing topics from broker: {}", e.getMessage());
-        }
-        return topicsToVerify;
+        });
+        return completable;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.admin;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.api.config.Configurable;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one {@link ClusterMetadataService} per Kafka cluster so that it can be shared
+ * by all the streams instances running in the same context.
+ *
+ * Services are identified by their {@link org.apache.kafka.clients.admin.AdminClient} configuration.
+ */
+public class ClusterMetadataRegistry implements Configurable, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClusterMetadataRegistry.class);
+
+    private final Map<Properties, ClusterMetadataService> services = new ConcurrentHashMap<>();
+
+    private ClusterMetadataServiceConfig config = new ClusterMetadataServiceConfig(Conf.empty());
+
+    private volatile boolean closed = false;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(final Conf configuration) {
+        config = new ClusterMetadataServiceConfig(configuration);
+    }
+
+    /**
+     * Gets the {@link ClusterMetadataService} for the cluster the specified streams configuration connects to.
+     *
+     * @param streamsConfig the streams configuration.
+     * @return              the shared {@link ClusterMetadataService} instance.
+     */
+    public ClusterMetadataService getOrCreate(final Conf streamsConfig) {
+        Objects.requireNonNull(streamsConfig, "streamsConfig cannot be null");
+        if (closed) {
+            throw new IllegalStateException("ClusterMetadataRegistry is closed");
+        }
+        final Properties adminConfig = AdminClientUtils.getClientConfig(streamsConfig);
+        return services.computeIfAbsent(adminConfig, props -> {
+            LOG.info("Creating new shared cluster metadata service (bootstrap.servers={})",
+                props.get(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG));
+            return ClusterMetadataService.create(props, config);
+        });
+    }
+
+    /**
+     * Closes all the {@link ClusterMetadataService} instances.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        services.values().forEach(ClusterMetadataService::close);
+        services.clear();
+    }
+}
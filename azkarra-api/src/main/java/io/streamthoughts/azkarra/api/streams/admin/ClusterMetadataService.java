@@ -0,0 +1,299 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.admin;
+
+import io.streamthoughts.azkarra.api.annotations.VisibleForTesting;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * A service which gives access to the metadata of a Kafka cluster through a single {@link AdminClient}.
+ *
+ * Topic listings are cached for a configurable period and concurrent requests for the same metadata
+ * are coalesced into a single request, so that many streams instances can be started
+ * without flooding the brokers with metadata requests.
+ */
+public class ClusterMetadataService implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClusterMetadataService.class);
+
+    private final AdminClient client;
+
+    private final boolean closeClient;
+
+    private final ClusterMetadataServiceConfig config;
+
+    private final Time time;
+
+    /**
+     * The topics known to exist, with the time they were last seen.
+     */
+    private final Map<String, Long> existingTopics = new ConcurrentHashMap<>();
+
+    /**
+     * The pending describe requests, per topic.
+     */
+    private final Map<String, CompletableFuture<Boolean>> pendingDescribes = new ConcurrentHashMap<>();
+
+    private CachedTopics cachedTopics;
+
+    private CompletableFuture<Set<String>> pendingListTopics;
+
+    /**
+     * Creates a new {@link ClusterMetadataService} which owns a new {@link AdminClient}.
+     *
+     * @param adminConfig   the {@link AdminClient} configuration.
+     * @param config        the {@link ClusterMetadataServiceConfig} instance.
+     * @return              a new {@link ClusterMetadataService} instance.
+     */
+    public static ClusterMetadataService create(final Properties adminConfig,
+                                                final ClusterMetadataServiceConfig config) {
+        return new ClusterMetadataService(AdminClient.create(adminConfig), config, true, Time.SYSTEM);
+    }
+
+    /**
+     * Creates a new {@link ClusterMetadataService} instance.
+     *
+     * The specified {@link AdminClient} is not closed when this service is closed.
+     *
+     * @param client    the {@link AdminClient} to be used.
+     * @param config    the {@link ClusterMetadataServiceConfig} instance.
+     */
+    public ClusterMetadataService(final AdminClient client,
+                                  final ClusterMetadataServiceConfig config) {
+        this(client, config, false, Time.SYSTEM);
+    }
+
+    @VisibleForTesting
+    ClusterMetadataService(final AdminClient client,
+                           final ClusterMetadataServiceConfig config,
+                           final boolean closeClient,
+                           final Time time) {
+        this.client = Objects.requireNonNull(client, "client cannot be null");
+        this.config = Objects.requireNonNull(config, "config cannot be null");
+        this.time = Objects.requireNonNull(time, "time cannot be null");
+        this.closeClient = closeClient;
+    }
+
+    /**
+     * Gets the {@link AdminClient} used by this service.
+     *
+     * @return  the {@link AdminClient} instance.
+     */
+    public AdminClient adminClient() {
+        return client;
+    }
+
+    /**
+     * Lists the names of all non-internal topics.
+     *
+     * The listing is served from cache if it was fetched less than {@code cluster.metadata.topics.cache.ttl.ms} ago.
+     *
+     * @return  the future set of topic names.
+     */
+    public synchronized CompletableFuture<Set<String>> listTopicNames() {
+        final CachedTopics cached = cachedTopics;
+        if (cached != null && time.milliseconds() - cached.fetchedAt < config.getTopicsCacheTtl().toMillis()) {
+            return CompletableFuture.completedFuture(cached.names);
+        }
+        if (pendingListTopics != null) {
+            return pendingListTopics;
+        }
+        final CompletableFuture<Set<String>> future = new CompletableFuture<>();
+        pendingListTopics = future;
+        future.whenComplete((names, error) -> onTopicsListed(future, names));
+        AdminClientUtils.toCompletableFuture(client.listTopics().names(), future);
+        return future;
+    }
+
+    private synchronized void onTopicsListed(final CompletableFuture<Set<String>> future, final Set<String> names) {
+        if (pendingListTopics == future) {
+            pendingListTopics = null;
+        }
+        if (names != null) {
+            final long now = time.milliseconds();
+            cachedTopics = new CachedTopics(Collections.unmodifiableSet(names), now);
+            names.forEach(name -> existingTopics.put(name, now));
+        }
+    }
+
+    /**
+     * Gets the topics, among the specified ones, which do not exist on the cluster.
+     *
+     * Only the specified topics are described, and topics recently seen are not described again.
+     *
+     * @param topics    the topics to check.
+     * @return          the future set of missing topics.
+     */
+    public CompletableFuture<Set<String>> missingTopics(final Set<String> topics) {
+        final long now = time.milliseconds();
+        final long ttl = config.getTopicsCacheTtl().toMillis();
+        final Map<String, CompletableFuture<Boolean>> futures = new HashMap<>();
+        final Map<String, CompletableFuture<Boolean>> toDescribe = new HashMap<>();
+        for (String topic : topics) {
+            final Long seenAt = existingTopics.get(topic);
+            if (seenAt != null && now - seenAt < ttl) continue;
+
+            final CompletableFuture<Boolean> future = new CompletableFuture<>();
+            final CompletableFuture<Boolean> pending = pendingDescribes.putIfAbsent(topic, future);
+            if (pending == null) {
+                toDescribe.put(topic, future);
+                futures.put(topic, future);
+            } else {
+                futures.put(topic, pending);
+            }
+        }
+
+        if (!toDescribe.isEmpty()) {
+            describe(toDescribe);
+        }
+
+        return CompletableFuture
+            .allOf(futures.values().toArray(new CompletableFuture[0]))
+            .thenApply(v -> futures.entrySet()
+                .stream()
+                .filter(e -> !e.getValue().join())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet())
+            );
+    }
+
+    private void describe(final Map<String, CompletableFuture<Boolean>> topics) {
+        LOG.debug("Describing topic(s): {}", topics.keySet());
+        final Map<String, KafkaFuture<TopicDescription>> results;
+        try {
+            results = client.describeTopics(topics.keySet()).values();
+        } catch (Exception e) {
+            topics.forEach((topic, future) -> completeDescribe(topic, future, null, e));
+            return;
+        }
+        topics.forEach((topic, future) -> {
+            final KafkaFuture<TopicDescription> result = results.get(topic);
+            if (result == null) {
+                completeDescribe(topic, future, null, new UnknownTopicOrPartitionException(topic));
+            } else {
+                result.whenComplete((description, error) -> completeDescribe(topic, future, description, error));
+            }
+        });
+    }
+
+    private void completeDescribe(final String topic,
+                                  final CompletableFuture<Boolean> future,
+                                  final TopicDescription description,
+                                  final Throwable error) {
+        pendingDescribes.remove(topic, future);
+        final Throwable cause = unwrap(error);
+        if (cause == null) {
+            existingTopics.put(topic, time.milliseconds());
+            future.complete(true);
+        } else if (cause instanceof UnknownTopicOrPartitionException) {
+            future.complete(false);
+        } else {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Waits indefinitely for the specified topics to be created on the cluster.
+     *
+     * Missing topics are checked again with an exponential backoff, starting from
+     * {@code cluster.metadata.retry.backoff.ms} up to {@code cluster.metadata.retry.backoff.max.ms}.
+     *
+     * @param topics    the topics to wait for.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting.
+     */
+    public void waitForTopicsToExist(final Set<String> topics) throws InterruptedException {
+        Set<String> missing = topics;
+        long backoffMs = Math.max(1, config.getRetryBackoff().toMillis());
+        final long maxBackoffMs = Math.max(backoffMs, config.getRetryBackoffMax().toMillis());
+        LOG.debug("Checking for topic(s) to be created: {}", missing);
+        while (true) {
+            try {
+                missing = missingTopics(missing).get(config.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                if (missing.isEmpty()) {
+                    return;
+                }
+                LOG.debug("Waiting for topic(s) to be created: {}", missing);
+            } catch (final ExecutionException | TimeoutException e) {
+                LOG.error("Error while describing topics from broker: {}", e.getMessage());
+            }
+            TimeUnit.MILLISECONDS.sleep(backoffMs);
+            backoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+        }
+    }
+
+    /**
+     * Invalidates all cached metadata, e.g after topics have been created or deleted.
+     */
+    public synchronized void invalidate() {
+        cachedTopics = null;
+        existingTopics.clear();
+    }
+
+    /**
+     * Closes the underlying {@link AdminClient} if it is owned by this service.
+     */
+    @Override
+    public void close() {
+        if (closeClient) {
+            client.close();
+        }
+    }
+
+    private static Throwable unwrap(final Throwable t) {
+        Throwable cause = t;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static final class CachedTopics {
+
+        final Set<String> names;
+        final long fetchedAt;
+
+        CachedTopics(final Set<String> names, final long fetchedAt) {
+            this.names = names;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
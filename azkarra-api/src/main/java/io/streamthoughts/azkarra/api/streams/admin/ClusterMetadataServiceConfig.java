@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.admin;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration class for {@link ClusterMetadataService}.
+ */
+public class ClusterMetadataServiceConfig {
+
+    /** {@code cluster.metadata.topics.cache.ttl.ms} */
+    public static final String CLUSTER_METADATA_TOPICS_CACHE_TTL_MS_CONFIG = "cluster.metadata.topics.cache.ttl.ms";
+    public static final long CLUSTER_METADATA_TOPICS_CACHE_TTL_MS_DEFAULT = 30000;
+
+    /** {@code cluster.metadata.request.timeout.ms} */
+    public static final String CLUSTER_METADATA_REQUEST_TIMEOUT_MS_CONFIG = "cluster.metadata.request.timeout.ms";
+    public static final long CLUSTER_METADATA_REQUEST_TIMEOUT_MS_DEFAULT = 5000;
+
+    /** {@code cluster.metadata.retry.backoff.ms} */
+    public static final String CLUSTER_METADATA_RETRY_BACKOFF_MS_CONFIG = "cluster.metadata.retry.backoff.ms";
+    public static final long CLUSTER_METADATA_RETRY_BACKOFF_MS_DEFAULT = 100;
+
+    /** {@code cluster.metadata.retry.backoff.max.ms} */
+    public static final String CLUSTER_METADATA_RETRY_BACKOFF_MAX_MS_CONFIG = "cluster.metadata.retry.backoff.max.ms";
+    public static final long CLUSTER_METADATA_RETRY_BACKOFF_MAX_MS_DEFAULT = 10000;
+
+    private final Conf originals;
+
+    /**
+     * Creates a new {@link ClusterMetadataServiceConfig} instance.
+     *
+     * @param originals the {@link Conf} instance.
+     */
+    public ClusterMetadataServiceConfig(final Conf originals) {
+        this.originals = Objects.requireNonNull(originals, "originals cannot be null");
+    }
+
+    /**
+     * Get the period during which topic metadata are served from cache (Default is 30 seconds).
+     *
+     * @return the cache time-to-live.
+     */
+    public Duration getTopicsCacheTtl() {
+        return Duration.ofMillis(originals
+            .getOptionalLong(CLUSTER_METADATA_TOPICS_CACHE_TTL_MS_CONFIG)
+            .orElse(CLUSTER_METADATA_TOPICS_CACHE_TTL_MS_DEFAULT));
+    }
+
+    /**
+     * Get the maximum time to wait for a metadata request (Default is 5 seconds).
+     *
+     * @return the request timeout.
+     */
+    public Duration getRequestTimeout() {
+        return Duration.ofMillis(originals
+            .getOptionalLong(CLUSTER_METADATA_REQUEST_TIMEOUT_MS_CONFIG)
+            .orElse(CLUSTER_METADATA_REQUEST_TIMEOUT_MS_DEFAULT));
+    }
+
+    /**
+     * Get the initial time to wait before checking again for missing topics (Default is 100 milliseconds).
+     * The backoff is doubled after each attempt, up to {@link #getRetryBackoffMax()}.
+     *
+     * @return the initial retry backoff.
+     */
+    public Duration getRetryBackoff() {
+        return Duration.ofMillis(originals
+            .getOptionalLong(CLUSTER_METADATA_RETRY_BACKOFF_MS_CONFIG)
+            .orElse(CLUSTER_METADATA_RETRY_BACKOFF_MS_DEFAULT));
+    }
+
+    /**
+     * Get the maximum time to wait before checking again for missing topics (Default is 10 seconds).
+     *
+     * @return the maximum retry backoff.
+     */
+    public Duration getRetryBackoffMax() {
+        return Duration.ofMillis(originals
+            .getOptionalLong(CLUSTER_METADATA_RETRY_BACKOFF_MAX_MS_CONFIG)
+            .orElse(CLUSTER_METADATA_RETRY_BACKOFF_MAX_MS_DEFAULT));
+    }
+}
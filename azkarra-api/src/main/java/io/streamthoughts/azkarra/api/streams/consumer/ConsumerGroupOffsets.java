@@ -51,6 +51,57 @@ public class ConsumerGroupOffsets {
         return consumers;
     }
 
+    /**
+     * Gets the maximum lag in milliseconds over all partitions.
+     *
+     * @return  the lag in milliseconds, or {@link ConsumerLagEstimate#UNKNOWN}.
+     */
+    @JsonProperty("lag_ms")
+    public long lagMs() {
+        long max = ConsumerLagEstimate.UNKNOWN;
+        for (ConsumerClientOffsets consumer : consumers) {
+            for (ConsumerLogOffsets position : consumer.positions()) {
+                max = Math.max(max, position.lagEstimate().lagMs());
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the total number of records consumed per second over all partitions.
+     *
+     * @return  the consume rate, or {@link ConsumerLagEstimate#UNKNOWN}.
+     */
+    @JsonProperty("consume_rate")
+    public double consumeRate() {
+        double total = ConsumerLagEstimate.UNKNOWN;
+        for (ConsumerClientOffsets consumer : consumers) {
+            for (ConsumerLogOffsets position : consumer.positions()) {
+                final double rate = position.lagEstimate().consumeRate();
+                if (rate >= 0) total = Math.max(total, 0) + rate;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Gets the estimated time for all partitions to catch up, i.e. the maximum catch-up ETA over all partitions.
+     *
+     * @return  the ETA in milliseconds, or {@link ConsumerLagEstimate#UNKNOWN} if a partition may never catch up.
+     */
+    @JsonProperty("catch_up_eta_ms")
+    public long catchUpEtaMs() {
+        long max = 0;
+        for (ConsumerClientOffsets consumer : consumers) {
+            for (ConsumerLogOffsets position : consumer.positions()) {
+                final long eta = position.lagEstimate().catchUpEtaMs();
+                if (eta == ConsumerLagEstimate.UNKNOWN) return ConsumerLagEstimate.UNKNOWN;
+                max = Math.max(max, eta);
+            }
+        }
+        return max;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -20,20 +20,34 @@ package io.streamthoughts.azkarra.api.streams.consumer;
 
 import io.streamthoughts.azkarra.api.annotations.VisibleForTesting;
 import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.time.Time;
 import org.apache.kafka.common.TopicPartition;
 
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 public class ConsumerGroupOffsetsState {
 
+    private static final long UNKNOWN_OFFSET = -1L;
+
+    /**
+     * The number of consumption samples kept for each partition for estimating consume rates.
+     */
+    private static final int CONSUMPTION_SAMPLES_SIZE = 60;
+
+    /**
+     * The minimum time between two consumption samples, so that samples cover at least one minute.
+     */
+    private static final long CONSUMPTION_SAMPLES_INTERVAL_MS = 1000L;
+
     private final String group;
 
-    private final Map<TopicPartition, Tuple<ConsumerThreadKey, ConsumerLogOffsets>> offsets;
+    private final Map<TopicPartition, PartitionOffsets> offsets;
 
     /**
      * Creates a new {@link ConsumerGroupOffsetsState} instance.
@@ -47,12 +61,13 @@ public class ConsumerGroupOffsetsState {
 
     public ConsumerGroupOffsets snapshot() {
         Map<ConsumerThreadKey, ConsumerClientOffsets> offsetsGroupedByThread = new HashMap<>();
-        for (Tuple<ConsumerThreadKey, ConsumerLogOffsets> tuple : offsets.values()) {
+        for (PartitionOffsets partitionOffsets : offsets.values()) {
+            if (partitionOffsets.threadKey == null) continue;
             ConsumerClientOffsets consumerClientOffsets = offsetsGroupedByThread.computeIfAbsent(
-                tuple.left(),
+                partitionOffsets.threadKey,
                 ConsumerClientOffsets::new
             );
-            consumerClientOffsets.update(tuple.right());
+            consumerClientOffsets.update(partitionOffsets.toLogOffsets());
         }
         return new ConsumerGroupOffsets(group, new HashSet<>(offsetsGroupedByThread.values()));
     }
@@ -60,15 +75,125 @@ public class ConsumerGroupOffsetsState {
     public void update(final TopicPartition tp,
                        final ConsumerThreadKey consumerThreadKey,
                        final Function<ConsumerLogOffsets, ConsumerLogOffsets> updater) {
-        offsets.compute(tp, (k, tuple) -> {
-            ConsumerLogOffsets newOffsets = updater.apply(tuple == null ? new ConsumerLogOffsets(tp) : tuple.right());
-            return Tuple.of(consumerThreadKey, newOffsets);
-        });
+        final PartitionOffsets partitionOffsets = offsetsFor(tp);
+        synchronized (partitionOffsets) {
+            partitionOffsets.set(consumerThreadKey, updater.apply(partitionOffsets.toLogOffsets()));
+        }
+    }
+
+    /**
+     * Updates the last offset consumed for the specified topic-partition.
+     *
+     * @param tp                the {@link TopicPartition}.
+     * @param consumerThreadKey the {@link ConsumerThreadKey} of the consumer.
+     * @param offset            the consumed offset.
+     * @param timestamp         the timestamp of the consumed record.
+     */
+    public void updateConsumedOffset(final TopicPartition tp,
+                                     final ConsumerThreadKey consumerThreadKey,
+                                     final long offset,
+                                     final long timestamp) {
+        updateConsumedOffset(tp, consumerThreadKey, offset, timestamp, Time.SYSTEM.milliseconds());
+    }
+
+    /**
+     * Updates the last offset consumed for the specified topic-partition.
+     *
+     * @param tp                the {@link TopicPartition}.
+     * @param consumerThreadKey the {@link ConsumerThreadKey} of the consumer.
+     * @param offset            the consumed offset.
+     * @param timestamp         the timestamp of the consumed record.
+     * @param now               the wall-clock time at which the record was consumed.
+     */
+    public void updateConsumedOffset(final TopicPartition tp,
+                                     final ConsumerThreadKey consumerThreadKey,
+                                     final long offset,
+                                     final long timestamp,
+                                     final long now) {
+        final PartitionOffsets partitionOffsets = offsetsFor(tp);
+        partitionOffsets.threadKey = consumerThreadKey;
+        partitionOffsets.consumedTimestamp = timestamp;
+        // the offset is written last, so a reader reading it first never observes an outdated timestamp.
+        partitionOffsets.consumedOffset = offset;
+        partitionOffsets.samples.maybeAdd(offset, now);
+    }
+
+    /**
+     * Updates the last offset committed for the specified topic-partition.
+     *
+     * @param tp                the {@link TopicPartition}.
+     * @param consumerThreadKey the {@link ConsumerThreadKey} of the consumer.
+     * @param offset            the committed offset.
+     * @param timestamp         the time of the commit.
+     */
+    public void updateCommittedOffset(final TopicPartition tp,
+                                      final ConsumerThreadKey consumerThreadKey,
+                                      final long offset,
+                                      final long timestamp) {
+        final PartitionOffsets partitionOffsets = offsetsFor(tp);
+        partitionOffsets.threadKey = consumerThreadKey;
+        partitionOffsets.committedTimestamp = timestamp;
+        partitionOffsets.committedOffset = offset;
+    }
+
+    /**
+     * Gets the last offset consumed for the specified topic-partition.
+     *
+     * @param tp    the {@link TopicPartition}.
+     * @return      an optional offset, empty if no record has been consumed yet.
+     */
+    public Optional<Long> consumedOffset(final TopicPartition tp) {
+        final PartitionOffsets partitionOffsets = offsets.get(tp);
+        if (partitionOffsets == null || partitionOffsets.consumedOffset < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(partitionOffsets.consumedOffset);
+    }
+
+    /**
+     * Gets the last offset committed for the specified topic-partition.
+     *
+     * @param tp    the {@link TopicPartition}.
+     * @return      an optional offset, empty if no offset has been committed yet.
+     */
+    public Optional<Long> committedOffset(final TopicPartition tp) {
+        final PartitionOffsets partitionOffsets = offsets.get(tp);
+        if (partitionOffsets == null || partitionOffsets.committedOffset < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(partitionOffsets.committedOffset);
+    }
+
+    /**
+     * Gets the number of records consumed per second for the specified topic-partition.
+     *
+     * @param tp    the {@link TopicPartition}.
+     * @param now   the current wall-clock time.
+     * @return      an optional rate, empty if not enough records have been consumed yet.
+     */
+    public Optional<Double> consumeRate(final TopicPartition tp, final long now) {
+        final PartitionOffsets partitionOffsets = offsets.get(tp);
+        if (partitionOffsets == null) {
+            return Optional.empty();
+        }
+        return partitionOffsets.samples.rate(partitionOffsets.consumedOffset, now);
+    }
+
+    private PartitionOffsets offsetsFor(final TopicPartition tp) {
+        // avoid locking the map bin for partitions which are already tracked.
+        final PartitionOffsets partitionOffsets = offsets.get(tp);
+        return partitionOffsets != null ? partitionOffsets : offsets.computeIfAbsent(tp, PartitionOffsets::new);
     }
 
     @VisibleForTesting
     Map<TopicPartition, Tuple<ConsumerThreadKey, ConsumerLogOffsets>> offsets() {
-        return offsets;
+        final Map<TopicPartition, Tuple<ConsumerThreadKey, ConsumerLogOffsets>> snapshot = new HashMap<>();
+        offsets.forEach((tp, partitionOffsets) -> {
+            if (partitionOffsets.threadKey != null) {
+                snapshot.put(tp, Tuple.of(partitionOffsets.threadKey, partitionOffsets.toLogOffsets()));
+            }
+        });
+        return snapshot;
     }
 
     /**
@@ -80,7 +205,7 @@ public class ConsumerGroupOffsetsState {
         if (!(o instanceof ConsumerGroupOffsetsState)) return false;
         ConsumerGroupOffsetsState that = (ConsumerGroupOffsetsState) o;
         return Objects.equals(group, that.group) &&
-                Objects.equals(offsets, that.offsets);
+                Objects.equals(offsets(), that.offsets());
     }
 
     /**
@@ -88,6 +213,87 @@ public class ConsumerGroupOffsetsState {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(group, offsets);
+        return Objects.hash(group, offsets());
+    }
+
+    /**
+     * The mutable offsets of a single topic-partition. Offsets are only written by the consumer thread
+     * owning the partition and published through volatile fields, so that they can be read without locking.
+     */
+    private static final class PartitionOffsets {
+
+        private final TopicPartition tp;
+        private volatile ConsumerThreadKey threadKey;
+        private volatile long consumedOffset = UNKNOWN_OFFSET;
+        private volatile long consumedTimestamp = UNKNOWN_OFFSET;
+        private volatile long committedOffset = UNKNOWN_OFFSET;
+        private volatile long committedTimestamp = UNKNOWN_OFFSET;
+        private volatile long logEndOffset = UNKNOWN_OFFSET;
+        private volatile long logStartOffset = 0L;
+        private final ConsumptionSamples samples = new ConsumptionSamples(CONSUMPTION_SAMPLES_SIZE);
+
+        PartitionOffsets(final TopicPartition tp) {
+            this.tp = tp;
+        }
+
+        void set(final ConsumerThreadKey threadKey, final ConsumerLogOffsets logOffsets) {
+            this.threadKey = threadKey;
+            consumedTimestamp = logOffsets.consumedOffset().timestamp();
+            consumedOffset = logOffsets.consumedOffset().offset();
+            committedTimestamp = logOffsets.committedOffset().timestamp();
+            committedOffset = logOffsets.committedOffset().offset();
+            logEndOffset = logOffsets.logEndOffset();
+            logStartOffset = logOffsets.logStartOffset();
+        }
+
+        ConsumerLogOffsets toLogOffsets() {
+            final long consumed = consumedOffset;
+            final long committed = committedOffset;
+            return new ConsumerLogOffsets(tp)
+                .consumedOffset(new OffsetAndTimestamp(consumed, consumedTimestamp))
+                .committedOffset(new OffsetAndTimestamp(committed, committedTimestamp))
+                .logEndOffset(logEndOffset)
+                .logStartOffset(logStartOffset);
+        }
+    }
+
+    /**
+     * A bounded ring buffer of (offset, wall-clock time) samples of a single topic-partition.
+     * Samples are added by the consumer thread at most once per {@link #CONSUMPTION_SAMPLES_INTERVAL_MS},
+     * so the lock is rarely acquired and almost never contended.
+     */
+    private static final class ConsumptionSamples {
+
+        private final long[] offsets;
+        private final long[] times;
+        private int next = 0;
+        private int count = 0;
+        private volatile long lastSampleTime = UNKNOWN_OFFSET;
+
+        ConsumptionSamples(final int size) {
+            this.offsets = new long[size];
+            this.times = new long[size];
+        }
+
+        void maybeAdd(final long offset, final long now) {
+            if (lastSampleTime != UNKNOWN_OFFSET && now - lastSampleTime < CONSUMPTION_SAMPLES_INTERVAL_MS) return;
+            synchronized (this) {
+                offsets[next] = offset;
+                times[next] = now;
+                next = (next + 1) % offsets.length;
+                count = Math.min(count + 1, offsets.length);
+                lastSampleTime = now;
+            }
+        }
+
+        synchronized Optional<Double> rate(final long lastConsumedOffset, final long now) {
+            if (count == 0) return Optional.empty();
+            // the oldest sample is the next one to be overwritten once the buffer is full.
+            final int oldest = count < offsets.length ? 0 : next;
+            final long elapsed = now - times[oldest];
+            if (elapsed <= 0) return Optional.empty();
+            // the rate decreases over time when the consumer stops making progress.
+            return Optional.of(Math.max(0, lastConsumedOffset - offsets[oldest]) * 1000.0 / elapsed);
+        }
     }
 }
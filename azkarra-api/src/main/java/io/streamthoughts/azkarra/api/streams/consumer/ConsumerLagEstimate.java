@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.consumer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.Objects;
+
+/**
+ * The time-based lag estimated for a consumed topic-partition.
+ *
+ * The lag in time is the age of the last consumed record, or zero if the consumer is not lagging. The catch-up ETA
+ * is the time needed to consume the current lag, given the current consume and produce rates.
+ */
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class ConsumerLagEstimate {
+
+    public static final long UNKNOWN = -1L;
+
+    static final ConsumerLagEstimate EMPTY = new ConsumerLagEstimate(UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN);
+
+    private final long lagMs;
+    private final double consumeRate;
+    private final double produceRate;
+    private final long catchUpEtaMs;
+
+    /**
+     * Creates a new {@link ConsumerLagEstimate} instance.
+     *
+     * @param lagMs         the lag in milliseconds.
+     * @param consumeRate   the number of records consumed per second.
+     * @param produceRate   the number of records produced per second.
+     * @param catchUpEtaMs  the estimated time in milliseconds to consume the current lag.
+     */
+    ConsumerLagEstimate(final long lagMs,
+                        final double consumeRate,
+                        final double produceRate,
+                        final long catchUpEtaMs) {
+        this.lagMs = lagMs;
+        this.consumeRate = consumeRate;
+        this.produceRate = produceRate;
+        this.catchUpEtaMs = catchUpEtaMs;
+    }
+
+    /**
+     * Estimates the time-based lag for the specified offsets.
+     *
+     * @param offsets       the {@link ConsumerLogOffsets} of the topic-partition.
+     * @param consumeRate   the number of records consumed per second, or {@link #UNKNOWN}.
+     * @param produceRate   the number of records produced per second, or {@link #UNKNOWN}.
+     * @param now           the current wall-clock time.
+     * @return              a new {@link ConsumerLagEstimate}.
+     */
+    public static ConsumerLagEstimate estimate(final ConsumerLogOffsets offsets,
+                                               final double consumeRate,
+                                               final double produceRate,
+                                               final long now) {
+        final long lag = offsets.lag();
+        if (lag < 0) {
+            return new ConsumerLagEstimate(UNKNOWN, consumeRate, produceRate, UNKNOWN);
+        }
+        if (lag == 0) {
+            return new ConsumerLagEstimate(0, consumeRate, produceRate, 0);
+        }
+        final long lagMs = Math.max(0, now - offsets.consumedOffset().timestamp());
+        // the consumer only catches up if it consumes faster than records are produced.
+        final double catchUpRate = consumeRate - Math.max(0, produceRate);
+        final long catchUpEtaMs = consumeRate > 0 && catchUpRate > 0
+            ? (long) Math.ceil(lag * 1000 / catchUpRate)
+            : UNKNOWN;
+        return new ConsumerLagEstimate(lagMs, consumeRate, produceRate, catchUpEtaMs);
+    }
+
+    @JsonProperty
+    public long lagMs() {
+        return lagMs;
+    }
+
+    @JsonProperty
+    public double consumeRate() {
+        return consumeRate;
+    }
+
+    @JsonProperty
+    public double produceRate() {
+        return produceRate;
+    }
+
+    @JsonProperty
+    public long catchUpEtaMs() {
+        return catchUpEtaMs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ConsumerLagEstimate)) return false;
+        ConsumerLagEstimate that = (ConsumerLagEstimate) o;
+        return lagMs == that.lagMs &&
+                Double.compare(that.consumeRate, consumeRate) == 0 &&
+                Double.compare(that.produceRate, produceRate) == 0 &&
+                catchUpEtaMs == that.catchUpEtaMs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(lagMs, consumeRate, produceRate, catchUpEtaMs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[lagMs=" + lagMs +
+                ", consumeRate=" + consumeRate +
+                ", produceRate=" + produceRate +
+                ", catchUpEtaMs=" + catchUpEtaMs + ']';
+    }
+}
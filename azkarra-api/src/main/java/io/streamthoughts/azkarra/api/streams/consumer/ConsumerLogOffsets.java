@@ -56,31 +56,46 @@ public class ConsumerLogOffsets implements Comparable<ConsumerLogOffsets> {
      */
     private Long logStartOffset;
 
+    /**
+     * The time-based lag estimated for this partition.
+     */
+    private ConsumerLagEstimate lagEstimate;
+
     ConsumerLogOffsets(final String topic, final int partition) {
         this(
             new TopicPartition(topic, partition),
             EMPTY_OFFSET_AND_TIMESTAMP,
             EMPTY_OFFSET_AND_TIMESTAMP,
             -1L,
-            0L
+            0L,
+            ConsumerLagEstimate.EMPTY
         );
     }
 
 
     ConsumerLogOffsets(final TopicPartition topicPartition) {
-        this(topicPartition, EMPTY_OFFSET_AND_TIMESTAMP, EMPTY_OFFSET_AND_TIMESTAMP, -1L, 0L);
+        this(
+            topicPartition,
+            EMPTY_OFFSET_AND_TIMESTAMP,
+            EMPTY_OFFSET_AND_TIMESTAMP,
+            -1L,
+            0L,
+            ConsumerLagEstimate.EMPTY
+        );
     }
 
     private ConsumerLogOffsets(final TopicPartition topicPartition,
                                final OffsetAndTimestamp consumedOffset,
                                final OffsetAndTimestamp committedOffset,
                                final Long logEndOffset,
-                               final Long logStartOffset) {
+                               final Long logStartOffset,
+                               final ConsumerLagEstimate lagEstimate) {
         this.topicPartition = topicPartition;
         this.consumedOffset = consumedOffset;
         this.committedOffset = committedOffset;
         this.logEndOffset = logEndOffset;
         this.logStartOffset = logStartOffset;
+        this.lagEstimate = lagEstimate;
     }
 
     @JsonUnwrapped
@@ -108,6 +123,12 @@ public class ConsumerLogOffsets implements Comparable<ConsumerLogOffsets> {
             return -1L;
     }
 
+    @JsonProperty
+    @JsonUnwrapped
+    public ConsumerLagEstimate lagEstimate() {
+        return lagEstimate;
+    }
+
     @JsonProperty
     @JsonUnwrapped(prefix = "consumed")
     public OffsetAndTimestamp consumedOffset() {
@@ -121,19 +142,38 @@ public class ConsumerLogOffsets implements Comparable<ConsumerLogOffsets> {
     }
 
     public ConsumerLogOffsets consumedOffset(final OffsetAndTimestamp consumedOffset) {
-        return new ConsumerLogOffsets(topicPartition, consumedOffset, committedOffset, logEndOffset, logStartOffset);
+        return newConsumerLogOffsets(consumedOffset, committedOffset, logEndOffset, logStartOffset, lagEstimate);
     }
 
     public ConsumerLogOffsets committedOffset(final OffsetAndTimestamp committedOffset) {
-        return new ConsumerLogOffsets(topicPartition, consumedOffset, committedOffset, logEndOffset, logStartOffset);
+        return newConsumerLogOffsets(consumedOffset, committedOffset, logEndOffset, logStartOffset, lagEstimate);
     }
 
     public ConsumerLogOffsets logEndOffset(final Long logEndOffset) {
-        return new ConsumerLogOffsets(topicPartition, consumedOffset, committedOffset, logEndOffset, logStartOffset);
+        return newConsumerLogOffsets(consumedOffset, committedOffset, logEndOffset, logStartOffset, lagEstimate);
     }
 
     public ConsumerLogOffsets logStartOffset(final Long logStartOffset) {
-        return new ConsumerLogOffsets(topicPartition, consumedOffset, committedOffset, logEndOffset, logStartOffset);
+        return newConsumerLogOffsets(consumedOffset, committedOffset, logEndOffset, logStartOffset, lagEstimate);
+    }
+
+    public ConsumerLogOffsets lagEstimate(final ConsumerLagEstimate lagEstimate) {
+        return newConsumerLogOffsets(consumedOffset, committedOffset, logEndOffset, logStartOffset, lagEstimate);
+    }
+
+    private ConsumerLogOffsets newConsumerLogOffsets(final OffsetAndTimestamp consumedOffset,
+                                                     final OffsetAndTimestamp committedOffset,
+                                                     final Long logEndOffset,
+                                                     final Long logStartOffset,
+                                                     final ConsumerLagEstimate lagEstimate) {
+        return new ConsumerLogOffsets(
+            topicPartition,
+            consumedOffset,
+            committedOffset,
+            logEndOffset,
+            logStartOffset,
+            lagEstimate
+        );
     }
 
     /**
@@ -148,7 +188,8 @@ public class ConsumerLogOffsets implements Comparable<ConsumerLogOffsets> {
                 Objects.equals(consumedOffset, that.consumedOffset) &&
                 Objects.equals(committedOffset, that.committedOffset) &&
                 Objects.equals(logEndOffset, that.logEndOffset) &&
-                Objects.equals(logStartOffset, that.logStartOffset);
+                Objects.equals(logStartOffset, that.logStartOffset) &&
+                Objects.equals(lagEstimate, that.lagEstimate);
     }
 
     /**
@@ -156,7 +197,7 @@ public class ConsumerLogOffsets implements Comparable<ConsumerLogOffsets> {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(topicPartition, consumedOffset, committedOffset, logEndOffset, logStartOffset);
+        return Objects.hash(topicPartition, consumedOffset, committedOffset, logEndOffset, logStartOffset, lagEstimate);
     }
 
     /**
@@ -170,6 +211,7 @@ public class ConsumerLogOffsets implements Comparable<ConsumerLogOffsets> {
                 ", committedOffset=" + committedOffset +
                 ", logEndOffset=" + logEndOffset +
                 ", logStartOffset=" + logStartOffset +
+                ", lagEstimate=" + lagEstimate +
                 '}';
     }
 
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.consumer;
+
+import io.streamthoughts.azkarra.api.annotations.VisibleForTesting;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A cache of the log start and end offsets of topic-partitions which is periodically refreshed in background.
+ *
+ * The log offsets are fetched by batches using a dedicated {@link Consumer} that is only accessed by the
+ * refresh thread. Readers get an immutable snapshot of the last fetched offsets without ever blocking,
+ * thus the returned offsets may be stale by up to the refresh interval.
+ *
+ * The produce rate of each topic-partition is estimated from the log end offsets of two successive refreshes.
+ */
+public class LogOffsetsCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogOffsetsCache.class);
+
+    private static final long UNKNOWN_TIME = -1L;
+
+    private final String name;
+
+    private final Supplier<Consumer<byte[], byte[]>> consumerSupplier;
+
+    private final Supplier<Set<TopicPartition>> partitionsSupplier;
+
+    private final LogOffsetsCacheConfig config;
+
+    private final Time time;
+
+    private volatile LogOffsets snapshot = LogOffsets.EMPTY;
+
+    private ScheduledExecutorService scheduler;
+
+    private volatile Consumer<byte[], byte[]> consumer;
+
+    /**
+     * Creates a new {@link LogOffsetsCache} instance.
+     *
+     * @param name                  the name of this cache, used for naming the refresh thread.
+     * @param consumerSupplier      the supplier of the {@link Consumer} used for fetching log offsets.
+     * @param partitionsSupplier    the supplier of the topic-partitions to fetch log offsets for.
+     * @param config                the {@link LogOffsetsCacheConfig} instance.
+     */
+    public LogOffsetsCache(final String name,
+                           final Supplier<Consumer<byte[], byte[]>> consumerSupplier,
+                           final Supplier<Set<TopicPartition>> partitionsSupplier,
+                           final LogOffsetsCacheConfig config) {
+        this(name, consumerSupplier, partitionsSupplier, config, Time.SYSTEM);
+    }
+
+    @VisibleForTesting
+    LogOffsetsCache(final String name,
+                    final Supplier<Consumer<byte[], byte[]>> consumerSupplier,
+                    final Supplier<Set<TopicPartition>> partitionsSupplier,
+                    final LogOffsetsCacheConfig config,
+                    final Time time) {
+        this.time = Objects.requireNonNull(time, "time cannot be null");
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+        this.consumerSupplier = Objects.requireNonNull(consumerSupplier, "consumerSupplier cannot be null");
+        this.partitionsSupplier = Objects.requireNonNull(partitionsSupplier, "partitionsSupplier cannot be null");
+        this.config = Objects.requireNonNull(config, "config cannot be null");
+    }
+
+    /**
+     * Starts refreshing log offsets in background.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            throw new IllegalStateException("LogOffsetsCache '" + name + "' is already started");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "log-offsets-cache-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalMs = config.getRefreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Requests an immediate refresh of the log offsets, e.g. after partitions have been re-assigned.
+     */
+    public synchronized void refreshNow() {
+        if (scheduler != null && !scheduler.isShutdown()) {
+            scheduler.execute(this::refresh);
+        }
+    }
+
+    /**
+     * Gets the last log end offsets.
+     *
+     * @return  an immutable map of log end offsets.
+     */
+    public Map<TopicPartition, Long> logEndOffsets() {
+        return Collections.unmodifiableMap(snapshot.logEndOffsets);
+    }
+
+    /**
+     * Gets the last log start offsets.
+     *
+     * @return  an immutable map of log start offsets.
+     */
+    public Map<TopicPartition, Long> logStartOffsets() {
+        return Collections.unmodifiableMap(snapshot.logStartOffsets);
+    }
+
+    /**
+     * Gets the last estimated number of records produced per second for the specified topic-partition.
+     *
+     * @param tp    the {@link TopicPartition}.
+     * @return      an optional rate, empty if log end offsets have not been fetched twice yet.
+     */
+    public Optional<Double> produceRate(final TopicPartition tp) {
+        return Optional.ofNullable(snapshot.produceRates.get(tp));
+    }
+
+    /**
+     * Stops refreshing log offsets and closes the internal consumer.
+     */
+    public synchronized void close() {
+        if (scheduler == null || scheduler.isShutdown()) return;
+        // the consumer is not thread-safe, it must be closed by the refresh thread.
+        scheduler.execute(this::closeConsumer);
+        scheduler.shutdown();
+        final Consumer<byte[], byte[]> current = consumer;
+        if (current != null) {
+            // interrupt a pending fetch, if any.
+            current.wakeup();
+        }
+    }
+
+    @VisibleForTesting
+    void refresh() {
+        final Set<TopicPartition> partitions = partitionsSupplier.get();
+        final LogOffsets previous = snapshot;
+        if (partitions.isEmpty()) {
+            snapshot = LogOffsets.EMPTY;
+            return;
+        }
+
+        final LogOffsets next = new LogOffsets(time.milliseconds(), partitions.size());
+        final int batchSize = Math.max(1, config.getRefreshBatchSize());
+        final List<TopicPartition> batch = new ArrayList<>(Math.min(partitions.size(), batchSize));
+        for (TopicPartition partition : partitions) {
+            batch.add(partition);
+            if (batch.size() == batchSize) {
+                fetch(batch, previous, next);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            fetch(batch, previous, next);
+        }
+        snapshot = next;
+    }
+
+    private void fetch(final List<TopicPartition> batch,
+                       final LogOffsets previous,
+                       final LogOffsets next) {
+        final Duration timeout = config.getRefreshTimeout();
+        final boolean fetched = fetch(
+            batch,
+            previous.logEndOffsets,
+            next.logEndOffsets,
+            p -> getConsumer().endOffsets(p, timeout)
+        );
+        for (TopicPartition partition : batch) {
+            next.updateProduceRate(partition, previous, fetched);
+        }
+        fetch(batch, previous.logStartOffsets, next.logStartOffsets, p -> getConsumer().beginningOffsets(p, timeout));
+    }
+
+    private boolean fetch(final List<TopicPartition> batch,
+                          final Map<TopicPartition, Long> previous,
+                          final Map<TopicPartition, Long> offsets,
+                          final Function<List<TopicPartition>, Map<TopicPartition, Long>> fetcher) {
+        try {
+            offsets.putAll(fetcher.apply(batch));
+            return true;
+        } catch (final KafkaException e) {
+            LOG.warn("Unexpected error while fetching log offsets for topic/partitions, keeping previous ones", e);
+            for (TopicPartition partition : batch) {
+                final Long offset = previous.get(partition);
+                if (offset != null) offsets.put(partition, offset);
+            }
+            return false;
+        }
+    }
+
+    private Consumer<byte[], byte[]> getConsumer() {
+        if (consumer == null) {
+            consumer = consumerSupplier.get();
+        }
+        return consumer;
+    }
+
+    private void closeConsumer() {
+        if (consumer != null) {
+            try {
+                consumer.close();
+            } catch (final KafkaException e) {
+                LOG.warn("Unexpected error while closing consumer for LogOffsetsCache '{}'", name, e);
+            }
+            consumer = null;
+        }
+    }
+
+    /**
+     * The log offsets fetched during a refresh. Maps are only modified by the refresh thread
+     * before the instance is published.
+     */
+    private static final class LogOffsets {
+
+        static final LogOffsets EMPTY = new LogOffsets(UNKNOWN_TIME, 0);
+
+        final Map<TopicPartition, Long> logEndOffsets;
+        final Map<TopicPartition, Long> logStartOffsets;
+        final Map<TopicPartition, Long> fetchTimes;
+        final Map<TopicPartition, Double> produceRates;
+        final long time;
+
+        LogOffsets(final long time, final int size) {
+            this.time = time;
+            this.logEndOffsets = new HashMap<>(size);
+            this.logStartOffsets = new HashMap<>(size);
+            this.fetchTimes = new HashMap<>(size);
+            this.produceRates = new HashMap<>(size);
+        }
+
+        void updateProduceRate(final TopicPartition tp, final LogOffsets previous, final boolean fetched) {
+            if (!fetched) {
+                // keep the state of the last successful fetch for computing the next rate.
+                copy(tp, previous.fetchTimes, fetchTimes);
+                copy(tp, previous.produceRates, produceRates);
+                return;
+            }
+            fetchTimes.put(tp, time);
+            final Long endOffset = logEndOffsets.get(tp);
+            final Long previousEndOffset = previous.logEndOffsets.get(tp);
+            final Long previousTime = previous.fetchTimes.get(tp);
+            if (endOffset == null || previousEndOffset == null || previousTime == null || time <= previousTime) {
+                copy(tp, previous.produceRates, produceRates);
+                return;
+            }
+            produceRates.put(tp, Math.max(0, endOffset - previousEndOffset) * 1000.0 / (time - previousTime));
+        }
+
+        private static <V> void copy(final TopicPartition tp,
+                                     final Map<TopicPartition, V> from,
+                                     final Map<TopicPartition, V> to) {
+            final V value = from.get(tp);
+            if (value != null) to.put(tp, value);
+        }
+    }
+}
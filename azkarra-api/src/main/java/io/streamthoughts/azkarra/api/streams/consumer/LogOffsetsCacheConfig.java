@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.consumer;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration class for {@link LogOffsetsCache}.
+ */
+public class LogOffsetsCacheConfig {
+
+    /** {@code log.offsets.refresh.interval.ms} */
+    public static final String LOG_OFFSETS_REFRESH_INTERVAL_MS_CONFIG = "log.offsets.refresh.interval.ms";
+    public static final long LOG_OFFSETS_REFRESH_INTERVAL_MS_DEFAULT = 10000;
+
+    /** {@code log.offsets.refresh.timeout.ms} */
+    public static final String LOG_OFFSETS_REFRESH_TIMEOUT_MS_CONFIG = "log.offsets.refresh.timeout.ms";
+    public static final long LOG_OFFSETS_REFRESH_TIMEOUT_MS_DEFAULT = 5000;
+
+    /** {@code log.offsets.refresh.batch.size} */
+    public static final String LOG_OFFSETS_REFRESH_BATCH_SIZE_CONFIG = "log.offsets.refresh.batch.size";
+    public static final int LOG_OFFSETS_REFRESH_BATCH_SIZE_DEFAULT = 500;
+
+    private final Conf originals;
+
+    /**
+     * Creates a new {@link LogOffsetsCacheConfig} instance.
+     *
+     * @param originals the {@link Conf} instance.
+     */
+    public LogOffsetsCacheConfig(final Conf originals) {
+        this.originals = Objects.requireNonNull(originals, "originals cannot be null");
+    }
+
+    /**
+     * Get the period between two refreshes of the log offsets (Default is 10 seconds).
+     *
+     * @return the refresh interval.
+     */
+    public Duration getRefreshInterval() {
+        return Duration.ofMillis(originals
+            .getOptionalLong(LOG_OFFSETS_REFRESH_INTERVAL_MS_CONFIG)
+            .orElse(LOG_OFFSETS_REFRESH_INTERVAL_MS_DEFAULT));
+    }
+
+    /**
+     * Get the maximum time to wait for the log offsets of a single batch (Default is 5 seconds).
+     *
+     * @return the request timeout.
+     */
+    public Duration getRefreshTimeout() {
+        return Duration.ofMillis(originals
+            .getOptionalLong(LOG_OFFSETS_REFRESH_TIMEOUT_MS_CONFIG)
+            .orElse(LOG_OFFSETS_REFRESH_TIMEOUT_MS_DEFAULT));
+    }
+
+    /**
+     * Get the maximum number of topic-partitions for which log offsets are requested at once (Default is 500).
+     *
+     * @return the batch size.
+     */
+    public int getRefreshBatchSize() {
+        return originals
+            .getOptionalInt(LOG_OFFSETS_REFRESH_BATCH_SIZE_CONFIG)
+            .orElse(LOG_OFFSETS_REFRESH_BATCH_SIZE_DEFAULT);
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -42,6 +43,10 @@ public class MonitorOffsetsConsumerInterceptor<K, V> implements ConsumerIntercep
 
     private String clientId;
 
+    private Thread consumerThread;
+
+    private ConsumerThreadKey consumerThreadKey;
+
     /**
      * Creates a new {@link MonitorOffsetsConsumerInterceptor} instance.
      */
@@ -64,11 +69,14 @@ public class MonitorOffsetsConsumerInterceptor<K, V> implements ConsumerIntercep
      */
     @Override
     public ConsumerRecords<K, V> onConsume(final ConsumerRecords<K, V> records) {
+        final ConsumerThreadKey threadKey = consumerThreadKey();
+        final long now = Time.SYSTEM.milliseconds();
         for (TopicPartition tp : records.partitions()) {
-            for (ConsumerRecord<K, V>  record : records.records(tp)) {
-                final OffsetAndTimestamp ot = new OffsetAndTimestamp(record.offset(), record.timestamp());
-                consumerGroupOffsets.update(tp, consumerThreadKey(), current -> current.consumedOffset(ot));
-            }
+            final List<ConsumerRecord<K, V>> partitionRecords = records.records(tp);
+            if (partitionRecords.isEmpty()) continue;
+            // records are ordered by offset, so only the last record of each partition has to be tracked.
+            final ConsumerRecord<K, V> last = partitionRecords.get(partitionRecords.size() - 1);
+            consumerGroupOffsets.updateConsumedOffset(tp, threadKey, last.offset(), last.timestamp(), now);
         }
         return records;
     }
@@ -79,16 +87,20 @@ public class MonitorOffsetsConsumerInterceptor<K, V> implements ConsumerIntercep
     @Override
     public void onCommit(final Map<TopicPartition, OffsetAndMetadata> offsets) {
         final long now = Time.SYSTEM.milliseconds();
+        final ConsumerThreadKey threadKey = consumerThreadKey();
         for (Map.Entry<TopicPartition, OffsetAndMetadata> elem : offsets.entrySet()) {
-            final TopicPartition tp = elem.getKey();
-            final OffsetAndMetadata oam = elem.getValue();
-            final OffsetAndTimestamp ot = new OffsetAndTimestamp(oam.offset(), now);
-            consumerGroupOffsets.update(tp, consumerThreadKey(), current -> current.committedOffset(ot));
+            consumerGroupOffsets.updateCommittedOffset(elem.getKey(), threadKey, elem.getValue().offset(), now);
         }
     }
 
-    private  ConsumerThreadKey consumerThreadKey() {
-        return new ConsumerThreadKey(Thread.currentThread().getName(), clientId);
+    private ConsumerThreadKey consumerThreadKey() {
+        // a consumer is always used by a single thread, so its key is only built once.
+        final Thread current = Thread.currentThread();
+        if (current != consumerThread) {
+            consumerThreadKey = new ConsumerThreadKey(current.getName(), clientId);
+            consumerThread = current;
+        }
+        return consumerThreadKey;
     }
 
     /**
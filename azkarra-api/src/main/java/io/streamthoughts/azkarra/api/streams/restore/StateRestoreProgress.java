@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.restore;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The restoration progress of all state stores of a {@link org.apache.kafka.streams.KafkaStreams} instance.
+ *
+ * Aggregate values only account for the restorations which are still in progress.
+ */
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class StateRestoreProgress {
+
+    private final List<StoreRestoreProgress> stores;
+    private final double bytesRate;
+
+    /**
+     * Creates a new {@link StateRestoreProgress} instance.
+     *
+     * @param stores    the restoration progress of each store partition.
+     * @param bytesRate the number of bytes fetched per second by the restore consumers,
+     *                  or {@link StoreRestoreProgress#UNKNOWN}.
+     */
+    public StateRestoreProgress(final List<StoreRestoreProgress> stores,
+                                final double bytesRate) {
+        this.stores = Collections.unmodifiableList(Objects.requireNonNull(stores, "stores cannot be null"));
+        this.bytesRate = bytesRate;
+    }
+
+    @JsonProperty
+    public List<StoreRestoreProgress> stores() {
+        return stores;
+    }
+
+    /**
+     * Checks whether at least one store partition is being restored.
+     *
+     * @return  {@code true} if a restoration is in progress.
+     */
+    @JsonProperty
+    public boolean restoring() {
+        return stores.stream().anyMatch(s -> !s.completed());
+    }
+
+    @JsonProperty
+    public long remainingRecords() {
+        return stores.stream().mapToLong(StoreRestoreProgress::remainingRecords).sum();
+    }
+
+    @JsonProperty
+    public double recordsRate() {
+        return stores.stream()
+            .filter(s -> !s.completed() && s.restoreRate() > 0)
+            .mapToDouble(StoreRestoreProgress::restoreRate)
+            .sum();
+    }
+
+    @JsonProperty
+    public double bytesRate() {
+        return bytesRate;
+    }
+
+    /**
+     * Gets the estimated time to complete all restorations, i.e. the ETA of the slowest store partition.
+     *
+     * @return  the ETA in milliseconds, or {@link StoreRestoreProgress#UNKNOWN} if it cannot be estimated yet.
+     */
+    @JsonProperty
+    public long etaMs() {
+        long eta = 0;
+        for (StoreRestoreProgress store : stores) {
+            final long storeEta = store.etaMs();
+            if (storeEta == StoreRestoreProgress.UNKNOWN) return StoreRestoreProgress.UNKNOWN;
+            eta = Math.max(eta, storeEta);
+        }
+        return eta;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StateRestoreProgress)) return false;
+        StateRestoreProgress that = (StateRestoreProgress) o;
+        return Double.compare(that.bytesRate, bytesRate) == 0 &&
+                Objects.equals(stores, that.stores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(stores, bytesRate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[stores=" + stores +
+                ", bytesRate=" + bytesRate + ']';
+    }
+}
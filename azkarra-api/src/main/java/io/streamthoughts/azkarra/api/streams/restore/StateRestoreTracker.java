@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.restore;
+
+import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.streams.processor.StateRestoreListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link StateRestoreListener} which tracks the restoration progress of each state store partition.
+ *
+ * The restore rate of a store partition is an exponentially weighted moving average of the rate
+ * observed between two restored batches.
+ */
+public class StateRestoreTracker implements StateRestoreListener {
+
+    private static final double RATE_SMOOTHING_FACTOR = 0.2;
+
+    private static final Comparator<StoreRestoreProgress> ORDERING = Comparator
+        .comparing(StoreRestoreProgress::storeName)
+        .thenComparing(p -> p.topicPartition().topic())
+        .thenComparingInt(p -> p.topicPartition().partition());
+
+    private final Map<Tuple<String, TopicPartition>, Restoration> restorations = new ConcurrentHashMap<>();
+
+    private final Time time;
+
+    /**
+     * Creates a new {@link StateRestoreTracker} instance.
+     */
+    public StateRestoreTracker() {
+        this(Time.SYSTEM);
+    }
+
+    StateRestoreTracker(final Time time) {
+        this.time = Objects.requireNonNull(time, "time cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRestoreStart(final TopicPartition topicPartition,
+                               final String storeName,
+                               final long startingOffset,
+                               final long endingOffset) {
+        restorations.put(
+            Tuple.of(storeName, topicPartition),
+            new Restoration(storeName, topicPartition, startingOffset, endingOffset, time.milliseconds())
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onBatchRestored(final TopicPartition topicPartition,
+                                final String storeName,
+                                final long batchEndOffset,
+                                final long numRestored) {
+        final Restoration restoration = restorations.get(Tuple.of(storeName, topicPartition));
+        if (restoration != null) {
+            restoration.batchRestored(batchEndOffset, numRestored, time.milliseconds());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRestoreEnd(final TopicPartition topicPartition,
+                             final String storeName,
+                             final long totalRestored) {
+        final Restoration restoration = restorations.get(Tuple.of(storeName, topicPartition));
+        if (restoration != null) {
+            restoration.restoreEnd(totalRestored, time.milliseconds());
+        }
+    }
+
+    /**
+     * Gets the restoration progress of all the store partitions restored since this tracker was created.
+     *
+     * @return  the list of {@link StoreRestoreProgress}, ordered by store name and partition.
+     */
+    public List<StoreRestoreProgress> progress() {
+        return restorations.values()
+            .stream()
+            .map(Restoration::progress)
+            .sorted(ORDERING)
+            .collect(Collectors.toList());
+    }
+
+    private static final class Restoration {
+
+        private final String storeName;
+        private final TopicPartition topicPartition;
+        private final long startingOffset;
+        private final long endingOffset;
+        private final long startTime;
+        private long currentOffset;
+        private long totalRestored = 0;
+        private long endTime = StoreRestoreProgress.UNKNOWN;
+        private double rate = StoreRestoreProgress.UNKNOWN;
+        private long lastSampleTime;
+        private long unsampledRecords = 0;
+
+        Restoration(final String storeName,
+                    final TopicPartition topicPartition,
+                    final long startingOffset,
+                    final long endingOffset,
+                    final long startTime) {
+            this.storeName = storeName;
+            this.topicPartition = topicPartition;
+            this.startingOffset = startingOffset;
+            this.endingOffset = endingOffset;
+            this.startTime = startTime;
+            this.currentOffset = startingOffset;
+            this.lastSampleTime = startTime;
+        }
+
+        synchronized void batchRestored(final long batchEndOffset, final long numRestored, final long now) {
+            currentOffset = batchEndOffset;
+            totalRestored += numRestored;
+            unsampledRecords += numRestored;
+            final long elapsed = now - lastSampleTime;
+            // batches restored within the same millisecond are accounted in the next sample.
+            if (elapsed <= 0) return;
+            final double sample = unsampledRecords * 1000.0 / elapsed;
+            rate = rate < 0 ? sample : RATE_SMOOTHING_FACTOR * sample + (1 - RATE_SMOOTHING_FACTOR) * rate;
+            lastSampleTime = now;
+            unsampledRecords = 0;
+        }
+
+        synchronized void restoreEnd(final long totalRestored, final long now) {
+            this.totalRestored = totalRestored;
+            this.currentOffset = Math.max(currentOffset, endingOffset);
+            this.endTime = now;
+        }
+
+        synchronized StoreRestoreProgress progress() {
+            return new StoreRestoreProgress(
+                storeName,
+                topicPartition,
+                startingOffset,
+                endingOffset,
+                currentOffset,
+                totalRestored,
+                rate,
+                startTime,
+                endTime
+            );
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.restore;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Objects;
+
+/**
+ * The restoration progress of a single state store partition.
+ */
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class StoreRestoreProgress {
+
+    public static final long UNKNOWN = -1L;
+
+    private final String storeName;
+    private final TopicPartition topicPartition;
+    private final long startingOffset;
+    private final long endingOffset;
+    private final long currentOffset;
+    private final long totalRestored;
+    private final double restoreRate;
+    private final long startTime;
+    private final long endTime;
+
+    /**
+     * Creates a new {@link StoreRestoreProgress} instance.
+     *
+     * @param storeName         the name of the store.
+     * @param topicPartition    the changelog topic-partition.
+     * @param startingOffset    the offset from which the restoration started.
+     * @param endingOffset      the offset up to which the store must be restored.
+     * @param currentOffset     the offset of the last restored batch.
+     * @param totalRestored     the number of records restored so far.
+     * @param restoreRate       the moving average of the number of records restored per second, or {@link #UNKNOWN}.
+     * @param startTime         the time at which the restoration started.
+     * @param endTime           the time at which the restoration completed, or {@link #UNKNOWN}.
+     */
+    StoreRestoreProgress(final String storeName,
+                         final TopicPartition topicPartition,
+                         final long startingOffset,
+                         final long endingOffset,
+                         final long currentOffset,
+                         final long totalRestored,
+                         final double restoreRate,
+                         final long startTime,
+                         final long endTime) {
+        this.storeName = Objects.requireNonNull(storeName, "storeName cannot be null");
+        this.topicPartition = Objects.requireNonNull(topicPartition, "topicPartition cannot be null");
+        this.startingOffset = startingOffset;
+        this.endingOffset = endingOffset;
+        this.currentOffset = currentOffset;
+        this.totalRestored = totalRestored;
+        this.restoreRate = restoreRate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    @JsonProperty
+    public String storeName() {
+        return storeName;
+    }
+
+    @JsonProperty
+    public String topic() {
+        return topicPartition.topic();
+    }
+
+    @JsonProperty
+    public int partition() {
+        return topicPartition.partition();
+    }
+
+    public TopicPartition topicPartition() {
+        return topicPartition;
+    }
+
+    @JsonProperty
+    public long startingOffset() {
+        return startingOffset;
+    }
+
+    @JsonProperty
+    public long endingOffset() {
+        return endingOffset;
+    }
+
+    @JsonProperty
+    public long currentOffset() {
+        return currentOffset;
+    }
+
+    @JsonProperty
+    public long totalRestored() {
+        return totalRestored;
+    }
+
+    @JsonProperty
+    public double restoreRate() {
+        return restoreRate;
+    }
+
+    @JsonProperty
+    public long startTime() {
+        return startTime;
+    }
+
+    @JsonProperty
+    public long endTime() {
+        return endTime;
+    }
+
+    @JsonProperty
+    public boolean completed() {
+        return endTime != UNKNOWN;
+    }
+
+    /**
+     * Gets the number of offsets remaining to be restored.
+     *
+     * @return  the remaining records, zero if the restoration is completed.
+     */
+    @JsonProperty
+    public long remainingRecords() {
+        return completed() ? 0 : Math.max(0, endingOffset - currentOffset);
+    }
+
+    /**
+     * Gets the estimated time to complete the restoration, given the current restore rate.
+     *
+     * @return  the ETA in milliseconds, or {@link #UNKNOWN} if no records have been restored yet.
+     */
+    @JsonProperty
+    public long etaMs() {
+        final long remaining = remainingRecords();
+        if (remaining == 0) return 0;
+        return restoreRate > 0 ? (long) Math.ceil(remaining * 1000 / restoreRate) : UNKNOWN;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StoreRestoreProgress)) return false;
+        StoreRestoreProgress that = (StoreRestoreProgress) o;
+        return startingOffset == that.startingOffset &&
+                endingOffset == that.endingOffset &&
+                currentOffset == that.currentOffset &&
+                totalRestored == that.totalRestored &&
+                Double.compare(that.restoreRate, restoreRate) == 0 &&
+                startTime == that.startTime &&
+                endTime == that.endTime &&
+                Objects.equals(storeName, that.storeName) &&
+                Objects.equals(topicPartition, that.topicPartition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(storeName, topicPartition, startingOffset, endingOffset,
+            currentOffset, totalRestored, restoreRate, startTime, endTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[storeName=" + storeName +
+                ", topicPartition=" + topicPartition +
+                ", startingOffset=" + startingOffset +
+                ", endingOffset=" + endingOffset +
+                ", currentOffset=" + currentOffset +
+                ", totalRestored=" + totalRestored +
+                ", restoreRate=" + restoreRate +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime + ']';
+    }
+}
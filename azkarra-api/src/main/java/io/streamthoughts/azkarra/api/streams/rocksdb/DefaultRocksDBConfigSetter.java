@@ -21,20 +21,43 @@ package io.streamthoughts.azkarra.api.streams.rocksdb;
 import io.streamthoughts.azkarra.api.annotations.VisibleForTesting;
 import org.apache.kafka.common.config.AbstractConfig;
 import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.InfoLogLevel;
 import org.rocksdb.Options;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * The default {@link RocksDBConfigSetter} used by Azkarra.
+ *
+ * When {@code rocksdb.memory.managed} is enabled, all the stores of the JVM share the block cache
+ * and the write buffer manager of the {@link RocksDBMemoryManager}, with index and filter blocks being
+ * counted against the cache. The options of the stores matching a pattern can also be overridden
+ * through the {@code rocksdb.store.overrides.<name>.*} properties.
+ *
+ * When {@code rocksdb.stats.enable} is enabled, the statistics of the stores are registered into the
+ * {@link RocksDBStatisticsRegistry} so that they are exposed with the metrics of the streams instance.
+ */
 public class DefaultRocksDBConfigSetter implements RocksDBConfigSetter {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultRocksDBConfigSetter.class);
+
     private Statistics statistics;
 
+    private String applicationId;
+
+    private BloomFilter filter;
+
     private DefaultRocksDBConfigSetterConfig setterConfig;
 
     /**
@@ -48,10 +71,18 @@ public class DefaultRocksDBConfigSetter implements RocksDBConfigSetter {
         setterConfig = new DefaultRocksDBConfigSetterConfig(configs);
 
         if (setterConfig.isStatisticsEnable()) {
-            statistics = new Statistics();
-            statistics.setStatsLevel(StatsLevel.ALL);
+            applicationId = (String) configs.get(StreamsConfig.APPLICATION_ID_CONFIG);
+            if (applicationId != null) {
+                statistics = RocksDBStatisticsRegistry.getInstance()
+                    .acquire(applicationId, storeName, setterConfig.statsPollIntervalMs());
+            } else {
+                statistics = new Statistics();
+                statistics.setStatsLevel(StatsLevel.ALL);
+            }
             options.setStatistics(statistics);
-            options.setStatsDumpPeriodSec(setterConfig.dumpPeriodSec());
+            if (setterConfig.dumpPeriodSec() != null) {
+                options.setStatsDumpPeriodSec(setterConfig.dumpPeriodSec());
+            }
 
             if (setterConfig.maxLogFileSize() != null) {
                 options.setMaxLogFileSize(setterConfig.maxLogFileSize());
@@ -68,6 +99,37 @@ public class DefaultRocksDBConfigSetter implements RocksDBConfigSetter {
         }
         setterConfig.writeBufferSize().ifPresent(options::setWriteBufferSize);
         setterConfig.maxWriteBufferNumber().ifPresent(options::setMaxWriteBufferNumber);
+
+        final BlockBasedTableConfig tableConfig = options.tableFormatConfig() instanceof BlockBasedTableConfig ?
+            (BlockBasedTableConfig) options.tableFormatConfig() :
+            new BlockBasedTableConfig();
+        if (setterConfig.isMemoryManaged()) {
+            setBoundedMemory(options, tableConfig);
+        }
+        setterConfig.overrideFor(storeName).ifPresent(o -> setOverride(storeName, o, options, tableConfig));
+        options.setTableFormatConfig(tableConfig);
+    }
+
+    private void setBoundedMemory(final Options options, final BlockBasedTableConfig tableConfig) {
+        final RocksDBMemoryManager manager = RocksDBMemoryManager.getOrCreate(setterConfig.memorySettings());
+        tableConfig.setBlockCache(manager.cache());
+        tableConfig.setCacheIndexAndFilterBlocks(true);
+        tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(true);
+        tableConfig.setPinTopLevelIndexAndFilter(true);
+        options.setWriteBufferManager(manager.writeBufferManager());
+    }
+
+    private void setOverride(final String storeName,
+                             final RocksDBStoreOverride override,
+                             final Options options,
+                             final BlockBasedTableConfig tableConfig) {
+        LOG.debug("Applying RocksDB overrides '{}' to store '{}'", override.name(), storeName);
+        override.compactionStyle().ifPresent(options::setCompactionStyle);
+        override.blockSize().ifPresent(tableConfig::setBlockSize);
+        override.bloomFilterBitsPerKey().ifPresent(bits -> {
+            filter = new BloomFilter(bits, false);
+            tableConfig.setFilter(filter);
+        });
     }
 
     @VisibleForTesting
@@ -81,22 +143,56 @@ public class DefaultRocksDBConfigSetter implements RocksDBConfigSetter {
     @Override
     public void close(final String storeName, final Options options) {
         if (statistics != null) {
-            statistics.close();
+            if (applicationId != null) {
+                RocksDBStatisticsRegistry.getInstance().release(applicationId, storeName);
+            } else {
+                statistics.close();
+            }
+        }
+        if (filter != null) {
+            filter.close();
         }
+        // The cache and write buffer manager are shared by all stores and must not be closed here.
     }
 
     public static class DefaultRocksDBConfigSetterConfig extends AbstractConfig {
 
         static final String ROCKSDB_STATS_DUMP_PERIOD_SEC_CONFIG   = "rocksdb.stats.dump.period.sec";
         static final String ROCKSDB_STATS_ENABLECONFIG             = "rocksdb.stats.enable";
+        static final String ROCKSDB_STATS_POLL_INTERVAL_MS_CONFIG  = "rocksdb.stats.poll.interval.ms";
         static final String ROCKSDB_MAX_LOG_FILE_SIZE_CONFIG       = "rocksdb.log.max.file.size";
         static final String ROCKSDB_LOG_DIR_CONFIG                 = "rocksdb.log.dir";
         static final String ROCKSDB_LOG_LEVEL_CONFIG               = "rocksdb.log.level";
         static final String ROCKSDB_MAX_WRITE_BUFFER_NUMBER_CONFIG = "rocksdb.max.write.buffer.number";
         static final String ROCKSDB_WRITE_BUFFER_SIZE_CONFIG       = "rocksdb.write.buffer.size";
+        static final String ROCKSDB_MEMORY_MANAGED_CONFIG          = "rocksdb.memory.managed";
+        static final String ROCKSDB_MEMORY_TOTAL_OFF_HEAP_CONFIG   = "rocksdb.memory.total.off.heap.bytes";
+        static final String ROCKSDB_MEMORY_WRITE_BUFFER_RATIO_CONFIG = "rocksdb.memory.write.buffer.ratio";
+        static final String ROCKSDB_MEMORY_HIGH_PRIO_POOL_RATIO_CONFIG = "rocksdb.memory.high.prio.pool.ratio";
+        static final String ROCKSDB_MEMORY_STRICT_CAPACITY_LIMIT_CONFIG = "rocksdb.memory.strict.capacity.limit";
+
+        private final List<RocksDBStoreOverride> overrides;
 
         DefaultRocksDBConfigSetterConfig(final Map<String, ?> originals) {
             super(configDef(), originals, Collections.emptyMap(), false);
+            this.overrides = RocksDBStoreOverride.parse(originalsWithPrefix(RocksDBStoreOverride.PREFIX));
+        }
+
+        boolean isMemoryManaged() {
+            return getBoolean(ROCKSDB_MEMORY_MANAGED_CONFIG);
+        }
+
+        RocksDBMemoryManager.Settings memorySettings() {
+            return new RocksDBMemoryManager.Settings(
+                getLong(ROCKSDB_MEMORY_TOTAL_OFF_HEAP_CONFIG),
+                getDouble(ROCKSDB_MEMORY_WRITE_BUFFER_RATIO_CONFIG),
+                getDouble(ROCKSDB_MEMORY_HIGH_PRIO_POOL_RATIO_CONFIG),
+                getBoolean(ROCKSDB_MEMORY_STRICT_CAPACITY_LIMIT_CONFIG)
+            );
+        }
+
+        Optional<RocksDBStoreOverride> overrideFor(final String storeName) {
+            return overrides.stream().filter(o -> o.matches(storeName)).findFirst();
         }
 
         Optional<String> logLevel() {
@@ -122,6 +218,10 @@ public class DefaultRocksDBConfigSetter implements RocksDBConfigSetter {
             return getInt(ROCKSDB_MAX_LOG_FILE_SIZE_CONFIG);
         }
 
+        long statsPollIntervalMs() {
+            return getLong(ROCKSDB_STATS_POLL_INTERVAL_MS_CONFIG);
+        }
+
         Boolean isStatisticsEnable() {
             return getBoolean(ROCKSDB_STATS_ENABLECONFIG);
         }
@@ -142,6 +242,10 @@ public class DefaultRocksDBConfigSetter implements RocksDBConfigSetter {
                 .define(ROCKSDB_STATS_ENABLECONFIG, ConfigDef.Type.BOOLEAN, false,
                     ConfigDef.Importance.HIGH, "Enable RocksDB statistics")
 
+                .define(ROCKSDB_STATS_POLL_INTERVAL_MS_CONFIG, ConfigDef.Type.LONG, 10000L,
+                    ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW,
+                    "The interval between two polls of the RocksDB statistics exposed as metrics.")
+
                 .define(ROCKSDB_LOG_DIR_CONFIG, ConfigDef.Type.STRING, null,
                     ConfigDef.Importance.HIGH, "The RocksDB log directory.")
 
@@ -149,7 +253,26 @@ public class DefaultRocksDBConfigSetter implements RocksDBConfigSetter {
                     ConfigDef.Importance.HIGH, "The RocksDB statistics dump period in seconds.")
 
                 .define(ROCKSDB_MAX_LOG_FILE_SIZE_CONFIG, ConfigDef.Type.INT, null,
-                    ConfigDef.Importance.HIGH, "The RocksDB maximum log file size.");
+                    ConfigDef.Importance.HIGH, "The RocksDB maximum log file size.")
+
+                .define(ROCKSDB_MEMORY_MANAGED_CONFIG, ConfigDef.Type.BOOLEAN, false,
+                    ConfigDef.Importance.HIGH, "Share a bounded block cache and write buffer manager "
+                        + "between all the RocksDB instances of the JVM.")
+
+                .define(ROCKSDB_MEMORY_TOTAL_OFF_HEAP_CONFIG, ConfigDef.Type.LONG, 256 * 1024 * 1024L,
+                    ConfigDef.Range.atLeast(0), ConfigDef.Importance.HIGH,
+                    "The total off-heap memory shared by all RocksDB instances, including memtables.")
+
+                .define(ROCKSDB_MEMORY_WRITE_BUFFER_RATIO_CONFIG, ConfigDef.Type.DOUBLE, 0.5,
+                    ConfigDef.Range.between(0, 1), ConfigDef.Importance.MEDIUM,
+                    "The ratio of the total memory that can be used by memtables.")
+
+                .define(ROCKSDB_MEMORY_HIGH_PRIO_POOL_RATIO_CONFIG, ConfigDef.Type.DOUBLE, 0.1,
+                    ConfigDef.Range.between(0, 1), ConfigDef.Importance.MEDIUM,
+                    "The ratio of the block cache reserved for index and filter blocks.")
+
+                .define(ROCKSDB_MEMORY_STRICT_CAPACITY_LIMIT_CONFIG, ConfigDef.Type.BOOLEAN, false,
+                    ConfigDef.Importance.LOW, "Fail insertions into the block cache when it is full.");
         }
     }
 }
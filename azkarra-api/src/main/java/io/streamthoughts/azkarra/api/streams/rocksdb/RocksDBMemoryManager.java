@@ -0,0 +1,194 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.rocksdb;
+
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.WriteBufferManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Manages the off-heap memory shared by all the RocksDB instances running in the JVM.
+ *
+ * A single {@link LRUCache} is used for the data, index and filter blocks of all stores, and the memtables
+ * of all stores are charged against that same cache through a {@link WriteBufferManager}. Thus, the total memory
+ * used by RocksDB is bounded whatever the number of stores and partitions.
+ *
+ * The manager is created by the first store that is configured and lives as long as the JVM,
+ * because RocksDB instances can be re-opened at any time (e.g. after a rebalance).
+ */
+public final class RocksDBMemoryManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RocksDBMemoryManager.class);
+
+    private static RocksDBMemoryManager instance;
+
+    private final Settings settings;
+
+    private final Cache cache;
+
+    private final WriteBufferManager writeBufferManager;
+
+    /**
+     * Gets the {@link RocksDBMemoryManager} of the JVM, creating it with the specified settings if needed.
+     *
+     * @param settings  the {@link Settings} to be used if the manager is not already created.
+     * @return          the {@link RocksDBMemoryManager} instance.
+     */
+    public static synchronized RocksDBMemoryManager getOrCreate(final Settings settings) {
+        Objects.requireNonNull(settings, "settings cannot be null");
+        if (instance == null) {
+            instance = new RocksDBMemoryManager(settings);
+            LOG.info("Created RocksDB memory manager shared by all stores: {}", settings);
+        } else if (!instance.settings.equals(settings)) {
+            LOG.warn(
+                "RocksDB memory manager is already created with {}, ignoring different settings {}",
+                instance.settings,
+                settings
+            );
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the {@link RocksDBMemoryManager} of the JVM if it has already been created.
+     *
+     * @return  an optional {@link RocksDBMemoryManager}.
+     */
+    public static synchronized Optional<RocksDBMemoryManager> get() {
+        return Optional.ofNullable(instance);
+    }
+
+    private RocksDBMemoryManager(final Settings settings) {
+        this.settings = settings;
+        this.cache = new LRUCache(
+            settings.totalOffHeapBytes(),
+            -1,
+            settings.strictCapacityLimit(),
+            settings.highPriorityPoolRatio()
+        );
+        final long writeBufferBytes = (long) (settings.totalOffHeapBytes() * settings.writeBufferRatio());
+        this.writeBufferManager = new WriteBufferManager(writeBufferBytes, cache);
+    }
+
+    /**
+     * @return the block cache shared by all stores.
+     */
+    public Cache cache() {
+        return cache;
+    }
+
+    /**
+     * @return the {@link WriteBufferManager} shared by all stores.
+     */
+    public WriteBufferManager writeBufferManager() {
+        return writeBufferManager;
+    }
+
+    /**
+     * @return the settings used for creating this manager.
+     */
+    public Settings settings() {
+        return settings;
+    }
+
+    /**
+     * The settings of a {@link RocksDBMemoryManager}.
+     */
+    public static final class Settings {
+
+        private final long totalOffHeapBytes;
+        private final double writeBufferRatio;
+        private final double highPriorityPoolRatio;
+        private final boolean strictCapacityLimit;
+
+        /**
+         * Creates a new {@link Settings} instance.
+         *
+         * @param totalOffHeapBytes     the total off-heap memory shared by all stores.
+         * @param writeBufferRatio      the ratio of the total memory that can be used by memtables.
+         * @param highPriorityPoolRatio the ratio of the cache reserved for index and filter blocks.
+         * @param strictCapacityLimit   {@code true} to fail inserts into the cache when it is full.
+         */
+        public Settings(final long totalOffHeapBytes,
+                        final double writeBufferRatio,
+                        final double highPriorityPoolRatio,
+                        final boolean strictCapacityLimit) {
+            this.totalOffHeapBytes = totalOffHeapBytes;
+            this.writeBufferRatio = writeBufferRatio;
+            this.highPriorityPoolRatio = highPriorityPoolRatio;
+            this.strictCapacityLimit = strictCapacityLimit;
+        }
+
+        public long totalOffHeapBytes() {
+            return totalOffHeapBytes;
+        }
+
+        public double writeBufferRatio() {
+            return writeBufferRatio;
+        }
+
+        public double highPriorityPoolRatio() {
+            return highPriorityPoolRatio;
+        }
+
+        public boolean strictCapacityLimit() {
+            return strictCapacityLimit;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Settings)) return false;
+            final Settings that = (Settings) o;
+            return totalOffHeapBytes == that.totalOffHeapBytes &&
+                Double.compare(that.writeBufferRatio, writeBufferRatio) == 0 &&
+                Double.compare(that.highPriorityPoolRatio, highPriorityPoolRatio) == 0 &&
+                strictCapacityLimit == that.strictCapacityLimit;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(totalOffHeapBytes, writeBufferRatio, highPriorityPoolRatio, strictCapacityLimit);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "Settings{" +
+                "totalOffHeapBytes=" + totalOffHeapBytes +
+                ", writeBufferRatio=" + writeBufferRatio +
+                ", highPriorityPoolRatio=" + highPriorityPoolRatio +
+                ", strictCapacityLimit=" + strictCapacityLimit +
+                '}';
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.rocksdb;
+
+import io.streamthoughts.azkarra.api.model.Metric;
+import org.rocksdb.HistogramData;
+import org.rocksdb.HistogramType;
+import org.rocksdb.Statistics;
+import org.rocksdb.StatsLevel;
+import org.rocksdb.TickerType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * A JVM-wide registry of the RocksDB {@link Statistics} of all the stores, which periodically polls their
+ * tickers and histograms so that they can be exposed as metrics of the streams instances.
+ *
+ * A single {@link Statistics} object is shared by all the RocksDB instances of a store (i.e. by all its
+ * partitions and segments), so that the tickers and histograms are aggregated by RocksDB itself.
+ */
+public final class RocksDBStatisticsRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RocksDBStatisticsRegistry.class);
+
+    public static final String GROUP = "stream-rocksdb-statistics-metrics";
+
+    private static final String STORE_NAME_TAG = "store-name";
+
+    // segments of windowed stores are named <store>.<segmentId>.
+    private static final Pattern SEGMENT_SUFFIX = Pattern.compile("\\.\\d+$");
+
+    private static final Map<TickerType, String> TICKERS = new LinkedHashMap<>();
+    private static final Map<HistogramType, String> HISTOGRAMS = new LinkedHashMap<>();
+
+    static {
+        TICKERS.put(TickerType.BLOCK_CACHE_HIT, "block-cache-hit");
+        TICKERS.put(TickerType.BLOCK_CACHE_MISS, "block-cache-miss");
+        TICKERS.put(TickerType.BLOCK_CACHE_INDEX_HIT, "block-cache-index-hit");
+        TICKERS.put(TickerType.BLOCK_CACHE_INDEX_MISS, "block-cache-index-miss");
+        TICKERS.put(TickerType.BLOCK_CACHE_FILTER_HIT, "block-cache-filter-hit");
+        TICKERS.put(TickerType.BLOCK_CACHE_FILTER_MISS, "block-cache-filter-miss");
+        TICKERS.put(TickerType.BLOOM_FILTER_USEFUL, "bloom-filter-useful");
+        TICKERS.put(TickerType.MEMTABLE_HIT, "memtable-hit");
+        TICKERS.put(TickerType.MEMTABLE_MISS, "memtable-miss");
+        TICKERS.put(TickerType.NUMBER_KEYS_READ, "keys-read");
+        TICKERS.put(TickerType.NUMBER_KEYS_WRITTEN, "keys-written");
+        TICKERS.put(TickerType.BYTES_READ, "bytes-read");
+        TICKERS.put(TickerType.BYTES_WRITTEN, "bytes-written");
+        TICKERS.put(TickerType.COMPACT_READ_BYTES, "compaction-bytes-read");
+        TICKERS.put(TickerType.COMPACT_WRITE_BYTES, "compaction-bytes-written");
+        TICKERS.put(TickerType.STALL_MICROS, "write-stall-micros");
+
+        HISTOGRAMS.put(HistogramType.DB_GET, "get-micros");
+        HISTOGRAMS.put(HistogramType.DB_WRITE, "write-micros");
+        HISTOGRAMS.put(HistogramType.DB_SEEK, "seek-micros");
+        HISTOGRAMS.put(HistogramType.COMPACTION_TIME, "compaction-time-micros");
+    }
+
+    private static final RocksDBStatisticsRegistry INSTANCE = new RocksDBStatisticsRegistry();
+
+    public static RocksDBStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<String, Map<String, StoreStatistics>> statisticsByApplication = new HashMap<>();
+
+    private ScheduledExecutorService poller;
+
+    /**
+     * Creates a new {@link RocksDBStatisticsRegistry} instance.
+     */
+    private RocksDBStatisticsRegistry() {
+    }
+
+    /**
+     * Gets the {@link Statistics} shared by all the RocksDB instances of the specified store,
+     * creating it if needed.
+     *
+     * @param applicationId     the application id.
+     * @param storeName         the name of the store, or of one of its segments.
+     * @param pollIntervalMs    the interval between two polls of the statistics, used when the poller is started.
+     * @return                  the {@link Statistics} to be set in the RocksDB options.
+     */
+    public synchronized Statistics acquire(final String applicationId,
+                                           final String storeName,
+                                           final long pollIntervalMs) {
+        Objects.requireNonNull(applicationId, "applicationId cannot be null");
+        Objects.requireNonNull(storeName, "storeName cannot be null");
+        final StoreStatistics store = statisticsByApplication
+            .computeIfAbsent(applicationId, k -> new HashMap<>())
+            .computeIfAbsent(normalize(storeName), StoreStatistics::new);
+        store.refCount++;
+        maybeStartPoller(pollIntervalMs);
+        return store.statistics;
+    }
+
+    /**
+     * Releases the {@link Statistics} of the specified store. The statistics are closed once they have been
+     * released by all the RocksDB instances of the store.
+     *
+     * @param applicationId the application id.
+     * @param storeName     the name of the store, or of one of its segments.
+     */
+    public synchronized void release(final String applicationId, final String storeName) {
+        final Map<String, StoreStatistics> stores = statisticsByApplication.get(applicationId);
+        if (stores == null) return;
+        final String name = normalize(storeName);
+        final StoreStatistics store = stores.get(name);
+        if (store != null && --store.refCount <= 0) {
+            stores.remove(name);
+            store.statistics.close();
+            if (stores.isEmpty()) {
+                statisticsByApplication.remove(applicationId);
+            }
+        }
+    }
+
+    /**
+     * Gets the metrics of all the stores of the specified application, as of the last poll.
+     *
+     * @param applicationId the application id.
+     * @return              the list of {@link Metric}.
+     */
+    public synchronized List<Metric> metrics(final String applicationId) {
+        final Map<String, StoreStatistics> stores = statisticsByApplication.get(applicationId);
+        if (stores == null) return Collections.emptyList();
+        final List<Metric> metrics = new ArrayList<>();
+        stores.values().forEach(s -> metrics.addAll(s.snapshot));
+        return metrics;
+    }
+
+    /**
+     * Polls the statistics of all the stores.
+     */
+    synchronized void poll() {
+        statisticsByApplication.values().forEach(stores -> stores.values().forEach(StoreStatistics::poll));
+    }
+
+    private void maybeStartPoller(final long pollIntervalMs) {
+        if (poller != null) return;
+        poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "azkarra-rocksdb-statistics-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::safePoll, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void safePoll() {
+        try {
+            poll();
+        } catch (Exception e) {
+            LOG.warn("Unexpected error while polling RocksDB statistics", e);
+        }
+    }
+
+    private static String normalize(final String storeName) {
+        return SEGMENT_SUFFIX.matcher(storeName).replaceFirst("");
+    }
+
+    private static final class StoreStatistics {
+
+        private final String storeName;
+        private final Statistics statistics;
+        private final Map<String, String> tags;
+        private int refCount = 0;
+        private List<Metric> snapshot = Collections.emptyList();
+
+        StoreStatistics(final String storeName) {
+            this.storeName = storeName;
+            this.statistics = new Statistics();
+            this.statistics.setStatsLevel(StatsLevel.ALL);
+            this.tags = Collections.singletonMap(STORE_NAME_TAG, storeName);
+        }
+
+        void poll() {
+            final List<Metric> metrics = new ArrayList<>(TICKERS.size() + HISTOGRAMS.size() * 3 + 1);
+            TICKERS.forEach((ticker, name) -> metrics.add(metric(
+                name + "-total",
+                "The total number of " + name.replace('-', ' ') + " for the store " + storeName,
+                statistics.getTickerCount(ticker)
+            )));
+            final long hits = statistics.getTickerCount(TickerType.BLOCK_CACHE_HIT);
+            final long misses = statistics.getTickerCount(TickerType.BLOCK_CACHE_MISS);
+            metrics.add(metric(
+                "block-cache-hit-ratio",
+                "The ratio of block cache hits for the store " + storeName,
+                hits + misses == 0 ? 0.0 : (double) hits / (hits + misses)
+            ));
+            HISTOGRAMS.forEach((histogram, name) -> {
+                final HistogramData data = statistics.getHistogramData(histogram);
+                metrics.add(metric(name + "-avg", "The average " + name + " for the store " + storeName,
+                    data.getAverage()));
+                metrics.add(metric(name + "-p95", "The 95th percentile " + name + " for the store " + storeName,
+                    data.getPercentile95()));
+                metrics.add(metric(name + "-p99", "The 99th percentile " + name + " for the store " + storeName,
+                    data.getPercentile99()));
+            });
+            snapshot = Collections.unmodifiableList(metrics);
+        }
+
+        private Metric metric(final String name, final String description, final Object value) {
+            return new Metric(name, GROUP, description, tags, value);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.rocksdb;
+
+import org.apache.kafka.common.config.ConfigException;
+import org.rocksdb.CompactionStyle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * The RocksDB options to override for the stores whose name matches a given pattern.
+ *
+ * Overrides are configured using properties of the form {@code rocksdb.store.overrides.<name>.<option>},
+ * where {@code <name>} is an arbitrary identifier. Overrides are evaluated in the order of their names,
+ * and only the first one matching a store is applied.
+ */
+final class RocksDBStoreOverride {
+
+    static final String PREFIX = "rocksdb.store.overrides.";
+
+    static final String PATTERN_CONFIG = "pattern";
+    static final String COMPACTION_STYLE_CONFIG = "compaction.style";
+    static final String BLOOM_FILTER_BITS_PER_KEY_CONFIG = "bloom.filter.bits.per.key";
+    static final String BLOCK_SIZE_CONFIG = "block.size";
+
+    private final String name;
+    private final Pattern pattern;
+    private final CompactionStyle compactionStyle;
+    private final Integer bloomFilterBitsPerKey;
+    private final Long blockSize;
+
+    /**
+     * Parses the overrides from the specified properties, stripped of the {@link #PREFIX}.
+     *
+     * @param props the properties.
+     * @return      the list of {@link RocksDBStoreOverride}, ordered by name.
+     */
+    static List<RocksDBStoreOverride> parse(final Map<String, ?> props) {
+        final Map<String, Map<String, String>> grouped = new TreeMap<>();
+        props.forEach((k, v) -> {
+            final int index = k.indexOf('.');
+            if (index <= 0 || v == null) return;
+            grouped.computeIfAbsent(k.substring(0, index), n -> new TreeMap<>())
+                .put(k.substring(index + 1), v.toString().trim());
+        });
+
+        final List<RocksDBStoreOverride> overrides = new ArrayList<>(grouped.size());
+        grouped.forEach((name, options) -> overrides.add(parse(name, options)));
+        return overrides;
+    }
+
+    private static RocksDBStoreOverride parse(final String name, final Map<String, String> options) {
+        final String key = PREFIX + name + ".";
+        final String pattern = options.get(PATTERN_CONFIG);
+        if (pattern == null) {
+            throw new ConfigException("Missing required configuration '" + key + PATTERN_CONFIG + "'");
+        }
+        try {
+            return new RocksDBStoreOverride(
+                name,
+                Pattern.compile(pattern),
+                Optional.ofNullable(options.get(COMPACTION_STYLE_CONFIG))
+                    .map(s -> CompactionStyle.valueOf(s.toUpperCase()))
+                    .orElse(null),
+                Optional.ofNullable(options.get(BLOOM_FILTER_BITS_PER_KEY_CONFIG)).map(Integer::parseInt).orElse(null),
+                Optional.ofNullable(options.get(BLOCK_SIZE_CONFIG)).map(Long::parseLong).orElse(null)
+            );
+        } catch (IllegalArgumentException e) {
+            // includes PatternSyntaxException and NumberFormatException.
+            throw new ConfigException("Invalid RocksDB overrides '" + key + "*': " + e.getMessage());
+        }
+    }
+
+    private RocksDBStoreOverride(final String name,
+                                 final Pattern pattern,
+                                 final CompactionStyle compactionStyle,
+                                 final Integer bloomFilterBitsPerKey,
+                                 final Long blockSize) {
+        this.name = name;
+        this.pattern = pattern;
+        this.compactionStyle = compactionStyle;
+        this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+        this.blockSize = blockSize;
+    }
+
+    boolean matches(final String storeName) {
+        return pattern.matcher(storeName).matches();
+    }
+
+    String name() {
+        return name;
+    }
+
+    Optional<CompactionStyle> compactionStyle() {
+        return Optional.ofNullable(compactionStyle);
+    }
+
+    Optional<Integer> bloomFilterBitsPerKey() {
+        return Optional.ofNullable(bloomFilterBitsPerKey);
+    }
+
+    Optional<Long> blockSize() {
+        return Optional.ofNullable(blockSize);
+    }
+}
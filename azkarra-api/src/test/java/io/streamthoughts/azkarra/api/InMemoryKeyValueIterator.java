@@ -24,6 +24,7 @@ import org.apache.kafka.streams.state.ValueAndTimestamp;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * In-memory {@link KeyValueIterator} which can be used for testing purpose.
@@ -45,6 +46,15 @@ public class InMemoryKeyValueIterator <K, V> implements KeyValueIterator<K, V> {
         this.iterator = Collections.singletonList(KeyValue.pair(key, value)).iterator();
     }
 
+    /**
+     * Creates a new {@link InMemoryKeyValueIterator} for the specified key-value pairs.
+     *
+     * @param records   the records.
+     */
+    public InMemoryKeyValueIterator(final List<KeyValue<K, V>> records)  {
+        this.iterator = records.iterator();
+    }
+
     @Override
     public void close() {
     }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.config;
+
+import io.streamthoughts.azkarra.api.errors.InvalidConfException;
+import io.streamthoughts.azkarra.api.errors.MissingConfException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+public class FrozenConfTest {
+
+    private static final Conf CONF = Conf.with(Map.of("streams.foo", "v1", "streams.bar", "42"))
+        .withFallback(Conf.with("streams.foo", "fallback"))
+        .withFallback(Conf.with(Map.of("streams.baz", "true", "other", "a,b")));
+
+    @Test
+    public void shouldResolveValuesLikeTheOriginalConf() {
+        final Conf frozen = CONF.freeze();
+        Assertions.assertEquals(CONF.getConfAsMap(), frozen.getConfAsMap());
+        Assertions.assertEquals("v1", frozen.getString("streams.foo"));
+        Assertions.assertEquals(42L, frozen.getLong("streams.bar"));
+        Assertions.assertEquals(42, frozen.getInt("streams.bar"));
+        Assertions.assertTrue(frozen.getBoolean("streams.baz"));
+        Assertions.assertEquals(List.of("a", "b"), frozen.getStringList("other"));
+    }
+
+    @Test
+    public void shouldResolvePathsAndSubConf() {
+        final Conf frozen = CONF.freeze();
+        Assertions.assertTrue(frozen.hasPath("streams"));
+        Assertions.assertTrue(frozen.hasPath("streams.foo"));
+        Assertions.assertFalse(frozen.hasPath("streams.dummy"));
+        Assertions.assertFalse(frozen.hasPath("stream"));
+
+        final Conf sub = frozen.getSubConf("streams");
+        Assertions.assertEquals("v1", sub.getString("foo"));
+        Assertions.assertSame(sub, frozen.getSubConf("streams"));
+        Assertions.assertThrows(MissingConfException.class, () -> frozen.getSubConf("dummy"));
+        Assertions.assertThrows(InvalidConfException.class, () -> frozen.getSubConf("other"));
+    }
+
+    @Test
+    public void shouldThrowGivenMissingOrInvalidValue() {
+        final Conf frozen = CONF.freeze();
+        Assertions.assertThrows(MissingConfException.class, () -> frozen.getString("streams.dummy"));
+        Assertions.assertThrows(InvalidConfException.class, () -> frozen.getLong("streams.foo"));
+        Assertions.assertEquals(Long.valueOf(42L), frozen.getOptionalLong("streams.bar").orElse(null));
+    }
+
+    @Test
+    public void shouldMemoizeViewsAndNotLeakMutableProperties() {
+        final Conf frozen = CONF.freeze();
+        Assertions.assertSame(frozen, frozen.freeze());
+        Assertions.assertSame(frozen.getConfAsMap(), frozen.getConfAsMap());
+
+        final Properties props = frozen.getConfAsProperties();
+        props.put("streams.foo", "updated");
+        Assertions.assertEquals("v1", frozen.getConfAsProperties().get("streams.foo"));
+    }
+
+    @Test
+    public void shouldMemoizeUnmodifiableStringList() {
+        final Conf frozen = CONF.freeze();
+        final List<String> list = frozen.getStringList("other");
+        Assertions.assertSame(list, frozen.getStringList("other"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+    }
+
+    @Test
+    public void shouldCreateNewFrozenConfGivenFallback() {
+        final Conf conf = CONF.freeze().withFallback(Conf.with("streams.new", "v2"));
+        Assertions.assertTrue(conf instanceof FrozenConf);
+        Assertions.assertEquals("v1", conf.getString("streams.foo"));
+        Assertions.assertEquals("v2", conf.getString("streams.new"));
+    }
+}
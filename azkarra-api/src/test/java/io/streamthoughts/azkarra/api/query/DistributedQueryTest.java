@@ -20,6 +20,7 @@ package io.streamthoughts.azkarra.api.query;
 
 import io.streamthoughts.azkarra.api.InMemoryKeyValueIterator;
 import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.internal.AggregateQueryBuilder;
 import io.streamthoughts.azkarra.api.query.internal.KeyValueQueryBuilder;
 import io.streamthoughts.azkarra.api.query.internal.PreparedQuery;
 import io.streamthoughts.azkarra.api.query.internal.Query;
@@ -30,20 +31,35 @@ import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
 import io.streamthoughts.azkarra.api.query.result.QueryStatus;
 import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.KeyQueryInfo;
 import io.streamthoughts.azkarra.api.streams.StreamsServerInfo;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 public class DistributedQueryTest {
@@ -84,8 +100,8 @@ public class DistributedQueryTest {
         when(streams.getLocalServerInfo())
             .thenReturn(Optional.of(localServer));
 
-        when(streams.getMetadataForStoreAndKey(any(), any(), any()))
-            .thenReturn(Optional.of(localServer));
+        when(streams.getKeyQueryInfoForStore(any(), any(), any()))
+            .thenReturn(Optional.of(new KeyQueryInfo(localServer, Collections.emptyList(), 0)));
 
         ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
         when(store.get("key")).thenReturn(42L);
@@ -103,6 +119,35 @@ public class DistributedQueryTest {
         assertEquals(42L, success.get(0).getRecords().get(0).value());
     }
 
+    @Test
+    public void shouldNotCacheResultGivenStoreVersionChangedDuringKeyQuery() {
+        NearCache nearCache = new NearCache(10, Long.MAX_VALUE, Duration.ofMinutes(1), Set.of(STORE_NAME));
+        distributed = new DistributedQuery<>(client, buildKeyValueQuery(), null, new LatencyTracker(), nearCache);
+        when(streams.applicationId()).thenReturn("app-id");
+        when(streams.applicationServer()).thenReturn("local:1234");
+        StreamsServerInfo localServer = newServerInfo("local", true);
+        when(streams.getLocalServerInfo())
+            .thenReturn(Optional.of(localServer));
+        when(streams.getKeyQueryInfoForStore(any(), any(), any()))
+            .thenReturn(Optional.of(new KeyQueryInfo(localServer, Collections.emptyList(), 0)));
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.get("key")).thenReturn(42L);
+        when(streams.getLocalKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        // the version moves while the first query is executed, and then stays the same.
+        when(streams.getLocalStoreVersion(STORE_NAME, 0))
+            .thenReturn(Optional.of(1L), Optional.of(2L), Optional.of(2L), Optional.of(2L));
+
+        distributed.query(streams, Queried.immediately());
+        distributed.query(streams, Queried.immediately());
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately());
+
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        assertEquals(42L, result.getResult().getSuccess().get(0).getRecords().get(0).value());
+        verify(store, times(2)).get("key");
+    }
+
     @Test
     public void shouldQueryRemoteKVStateStoreGivenKeyQuery() {
         distributed = new DistributedQuery<>(client, buildKeyValueQuery());
@@ -110,8 +155,8 @@ public class DistributedQueryTest {
         when(streams.getLocalServerInfo())
             .thenReturn(Optional.of(newServerInfo("local", true)));
 
-        when(streams.getMetadataForStoreAndKey(any(), any(), any()))
-            .thenReturn(Optional.of(newServerInfo("remote", false)));
+        when(streams.getKeyQueryInfoForStore(any(), any(), any()))
+            .thenReturn(Optional.of(new KeyQueryInfo(newServerInfo("remote", false), Collections.emptyList(), 0)));
 
         QueryResult<String, Long> result = distributed.query(streams, Queried.immediately());
         assertNotNull(result);
@@ -159,6 +204,256 @@ public class DistributedQueryTest {
         assertEquals(42L, success.get(1).getRecords().get(0).value());
     }
 
+    @Test
+    public void shouldQueryLocalKVStateStoreByPagesGivenAllQueryAndCursor() {
+        Query<String, Long> all = new QueryBuilder(STORE_NAME).keyValue().all();
+        distributed = new DistributedQuery<>(client, all.prepare());
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.getAllMetadataForStore(any()))
+            .thenReturn(Collections.singletonList(newServerInfo("local", true)));
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.all()).thenAnswer(invocation -> new InMemoryKeyValueIterator<>(Arrays.asList(
+            KeyValue.pair("key-1", 1L),
+            KeyValue.pair("key-2", 2L),
+            KeyValue.pair("key-3", 3L))
+        ));
+        when(streams.getLocalKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+        when(streams.getDefaultKeySerde()).thenReturn(Optional.of(Serdes.String()));
+
+        Queried options = Queried.immediately().withLimit(2L).withCursor(QueryCursor.first());
+        QueryResult<String, Long> result = distributed.query(streams, options);
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        assertEquals(2, result.getResult().getTotal());
+        assertNotNull(result.getCursor());
+        assertEquals(
+            new QueryCursor.Position(encode("key-2")),
+            result.getCursor().positionFor("local:1234").get()
+        );
+
+        result = distributed.query(streams, options.withCursor(result.getCursor()));
+        assertEquals(1, result.getResult().getTotal());
+        assertEquals(3L, result.getResult().getSuccess().get(0).getRecords().get(0).value());
+        assertNull(result.getCursor());
+        // each page scans the store once, the end of the store being detected without an extra scan.
+        verify(store, times(2)).all();
+    }
+
+    @Test
+    public void shouldFailPaginatedQueryGivenNoDefaultKeySerde() {
+        Query<String, Long> all = new QueryBuilder(STORE_NAME).keyValue().all();
+        distributed = new DistributedQuery<>(client, all.prepare());
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.getAllMetadataForStore(any()))
+            .thenReturn(Collections.singletonList(newServerInfo("local", true)));
+        when(streams.getDefaultKeySerde()).thenReturn(Optional.empty());
+
+        Queried options = Queried.immediately().withLimit(2L).withCursor(QueryCursor.first());
+        QueryResult<String, Long> result = distributed.query(streams, options);
+        assertEquals(QueryStatus.ERROR, result.getStatus());
+    }
+
+    private static String encode(final String key) {
+        return Base64.getEncoder().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldReturnPartialResultGivenParallelQueryAndSlowRemoteServer() {
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            Query<String, Long> all = new QueryBuilder(STORE_NAME).keyValue().all();
+            distributed = new DistributedQuery<>(client, all.prepare(), executor, new LatencyTracker());
+            when(streams.applicationServer()).thenReturn("local:1234");
+            when(streams.getAllMetadataForStore(any()))
+                .thenReturn(Arrays.asList(
+                    newServerInfo("local", true),
+                    newServerInfo("remote", false))
+                );
+            // the remote server never responds.
+            when(client.query(any(), any(), any())).thenReturn(new CompletableFuture<>());
+
+            ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+            when(store.all()).thenReturn(new InMemoryKeyValueIterator<>("key", 42L));
+            when(streams.getLocalKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+            Queried options = Queried.with(Duration.ofMillis(100)).withParallel(true);
+            QueryResult<String, Long> result = distributed.query(streams, options);
+            assertEquals(QueryStatus.PARTIAL, result.getStatus());
+            assertTrue(result.isTimeout());
+            assertEquals(1, result.getResult().getTotal());
+            assertEquals(REMOTE_SERVER, result.getResult().getFailure().get(0).getServer());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldQueryLocalStandbyGivenKeyQueryAndActiveNotAvailable() {
+        distributed = new DistributedQuery<>(client, buildKeyValueQuery());
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(client.query(any(), any(), any()))
+            .thenReturn(CompletableFuture.completedFuture(
+                new QueryResultBuilder<>()
+                    .setServer(REMOTE_SERVER)
+                    .setStatus(QueryStatus.NOT_AVAILABLE)
+                    .build()
+            ));
+
+        StreamsServerInfo localServer = newServerInfo("local", true);
+        when(streams.getKeyQueryInfoForStore(any(), any(), any()))
+            .thenReturn(Optional.of(new KeyQueryInfo(
+                newServerInfo("remote", false), Collections.singletonList(localServer), 1)));
+        when(streams.getLocalStorePartitionLag(STORE_NAME, 1)).thenReturn(Optional.of(5L));
+        when(streams.executeOnPartitions(eq(Set.of(1)), any()))
+            .thenAnswer(invocation -> ((Supplier<Object>) invocation.getArguments()[1]).get());
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.get("key")).thenReturn(42L);
+        when(streams.getLocalKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately().withMaxOffsetLag(10));
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        assertEquals(42L, result.getResult().getSuccess().get(0).getRecords().get(0).value());
+
+        result = distributed.query(streams, Queried.immediately().withMaxOffsetLag(1));
+        assertEquals(QueryStatus.NOT_AVAILABLE, result.getStatus());
+    }
+
+    @Test
+    public void shouldQueryRemoteStandbyWithoutRoutingGivenKeyQueryAndActiveNotAvailable() {
+        distributed = new DistributedQuery<>(client, buildKeyValueQuery());
+        when(streams.applicationServer()).thenReturn("local:1234");
+
+        StreamsServerInfo activeServer = newServerInfo("remote", false);
+        StreamsServerInfo standbyServer = newServerInfo("standby", false);
+        when(streams.getKeyQueryInfoForStore(any(), any(), any()))
+            .thenReturn(Optional.of(new KeyQueryInfo(activeServer, Collections.singletonList(standbyServer), 1)));
+        when(client.query(eq(activeServer), any(), any()))
+            .thenReturn(CompletableFuture.completedFuture(
+                new QueryResultBuilder<>()
+                    .setServer(REMOTE_SERVER)
+                    .setStatus(QueryStatus.NOT_AVAILABLE)
+                    .build()
+            ));
+        when(client.query(eq(standbyServer), any(), any()))
+            .thenReturn(CompletableFuture.completedFuture(
+                new QueryResultBuilder<>()
+                    .setServer(standbyServer.hostAndPort())
+                    .setStatus(QueryStatus.SUCCESS)
+                    .setSuccessResultSet(Collections.singletonList(
+                        new SuccessResultSet<>(standbyServer.hostAndPort(), false, List.of(KV.of((Object) "key", (Object) 42L)))))
+                    .build()
+            ));
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately().withMaxOffsetLag(10));
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+
+        // the standby instance must query its local replica instead of forwarding the query to the active one.
+        ArgumentCaptor<Queried> captor = ArgumentCaptor.forClass(Queried.class);
+        verify(client, times(1)).query(eq(standbyServer), any(), captor.capture());
+        assertFalse(captor.getValue().remoteAccessAllowed());
+        assertEquals(Optional.of(Set.of(1)), captor.getValue().partitions());
+    }
+
+    @Test
+    public void shouldGroupKeysByServerGivenMultiGetQuery() {
+        Query<String, Long> multiGet = new QueryBuilder(STORE_NAME).keyValue().multiGet();
+        PreparedQuery<String, Long> query = multiGet.prepare(new QueryParams(new HashMap<>() {{
+            put(KeyValueQueryBuilder.QUERY_PARAM_KEYS, List.of("local-key", "remote-key", "other-key"));
+        }}));
+        distributed = new DistributedQuery<>(client, query);
+        when(streams.applicationServer()).thenReturn("local:1234");
+
+        StreamsServerInfo localServer = newServerInfo("local", true);
+        StreamsServerInfo remoteServer = newServerInfo("remote", false);
+        when(streams.getMetadataForStoreAndKey(eq(STORE_NAME), any(), any()))
+            .thenAnswer(invocation -> Optional.of(
+                invocation.getArguments()[1].equals("local-key") ? localServer : remoteServer));
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.get("local-key")).thenReturn(1L);
+        when(streams.getLocalKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately());
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        assertEquals(2, result.getResult().getSuccess().size());
+
+        // a single remote query must be sent for all the keys hosted by the remote instance.
+        ArgumentCaptor<QueryInfo> captor = ArgumentCaptor.forClass(QueryInfo.class);
+        verify(client, times(1)).query(eq(remoteServer), captor.capture(), any());
+        assertEquals(
+            List.of("remote-key", "other-key"),
+            captor.getValue().parameters().getValue(KeyValueQueryBuilder.QUERY_PARAM_KEYS));
+    }
+
+    @Test
+    public void shouldReportRemoteKeysAsErrorGivenMultiGetQueryWithRemoteAccessNotAllowed() {
+        Query<String, Long> multiGet = new QueryBuilder(STORE_NAME).keyValue().multiGet();
+        PreparedQuery<String, Long> query = multiGet.prepare(new QueryParams(new HashMap<>() {{
+            put(KeyValueQueryBuilder.QUERY_PARAM_KEYS, List.of("local-key", "remote-key"));
+        }}));
+        distributed = new DistributedQuery<>(client, query);
+        when(streams.applicationServer()).thenReturn("local:1234");
+
+        StreamsServerInfo localServer = newServerInfo("local", true);
+        StreamsServerInfo remoteServer = newServerInfo("remote", false);
+        when(streams.getMetadataForStoreAndKey(eq(STORE_NAME), any(), any()))
+            .thenAnswer(invocation -> Optional.of(
+                invocation.getArguments()[1].equals("local-key") ? localServer : remoteServer));
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.get("local-key")).thenReturn(1L);
+        when(streams.getLocalKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately().withRemoteAccessAllowed(false));
+        assertEquals(QueryStatus.PARTIAL, result.getStatus());
+        assertEquals(1, result.getResult().getSuccess().size());
+        assertEquals(1, result.getResult().getFailure().size());
+        assertEquals(remoteServer.hostAndPort(), result.getResult().getFailure().get(0).getServer());
+        verify(client, never()).query(any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldMergePartialAggregatesGivenAggregateQuery() {
+        Query<String, Map<String, Object>> aggregate = new QueryBuilder(STORE_NAME).keyValue().aggregate();
+        DistributedQuery<String, Map<String, Object>> distributed = new DistributedQuery<>(
+            client,
+            aggregate.prepare(new QueryParams(Map.of(AggregateQueryBuilder.QUERY_PARAM_FUNCTION, "avg"))));
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.getAllMetadataForStore(any()))
+            .thenReturn(Arrays.asList(newServerInfo("local", true), newServerInfo("remote", false)));
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.all()).thenReturn(new InMemoryKeyValueIterator<>(Arrays.asList(
+            KeyValue.pair("k1", 2L),
+            KeyValue.pair("k2", 4L))));
+        when(streams.getLocalKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        // partial aggregate as deserialized from the JSON response of the remote instance.
+        final Map<String, Object> remotePartial = Map.of("count", 1, "sum", 9, "min", 9, "max", 9, "result", 9.0);
+        when(client.query(any(), any(), any()))
+            .thenReturn(CompletableFuture.completedFuture(
+                new QueryResultBuilder<>()
+                    .setServer(REMOTE_SERVER)
+                    .setStatus(QueryStatus.SUCCESS)
+                    .setSuccessResultSet(Collections.singletonList(
+                        new SuccessResultSet<>(REMOTE_SERVER, true, List.of(KV.of("avg", remotePartial)))))
+                    .build()
+            ));
+
+        QueryResult<String, Map<String, Object>> result = distributed.query(streams, Queried.immediately());
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+
+        List<SuccessResultSet<String, Map<String, Object>>> success = result.getResult().getSuccess();
+        assertEquals(1, success.size());
+        final Map<String, Object> merged = success.get(0).getRecords().get(0).value();
+        assertEquals(3L, merged.get("count"));
+        assertEquals(15L, merged.get("sum"));
+        assertEquals(5.0, merged.get("result"));
+    }
+
     private PreparedQuery<String, Long> buildKeyValueQuery() {
         Query<String, Long> query = new QueryBuilder(STORE_NAME).keyValue().get();
         return query.prepare(new QueryParams(new HashMap<>() {{
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyTrackerTest {
+
+    @Test
+    public void shouldReturnEmptyPercentileGivenNotEnoughSamples() {
+        LatencyTracker tracker = new LatencyTracker(10, 5);
+        tracker.record("server", 10L);
+        assertTrue(tracker.percentile("server", 0.9).isEmpty());
+        assertTrue(tracker.percentile("unknown", 0.9).isEmpty());
+    }
+
+    @Test
+    public void shouldComputePercentileOverMostRecentSamples() {
+        LatencyTracker tracker = new LatencyTracker(10, 5);
+        for (long i = 1; i <= 20; i++) {
+            tracker.record("server", i);
+        }
+        // only the latencies from 11 to 20 are kept.
+        assertEquals(Optional.of(Duration.ofMillis(19)), tracker.percentile("server", 0.9));
+        assertEquals(Optional.of(Duration.ofMillis(15)), tracker.percentile("server", 0.5));
+    }
+}
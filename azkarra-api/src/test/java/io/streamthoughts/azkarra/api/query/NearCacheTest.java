@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NearCacheTest {
+
+    private static final String SERVER = "server:1234";
+
+    private Time time;
+
+    @BeforeEach
+    public void setUp() {
+        time = mock(Time.class);
+        when(time.milliseconds()).thenReturn(0L);
+    }
+
+    @Test
+    public void shouldReturnCachedResultGivenSameServerAndVersion() {
+        NearCache cache = new NearCache(10, Long.MAX_VALUE, Duration.ofMinutes(1), Set.of(), time);
+        QueryResult<String, String> result = newResult("value");
+        cache.put(newKey("key"), SERVER, 1L, result);
+
+        assertEquals(result, cache.<String, String>get(newKey("key"), SERVER, 1L).get());
+        assertEquals(1.0, cache.hitRate());
+    }
+
+    @Test
+    public void shouldInvalidateEntryGivenVersionMoved() {
+        NearCache cache = new NearCache(10, Long.MAX_VALUE, Duration.ofMinutes(1), Set.of(), time);
+        cache.put(newKey("key"), SERVER, 1L, newResult("value"));
+
+        assertTrue(cache.get(newKey("key"), SERVER, 2L).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldInvalidateEntryGivenKeyMovedToAnotherServer() {
+        NearCache cache = new NearCache(10, Long.MAX_VALUE, Duration.ofMinutes(1), Set.of(), time);
+        cache.put(newKey("key"), SERVER, 1L, newResult("value"));
+
+        assertTrue(cache.get(newKey("key"), "other:1234", 1L).isEmpty());
+    }
+
+    @Test
+    public void shouldInvalidateEntryGivenTtlExpired() {
+        NearCache cache = new NearCache(10, Long.MAX_VALUE, Duration.ofMillis(100), Set.of(), time);
+        cache.put(newKey("key"), SERVER, NearCache.UNKNOWN_VERSION, newResult("value"));
+
+        when(time.milliseconds()).thenReturn(101L);
+        assertTrue(cache.get(newKey("key"), SERVER, NearCache.UNKNOWN_VERSION).isEmpty());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntryGivenMaxEntriesExceeded() {
+        NearCache cache = new NearCache(2, Long.MAX_VALUE, Duration.ofMinutes(1), Set.of(), time);
+        cache.put(newKey("k1"), SERVER, 1L, newResult("v1"));
+        cache.put(newKey("k2"), SERVER, 1L, newResult("v2"));
+        cache.get(newKey("k1"), SERVER, 1L);
+        cache.put(newKey("k3"), SERVER, 1L, newResult("v3"));
+
+        assertTrue(cache.get(newKey("k1"), SERVER, 1L).isPresent());
+        assertTrue(cache.get(newKey("k2"), SERVER, 1L).isEmpty());
+        assertTrue(cache.get(newKey("k3"), SERVER, 1L).isPresent());
+    }
+
+    @Test
+    public void shouldEvictEntriesGivenMaxWeightExceeded() {
+        NearCache cache = new NearCache(10, 300, Duration.ofMinutes(1), Set.of(), time);
+        cache.put(newKey("k1"), SERVER, 1L, newResult("v1"));
+        cache.put(newKey("k2"), SERVER, 1L, newResult("v2"));
+        cache.put(newKey("k3"), SERVER, 1L, newResult("v3"));
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(newKey("k1"), SERVER, 1L).isEmpty());
+    }
+
+    @Test
+    public void shouldRejectEntryGivenWeigherExceedingMaxWeight() {
+        NearCache cache = new NearCache(10, 1024, Duration.ofMinutes(1), Set.of(), result -> 2048L, time);
+        cache.put(newKey("k1"), SERVER, 1L, newResult("v1"));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldBoundEntriesGivenSeveralSegments() {
+        NearCache cache = new NearCache(1024, Long.MAX_VALUE, Duration.ofMinutes(1), Set.of(), time);
+        for (int i = 0; i < 4096; i++) {
+            cache.put(newKey("k" + i), SERVER, 1L, newResult("v" + i));
+        }
+        // each segment holds its own share of the maximum number of entries.
+        assertTrue(cache.size() <= 1024);
+        assertTrue(cache.get(newKey("k4095"), SERVER, 1L).isPresent());
+    }
+
+    @Test
+    public void shouldBeEnabledGivenConfiguredStoreOrQueryOption() {
+        NearCache cache = new NearCache(10, Long.MAX_VALUE, Duration.ofMinutes(1), Set.of("store"), time);
+        assertTrue(cache.isEnabledFor("store", Queried.immediately()));
+        assertFalse(cache.isEnabledFor("other", Queried.immediately()));
+        assertTrue(cache.isEnabledFor("other", Queried.immediately().withNearCache(true)));
+    }
+
+    private static NearCache.Key newKey(final String key) {
+        return new NearCache.Key("app", "store", key.getBytes());
+    }
+
+    private static QueryResult<String, String> newResult(final String value) {
+        List<KV<String, String>> records = Collections.singletonList(KV.of("key", value));
+        return QueryResultBuilder.<String, String>newBuilder()
+            .setServer(SERVER)
+            .setStatus(QueryStatus.SUCCESS)
+            .setSuccessResultSet(Collections.singletonList(new SuccessResultSet<>(SERVER, false, records)))
+            .build();
+    }
+}
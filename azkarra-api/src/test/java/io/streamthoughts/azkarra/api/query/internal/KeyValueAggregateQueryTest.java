@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.InMemoryKeyValueIterator;
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.Aggregation;
+import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Matchers.matches;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KeyValueAggregateQueryTest {
+
+    public static final String STORE_NAME = "storeName";
+
+    @Test
+    public void shouldSumFieldGivenMapValues() {
+        Map<String, Object> partial = execute(new Aggregation(Aggregation.Function.SUM, "order.amount", 1));
+        Assertions.assertEquals(3L, partial.get(Aggregation.PARTIAL_COUNT));
+        Assertions.assertEquals(17.5, partial.get(Aggregation.PARTIAL_RESULT));
+        Assertions.assertEquals(2.5, partial.get(Aggregation.PARTIAL_MIN));
+        Assertions.assertEquals(10, partial.get(Aggregation.PARTIAL_MAX));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReturnTopNGivenTopFunction() {
+        Map<String, Object> partial = execute(new Aggregation(Aggregation.Function.TOP, "order.amount", 2));
+        List<Map<String, Object>> top = (List<Map<String, Object>>) partial.get(Aggregation.PARTIAL_RESULT);
+        Assertions.assertEquals(2, top.size());
+        Assertions.assertEquals("k3", top.get(0).get(Aggregation.TOP_ENTRY_KEY));
+        Assertions.assertEquals("k2", top.get(1).get(Aggregation.TOP_ENTRY_KEY));
+    }
+
+    @Test
+    public void shouldSumFieldGivenValuesWithGetByNameMethod() {
+        Map<String, Object> partial = execute(new Aggregation(Aggregation.Function.SUM, "order.amount", 1), List.of(
+            KeyValue.pair("k1", new Record(Map.of("order", new Record(Map.of("amount", 2))))),
+            KeyValue.pair("k2", new Record(Map.of("order", new Record(Map.of("amount", 3)))))));
+        Assertions.assertEquals(5L, partial.get(Aggregation.PARTIAL_RESULT));
+    }
+
+    @Test
+    public void shouldSumWithoutOverflowGivenLargeValues() {
+        Map<String, Object> partial = execute(new Aggregation(Aggregation.Function.SUM, null, 1), List.of(
+            KeyValue.pair("k1", Long.MAX_VALUE),
+            KeyValue.pair("k2", 1L)));
+        Assertions.assertEquals(
+            BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+            partial.get(Aggregation.PARTIAL_RESULT));
+    }
+
+    @Test
+    public void shouldFailGivenUnresolvableField() {
+        final Aggregation aggregation = new Aggregation(Aggregation.Function.SUM, "order.amount", 1);
+        final Try<List<KV<String, Map<String, Object>>>> result = newQuery(aggregation, List.of(
+            KeyValue.pair("k1", Map.of("order", Map.of("amount", 2.5))),
+            KeyValue.pair("k2", Map.of("other", "value"))));
+        Assertions.assertTrue(result.isFailure());
+        Assertions.assertTrue(result.getThrowable().getMessage().contains("'order'"));
+    }
+
+    private Map<String, Object> execute(final Aggregation aggregation) {
+        return execute(aggregation, List.of(
+            KeyValue.pair("k1", Map.of("order", Map.of("amount", 2.5))),
+            KeyValue.pair("k2", Map.of("order", Map.of("amount", 5))),
+            KeyValue.pair("k3", Map.of("order", Map.of("amount", 10)))));
+    }
+
+    private Map<String, Object> execute(final Aggregation aggregation,
+                                        final List<KeyValue<Object, Object>> records) {
+        List<KV<String, Map<String, Object>>> result = newQuery(aggregation, records).get();
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals(aggregation.function().prettyName(), result.get(0).key());
+        return result.get(0).value();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Try<List<KV<String, Map<String, Object>>>> newQuery(final Aggregation aggregation,
+                                                               final List<KeyValue<Object, Object>> records) {
+        KeyValueAggregateQuery query = new KeyValueAggregateQuery(STORE_NAME, aggregation);
+        KafkaStreamsContainer mkContainer = Mockito.mock(KafkaStreamsContainer.class);
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.all()).thenReturn(new InMemoryKeyValueIterator<>(records));
+        when(mkContainer.getLocalKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+        return query.execute(mkContainer);
+    }
+
+    public static final class Record {
+
+        private final Map<String, Object> fields;
+
+        Record(final Map<String, Object> fields) {
+            this.fields = fields;
+        }
+
+        public Object get(final String field) {
+            return fields.get(field);
+        }
+    }
+}
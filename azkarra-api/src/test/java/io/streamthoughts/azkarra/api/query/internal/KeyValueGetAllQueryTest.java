@@ -23,12 +23,16 @@ import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Try;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.Matchers.matches;
 import static org.mockito.Mockito.mock;
@@ -51,4 +55,24 @@ public class KeyValueGetAllQueryTest {
         Assertions.assertEquals(1, result.get().size());
         Assertions.assertEquals(KV.of("key", "value"), result.get().get(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGetAllAfterKeyGivenPosition() {
+        KeyValueGetAllQuery<String, String> query = new KeyValueGetAllQuery<>(STORE_NAME);
+        KafkaStreamsContainer mkContainer = Mockito.mock(KafkaStreamsContainer.class);
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.all()).thenReturn(new InMemoryKeyValueIterator<>(Arrays.asList(
+            KeyValue.pair("key-1", "value-1"),
+            KeyValue.pair("key-3", "value-3"),
+            KeyValue.pair("key-4", "value-4"))
+        ));
+        when(mkContainer.getLocalKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+        when(mkContainer.getDefaultKeySerde()).thenReturn(Optional.of(Serdes.String()));
+
+        // key-2 was returned by the previous page but has been deleted since.
+        Try<List<KV<String, String>>> result = query.execute(mkContainer, 1, "key-2");
+        Assertions.assertEquals(1, result.get().size());
+        Assertions.assertEquals(KV.of("key-3", "value-3"), result.get().get(0));
+    }
+}
@@ -21,6 +21,7 @@ package io.streamthoughts.azkarra.api.query.internal;
 import io.streamthoughts.azkarra.api.query.QueryParams;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -47,6 +48,14 @@ public class KeyValueQueryBuilderTest {
                 "Missing requires parameters : [" + KeyValueQueryBuilder.QUERY_PARAM_KEY_FROM+ ", " + KeyValueQueryBuilder.QUERY_PARAM_KEY_TO + "]");
     }
 
+    @Test
+    public void shouldThrowInvalidQueryWhenBuildingKeyValueMultiGetGivenNullKey() {
+        final Query<Object, Object> query = new KeyValueQueryBuilder(STORE_NAME).multiGet();
+        assertThrows(InvalidQueryException.class, () -> query.prepare(new QueryParams(new HashMap<>() {{
+            put(KeyValueQueryBuilder.QUERY_PARAM_KEYS, Arrays.asList("key", null));
+        }})));
+    }
+
     @Test
     public void shouldSuccessWhenBuildingKeyValueAllGivenNoParam() {
         final Query<Object, Object> query = new KeyValueQueryBuilder(STORE_NAME).all();
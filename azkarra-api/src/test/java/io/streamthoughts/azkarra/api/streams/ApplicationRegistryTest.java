@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams;
+
+import io.streamthoughts.azkarra.api.StreamsExecutionEnvironment;
+import io.streamthoughts.azkarra.api.errors.AlreadyExistsException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class ApplicationRegistryTest {
+
+    private static final String APP_ID = "test-app";
+
+    private ApplicationRegistry registry;
+
+    private StreamsExecutionEnvironment environment;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new ApplicationRegistry();
+        environment = Mockito.mock(StreamsExecutionEnvironment.class);
+        Mockito.when(environment.name()).thenReturn("test-env");
+    }
+
+    @Test
+    public void shouldIndexContainerGivenRegisteredApplication() {
+        final KafkaStreamsContainer container = newContainer(APP_ID);
+        registry.register(container, environment);
+
+        Assertions.assertSame(container, registry.getContainer(APP_ID).orElse(null));
+        Assertions.assertSame(environment, registry.get(APP_ID).get().environment());
+        Assertions.assertEquals(Set.of(APP_ID), registry.applicationIds());
+        Assertions.assertFalse(registry.getContainer("unknown").isPresent());
+    }
+
+    @Test
+    public void shouldThrowGivenAnotherContainerForSameApplication() {
+        registry.register(newContainer(APP_ID), environment);
+        Assertions.assertThrows(
+            AlreadyExistsException.class,
+            () -> registry.register(newContainer(APP_ID), environment));
+    }
+
+    @Test
+    public void shouldNotifyListenersGivenRegisteredAndUnregisteredApplication() {
+        final List<String> events = new ArrayList<>();
+        registry.addListener(new ApplicationRegistry.Listener() {
+            @Override
+            public void onRegistered(final ApplicationRegistry.Entry entry) {
+                events.add("registered:" + entry.container().applicationId());
+            }
+
+            @Override
+            public void onUnregistered(final ApplicationRegistry.Entry entry) {
+                events.add("unregistered:" + entry.container().applicationId());
+            }
+        });
+
+        registry.register(newContainer(APP_ID), environment);
+        Assertions.assertTrue(registry.unregister(new ApplicationId(APP_ID)));
+        Assertions.assertFalse(registry.unregister(new ApplicationId(APP_ID)));
+
+        Assertions.assertEquals(List.of("registered:" + APP_ID, "unregistered:" + APP_ID), events);
+        Assertions.assertTrue(registry.applicationIds().isEmpty());
+    }
+
+    private static KafkaStreamsContainer newContainer(final String applicationId) {
+        final KafkaStreamsContainer container = Mockito.mock(KafkaStreamsContainer.class);
+        Mockito.when(container.applicationId()).thenReturn(applicationId);
+        return container;
+    }
+}
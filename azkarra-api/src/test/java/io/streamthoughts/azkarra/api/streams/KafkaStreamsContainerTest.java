@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams;
+
+import io.streamthoughts.azkarra.api.config.ConfBuilder;
+import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.streams.topology.TopologyContainer;
+import io.streamthoughts.azkarra.api.streams.topology.TopologyMetadata;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KafkaStreamsContainerTest {
+
+    private static final String APP_ID = "test-app";
+    private static final String STORE_NAME = "store";
+
+    private KafkaStreams kafkaStreams;
+
+    private ReadOnlyKeyValueStore<Object, Object> store;
+
+    private KafkaStreamsContainer container;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        kafkaStreams = mock(KafkaStreams.class);
+        store = mock(ReadOnlyKeyValueStore.class);
+        container = new KafkaStreamsContainer(newTopologyContainer(), (topology, config) -> kafkaStreams);
+        // the streams are never started as the executor does not run the startup task.
+        container.start(task -> { });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        container.close(Duration.ZERO);
+    }
+
+    @Test
+    public void shouldMemoizeLocalStoreAccessorGivenSameStore() {
+        when(kafkaStreams.store(any(StoreQueryParameters.class))).thenReturn(store);
+
+        final LocalStoreAccessor<ReadOnlyKeyValueStore<Object, Object>> accessor =
+            container.getLocalKeyValueStore(STORE_NAME);
+        Assertions.assertSame(accessor, container.getLocalKeyValueStore(STORE_NAME));
+        Assertions.assertSame(store, accessor.get().get());
+        Assertions.assertSame(store, container.getLocalKeyValueStore(STORE_NAME).get().get());
+        verify(kafkaStreams, times(1)).store(any(StoreQueryParameters.class));
+    }
+
+    @Test
+    public void shouldInvalidateLocalStoreAccessorsGivenRebalance() {
+        when(kafkaStreams.store(any(StoreQueryParameters.class))).thenReturn(store);
+
+        final LocalStoreAccessor<ReadOnlyKeyValueStore<Object, Object>> first =
+            container.getLocalKeyValueStore(STORE_NAME);
+        first.get();
+        rebalance();
+        final LocalStoreAccessor<ReadOnlyKeyValueStore<Object, Object>> second =
+            container.getLocalKeyValueStore(STORE_NAME);
+        Assertions.assertNotSame(first, second);
+        second.get();
+
+        // the invalidator must still be registered after a first rebalance.
+        rebalance();
+        Assertions.assertNotSame(second, container.getLocalKeyValueStore(STORE_NAME));
+        verify(kafkaStreams, times(2)).store(any(StoreQueryParameters.class));
+    }
+
+    @Test
+    public void shouldNotCacheFailedLocalStoreLookup() {
+        when(kafkaStreams.store(any(StoreQueryParameters.class)))
+            .thenThrow(new InvalidStateStoreException("store is migrating"))
+            .thenReturn(store);
+
+        final LocalStoreAccessor<ReadOnlyKeyValueStore<Object, Object>> accessor =
+            container.getLocalKeyValueStore(STORE_NAME);
+        Assertions.assertTrue(accessor.get().isFailure());
+        Assertions.assertSame(store, container.getLocalKeyValueStore(STORE_NAME).get().get());
+        verify(kafkaStreams, times(2)).store(any(StoreQueryParameters.class));
+    }
+
+    private void rebalance() {
+        container.stateChanges(new StateChangeEvent(0L, State.REBALANCING, State.RUNNING));
+        container.stateChanges(new StateChangeEvent(0L, State.RUNNING, State.REBALANCING));
+    }
+
+    private static TopologyContainer newTopologyContainer() {
+        return new TopologyContainer(
+            new Topology(),
+            new ApplicationId(APP_ID),
+            ConfBuilder.newConf()
+                .with(StreamsConfig.APPLICATION_ID_CONFIG, APP_ID)
+                .with(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092")
+                .build(),
+            new TopologyMetadata(APP_ID, "1.0", "test"),
+            Collections.emptyList()
+        );
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.admin;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.streamthoughts.azkarra.api.streams.admin.ClusterMetadataServiceConfig.CLUSTER_METADATA_RETRY_BACKOFF_MS_CONFIG;
+import static io.streamthoughts.azkarra.api.streams.admin.ClusterMetadataServiceConfig.CLUSTER_METADATA_TOPICS_CACHE_TTL_MS_CONFIG;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class ClusterMetadataServiceTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    private AdminClient client;
+
+    private ClusterMetadataService service;
+
+    @BeforeEach
+    public void setUp() {
+        client = mock(AdminClient.class);
+        final Time time = mock(Time.class);
+        Mockito.doAnswer(invocation -> now.get()).when(time).milliseconds();
+        final Conf conf = Conf.with(Map.of(
+            CLUSTER_METADATA_TOPICS_CACHE_TTL_MS_CONFIG, 1000L,
+            CLUSTER_METADATA_RETRY_BACKOFF_MS_CONFIG, 1L
+        ));
+        service = new ClusterMetadataService(client, new ClusterMetadataServiceConfig(conf), false, time);
+    }
+
+    @Test
+    public void shouldCacheTopicListingUntilTtlExpires() throws Exception {
+        mockListTopics(KafkaFuture.completedFuture(Set.of("topic")));
+
+        Assertions.assertEquals(Set.of("topic"), service.listTopicNames().get());
+        Assertions.assertEquals(Set.of("topic"), service.listTopicNames().get());
+        Mockito.verify(client, times(1)).listTopics();
+
+        now.addAndGet(1000);
+        service.listTopicNames().get();
+        Mockito.verify(client, times(2)).listTopics();
+    }
+
+    @Test
+    public void shouldCoalesceConcurrentTopicListings() throws Exception {
+        final KafkaFutureImpl<Set<String>> names = new KafkaFutureImpl<>();
+        mockListTopics(names);
+
+        final CompletableFuture<Set<String>> first = service.listTopicNames();
+        final CompletableFuture<Set<String>> second = service.listTopicNames();
+        Assertions.assertFalse(first.isDone());
+        names.complete(Set.of("topic"));
+
+        Assertions.assertEquals(Set.of("topic"), first.get());
+        Assertions.assertEquals(Set.of("topic"), second.get());
+        Mockito.verify(client, times(1)).listTopics();
+    }
+
+    @Test
+    public void shouldDescribeOnlyTopicsNotKnownToExist() throws Exception {
+        mockDescribeTopics(Map.of(
+            "existing", KafkaFuture.completedFuture(mock(TopicDescription.class)),
+            "missing", failedFuture(new UnknownTopicOrPartitionException("missing"))
+        ));
+
+        Assertions.assertEquals(Set.of("missing"), service.missingTopics(Set.of("existing", "missing")).get());
+        Assertions.assertEquals(Set.of(), service.missingTopics(Set.of("existing")).get());
+        Mockito.verify(client, times(1)).describeTopics(Mockito.anyCollection());
+    }
+
+    @Test
+    public void shouldWaitForTopicsToBeCreated() throws Exception {
+        final DescribeTopicsResult missing = mock(DescribeTopicsResult.class);
+        when(missing.values()).thenReturn(Map.of("topic", failedFuture(new UnknownTopicOrPartitionException(""))));
+        final DescribeTopicsResult existing = mock(DescribeTopicsResult.class);
+        when(existing.values()).thenReturn(Map.of("topic", KafkaFuture.completedFuture(mock(TopicDescription.class))));
+        when(client.describeTopics(Mockito.anyCollection())).thenReturn(missing, missing, existing);
+
+        service.waitForTopicsToExist(Set.of("topic"));
+
+        Mockito.verify(client, times(3)).describeTopics(Mockito.anyCollection());
+    }
+
+    private void mockListTopics(final KafkaFuture<Set<String>> names) {
+        final ListTopicsResult result = mock(ListTopicsResult.class);
+        when(result.names()).thenReturn(names);
+        when(client.listTopics()).thenReturn(result);
+    }
+
+    private void mockDescribeTopics(final Map<String, KafkaFuture<TopicDescription>> values) {
+        final DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+        when(result.values()).thenReturn(values);
+        when(client.describeTopics(Mockito.anyCollection())).thenReturn(result);
+    }
+
+    private static <T> KafkaFuture<T> failedFuture(final Throwable error) {
+        final KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+}
@@ -52,4 +52,17 @@ public class ConsumerGroupOffsetsStateTest {
         assertEquals(TEST_GROUP, snapshot.group());
         assertTrue(snapshot.consumers().isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldComputeConsumeRateFromSampledOffsets() {
+        final ConsumerGroupOffsetsState state = new ConsumerGroupOffsetsState(TEST_GROUP);
+        final ConsumerThreadKey key = new ConsumerThreadKey("t", "c");
+        final TopicPartition tp = new TopicPartition("topic", 0);
+
+        assertTrue(state.consumeRate(tp, 0L).isEmpty());
+        state.updateConsumedOffset(tp, key, 0L, 0L, 0L);
+        state.updateConsumedOffset(tp, key, 500L, 0L, 500L);
+        state.updateConsumedOffset(tp, key, 1000L, 0L, 1000L);
+        assertEquals(500.0, state.consumeRate(tp, 2000L).get());
+    }
+}
@@ -32,4 +32,34 @@ public class ConsumerLogOffsetsTest {
         Assertions.assertEquals(0, logOffsets.logEndOffset(2L).lag());
         Assertions.assertEquals(1, logOffsets.logEndOffset(3L).lag());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldEstimateTimeLagAndCatchUpEta() {
+        ConsumerLogOffsets logOffsets = new ConsumerLogOffsets("topic", 0)
+            .consumedOffset(new OffsetAndTimestamp(99L, 1000L))
+            .logEndOffset(1100L);
+        ConsumerLagEstimate estimate = ConsumerLagEstimate.estimate(logOffsets, 300, 100, 6000L);
+        Assertions.assertEquals(5000L, estimate.lagMs());
+        // 1000 records at a net rate of 200 records/s.
+        Assertions.assertEquals(5000L, estimate.catchUpEtaMs());
+    }
+
+    @Test
+    public void shouldReturnUnknownEtaWhenConsumerCannotCatchUp() {
+        ConsumerLogOffsets logOffsets = new ConsumerLogOffsets("topic", 0)
+            .consumedOffset(new OffsetAndTimestamp(99L, 1000L))
+            .logEndOffset(1100L);
+        ConsumerLagEstimate estimate = ConsumerLagEstimate.estimate(logOffsets, 100, 100, 6000L);
+        Assertions.assertEquals(ConsumerLagEstimate.UNKNOWN, estimate.catchUpEtaMs());
+    }
+
+    @Test
+    public void shouldReturnZeroTimeLagWhenConsumerIsNotLagging() {
+        ConsumerLogOffsets logOffsets = new ConsumerLogOffsets("topic", 0)
+            .consumedOffset(new OffsetAndTimestamp(99L, 1000L))
+            .logEndOffset(100L);
+        ConsumerLagEstimate estimate = ConsumerLagEstimate.estimate(logOffsets, 0, 0, 6000L);
+        Assertions.assertEquals(0L, estimate.lagMs());
+        Assertions.assertEquals(0L, estimate.catchUpEtaMs());
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.consumer;
+
+import io.streamthoughts.azkarra.api.config.ConfBuilder;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LogOffsetsCacheTest {
+
+    private static final String TOPIC = "topic";
+
+    private BatchRecordingConsumer consumer;
+
+    private Set<TopicPartition> partitions;
+
+    private LogOffsetsCache cache;
+
+    private Time time;
+
+    @BeforeEach
+    public void setUp() {
+        consumer = new BatchRecordingConsumer();
+        partitions = new HashSet<>();
+        time = mock(Time.class);
+        cache = new LogOffsetsCache(
+            "test",
+            () -> consumer,
+            () -> partitions,
+            new LogOffsetsCacheConfig(ConfBuilder.newConf()
+                .with(LogOffsetsCacheConfig.LOG_OFFSETS_REFRESH_BATCH_SIZE_CONFIG, 2)
+                .build()),
+            time
+        );
+    }
+
+    @Test
+    public void shouldReturnEmptyOffsetsBeforeFirstRefresh() {
+        addPartitions(3);
+        Assertions.assertTrue(cache.logEndOffsets().isEmpty());
+        Assertions.assertTrue(cache.logStartOffsets().isEmpty());
+    }
+
+    @Test
+    public void shouldFetchLogOffsetsByBatchesWhenRefreshing() {
+        addPartitions(5);
+        cache.refresh();
+
+        Assertions.assertEquals(List.of(2, 2, 1), consumer.endOffsetsBatchSizes);
+        Assertions.assertEquals(5, cache.logEndOffsets().size());
+        Assertions.assertEquals(5, cache.logStartOffsets().size());
+        Assertions.assertEquals(100L, cache.logEndOffsets().get(new TopicPartition(TOPIC, 0)));
+        Assertions.assertEquals(10L, cache.logStartOffsets().get(new TopicPartition(TOPIC, 0)));
+    }
+
+    @Test
+    public void shouldKeepPreviousLogOffsetsWhenFetchFails() {
+        addPartitions(2);
+        cache.refresh();
+
+        consumer.failure = new KafkaException("failed");
+        cache.refresh();
+
+        Assertions.assertEquals(100L, cache.logEndOffsets().get(new TopicPartition(TOPIC, 0)));
+        Assertions.assertEquals(10L, cache.logStartOffsets().get(new TopicPartition(TOPIC, 1)));
+    }
+
+    @Test
+    public void shouldDropLogOffsetsOfUnassignedPartitions() {
+        addPartitions(2);
+        cache.refresh();
+
+        partitions.remove(new TopicPartition(TOPIC, 1));
+        cache.refresh();
+
+        Assertions.assertEquals(1, cache.logEndOffsets().size());
+        Assertions.assertFalse(cache.logEndOffsets().containsKey(new TopicPartition(TOPIC, 1)));
+    }
+
+    @Test
+    public void shouldEstimateProduceRateFromSuccessiveRefreshes() {
+        addPartitions(1);
+        final TopicPartition tp = new TopicPartition(TOPIC, 0);
+        when(time.milliseconds()).thenReturn(0L);
+        cache.refresh();
+        Assertions.assertTrue(cache.produceRate(tp).isEmpty());
+
+        consumer.updateEndOffsets(Map.of(tp, 300L));
+        when(time.milliseconds()).thenReturn(2000L);
+        cache.refresh();
+        Assertions.assertEquals(100.0, cache.produceRate(tp).get());
+    }
+
+    private void addPartitions(final int num) {
+        final Map<TopicPartition, Long> endOffsets = new HashMap<>();
+        final Map<TopicPartition, Long> startOffsets = new HashMap<>();
+        for (int i = 0; i < num; i++) {
+            final TopicPartition partition = new TopicPartition(TOPIC, i);
+            partitions.add(partition);
+            endOffsets.put(partition, 100L);
+            startOffsets.put(partition, 10L);
+        }
+        consumer.updateEndOffsets(endOffsets);
+        consumer.updateBeginningOffsets(startOffsets);
+    }
+
+    private static final class BatchRecordingConsumer extends MockConsumer<byte[], byte[]> {
+
+        private final List<Integer> endOffsetsBatchSizes = new ArrayList<>();
+        private KafkaException failure;
+
+        BatchRecordingConsumer() {
+            super(OffsetResetStrategy.NONE);
+        }
+
+        @Override
+        public Map<TopicPartition, Long> endOffsets(final Collection<TopicPartition> partitions,
+                                                    final Duration timeout) {
+            if (failure != null) throw failure;
+            endOffsetsBatchSizes.add(partitions.size());
+            return super.endOffsets(partitions, timeout);
+        }
+
+        @Override
+        public Map<TopicPartition, Long> beginningOffsets(final Collection<TopicPartition> partitions,
+                                                          final Duration timeout) {
+            if (failure != null) throw failure;
+            return super.beginningOffsets(partitions, timeout);
+        }
+    }
+}
@@ -29,6 +29,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 
 public class MonitorOffsetsConsumerInterceptorTest {
@@ -67,6 +70,25 @@ public class MonitorOffsetsConsumerInterceptorTest {
         Assertions.assertEquals(record.timestamp(), logOffsets.consumedOffset().timestamp());
     }
 
+    @Test
+    public void shouldTrackLastRecordOfEachPartitionWhenCallingOnConsume() {
+        final TopicPartition other = new TopicPartition("topic", 1);
+        final Map<TopicPartition, List<ConsumerRecord<String, String>>> records = new HashMap<>();
+        records.put(TOPIC_PARTITION, List.of(
+            new ConsumerRecord<>(TOPIC_PARTITION.topic(), TOPIC_PARTITION.partition(), 1L, "k", "v"),
+            new ConsumerRecord<>(TOPIC_PARTITION.topic(), TOPIC_PARTITION.partition(), 2L, "k", "v")
+        ));
+        records.put(other, List.of(
+            new ConsumerRecord<>(other.topic(), other.partition(), 10L, "k", "v")
+        ));
+        interceptor.onConsume(new ConsumerRecords<>(records));
+
+        final ConsumerGroupOffsetsState state = GlobalConsumerOffsetsRegistry.getInstance().offsetsFor(TEST_GROUP);
+        Assertions.assertEquals(2L, state.offsets().get(TOPIC_PARTITION).right().consumedOffset().offset());
+        Assertions.assertEquals(10L, state.offsets().get(other).right().consumedOffset().offset());
+        Assertions.assertEquals(Optional.of(10L), state.consumedOffset(other));
+    }
+
     @Test
     public void shouldUpdateConsumerGroupStateWhenCallingOnCommit() {
         interceptor.onCommit(Collections.singletonMap(TOPIC_PARTITION, new OffsetAndMetadata(123L)));
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.restore;
+
+import io.streamthoughts.azkarra.api.time.Time;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StateRestoreTrackerTest {
+
+    private static final String STORE = "store";
+    private static final TopicPartition CHANGELOG = new TopicPartition("store-changelog", 0);
+
+    private Time time;
+
+    private StateRestoreTracker tracker;
+
+    @BeforeEach
+    public void setUp() {
+        time = mock(Time.class);
+        tracker = new StateRestoreTracker(time);
+    }
+
+    @Test
+    public void shouldTrackProgressAndEstimateEtaGivenRestoredBatches() {
+        when(time.milliseconds()).thenReturn(0L);
+        tracker.onRestoreStart(CHANGELOG, STORE, 0L, 1000L);
+
+        StoreRestoreProgress progress = tracker.progress().get(0);
+        Assertions.assertEquals(1000L, progress.remainingRecords());
+        Assertions.assertEquals(StoreRestoreProgress.UNKNOWN, progress.etaMs());
+
+        when(time.milliseconds()).thenReturn(1000L);
+        tracker.onBatchRestored(CHANGELOG, STORE, 100L, 100L);
+        when(time.milliseconds()).thenReturn(2000L);
+        tracker.onBatchRestored(CHANGELOG, STORE, 200L, 100L);
+
+        progress = tracker.progress().get(0);
+        Assertions.assertEquals(200L, progress.currentOffset());
+        Assertions.assertEquals(200L, progress.totalRestored());
+        Assertions.assertEquals(800L, progress.remainingRecords());
+        Assertions.assertEquals(100.0, progress.restoreRate(), 0.001);
+        Assertions.assertEquals(8000L, progress.etaMs());
+        Assertions.assertFalse(progress.completed());
+    }
+
+    @Test
+    public void shouldCompleteRestoration() {
+        when(time.milliseconds()).thenReturn(0L);
+        tracker.onRestoreStart(CHANGELOG, STORE, 0L, 1000L);
+        when(time.milliseconds()).thenReturn(500L);
+        tracker.onRestoreEnd(CHANGELOG, STORE, 1000L);
+
+        final StoreRestoreProgress progress = tracker.progress().get(0);
+        Assertions.assertTrue(progress.completed());
+        Assertions.assertEquals(500L, progress.endTime());
+        Assertions.assertEquals(0L, progress.remainingRecords());
+        Assertions.assertEquals(0L, progress.etaMs());
+    }
+
+    @Test
+    public void shouldAggregateProgressOfRestoringStores() {
+        final TopicPartition other = new TopicPartition("store-changelog", 1);
+        when(time.milliseconds()).thenReturn(0L);
+        tracker.onRestoreStart(CHANGELOG, STORE, 0L, 1000L);
+        tracker.onRestoreStart(other, STORE, 0L, 100L);
+        when(time.milliseconds()).thenReturn(1000L);
+        tracker.onBatchRestored(CHANGELOG, STORE, 500L, 500L);
+        tracker.onBatchRestored(other, STORE, 50L, 50L);
+
+        final StateRestoreProgress progress = new StateRestoreProgress(tracker.progress(), 1024.0);
+        final List<StoreRestoreProgress> stores = progress.stores();
+        Assertions.assertEquals(CHANGELOG, stores.get(0).topicPartition());
+        Assertions.assertEquals(other, stores.get(1).topicPartition());
+        Assertions.assertTrue(progress.restoring());
+        Assertions.assertEquals(550L, progress.remainingRecords());
+        Assertions.assertEquals(550.0, progress.recordsRate(), 0.001);
+        Assertions.assertEquals(1000L, progress.etaMs());
+    }
+}
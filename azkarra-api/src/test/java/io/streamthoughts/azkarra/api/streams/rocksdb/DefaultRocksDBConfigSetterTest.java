@@ -18,11 +18,16 @@
  */
 package io.streamthoughts.azkarra.api.streams.rocksdb;
 
+import io.streamthoughts.azkarra.api.model.Metric;
+import org.apache.kafka.streams.StreamsConfig;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.CompactionStyle;
 import org.rocksdb.Options;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 class DefaultRocksDBConfigSetterTest {
@@ -46,4 +51,75 @@ class DefaultRocksDBConfigSetterTest {
         Assertions.assertEquals("/log/dir", configured.logDir());
         Assertions.assertEquals(200, configured.maxLogFileSize());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldShareWriteBufferManagerGivenMemoryManaged() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(DefaultRocksDBConfigSetter.DefaultRocksDBConfigSetterConfig.ROCKSDB_MEMORY_MANAGED_CONFIG, true);
+        config.put(DefaultRocksDBConfigSetter.DefaultRocksDBConfigSetterConfig.ROCKSDB_MEMORY_TOTAL_OFF_HEAP_CONFIG,
+            "16777216");
+
+        final Options options1 = new Options();
+        final Options options2 = new Options();
+        new DefaultRocksDBConfigSetter().setConfig("store-1", options1, config);
+        new DefaultRocksDBConfigSetter().setConfig("store-2", options2, config);
+
+        Assertions.assertNotNull(options1.writeBufferManager());
+        Assertions.assertSame(options1.writeBufferManager(), options2.writeBufferManager());
+        Assertions.assertSame(
+            RocksDBMemoryManager.get().get().writeBufferManager(),
+            options1.writeBufferManager());
+
+        final BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options1.tableFormatConfig();
+        Assertions.assertTrue(tableConfig.cacheIndexAndFilterBlocks());
+        Assertions.assertTrue(tableConfig.cacheIndexAndFilterBlocksWithHighPriority());
+    }
+
+    @Test
+    public void shouldApplyFirstOverrideGivenMatchingStoreName() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("rocksdb.store.overrides.a-counts.pattern", "count-.*");
+        config.put("rocksdb.store.overrides.a-counts.compaction.style", "universal");
+        config.put("rocksdb.store.overrides.a-counts.block.size", "16384");
+        config.put("rocksdb.store.overrides.b-all.pattern", ".*");
+        config.put("rocksdb.store.overrides.b-all.block.size", "8192");
+
+        final Options counts = new Options();
+        new DefaultRocksDBConfigSetter().setConfig("count-store", counts, config);
+        Assertions.assertEquals(CompactionStyle.UNIVERSAL, counts.compactionStyle());
+        Assertions.assertEquals(16384L, ((BlockBasedTableConfig) counts.tableFormatConfig()).blockSize());
+
+        final Options others = new Options();
+        new DefaultRocksDBConfigSetter().setConfig("other-store", others, config);
+        Assertions.assertEquals(CompactionStyle.LEVEL, others.compactionStyle());
+        Assertions.assertEquals(8192L, ((BlockBasedTableConfig) others.tableFormatConfig()).blockSize());
+    }
+
+    @Test
+    public void shouldShareAndExposeStatisticsGivenStatsEnabled() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(StreamsConfig.APPLICATION_ID_CONFIG, "stats-app");
+        config.put(DefaultRocksDBConfigSetter.DefaultRocksDBConfigSetterConfig.ROCKSDB_STATS_ENABLECONFIG, true);
+
+        final Options segment1 = new Options();
+        final Options segment2 = new Options();
+        final DefaultRocksDBConfigSetter setter1 = new DefaultRocksDBConfigSetter();
+        final DefaultRocksDBConfigSetter setter2 = new DefaultRocksDBConfigSetter();
+        setter1.setConfig("window-store.1600000000000", segment1, config);
+        setter2.setConfig("window-store.1600000060000", segment2, config);
+
+        final RocksDBStatisticsRegistry registry = RocksDBStatisticsRegistry.getInstance();
+        registry.poll();
+        final List<Metric> metrics = registry.metrics("stats-app");
+        Assertions.assertFalse(metrics.isEmpty());
+        Assertions.assertTrue(metrics.stream().allMatch(m -> m.tags().get("store-name").equals("window-store")));
+        Assertions.assertTrue(metrics.stream().anyMatch(m -> m.name().equals("block-cache-hit-total")));
+        // both segments must share the same statistics.
+        Assertions.assertEquals(metrics.size(), metrics.stream().map(Metric::name).distinct().count());
+
+        setter1.close("window-store.1600000000000", segment1);
+        Assertions.assertFalse(registry.metrics("stats-app").isEmpty());
+        setter2.close("window-store.1600000060000", segment2);
+        Assertions.assertTrue(registry.metrics("stats-app").isEmpty());
+    }
+}
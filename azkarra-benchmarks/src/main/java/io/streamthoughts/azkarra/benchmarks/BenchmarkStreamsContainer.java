@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.benchmarks;
+
+import io.streamthoughts.azkarra.api.config.ConfBuilder;
+import io.streamthoughts.azkarra.api.streams.ApplicationId;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsFactory;
+import io.streamthoughts.azkarra.api.streams.KeyQueryInfo;
+import io.streamthoughts.azkarra.api.streams.StreamsServerInfo;
+import io.streamthoughts.azkarra.api.streams.topology.TopologyContainer;
+import io.streamthoughts.azkarra.api.streams.topology.TopologyMetadata;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.utils.Utils;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.Topology;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A {@link KafkaStreamsContainer} which is not backed by a running {@link org.apache.kafka.streams.KafkaStreams}
+ * instance and returns a fixed set of instances for any store. This is used for benchmarking the coordination
+ * of distributed queries and the export of metrics without any network or store access.
+ */
+public final class BenchmarkStreamsContainer extends KafkaStreamsContainer {
+
+    private final List<StreamsServerInfo> servers;
+
+    private final Supplier<Map<MetricName, ? extends Metric>> metrics;
+
+    /**
+     * Creates a new {@link Builder} instance.
+     *
+     * @return a new {@link Builder} instance.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    private BenchmarkStreamsContainer(final TopologyContainer topologyContainer,
+                                      final List<StreamsServerInfo> servers,
+                                      final Supplier<Map<MetricName, ? extends Metric>> metrics) {
+        // the streams are never started by the benchmarks.
+        super(topologyContainer, KafkaStreamsFactory.DEFAULT);
+        this.servers = servers;
+        this.metrics = metrics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNotRunning() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<MetricName, ? extends Metric> metrics() {
+        return metrics.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<StreamsServerInfo> getAllMetadataForStore(final String storeName) {
+        return servers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <K> Optional<KeyQueryInfo> getKeyQueryInfoForStore(final String storeName,
+                                                              final K key,
+                                                              final Serializer<K> keySerializer) {
+        final byte[] serialized = keySerializer.serialize(null, key);
+        final int partition = Utils.toPositive(Utils.murmur2(serialized)) % servers.size();
+        return Optional.of(new KeyQueryInfo(servers.get(partition), Collections.emptyList(), partition));
+    }
+
+    public static final class Builder {
+
+        private String applicationId;
+        private String applicationServer;
+        private List<StreamsServerInfo> servers = Collections.emptyList();
+        private Supplier<Map<MetricName, ? extends Metric>> metrics = Collections::emptyMap;
+
+        private Builder() {
+        }
+
+        public Builder withApplicationId(final String applicationId) {
+            this.applicationId = applicationId;
+            return this;
+        }
+
+        /**
+         * Sets the local server.
+         *
+         * @param applicationServer the local server (i.e. host:port).
+         * @return                  {@code this}
+         */
+        public Builder withApplicationServer(final String applicationServer) {
+            this.applicationServer = applicationServer;
+            return this;
+        }
+
+        /**
+         * Sets the instances hosting all stores.
+         *
+         * @param servers   the list of {@link StreamsServerInfo}.
+         * @return          {@code this}
+         */
+        public Builder withServers(final List<StreamsServerInfo> servers) {
+            this.servers = Objects.requireNonNull(servers, "servers cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the metrics returned by the container.
+         *
+         * @param metrics   the supplier of metrics.
+         * @return          {@code this}
+         */
+        public Builder withMetrics(final Supplier<Map<MetricName, ? extends Metric>> metrics) {
+            this.metrics = Objects.requireNonNull(metrics, "metrics cannot be null");
+            return this;
+        }
+
+        public BenchmarkStreamsContainer build() {
+            Objects.requireNonNull(applicationId, "applicationId cannot be null");
+            final TopologyContainer topologyContainer = new TopologyContainer(
+                new Topology(),
+                new ApplicationId(applicationId),
+                ConfBuilder.newConf()
+                    .with(StreamsConfig.APPLICATION_ID_CONFIG, applicationId)
+                    .with(StreamsConfig.APPLICATION_SERVER_CONFIG, applicationServer)
+                    .build(),
+                new TopologyMetadata(applicationId, "1.0", "benchmark"),
+                Collections.emptyList()
+            );
+            return new BenchmarkStreamsContainer(topologyContainer, servers, metrics);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.benchmarks;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.DistributedQuery;
+import io.streamthoughts.azkarra.api.query.LatencyTracker;
+import io.streamthoughts.azkarra.api.query.Queried;
+import io.streamthoughts.azkarra.api.query.QueryInfo;
+import io.streamthoughts.azkarra.api.query.QueryParams;
+import io.streamthoughts.azkarra.api.query.RemoteQueryClient;
+import io.streamthoughts.azkarra.api.query.internal.KeyValueQueryBuilder;
+import io.streamthoughts.azkarra.api.query.internal.QueryBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.api.streams.StreamsServerInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the coordination of distributed queries against remote instances which respond immediately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DistributedQueryBenchmark {
+
+    private static final String APPLICATION_ID = "benchmark";
+    private static final String STORE_NAME = "store";
+    private static final String LOCAL_SERVER = "localhost:8080";
+
+    @Param({"1", "4", "16"})
+    private int numInstances;
+
+    @Param({"10", "1000"})
+    private int recordsPerInstance;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private BenchmarkStreamsContainer streams;
+
+    private RemoteQueryClient client;
+
+    private ScheduledExecutorService executor;
+
+    private Queried options;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<StreamsServerInfo> servers = new ArrayList<>(numInstances);
+        for (int i = 0; i < numInstances; i++) {
+            servers.add(new StreamsServerInfo(
+                APPLICATION_ID,
+                "host-" + i,
+                8080,
+                Collections.singleton(STORE_NAME),
+                Collections.emptySet())
+            );
+        }
+        streams = BenchmarkStreamsContainer.newBuilder()
+            .withApplicationId(APPLICATION_ID)
+            .withApplicationServer(LOCAL_SERVER)
+            .withServers(servers)
+            .build();
+        client = new StubRemoteQueryClient(recordsPerInstance);
+        executor = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+        options = Queried.immediately().withParallel(parallel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public QueryResult<String, Long> queryAll() {
+        final KeyValueQueryBuilder builder = new QueryBuilder(STORE_NAME).keyValue();
+        return new DistributedQuery<String, Long>(
+            client,
+            builder.<String, Long>all().prepare(),
+            executor,
+            new LatencyTracker()
+        ).query(streams, options);
+    }
+
+    @Benchmark
+    public QueryResult<String, Long> queryKey() {
+        final KeyValueQueryBuilder builder = new QueryBuilder(STORE_NAME).keyValue();
+        return new DistributedQuery<String, Long>(
+            client,
+            builder.<String, Long>get().prepare(new QueryParams(Map.of(KeyValueQueryBuilder.QUERY_PARAM_KEY, "key"))),
+            executor,
+            new LatencyTracker()
+        ).query(streams, options);
+    }
+
+    /**
+     * A {@link RemoteQueryClient} which immediately returns the same records for any instance.
+     */
+    private static final class StubRemoteQueryClient implements RemoteQueryClient {
+
+        private final List<KV<Object, Object>> records;
+
+        StubRemoteQueryClient(final int numRecords) {
+            records = new ArrayList<>(numRecords);
+            for (long i = 0; i < numRecords; i++) {
+                records.add(KV.of("key-" + i, i));
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> CompletableFuture<QueryResult<K, V>> query(final StreamsServerInfo server,
+                                                                 final QueryInfo query,
+                                                                 final Queried options) {
+            final QueryResult<Object, Object> result = QueryResultBuilder.newBuilder()
+                .setServer(server.hostAndPort())
+                .setStoreName(query.storeName())
+                .setStoreType(query.type().prettyName())
+                .setStatus(QueryStatus.SUCCESS)
+                .setSuccessResultSet(Collections.singletonList(
+                    new SuccessResultSet<>(server.hostAndPort(), true, records)))
+                .build();
+            return CompletableFuture.completedFuture((QueryResult<K, V>) (QueryResult<?, ?>) result);
+        }
+    }
+}
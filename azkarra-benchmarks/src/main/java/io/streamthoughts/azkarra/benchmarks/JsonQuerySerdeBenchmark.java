@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.benchmarks;
+
+import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.query.Queried;
+import io.streamthoughts.azkarra.api.query.QueryInfo;
+import io.streamthoughts.azkarra.api.query.QueryParams;
+import io.streamthoughts.azkarra.api.query.StoreOperation;
+import io.streamthoughts.azkarra.api.query.StoreType;
+import io.streamthoughts.azkarra.http.query.JsonQuerySerde;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the JSON serialization of the queries forwarded to remote instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonQuerySerdeBenchmark {
+
+    private static final String STORE_NAME = "store";
+
+    private QueryInfo query;
+
+    private Queried options;
+
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        query = new QueryInfo(
+            STORE_NAME,
+            StoreType.KEY_VALUE,
+            StoreOperation.GET,
+            new QueryParams(Map.of("key", "key-1")));
+        options = Queried.with(Duration.ofSeconds(1)).withRetries(2).withLimit(100L);
+        serialized = JsonQuerySerde.serialize(query, options).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return JsonQuerySerde.serialize(query, options);
+    }
+
+    @Benchmark
+    public Tuple<QueryInfo, Queried> deserialize() {
+        return JsonQuerySerde.deserialize(STORE_NAME, serialized);
+    }
+}
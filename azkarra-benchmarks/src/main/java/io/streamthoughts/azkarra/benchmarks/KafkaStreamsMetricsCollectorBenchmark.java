@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.benchmarks;
+
+import io.prometheus.client.Collector;
+import io.streamthoughts.azkarra.api.AzkarraStreamsService;
+import io.streamthoughts.azkarra.api.model.Metric;
+import io.streamthoughts.azkarra.api.model.MetricGroup;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.http.prometheus.KafkaStreamsMetricsCollector;
+import io.streamthoughts.azkarra.http.prometheus.StreamsPrometheusExporter;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Gauge;
+import org.apache.kafka.common.metrics.Metrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversion of streams metrics into Prometheus samples, executed on each scrape.
+ */
+@SuppressWarnings("deprecation")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaStreamsMetricsCollectorBenchmark {
+
+    private static final String APPLICATION_ID = "benchmark";
+
+    private static final int METRICS_PER_GROUP = 20;
+
+    @Param({"100", "2000"})
+    private int numMetrics;
+
+    private Metrics kafkaMetrics;
+
+    private KafkaStreamsMetricsCollector collector;
+
+    private StreamsPrometheusExporter exporter;
+
+    @Setup
+    public void setUp() {
+        kafkaMetrics = new Metrics();
+        final Set<MetricGroup> groups = new HashSet<>();
+        for (int g = 0; g * METRICS_PER_GROUP < numMetrics; g++) {
+            final List<Metric> metrics = new ArrayList<>();
+            for (int i = 0; i < METRICS_PER_GROUP; i++) {
+                final double value = i;
+                final MetricName name = kafkaMetrics.metricName(
+                    "metric-name-" + i,
+                    "group-" + g,
+                    "A benchmark metric",
+                    Map.of("client-id", "benchmark-StreamThread-1", "task-id", "0_" + i)
+                );
+                kafkaMetrics.addMetric(name, (Gauge<Double>) (config, now) -> value);
+                metrics.add(new Metric(name.name(), name.group(), name.description(), name.tags(), value));
+            }
+            groups.add(new MetricGroup("group-" + g, metrics));
+        }
+
+        final KafkaStreamsContainer container = BenchmarkStreamsContainer.newBuilder()
+            .withApplicationId(APPLICATION_ID)
+            .withApplicationServer("localhost:8080")
+            .withMetrics(kafkaMetrics::metrics)
+            .build();
+
+        final AzkarraStreamsService service = newStreamsService(groups, container);
+        collector = new KafkaStreamsMetricsCollector(service, m -> true, APPLICATION_ID);
+        exporter = new StreamsPrometheusExporter(service);
+    }
+
+    @TearDown
+    public void tearDown() {
+        kafkaMetrics.close();
+    }
+
+    private static AzkarraStreamsService newStreamsService(final Set<MetricGroup> groups,
+                                                           final KafkaStreamsContainer container) {
+        return (AzkarraStreamsService) Proxy.newProxyInstance(
+            AzkarraStreamsService.class.getClassLoader(),
+            new Class<?>[]{AzkarraStreamsService.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getStreamsMetricsById": return groups;
+                    case "getAllStreams": return List.of(APPLICATION_ID);
+                    case "getStreamsById": return container;
+                    case "equals": return proxy == args[0];
+                    case "hashCode": return System.identityHashCode(proxy);
+                    case "toString": return "BenchmarkStreamsService";
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+    }
+
+    private static Object defaultValue(final Class<?> type) {
+        // the default value of a primitive type is the initial value of an array element.
+        if (type.isPrimitive() && type != void.class) return Array.get(Array.newInstance(type, 1), 0);
+        if (type == Optional.class) return Optional.empty();
+        if (type == List.class || type == Collection.class) return Collections.emptyList();
+        if (type == Set.class) return Collections.emptySet();
+        if (type == Map.class) return Collections.emptyMap();
+        return null;
+    }
+
+    @Benchmark
+    public List<Collector.MetricFamilySamples> collect() {
+        return collector.collect();
+    }
+
+    @Benchmark
+    public void export() throws IOException {
+        exporter.writeAll(NullWriter.INSTANCE);
+    }
+
+    private static final class NullWriter extends Writer {
+
+        static final NullWriter INSTANCE = new NullWriter();
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+        }
+
+        @Override
+        public void write(final String str) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.benchmarks;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import org.apache.kafka.common.serialization.LongSerializer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.state.KeyValueBytesStoreSupplier;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.Stores;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversion of state store iterators into query records, over in-memory and RocksDB stores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalStoreQueryBenchmark {
+
+    private static final String STORE_NAME = "store";
+    private static final String INPUT_TOPIC = "input";
+
+    @Param({"in-memory", "rocksdb"})
+    private String storeType;
+
+    @Param({"10000"})
+    private int numRecords;
+
+    @Param({"-1", "100"})
+    private long limit;
+
+    private TopologyTestDriver driver;
+
+    private KeyValueStore<String, Long> store;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final KeyValueBytesStoreSupplier supplier = storeType.equals("rocksdb") ?
+            Stores.persistentKeyValueStore(STORE_NAME) :
+            Stores.inMemoryKeyValueStore(STORE_NAME);
+
+        final StreamsBuilder builder = new StreamsBuilder();
+        builder.table(
+            INPUT_TOPIC,
+            Consumed.with(Serdes.String(), Serdes.Long()),
+            Materialized.<String, Long>as(supplier)
+                .withKeySerde(Serdes.String())
+                .withValueSerde(Serdes.Long())
+                .withCachingDisabled());
+
+        final Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "benchmark");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        props.put(StreamsConfig.STATE_DIR_CONFIG, Files.createTempDirectory("azkarra-benchmarks").toString());
+        driver = new TopologyTestDriver(builder.build(), props);
+
+        final TestInputTopic<String, Long> input = driver.createInputTopic(
+            INPUT_TOPIC,
+            new StringSerializer(),
+            new LongSerializer());
+        for (long i = 0; i < numRecords; i++) {
+            input.pipeInput("key-" + i, i);
+        }
+        store = driver.getKeyValueStore(STORE_NAME);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.close();
+    }
+
+    @Benchmark
+    public List<KV<String, Long>> all() {
+        return LocalStoreQuery.toKeyValueListAndClose(store.all(), limit);
+    }
+}
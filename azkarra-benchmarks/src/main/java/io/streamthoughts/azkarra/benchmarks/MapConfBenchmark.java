@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.benchmarks;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.api.config.ConfBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the lookups of configuration properties through a chain of fallback configurations,
+ * as built for streams applications (i.e. application, environment and context configurations).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapConfBenchmark {
+
+    private static final String DEEPEST_KEY = "streams.bootstrap.servers";
+    private static final String MISSING_KEY = "streams.missing.property";
+
+    @Param({"1", "4", "16"})
+    private int depth;
+
+    private Conf conf;
+
+    @Setup
+    public void setUp() {
+        // the deepest fallback holds the looked up property.
+        Conf current = ConfBuilder.newConf().with(DEEPEST_KEY, "localhost:9092").build();
+        for (int i = depth - 1; i > 0; i--) {
+            current = ConfBuilder.newConf()
+                .with("streams.level" + i + ".property", i)
+                .with("level" + i + ".property", i)
+                .build()
+                .withFallback(current);
+        }
+        conf = current;
+    }
+
+    @Benchmark
+    public String getStringFromDeepestFallback() {
+        return conf.getString(DEEPEST_KEY);
+    }
+
+    @Benchmark
+    public boolean hasPathGivenMissingKey() {
+        return conf.hasPath(MISSING_KEY);
+    }
+
+    @Benchmark
+    public Conf getSubConf() {
+        return conf.getSubConf("streams");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.benchmarks;
+
+import io.streamthoughts.azkarra.api.streams.consumer.MonitorOffsetsConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the tracking of consumed offsets which is executed for each batch of records polled by a streams thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonitorOffsetsConsumerInterceptorBenchmark {
+
+    private static final String TOPIC = "topic";
+
+    @Param({"500", "10000"})
+    private int batchSize;
+
+    @Param({"1", "16"})
+    private int numPartitions;
+
+    private MonitorOffsetsConsumerInterceptor<byte[], byte[]> interceptor;
+
+    private ConsumerRecords<byte[], byte[]> records;
+
+    @Setup
+    public void setUp() {
+        interceptor = new MonitorOffsetsConsumerInterceptor<>();
+        interceptor.configure(Map.of(
+            ConsumerConfig.GROUP_ID_CONFIG, "benchmark",
+            ConsumerConfig.CLIENT_ID_CONFIG, "benchmark-client"
+        ));
+
+        final Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> batch = new HashMap<>();
+        for (int i = 0; i < batchSize; i++) {
+            final int partition = i % numPartitions;
+            batch.computeIfAbsent(new TopicPartition(TOPIC, partition), tp -> new ArrayList<>())
+                .add(new ConsumerRecord<>(TOPIC, partition, i, new byte[0], new byte[0]));
+        }
+        records = new ConsumerRecords<>(batch);
+    }
+
+    @Benchmark
+    public ConsumerRecords<byte[], byte[]> onConsume() {
+        return interceptor.onConsume(records);
+    }
+}
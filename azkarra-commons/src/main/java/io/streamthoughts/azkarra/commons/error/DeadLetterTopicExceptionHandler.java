@@ -19,11 +19,10 @@
 package io.streamthoughts.azkarra.commons.error;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeader;
@@ -41,13 +40,24 @@ import org.slf4j.LoggerFactory;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 /**
  * A {@link DeserializationExceptionHandler} implementation that write rejected records to an dead-letter-topic.
+ *
+ * When the high-throughput mode is enabled, the full stack trace of an exception is only sent until a record
+ * rejected for a given stack trace fingerprint is acknowledged, the following records only carry the fingerprint.
+ * Rejected records can also be sampled or rate-limited per exception class.
+ *
+ * When a dedicated producer is configured, records are sent asynchronously through a single producer shared by all
+ * the handlers of the application (see {@link DeadLetterTopicProducers}).
  */
 public class DeadLetterTopicExceptionHandler implements DeserializationExceptionHandler {
 
@@ -65,7 +75,23 @@ public class DeadLetterTopicExceptionHandler implements DeserializationException
 
     private String applicationId;
 
-    private Producer<byte[], byte[]> internalProducer;
+    private byte[] applicationIdBytes;
+
+    private Map<String, Object> internalProducerConfig;
+
+    private ErrorRateLimiter rateLimiter;
+
+    private final DeadLetterTopicMetrics metrics = new DeadLetterTopicMetrics();
+
+    /**
+     * The fingerprints of the stack traces already sent, only used in high-throughput mode.
+     */
+    private Map<String, Boolean> sentStackTraces;
+
+    /**
+     * The serialized topic names, which are reused across records.
+     */
+    private final Map<String, byte[]> topicBytes = new HashMap<>();
 
     /**
      * {@inheritDoc}
@@ -74,22 +100,52 @@ public class DeadLetterTopicExceptionHandler implements DeserializationException
     public void configure(final Map<String, ?> configs) {
         config = new DeadLetterTopicExceptionHandlerConfig(configs);
         applicationId = (String)configs.get(StreamsConfig.APPLICATION_ID_CONFIG);
+
+        // We use a StringSerializer as a convenient way to serialize headers.
+        // This allow user to configure encoding.
+        stringSerializer = new StringSerializer();
+        stringSerializer.configure(configs, false);
+
+        applicationIdBytes = toByteArray(applicationId);
         customHeaders = config.customHeaders()
                 .entrySet()
                 .stream()
                 .map(e -> new RecordHeader(e.getKey(), toByteArray(e.getValue().toString())))
                 .collect(Collectors.toList());
 
-        // We use a StringSerializer as a convenient way to serialize headers.
-        // This allow user to configure encoding.
-        stringSerializer = new StringSerializer();
-        stringSerializer.configure(configs, false);
+        if (config.maxRecordsPerSecond() > 0) {
+            rateLimiter = new ErrorRateLimiter(config.maxRecordsPerSecond(), Time.SYSTEM);
+        }
 
-        Map<String, Object> internalProducerConfig = config.producerConfigs();
-        if (!internalProducerConfig.isEmpty()) {
-            LOG.info("Initializing internal KafkaProducer for exception handler: {}", getClass().getSimpleName());
-            internalProducer = new KafkaProducer<>(internalProducerConfig, serializer, serializer);
+        if (config.isHighThroughputEnable()) {
+            final int cacheSize = config.stackTraceCacheSize();
+            sentStackTraces = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+                    return size() > cacheSize;
+                }
+            });
         }
+
+        // the internal producer is shared by all the handlers of the application and created on the first send.
+        internalProducerConfig = config.producerConfigs();
+    }
+
+    /**
+     * Gets the counters of rejected, sent and dropped records.
+     *
+     * @return  the {@link DeadLetterTopicMetrics} instance.
+     */
+    public DeadLetterTopicMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Removes the sensors registered by this handler. Note that the sensors are also removed by Kafka Streams
+     * when the task owning this handler is closed.
+     */
+    public void close() {
+        metrics.unregister();
     }
 
     /**
@@ -99,13 +155,48 @@ public class DeadLetterTopicExceptionHandler implements DeserializationException
     public DeserializationHandlerResponse handle(final ProcessorContext context,
                                                  final ConsumerRecord<byte[], byte[]> record,
                                                  final Exception exception) {
+        if (context.taskId() != null) {
+            metrics.register(context.metrics(), Thread.currentThread().getName(), context.taskId().toString());
+        }
+        metrics.recordRejected();
 
-        RecordCollector collector = ((ProcessorContextImpl) context).recordCollector();
+        if (!isSelected(exception)) {
+            metrics.recordDropped();
+            return getDeserializationHandlerResponse(exception);
+        }
+
+        final Headers headers = record.headers();
+        final String fingerprint = sentStackTraces != null ? StackTraceFingerprint.of(exception) : null;
+        addErrorHeaders(headers, record, exception, fingerprint);
+
+        final String outputTopic =  (config.outputTopic() != null) ?
+            config.outputTopic() :
+            record.topic() + OUTPUT_TOPIC_DEFAULT_SUFFIX;
 
-        Headers headers = record.headers();
+        LOG.debug(
+            "Sending rejected record from topic={}, partition={}, offset={} into topic {}",
+            record.topic(),
+            record.partition(),
+            record.offset(),
+            outputTopic
+        );
+        send(context, record, headers, outputTopic, fingerprint);
 
-        headers.add(ExceptionHeader.ERROR_EXCEPTION_STACKTRACE,
-            toByteArray(getStacktrace(exception)));
+        return getDeserializationHandlerResponse(exception);
+    }
+
+    private void addErrorHeaders(final Headers headers,
+                                 final ConsumerRecord<byte[], byte[]> record,
+                                 final Exception exception,
+                                 final String fingerprint) {
+        if (fingerprint == null || !sentStackTraces.containsKey(fingerprint)) {
+            headers.add(ExceptionHeader.ERROR_EXCEPTION_STACKTRACE,
+                toByteArray(getStacktrace(exception)));
+        }
+        if (fingerprint != null) {
+            headers.add(ExceptionHeader.ERROR_EXCEPTION_STACKTRACE_FINGERPRINT,
+                toByteArray(fingerprint));
+        }
         headers.add(ExceptionHeader.ERROR_EXCEPTION_MESSAGE,
             toByteArray(exception.getMessage()));
         headers.add(ExceptionHeader.ERROR_EXCEPTION_CLASS_NAME,
@@ -113,54 +204,85 @@ public class DeadLetterTopicExceptionHandler implements DeserializationException
         headers.add(ExceptionHeader.ERROR_TIMESTAMP,
             toByteArray(Time.SYSTEM.milliseconds()));
         headers.add(ExceptionHeader.ERROR_APPLICATION_ID,
-            toByteArray(applicationId));
+            applicationIdBytes);
 
-        headers.add(ExceptionHeader.ERROR_RECORD_TOPIC, toByteArray(record.topic()));
+        headers.add(ExceptionHeader.ERROR_RECORD_TOPIC,
+            topicBytes.computeIfAbsent(record.topic(), this::toByteArray));
         headers.add(ExceptionHeader.ERROR_RECORD_PARTITION, toByteArray(record.partition()));
         headers.add(ExceptionHeader.ERROR_RECORD_OFFSET, toByteArray(record.offset()));
 
         customHeaders.forEach(headers::add);
+    }
 
-        final String outputTopic =  (config.outputTopic() != null) ?
-            config.outputTopic() :
-            record.topic() + OUTPUT_TOPIC_DEFAULT_SUFFIX;
+    private boolean isSelected(final Exception exception) {
+        final double samplingRatio = config.samplingRatio();
+        if (samplingRatio < 1.0 && ThreadLocalRandom.current().nextDouble() >= samplingRatio) {
+            return false;
+        }
+        return rateLimiter == null || rateLimiter.tryAcquire(exception.getClass().getName());
+    }
 
-        LOG.debug(
-            "Sending rejected record from topic={}, partition={}, offset={} into topic {}",
-            record.topic(),
-            record.partition(),
-            record.offset(),
-            outputTopic
-        );
-        if (internalProducer != null) {
+    private void send(final ProcessorContext context,
+                      final ConsumerRecord<byte[], byte[]> record,
+                      final Headers headers,
+                      final String outputTopic,
+                      final String fingerprint) {
+        if (!internalProducerConfig.isEmpty()) {
             ProducerRecord<byte[], byte[]> producerRecord = new ProducerRecord<>(
                 outputTopic,
                 null,
-                record.timestamp(),
+                // records without timestamp (i.e -1) are not accepted by the producer.
+                record.timestamp() >= 0 ? record.timestamp() : null,
                 record.key(),
                 record.value(),
                 headers
                 );
-            internalProducer.send(producerRecord, new Callback() {
-                @Override
-                public void onCompletion(final RecordMetadata metadata, final Exception exception) {
-                    LOG.error("Fail to send corrupted record into topic {}. Ignored record.", outputTopic, exception);
-                }
-            });
-        } else {
-            collector.send(outputTopic,
-                record.key(),
-                record.value(),
-                headers,
-                record.timestamp(),
-                serializer,
-                serializer, null);
+            try {
+                // the producer blocks up to max.block.ms when its buffer.memory is exhausted.
+                internalProducer().send(producerRecord, (metadata, exception) -> onCompletion(exception, fingerprint));
+            } catch (KafkaException e) {
+                LOG.warn("Cannot send record from topic={}, partition={}, offset={} into dead-letter topic : {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage());
+                metrics.recordDropped();
+            }
+            return;
         }
+        RecordCollector collector = ((ProcessorContextImpl) context).recordCollector();
+        collector.send(outputTopic,
+            record.key(),
+            record.value(),
+            headers,
+            record.timestamp(),
+            serializer,
+            serializer, null);
+        onCompletion(null, fingerprint);
+    }
 
-        return getDeserializationHandlerResponse(exception);
+    private Producer<byte[], byte[]> internalProducer() {
+        return DeadLetterTopicProducers.getOrCreate(
+            applicationId,
+            () -> new KafkaProducer<>(internalProducerConfig, serializer, serializer)
+        );
+    }
+
+    private void onCompletion(final Exception exception, final String fingerprint) {
+        if (exception != null) {
+            LOG.error("Fail to send corrupted record into dead-letter topic. Ignored record.", exception);
+            metrics.recordDropped();
+        } else {
+            // the stack trace is only omitted once a record carrying it has been written.
+            if (fingerprint != null) {
+                sentStackTraces.put(fingerprint, Boolean.TRUE);
+            }
+            metrics.recordSent();
+        }
     }
 
     private DeserializationHandlerResponse getDeserializationHandlerResponse(final Exception exception) {
+        // an open circuit breaker means that the input topic can no longer be consumed safely.
+        if (exception instanceof DeserializationCircuitBreakerException) {
+            return DeserializationHandlerResponse.FAIL;
+        }
         List<Class<?>> classes = config.getFatalExceptions();
         DeserializationHandlerResponse response = DeserializationHandlerResponse.CONTINUE;
 
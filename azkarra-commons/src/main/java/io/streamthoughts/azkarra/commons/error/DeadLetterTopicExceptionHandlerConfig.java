@@ -42,6 +42,22 @@ public class DeadLetterTopicExceptionHandlerConfig extends AbstractConfig {
 
     public static final String DEAD_LETTER_HEADERS_PREFIX = "exception.handler.dead.letter.headers.";
 
+    public static final String HIGH_THROUGHPUT_ENABLE_CONFIG = "exception.handler.dead.letter.high.throughput.enable";
+    public static final String HIGH_THROUGHPUT_ENABLE_DOC = "Enables the high-throughput mode. In this mode, "
+        + "the full stack trace is only sent once per fingerprint.";
+
+    public static final String STACKTRACE_CACHE_SIZE_CONFIG = "exception.handler.dead.letter.stacktrace.cache.size";
+    public static final String STACKTRACE_CACHE_SIZE_DOC = "The maximum number of stack trace fingerprints "
+        + "remembered by the handler in high-throughput mode.";
+
+    public static final String SAMPLING_RATIO_CONFIG = "exception.handler.dead.letter.sampling.ratio";
+    public static final String SAMPLING_RATIO_DOC = "The ratio of rejected records to be sent to the "
+        + "dead-letter topic, between 0 and 1.";
+
+    public static final String MAX_RECORDS_PER_SECOND_CONFIG = "exception.handler.dead.letter.max.records.per.second";
+    public static final String MAX_RECORDS_PER_SECOND_DOC = "The maximum number of records sent to the dead-letter "
+        + "topic per second and per exception class (0 means no limit).";
+
     /**
      * Creates a new {@link DeadLetterTopicExceptionHandlerConfig} instance.
      *
@@ -63,6 +79,22 @@ public class DeadLetterTopicExceptionHandlerConfig extends AbstractConfig {
         return originalsWithPrefix(DEAD_LETTER_PRODUCER_CONFIG);
     }
 
+    public boolean isHighThroughputEnable() {
+        return getBoolean(HIGH_THROUGHPUT_ENABLE_CONFIG);
+    }
+
+    public int stackTraceCacheSize() {
+        return getInt(STACKTRACE_CACHE_SIZE_CONFIG);
+    }
+
+    public double samplingRatio() {
+        return getDouble(SAMPLING_RATIO_CONFIG);
+    }
+
+    public double maxRecordsPerSecond() {
+        return getDouble(MAX_RECORDS_PER_SECOND_CONFIG);
+    }
+
     public List<Class<?>> getFatalExceptions() {
         List<String> classes = getList(FATAL_ERRORS_CONFIG);
         if (classes == null) return Collections.emptyList();
@@ -84,6 +116,14 @@ public class DeadLetterTopicExceptionHandlerConfig extends AbstractConfig {
              .define(DEAD_LETTER_TOPIC_CONFIG, ConfigDef.Type.STRING, null,
                  ConfigDef.Importance.HIGH, DEAD_LETTER_TOPIC_DOC)
             .define(FATAL_ERRORS_CONFIG, ConfigDef.Type.LIST, null,
-                ConfigDef.Importance.HIGH, FATAL_ERRORS_DOC);
+                ConfigDef.Importance.HIGH, FATAL_ERRORS_DOC)
+            .define(HIGH_THROUGHPUT_ENABLE_CONFIG, ConfigDef.Type.BOOLEAN, false,
+                ConfigDef.Importance.MEDIUM, HIGH_THROUGHPUT_ENABLE_DOC)
+            .define(STACKTRACE_CACHE_SIZE_CONFIG, ConfigDef.Type.INT, 1000, ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW, STACKTRACE_CACHE_SIZE_DOC)
+            .define(SAMPLING_RATIO_CONFIG, ConfigDef.Type.DOUBLE, 1.0, ConfigDef.Range.between(0, 1),
+                ConfigDef.Importance.LOW, SAMPLING_RATIO_DOC)
+            .define(MAX_RECORDS_PER_SECOND_CONFIG, ConfigDef.Type.DOUBLE, 0.0, ConfigDef.Range.atLeast(0),
+                ConfigDef.Importance.LOW, MAX_RECORDS_PER_SECOND_DOC);
     }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.commons.error;
+
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.apache.kafka.streams.StreamsMetrics;
+import org.apache.kafka.streams.processor.internals.metrics.StreamsMetricsImpl;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of records rejected, sent and dropped by a {@link DeadLetterTopicExceptionHandler}.
+ *
+ * Once registered, the counters are also exposed through the metrics of the streams instance,
+ * under the group {@value #GROUP}. The sensors are registered as task-level sensors, so they are removed
+ * along with the other sensors of the task when it is closed, or explicitly through {@link #unregister()}.
+ */
+public class DeadLetterTopicMetrics {
+
+    public static final String GROUP = "stream-dead-letter-metrics";
+
+    private static final String THREAD_ID_TAG = "thread-id";
+    private static final String TASK_ID_TAG = "task-id";
+
+    private final Counter rejected = new Counter("rejected", "records rejected by the deserializer");
+    private final Counter sent = new Counter("sent", "records sent to the dead-letter topic");
+    private final Counter dropped = new Counter("dropped", "rejected records not sent to the dead-letter topic");
+
+    private volatile StreamsMetrics registered;
+
+    /**
+     * Registers the counters into the specified {@link StreamsMetrics}, if not already registered.
+     *
+     * @param metrics   the {@link StreamsMetrics} of the streams instance.
+     * @param threadId  the stream-thread name.
+     * @param taskId    the task id.
+     */
+    synchronized void register(final StreamsMetrics metrics, final String threadId, final String taskId) {
+        if (registered != null || metrics == null) return;
+        final Map<String, String> tags = Map.of(THREAD_ID_TAG, threadId, TASK_ID_TAG, taskId);
+        rejected.register(metrics, threadId, taskId, tags);
+        sent.register(metrics, threadId, taskId, tags);
+        dropped.register(metrics, threadId, taskId, tags);
+        registered = metrics;
+    }
+
+    /**
+     * Removes the sensors previously registered, if any. The counts remain available through this instance.
+     */
+    synchronized void unregister() {
+        final StreamsMetrics metrics = registered;
+        if (metrics == null) return;
+        rejected.unregister(metrics);
+        sent.unregister(metrics);
+        dropped.unregister(metrics);
+        registered = null;
+    }
+
+    void recordRejected() {
+        rejected.record();
+    }
+
+    void recordSent() {
+        sent.record();
+    }
+
+    void recordDropped() {
+        dropped.record();
+    }
+
+    /**
+     * @return the total number of records rejected by the deserializer.
+     */
+    public long rejected() {
+        return rejected.count();
+    }
+
+    /**
+     * @return the total number of records successfully sent to the dead-letter topic.
+     */
+    public long sent() {
+        return sent.count();
+    }
+
+    /**
+     * @return the total number of rejected records which were not sent to the dead-letter topic,
+     * either because they were sampled-out, rate-limited, or because the send failed.
+     */
+    public long dropped() {
+        return dropped.count();
+    }
+
+    private static final class Counter {
+
+        private final String name;
+        private final String description;
+        private final LongAdder count = new LongAdder();
+        private volatile Sensor sensor;
+
+        Counter(final String name, final String description) {
+            this.name = name;
+            this.description = description;
+        }
+
+        void register(final StreamsMetrics metrics,
+                      final String threadId,
+                      final String taskId,
+                      final Map<String, String> tags) {
+            final Sensor sensor;
+            if (metrics instanceof StreamsMetricsImpl) {
+                sensor = ((StreamsMetricsImpl) metrics).taskLevelSensor(
+                    threadId, taskId, "dead-letter-" + name, Sensor.RecordingLevel.INFO);
+            } else {
+                sensor = metrics.addSensor(
+                    "dead-letter." + threadId + "." + taskId + "." + name, Sensor.RecordingLevel.INFO);
+            }
+            sensor.add(new MetricName(name + "-total", GROUP, "The total number of " + description, tags),
+                new CumulativeCount());
+            sensor.add(new MetricName(name + "-rate", GROUP, "The average per-second number of " + description, tags),
+                new Rate());
+            this.sensor = sensor;
+        }
+
+        void unregister(final StreamsMetrics metrics) {
+            final Sensor s = sensor;
+            if (s != null) {
+                sensor = null;
+                metrics.removeSensor(s);
+            }
+        }
+
+        void record() {
+            count.increment();
+            final Sensor s = sensor;
+            if (s != null) {
+                s.record();
+            }
+        }
+
+        long count() {
+            return count.sum();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.commons.error;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The producers used by the {@link DeadLetterTopicExceptionHandler} instances for sending rejected records.
+ *
+ * Kafka Streams creates one exception handler per stream task, so a single producer is shared by all the
+ * handlers of a streams application. A producer must be closed once the streams instance is closed, using
+ * {@link #close(String, Duration)}; the producers still opened when the JVM shuts down are flushed and closed.
+ */
+public final class DeadLetterTopicProducers {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeadLetterTopicProducers.class);
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Map<String, Producer<byte[], byte[]>> PRODUCERS = new HashMap<>();
+
+    private static boolean shutdownHookRegistered = false;
+
+    private DeadLetterTopicProducers() {
+    }
+
+    /**
+     * Gets the producer of the specified streams application, or creates a new one.
+     *
+     * @param applicationId the streams application id.
+     * @param factory       the factory used to create the producer, if none is registered for the application.
+     * @return              the shared {@link Producer} instance.
+     */
+    static synchronized Producer<byte[], byte[]> getOrCreate(final String applicationId,
+                                                             final Supplier<Producer<byte[], byte[]>> factory) {
+        Objects.requireNonNull(applicationId, "applicationId cannot be null");
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(
+                new Thread(DeadLetterTopicProducers::closeAll, "dead-letter-producers-shutdown-hook"));
+            shutdownHookRegistered = true;
+        }
+        return PRODUCERS.computeIfAbsent(applicationId, id -> {
+            LOG.info("Initializing internal KafkaProducer for dead-letter topic (application.id={})", id);
+            return factory.get();
+        });
+    }
+
+    /**
+     * Flushes and closes the producer of the specified streams application, if any.
+     *
+     * @param applicationId the streams application id.
+     * @param timeout       the maximum time to wait for pending records to be sent.
+     */
+    public static void close(final String applicationId, final Duration timeout) {
+        final Producer<byte[], byte[]> producer;
+        synchronized (DeadLetterTopicProducers.class) {
+            producer = PRODUCERS.remove(applicationId);
+        }
+        if (producer != null) {
+            LOG.info("Closing internal KafkaProducer for dead-letter topic (application.id={})", applicationId);
+            producer.close(timeout);
+        }
+    }
+
+    private static void closeAll() {
+        final List<String> applicationIds;
+        synchronized (DeadLetterTopicProducers.class) {
+            applicationIds = new ArrayList<>(PRODUCERS.keySet());
+        }
+        applicationIds.forEach(applicationId -> close(applicationId, SHUTDOWN_TIMEOUT));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.commons.error;
+
+import org.apache.kafka.common.utils.Time;
+
+/**
+ * A circuit breaker which opens when the ratio of records failing deserialization stays above
+ * a threshold for a given time window.
+ *
+ * The error ratio is evaluated for each interval of at least one second, and only when a record fails
+ * deserialization, so that a valid record can never open the breaker. The breaker opens once every evaluated
+ * interval has been above the threshold for at least the configured window. Intervals with fewer records
+ * than the configured minimum are ignored. Once opened, the breaker stays open.
+ */
+final class DeserializationCircuitBreaker {
+
+    private static final long INTERVAL_MS = 1000L;
+
+    private final double threshold;
+    private final long windowMs;
+    private final int minRecords;
+    private final Time time;
+
+    private long intervalStartMs;
+    private long records;
+    private long errors;
+    private long aboveThresholdSinceMs = -1;
+    private boolean open = false;
+
+    /**
+     * Creates a new {@link DeserializationCircuitBreaker} instance.
+     *
+     * @param threshold     the error ratio threshold, between 0 and 1.
+     * @param windowMs      the time the error ratio must stay above the threshold.
+     * @param minRecords    the minimum number of records for an interval to be evaluated.
+     * @param time          the {@link Time} instance.
+     */
+    DeserializationCircuitBreaker(final double threshold,
+                                  final long windowMs,
+                                  final int minRecords,
+                                  final Time time) {
+        this.threshold = threshold;
+        this.windowMs = windowMs;
+        this.minRecords = minRecords;
+        this.time = time;
+        this.intervalStartMs = time.milliseconds();
+    }
+
+    /**
+     * Records a record successfully deserialized.
+     */
+    synchronized void recordSuccess() {
+        records++;
+    }
+
+    /**
+     * Records a record that failed deserialization, and evaluates the error ratio.
+     *
+     * @return  {@code true} if the circuit breaker is open.
+     */
+    synchronized boolean recordError() {
+        final long now = time.milliseconds();
+        if (!open && now - intervalStartMs >= INTERVAL_MS) {
+            open = evaluate(now);
+        }
+        records++;
+        errors++;
+        return open;
+    }
+
+    /**
+     * @return  {@code true} if the circuit breaker is open.
+     */
+    synchronized boolean isOpen() {
+        return open;
+    }
+
+    private boolean evaluate(final long now) {
+        if (records >= minRecords) {
+            if ((double) errors / records >= threshold) {
+                if (aboveThresholdSinceMs < 0) aboveThresholdSinceMs = intervalStartMs;
+            } else {
+                aboveThresholdSinceMs = -1;
+            }
+        }
+        intervalStartMs = now;
+        records = 0;
+        errors = 0;
+        return aboveThresholdSinceMs >= 0 && now - aboveThresholdSinceMs >= windowMs;
+    }
+}
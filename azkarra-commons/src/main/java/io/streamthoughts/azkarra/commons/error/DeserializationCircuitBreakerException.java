@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.commons.error;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Exception thrown by a {@link SafeDeserializer} when the ratio of records failing deserialization
+ * stays above the configured threshold.
+ */
+public class DeserializationCircuitBreakerException extends SerializationException {
+
+    /**
+     * Creates a new {@link DeserializationCircuitBreakerException} instance.
+     *
+     * @param message   the error message.
+     */
+    public DeserializationCircuitBreakerException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new {@link DeserializationCircuitBreakerException} instance.
+     *
+     * @param message   the error message.
+     * @param cause     the deserialization error which opened the circuit breaker.
+     */
+    public DeserializationCircuitBreakerException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
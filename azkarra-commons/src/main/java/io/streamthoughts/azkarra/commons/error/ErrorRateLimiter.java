@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.commons.error;
+
+import org.apache.kafka.common.utils.Time;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A simple token-bucket rate limiter, with one bucket per key (e.g. an exception class or a topic).
+ */
+final class ErrorRateLimiter {
+
+    private final double permitsPerMs;
+    private final double maxPermits;
+    private final Time time;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link ErrorRateLimiter} instance.
+     *
+     * @param permitsPerSecond  the number of permits per second for each key.
+     * @param time              the {@link Time} instance.
+     */
+    ErrorRateLimiter(final double permitsPerSecond, final Time time) {
+        this.permitsPerMs = permitsPerSecond / 1000;
+        this.maxPermits = Math.max(1, permitsPerSecond);
+        this.time = time;
+    }
+
+    /**
+     * Tries to acquire a permit for the specified key.
+     *
+     * @param key   the key, e.g. the exception class name.
+     * @return      {@code true} if a permit was acquired.
+     */
+    boolean tryAcquire(final String key) {
+        return buckets.computeIfAbsent(key, k -> new Bucket()).tryAcquire();
+    }
+
+    private final class Bucket {
+
+        private double permits = maxPermits;
+        private long lastRefillMs = time.milliseconds();
+
+        synchronized boolean tryAcquire() {
+            final long now = time.milliseconds();
+            permits = Math.min(maxPermits, permits + (now - lastRefillMs) * permitsPerMs);
+            lastRefillMs = now;
+            if (permits < 1) return false;
+            permits -= 1;
+            return true;
+        }
+    }
+}
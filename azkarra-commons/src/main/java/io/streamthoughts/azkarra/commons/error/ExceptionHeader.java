@@ -24,6 +24,7 @@ package io.streamthoughts.azkarra.commons.error;
 public class ExceptionHeader {
 
     public static final String ERROR_EXCEPTION_STACKTRACE  = "__errors.exception.stacktrace";
+    public static final String ERROR_EXCEPTION_STACKTRACE_FINGERPRINT = "__errors.exception.stacktrace.fingerprint";
     public static final String ERROR_EXCEPTION_MESSAGE     = "__errors.exception.message";
     public static final String ERROR_EXCEPTION_CLASS_NAME  = "__errors.exception.class.name";
     public static final String ERROR_TIMESTAMP             = "__errors.timestamp";
@@ -20,12 +20,27 @@ package io.streamthoughts.azkarra.commons.error;
 
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.utils.Time;
+import org.apache.kafka.streams.StreamsConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * A {@link Deserializer} which returns a default object when the delegated one fails.
+ *
+ * Errors are counted per topic (see {@link SafeDeserializerMetrics}) and their logging is rate-limited.
+ * Optionally, a circuit breaker can be enabled to fail deserialization when the error ratio of a topic stays
+ * above a threshold, see {@link SafeDeserializerConfig}. Once open, every record of the topic failing
+ * deserialization is rejected with a {@link DeserializationCircuitBreakerException}, which is expected to be
+ * treated as fatal by the configured deserialization exception handler.
+ */
 public class SafeDeserializer<T> implements Deserializer<T> {
 
     private static final Logger LOG = LoggerFactory.getLogger(SafeDeserializer.class);
@@ -36,6 +51,22 @@ public class SafeDeserializer<T> implements Deserializer<T> {
 
     private T defaultObject;
 
+    private final Time time;
+
+    private SafeDeserializerMetrics metrics;
+
+    private SafeDeserializerConfig config = new SafeDeserializerConfig(Collections.emptyMap());
+
+    private ErrorRateLimiter logLimiter;
+
+    private Map<String, DeserializationCircuitBreaker> circuitBreakers;
+
+    private final LongAdder errorsSinceSummary = new LongAdder();
+
+    private final LongAdder notLoggedSinceSummary = new LongAdder();
+
+    private final AtomicLong lastSummaryMs;
+
     /**
      * Creates a new {@link SafeDeserializer} instance.
      *
@@ -43,7 +74,7 @@ public class SafeDeserializer<T> implements Deserializer<T> {
      */
     public SafeDeserializer(final Deserializer<T> deserializer,
                             final T defaultValue) {
-        this(deserializer, defaultValue, null);
+        this(deserializer, defaultValue, null, Time.SYSTEM);
     }
 
     /**
@@ -53,7 +84,7 @@ public class SafeDeserializer<T> implements Deserializer<T> {
      */
     public SafeDeserializer(final Deserializer<T> deserializer,
                             final Class<T> type) {
-        this(deserializer, null, type);
+        this(deserializer, null, type, Time.SYSTEM);
     }
 
     /**
@@ -61,12 +92,17 @@ public class SafeDeserializer<T> implements Deserializer<T> {
      *
      * @param deserializer  the {@link Deserializer} to delegate.
      */
-    private SafeDeserializer(final Deserializer<T> deserializer,
-                             final T defaultValue,
-                             final Class<T> type) {
+    SafeDeserializer(final Deserializer<T> deserializer,
+                     final T defaultValue,
+                     final Class<T> type,
+                     final Time time) {
         this.deserializer = Objects.requireNonNull(deserializer, "deserializer cannot be null");
         this.defaultObject = defaultValue;
         this.type = type;
+        this.time = Objects.requireNonNull(time, "time cannot be null");
+        this.metrics = new SafeDeserializerMetrics(time);
+        this.lastSummaryMs = new AtomicLong(time.milliseconds());
+        this.logLimiter = new ErrorRateLimiter(config.logMaxPerSecond(), time);
     }
 
     /**
@@ -77,24 +113,42 @@ public class SafeDeserializer<T> implements Deserializer<T> {
     public void configure(final Map<String, ?> configs, final boolean isKey) {
         this.deserializer.configure(configs, isKey);
         if (type != null) {
-            this.defaultObject = (T) new SafeDeserializerConfig(type, configs).defaultObject();
+            this.config = new SafeDeserializerConfig(type, configs);
+            this.defaultObject = (T) config.defaultObject();
+        } else {
+            this.config = new SafeDeserializerConfig(configs);
+        }
+        this.logLimiter = new ErrorRateLimiter(config.logMaxPerSecond(), time);
+        this.circuitBreakers = config.isCircuitBreakerEnable() ? new ConcurrentHashMap<>() : null;
+
+        // the application id is passed by Kafka Streams when the deserializer is configured as a default serde.
+        final Object applicationId = configs.get(StreamsConfig.APPLICATION_ID_CONFIG);
+        if (applicationId != null) {
+            this.metrics = SafeDeserializerMetrics.forApplication(applicationId.toString(), isKey);
         }
     }
 
+    /**
+     * Gets the error counters of this deserializer.
+     *
+     * @return  the {@link SafeDeserializerMetrics}.
+     */
+    public SafeDeserializerMetrics metrics() {
+        return metrics;
+    }
+
     /**
      * {@inheritDoc
      */
     @Override
     public T deserialize(final String topic, final byte[] data) {
+        final T value;
         try {
-            return this.deserializer.deserialize(topic, data);
+            value = this.deserializer.deserialize(topic, data);
         } catch (Throwable t) {
-            LOG.error(
-                "Unexpected exception occurred during deserialization: {}. Returned default object.",
-                t.getMessage()
-            );
-            return defaultObject;
+            return onError(topic, t);
         }
+        return onSuccess(topic, value);
     }
 
     /**
@@ -102,14 +156,77 @@ public class SafeDeserializer<T> implements Deserializer<T> {
      */
     @Override
     public T deserialize(final String topic, final Headers headers, final byte[] data) {
+        final T value;
         try {
-            return this.deserializer.deserialize(topic, headers, data);
+            value = this.deserializer.deserialize(topic, headers, data);
         } catch (Throwable t) {
+            return onError(topic, t);
+        }
+        return onSuccess(topic, value);
+    }
+
+    private T onSuccess(final String topic, final T value) {
+        metrics.recordSuccess(topic);
+        final DeserializationCircuitBreaker breaker = circuitBreakerFor(topic);
+        if (breaker != null) {
+            breaker.recordSuccess();
+        }
+        return value;
+    }
+
+    private T onError(final String topic, final Throwable t) {
+        metrics.recordError(topic);
+        final DeserializationCircuitBreaker breaker = circuitBreakerFor(topic);
+        if (breaker != null && breaker.recordError()) {
+            throw new DeserializationCircuitBreakerException(
+                "Deserialization error ratio for topic '" + topic + "' stayed above "
+                + config.circuitBreakerThreshold() + " for more than " + config.circuitBreakerWindowMs()
+                + "ms (total errors=" + metrics.errors(topic) + ")", t
+            );
+        }
+
+        errorsSinceSummary.increment();
+        if (logLimiter.tryAcquire(String.valueOf(topic))) {
             LOG.error(
-                "Unexpected exception occurred during deserialization: {}. Returned default object.",
+                "Unexpected exception occurred during deserialization for topic {}: {}. Returned default object.",
+                topic,
                 t.getMessage()
             );
-            return defaultObject;
+        } else {
+            notLoggedSinceSummary.increment();
+        }
+        maybeLogSummary();
+        return defaultObject;
+    }
+
+    private DeserializationCircuitBreaker circuitBreakerFor(final String topic) {
+        final Map<String, DeserializationCircuitBreaker> breakers = circuitBreakers;
+        if (breakers == null) return null;
+        return breakers.computeIfAbsent(String.valueOf(topic), k -> {
+            final DeserializationCircuitBreaker breaker = new DeserializationCircuitBreaker(
+                config.circuitBreakerThreshold(),
+                config.circuitBreakerWindowMs(),
+                config.circuitBreakerMinRecords(),
+                time);
+            metrics.addCircuitBreaker(k, breaker);
+            return breaker;
+        });
+    }
+
+    private void maybeLogSummary() {
+        final long now = time.milliseconds();
+        final long last = lastSummaryMs.get();
+        if (now - last < config.logSummaryIntervalMs() || !lastSummaryMs.compareAndSet(last, now)) return;
+
+        final long errors = errorsSinceSummary.sumThenReset();
+        final long notLogged = notLoggedSinceSummary.sumThenReset();
+        if (notLogged > 0) {
+            LOG.warn(
+                "{} deserialization errors occurred during the last {}ms ({} were not logged).",
+                errors,
+                now - last,
+                notLogged
+            );
         }
     }
 
@@ -118,6 +235,10 @@ public class SafeDeserializer<T> implements Deserializer<T> {
      */
     @Override
     public void close() {
+        final Map<String, DeserializationCircuitBreaker> breakers = circuitBreakers;
+        if (breakers != null) {
+            breakers.forEach(metrics::removeCircuitBreaker);
+        }
         this.deserializer.close();
     }
 }
@@ -32,7 +32,52 @@ public class SafeDeserializerConfig extends AbstractConfig {
     public static final String SAFE_DESERIALIZER_DEFAULT_VALUE_DOC    = "The default object value to return when an " +
             "input record cannot be de-serialized (default is null)";
 
+    public static final String SAFE_DESERIALIZER_LOG_MAX_PER_SECOND_CONFIG = "safe.deserializer.log.max.per.second";
+    public static final String SAFE_DESERIALIZER_LOG_MAX_PER_SECOND_DOC = "The maximum number of deserialization " +
+            "errors logged per second for each topic. Errors exceeding this limit are only counted and reported " +
+            "in a periodic summary line.";
+    public static final double SAFE_DESERIALIZER_LOG_MAX_PER_SECOND_DEFAULT = 1.0;
+
+    public static final String SAFE_DESERIALIZER_LOG_SUMMARY_INTERVAL_MS_CONFIG =
+            "safe.deserializer.log.summary.interval.ms";
+    public static final String SAFE_DESERIALIZER_LOG_SUMMARY_INTERVAL_MS_DOC = "The minimum interval in " +
+            "milliseconds between two summary lines reporting the number of errors that were not logged.";
+    public static final long SAFE_DESERIALIZER_LOG_SUMMARY_INTERVAL_MS_DEFAULT = 60_000L;
+
+    public static final String SAFE_DESERIALIZER_CIRCUIT_BREAKER_ENABLE_CONFIG =
+            "safe.deserializer.circuit.breaker.enable";
+    public static final String SAFE_DESERIALIZER_CIRCUIT_BREAKER_ENABLE_DOC = "Enable the circuit breaker which " +
+            "fails deserialization when the error ratio of a topic stays above the threshold for the configured " +
+            "window.";
+
+    public static final String SAFE_DESERIALIZER_CIRCUIT_BREAKER_THRESHOLD_CONFIG =
+            "safe.deserializer.circuit.breaker.error.ratio.threshold";
+    public static final String SAFE_DESERIALIZER_CIRCUIT_BREAKER_THRESHOLD_DOC = "The ratio of records failing " +
+            "deserialization, between 0 and 1, above which the circuit breaker may open.";
+    public static final double SAFE_DESERIALIZER_CIRCUIT_BREAKER_THRESHOLD_DEFAULT = 0.5;
+
+    public static final String SAFE_DESERIALIZER_CIRCUIT_BREAKER_WINDOW_MS_CONFIG =
+            "safe.deserializer.circuit.breaker.window.ms";
+    public static final String SAFE_DESERIALIZER_CIRCUIT_BREAKER_WINDOW_MS_DOC = "The time in milliseconds " +
+            "during which the error ratio must stay above the threshold before opening the circuit breaker.";
+    public static final long SAFE_DESERIALIZER_CIRCUIT_BREAKER_WINDOW_MS_DEFAULT = 60_000L;
+
+    public static final String SAFE_DESERIALIZER_CIRCUIT_BREAKER_MIN_RECORDS_CONFIG =
+            "safe.deserializer.circuit.breaker.min.records";
+    public static final String SAFE_DESERIALIZER_CIRCUIT_BREAKER_MIN_RECORDS_DOC = "The minimum number of " +
+            "records deserialized within a second for the error ratio of that second to be evaluated.";
+    public static final int SAFE_DESERIALIZER_CIRCUIT_BREAKER_MIN_RECORDS_DEFAULT = 10;
+
     private final Class<?> objectValueType;
+    /**
+     * Creates a new {@link SafeDeserializerConfig} instance which doesn't support default object.
+     * @param originals the originals configuration.
+     */
+    public SafeDeserializerConfig(final Map<?, ?> originals) {
+        super(baseConfigDef(), originals);
+        this.objectValueType = null;
+    }
+
     /**
      * Creates a new {@link SafeDeserializerConfig} instance.
      * @param originals the originals configuration.
@@ -46,13 +91,58 @@ public class SafeDeserializerConfig extends AbstractConfig {
         return mayConvert(get(SAFE_DESERIALIZER_DEFAULT_VALUE_CONFIG), objectValueType);
     }
 
+    public double logMaxPerSecond() {
+        return getDouble(SAFE_DESERIALIZER_LOG_MAX_PER_SECOND_CONFIG);
+    }
+
+    public long logSummaryIntervalMs() {
+        return getLong(SAFE_DESERIALIZER_LOG_SUMMARY_INTERVAL_MS_CONFIG);
+    }
+
+    public boolean isCircuitBreakerEnable() {
+        return getBoolean(SAFE_DESERIALIZER_CIRCUIT_BREAKER_ENABLE_CONFIG);
+    }
+
+    public double circuitBreakerThreshold() {
+        return getDouble(SAFE_DESERIALIZER_CIRCUIT_BREAKER_THRESHOLD_CONFIG);
+    }
+
+    public long circuitBreakerWindowMs() {
+        return getLong(SAFE_DESERIALIZER_CIRCUIT_BREAKER_WINDOW_MS_CONFIG);
+    }
+
+    public int circuitBreakerMinRecords() {
+        return getInt(SAFE_DESERIALIZER_CIRCUIT_BREAKER_MIN_RECORDS_CONFIG);
+    }
+
     public static ConfigDef configDef(final ConfigDef.Type type) {
 
-        return new ConfigDef()
+        return baseConfigDef()
             .define(SAFE_DESERIALIZER_DEFAULT_VALUE_CONFIG, type, null, ConfigDef.Importance.HIGH,
                     SAFE_DESERIALIZER_DEFAULT_VALUE_DOC);
     }
 
+    public static ConfigDef baseConfigDef() {
+        return new ConfigDef()
+            .define(SAFE_DESERIALIZER_LOG_MAX_PER_SECOND_CONFIG, ConfigDef.Type.DOUBLE,
+                    SAFE_DESERIALIZER_LOG_MAX_PER_SECOND_DEFAULT, ConfigDef.Range.atLeast(0),
+                    ConfigDef.Importance.LOW, SAFE_DESERIALIZER_LOG_MAX_PER_SECOND_DOC)
+            .define(SAFE_DESERIALIZER_LOG_SUMMARY_INTERVAL_MS_CONFIG, ConfigDef.Type.LONG,
+                    SAFE_DESERIALIZER_LOG_SUMMARY_INTERVAL_MS_DEFAULT, ConfigDef.Range.atLeast(0),
+                    ConfigDef.Importance.LOW, SAFE_DESERIALIZER_LOG_SUMMARY_INTERVAL_MS_DOC)
+            .define(SAFE_DESERIALIZER_CIRCUIT_BREAKER_ENABLE_CONFIG, ConfigDef.Type.BOOLEAN, false,
+                    ConfigDef.Importance.MEDIUM, SAFE_DESERIALIZER_CIRCUIT_BREAKER_ENABLE_DOC)
+            .define(SAFE_DESERIALIZER_CIRCUIT_BREAKER_THRESHOLD_CONFIG, ConfigDef.Type.DOUBLE,
+                    SAFE_DESERIALIZER_CIRCUIT_BREAKER_THRESHOLD_DEFAULT, ConfigDef.Range.between(0, 1),
+                    ConfigDef.Importance.MEDIUM, SAFE_DESERIALIZER_CIRCUIT_BREAKER_THRESHOLD_DOC)
+            .define(SAFE_DESERIALIZER_CIRCUIT_BREAKER_WINDOW_MS_CONFIG, ConfigDef.Type.LONG,
+                    SAFE_DESERIALIZER_CIRCUIT_BREAKER_WINDOW_MS_DEFAULT, ConfigDef.Range.atLeast(0),
+                    ConfigDef.Importance.MEDIUM, SAFE_DESERIALIZER_CIRCUIT_BREAKER_WINDOW_MS_DOC)
+            .define(SAFE_DESERIALIZER_CIRCUIT_BREAKER_MIN_RECORDS_CONFIG, ConfigDef.Type.INT,
+                    SAFE_DESERIALIZER_CIRCUIT_BREAKER_MIN_RECORDS_DEFAULT, ConfigDef.Range.atLeast(1),
+                    ConfigDef.Importance.LOW, SAFE_DESERIALIZER_CIRCUIT_BREAKER_MIN_RECORDS_DOC);
+    }
+
     static private <T> Object mayConvert(final Object o, final Class<T> type) {
         if (o == null) return null;
 
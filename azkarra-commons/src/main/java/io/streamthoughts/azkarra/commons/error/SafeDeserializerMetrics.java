@@ -0,0 +1,245 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.commons.error;
+
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Gauge;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.apache.kafka.common.utils.Time;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * The per-topic counters of records deserialized, and failing deserialization, by a {@link SafeDeserializer}.
+ *
+ * For each topic, the total and the per-second rate of records and errors are recorded along with the error ratio
+ * over the rate window, and whether the circuit breaker of any deserializer is open. A deserializer configured
+ * with an {@code application.id} shares its counters with all the key (or value) deserializers of the same
+ * application. Those counters are exposed along with the metrics of the streams instance, under the group
+ * {@value #GROUP}, see {@link #metrics(String)}.
+ */
+public class SafeDeserializerMetrics {
+
+    public static final String GROUP = "safe-deserializer-metrics";
+
+    private static final String SERDE_TAG = "serde";
+    private static final String TOPIC_TAG = "topic";
+
+    private static final Map<String, Map<String, SafeDeserializerMetrics>> APPLICATIONS = new ConcurrentHashMap<>();
+
+    private final String serde;
+
+    private final Metrics registry;
+
+    private final Map<String, TopicCounters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the counters shared by the key or value deserializers of the specified application.
+     *
+     * @param applicationId the application id.
+     * @param isKey         {@code true} for the key deserializers.
+     * @return              the {@link SafeDeserializerMetrics}.
+     */
+    static SafeDeserializerMetrics forApplication(final String applicationId, final boolean isKey) {
+        return APPLICATIONS
+            .computeIfAbsent(applicationId, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(serde(isKey), serde -> new SafeDeserializerMetrics(serde, Time.SYSTEM));
+    }
+
+    /**
+     * Gets the metrics of all the deserializers of the specified application.
+     *
+     * @param applicationId the application id.
+     * @return              the metrics, indexed by name.
+     */
+    public static Map<MetricName, Metric> metrics(final String applicationId) {
+        final Map<String, SafeDeserializerMetrics> serdes = APPLICATIONS.get(applicationId);
+        if (serdes == null) return Collections.emptyMap();
+        final Map<MetricName, Metric> metrics = new HashMap<>();
+        for (SafeDeserializerMetrics m : serdes.values()) {
+            for (TopicCounters c : m.counters.values()) {
+                c.metrics.forEach(metric -> metrics.put(metric.metricName(), metric));
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Creates a new {@link SafeDeserializerMetrics} instance.
+     *
+     * @param time  the {@link Time} used for computing rates.
+     */
+    SafeDeserializerMetrics(final Time time) {
+        this("value", time);
+    }
+
+    private SafeDeserializerMetrics(final String serde, final Time time) {
+        this.serde = serde;
+        this.registry = new Metrics(time);
+    }
+
+    void recordSuccess(final String topic) {
+        final TopicCounters c = countersFor(topic);
+        c.records.increment();
+        c.recordsSensor.record();
+    }
+
+    void recordError(final String topic) {
+        final TopicCounters c = countersFor(topic);
+        c.records.increment();
+        c.errors.increment();
+        c.recordsSensor.record();
+        c.errorsSensor.record();
+    }
+
+    /**
+     * Registers the circuit breaker of a deserializer for the specified topic, so that its state is reported.
+     *
+     * @param topic     the topic name.
+     * @param breaker   the {@link DeserializationCircuitBreaker}.
+     */
+    void addCircuitBreaker(final String topic, final DeserializationCircuitBreaker breaker) {
+        countersFor(topic).breakers.add(breaker);
+    }
+
+    /**
+     * Unregisters the circuit breaker of a closed deserializer.
+     *
+     * @param topic     the topic name.
+     * @param breaker   the {@link DeserializationCircuitBreaker}.
+     */
+    void removeCircuitBreaker(final String topic, final DeserializationCircuitBreaker breaker) {
+        final TopicCounters c = counters.get(topic);
+        if (c != null) {
+            c.breakers.remove(breaker);
+        }
+    }
+
+    /**
+     * @param topic the topic name.
+     * @return      the total number of records deserialized for the specified topic.
+     */
+    public long records(final String topic) {
+        final TopicCounters c = counters.get(topic);
+        return c != null ? c.records.sum() : 0L;
+    }
+
+    /**
+     * @param topic the topic name.
+     * @return      the total number of records that failed deserialization for the specified topic.
+     */
+    public long errors(final String topic) {
+        final TopicCounters c = counters.get(topic);
+        return c != null ? c.errors.sum() : 0L;
+    }
+
+    private TopicCounters countersFor(final String topic) {
+        final String key = topic != null ? topic : "unknown";
+        final TopicCounters c = counters.get(key);
+        return c != null ? c : counters.computeIfAbsent(key, t -> new TopicCounters(registry, serde, t));
+    }
+
+    private static String serde(final boolean isKey) {
+        return isKey ? "key" : "value";
+    }
+
+    private static final class TopicCounters {
+
+        private final LongAdder records = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final Sensor recordsSensor;
+        private final Sensor errorsSensor;
+        private final Set<DeserializationCircuitBreaker> breakers = ConcurrentHashMap.newKeySet();
+        private final List<Metric> metrics = new ArrayList<>();
+
+        TopicCounters(final Metrics registry, final String serde, final String topic) {
+            final Map<String, String> tags = Map.of(SERDE_TAG, serde, TOPIC_TAG, topic);
+            metrics.add(new CounterMetric(
+                new MetricName("records-total", GROUP, "The total number of records deserialized", tags),
+                records::sum));
+            metrics.add(new CounterMetric(
+                new MetricName("errors-total", GROUP, "The total number of records that failed deserialization", tags),
+                errors::sum));
+
+            final MetricName recordsRate = registry.metricName(
+                "records-rate", GROUP, "The number of records deserialized per second", tags);
+            recordsSensor = registry.sensor(serde + "." + topic + ".records");
+            recordsSensor.add(recordsRate, new Rate());
+
+            final MetricName errorsRate = registry.metricName(
+                "errors-rate", GROUP, "The number of records that failed deserialization per second", tags);
+            errorsSensor = registry.sensor(serde + "." + topic + ".errors");
+            errorsSensor.add(errorsRate, new Rate());
+
+            registry.addMetric(
+                registry.metricName("error-ratio", GROUP, "The ratio of records that failed deserialization", tags),
+                (Gauge<Double>) (config, now) -> {
+                    final double rate = (double) registry.metric(recordsRate).metricValue();
+                    return rate > 0 ? (double) registry.metric(errorsRate).metricValue() / rate : 0.0;
+                });
+            registry.addMetric(
+                registry.metricName("circuit-breaker-open", GROUP,
+                    "Whether the circuit breaker of a deserializer is open (1) or not (0)", tags),
+                (Gauge<Integer>) (config, now) -> breakers.stream().anyMatch(DeserializationCircuitBreaker::isOpen)
+                    ? 1 : 0);
+
+            for (String name : List.of("records-rate", "errors-rate", "error-ratio", "circuit-breaker-open")) {
+                metrics.add(registry.metric(registry.metricName(name, GROUP, tags)));
+            }
+        }
+    }
+
+    private static final class CounterMetric implements Metric {
+
+        private final MetricName name;
+        private final LongSupplier count;
+
+        CounterMetric(final MetricName name, final LongSupplier count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        @Override
+        public MetricName metricName() {
+            return name;
+        }
+
+        @Override
+        @Deprecated
+        public double value() {
+            return count.getAsLong();
+        }
+
+        @Override
+        public Object metricValue() {
+            return count.getAsLong();
+        }
+    }
+}
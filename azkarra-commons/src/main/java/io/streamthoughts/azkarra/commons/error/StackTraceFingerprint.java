@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.commons.error;
+
+/**
+ * Computes a fingerprint of the stack trace of a {@link Throwable} without rendering it.
+ *
+ * Two exceptions of the same type thrown from the same code path have the same fingerprint,
+ * whatever their messages.
+ */
+final class StackTraceFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final int MAX_CAUSE_DEPTH = 8;
+
+    private StackTraceFingerprint() {
+    }
+
+    /**
+     * Computes the fingerprint of the specified throwable, including its causes.
+     *
+     * @param throwable the {@link Throwable}.
+     * @return          the fingerprint as an hexadecimal string.
+     */
+    static String of(final Throwable throwable) {
+        long hash = FNV_OFFSET_BASIS;
+        Throwable current = throwable;
+        int depth = 0;
+        while (current != null && depth < MAX_CAUSE_DEPTH) {
+            hash = update(hash, current.getClass().getName().hashCode());
+            for (StackTraceElement element : current.getStackTrace()) {
+                hash = update(hash, element.getClassName().hashCode());
+                hash = update(hash, element.getMethodName().hashCode());
+                hash = update(hash, element.getLineNumber());
+            }
+            current = current.getCause() != current ? current.getCause() : null;
+            depth++;
+        }
+        return Long.toHexString(hash);
+    }
+
+    private static long update(final long hash, final int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
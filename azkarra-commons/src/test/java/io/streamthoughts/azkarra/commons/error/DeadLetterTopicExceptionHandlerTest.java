@@ -19,23 +19,37 @@
 package io.streamthoughts.azkarra.commons.error;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.MockProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.MetricName;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.errors.DeserializationExceptionHandler;
 import org.apache.kafka.streams.errors.StreamsException;
 import org.apache.kafka.streams.processor.StreamPartitioner;
+import org.apache.kafka.streams.processor.TaskId;
 import org.apache.kafka.streams.processor.internals.ProcessorContextImpl;
 import org.apache.kafka.streams.processor.internals.RecordCollector;
+import org.apache.kafka.streams.processor.internals.metrics.StreamsMetricsImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DeadLetterTopicExceptionHandlerTest {
 
@@ -85,6 +99,129 @@ public class DeadLetterTopicExceptionHandlerTest {
             new String(collector.capturedHeaders.lastHeader(ExceptionHeader.ERROR_EXCEPTION_CLASS_NAME).value()));
     }
 
+    @Test
+    public void shouldSendStackTraceOncePerFingerprintGivenHighThroughputMode() {
+        handler.configure(Map.of(
+            StreamsConfig.APPLICATION_ID_CONFIG, "test-app",
+            DeadLetterTopicExceptionHandlerConfig.HIGH_THROUGHPUT_ENABLE_CONFIG, true
+        ));
+
+        final List<Headers> captured = new ArrayList<>();
+        for (String message : List.of("first", "second")) {
+            handler.handle(context, newRecord(), newException(message));
+            captured.add(collector.capturedHeaders);
+        }
+        Headers first = captured.get(0);
+        Headers second = captured.get(1);
+
+        Assertions.assertNotNull(first.lastHeader(ExceptionHeader.ERROR_EXCEPTION_STACKTRACE));
+        Assertions.assertNull(second.lastHeader(ExceptionHeader.ERROR_EXCEPTION_STACKTRACE));
+        Assertions.assertArrayEquals(
+            first.lastHeader(ExceptionHeader.ERROR_EXCEPTION_STACKTRACE_FINGERPRINT).value(),
+            second.lastHeader(ExceptionHeader.ERROR_EXCEPTION_STACKTRACE_FINGERPRINT).value());
+        Assertions.assertEquals("second",
+            new String(second.lastHeader(ExceptionHeader.ERROR_EXCEPTION_MESSAGE).value()));
+    }
+
+    @Test
+    public void shouldFailGivenCircuitBreakerException() {
+        Assertions.assertEquals(
+            DeserializationExceptionHandler.DeserializationHandlerResponse.FAIL,
+            handler.handle(context, newRecord(), new DeserializationCircuitBreakerException(TEST_ERROR_MESSAGE)));
+        Assertions.assertEquals(
+            DeserializationExceptionHandler.DeserializationHandlerResponse.CONTINUE,
+            handler.handle(context, newRecord(), new StreamsException(TEST_ERROR_MESSAGE)));
+    }
+
+    @Test
+    public void shouldDropRecordsGivenRateLimitPerExceptionClass() {
+        handler.configure(Map.of(
+            StreamsConfig.APPLICATION_ID_CONFIG, "test-app",
+            DeadLetterTopicExceptionHandlerConfig.MAX_RECORDS_PER_SECOND_CONFIG, 1.0
+        ));
+
+        handler.handle(context, newRecord(), new StreamsException(TEST_ERROR_MESSAGE));
+        handler.handle(context, newRecord(), new StreamsException(TEST_ERROR_MESSAGE));
+        handler.handle(context, newRecord(), new IllegalStateException(TEST_ERROR_MESSAGE));
+
+        Assertions.assertEquals(3, handler.metrics().rejected());
+        Assertions.assertEquals(2, handler.metrics().sent());
+        Assertions.assertEquals(1, handler.metrics().dropped());
+    }
+
+    @Test
+    public void shouldRemoveSensorsGivenTaskOrHandlerClosed() {
+        final Metrics registry = new Metrics();
+        final StreamsMetricsImpl streamsMetrics = new StreamsMetricsImpl(
+            registry, "test-client", StreamsConfig.METRICS_LATEST);
+        final String threadId = Thread.currentThread().getName();
+        final MetricName rejectedTotal = new MetricName("rejected-total", DeadLetterTopicMetrics.GROUP, "",
+            Map.of("thread-id", threadId, "task-id", "0_0"));
+        Mockito.when(context.metrics()).thenReturn(streamsMetrics);
+        Mockito.when(context.taskId()).thenReturn(new TaskId(0, 0));
+
+        handler.handle(context, newRecord(), new StreamsException(TEST_ERROR_MESSAGE));
+        Assertions.assertEquals(1.0, registry.metric(rejectedTotal).metricValue());
+        streamsMetrics.removeAllTaskLevelSensors(threadId, "0_0");
+        Assertions.assertNull(registry.metric(rejectedTotal));
+
+        final DeadLetterTopicExceptionHandler other = new DeadLetterTopicExceptionHandler();
+        other.configure(Collections.singletonMap(StreamsConfig.APPLICATION_ID_CONFIG, "test-app"));
+        other.handle(context, newRecord(), new StreamsException(TEST_ERROR_MESSAGE));
+        Assertions.assertNotNull(registry.metric(rejectedTotal));
+        other.close();
+        Assertions.assertNull(registry.metric(rejectedTotal));
+        Assertions.assertEquals(1, other.metrics().rejected());
+        registry.close();
+    }
+
+    @Test
+    public void shouldShareInternalProducerAndSendStackTraceUntilAcknowledged() {
+        final MockProducer<byte[], byte[]> producer = new MockProducer<>(
+            false, new ByteArraySerializer(), new ByteArraySerializer());
+        DeadLetterTopicProducers.getOrCreate("test-shared-app", () -> producer);
+
+        final Map<String, Object> configs = Map.of(
+            StreamsConfig.APPLICATION_ID_CONFIG, "test-shared-app",
+            DeadLetterTopicExceptionHandlerConfig.HIGH_THROUGHPUT_ENABLE_CONFIG, true,
+            DeadLetterTopicExceptionHandlerConfig.DEAD_LETTER_PRODUCER_CONFIG + "bootstrap.servers", "dummy:9092"
+        );
+        final DeadLetterTopicExceptionHandler first = new DeadLetterTopicExceptionHandler();
+        first.configure(configs);
+        final DeadLetterTopicExceptionHandler second = new DeadLetterTopicExceptionHandler();
+        second.configure(configs);
+
+        // exceptions are created from the same frame to share the same fingerprint.
+        final List<StreamsException> errors = Stream.of("first", "second", "third")
+            .map(DeadLetterTopicExceptionHandlerTest::newException)
+            .collect(Collectors.toList());
+        first.handle(context, newRecord(), errors.get(0));
+        second.handle(context, newRecord(), errors.get(1));
+        // the first record is not acknowledged yet, so the stack trace is sent again.
+        Assertions.assertEquals(2, producer.history().size());
+        Assertions.assertNotNull(stackTrace(producer.history().get(1)));
+
+        producer.completeNext();
+        first.handle(context, newRecord(), errors.get(2));
+        Assertions.assertNull(stackTrace(producer.history().get(2)));
+        Assertions.assertEquals(1, first.metrics().sent());
+
+        DeadLetterTopicProducers.close("test-shared-app", Duration.ZERO);
+        Assertions.assertTrue(producer.closed());
+    }
+
+    private static Header stackTrace(final ProducerRecord<byte[], byte[]> record) {
+        return record.headers().lastHeader(ExceptionHeader.ERROR_EXCEPTION_STACKTRACE);
+    }
+
+    private static ConsumerRecord<byte[], byte[]> newRecord() {
+        return new ConsumerRecord<>("test-topic", 0, 1L, new byte[0], new byte[0]);
+    }
+
+    private static StreamsException newException(final String message) {
+        return new StreamsException(message);
+    }
+
     private static class MockRecordCollector implements RecordCollector {
 
         public String capturedTopic;
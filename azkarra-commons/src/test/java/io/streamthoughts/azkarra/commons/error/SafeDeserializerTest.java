@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.commons.error;
+
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.apache.kafka.common.serialization.LongSerializer;
+import org.apache.kafka.common.utils.Time;
+import org.apache.kafka.streams.StreamsConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static io.streamthoughts.azkarra.commons.error.SafeDeserializerConfig.SAFE_DESERIALIZER_CIRCUIT_BREAKER_ENABLE_CONFIG;
+import static io.streamthoughts.azkarra.commons.error.SafeDeserializerConfig.SAFE_DESERIALIZER_CIRCUIT_BREAKER_MIN_RECORDS_CONFIG;
+import static io.streamthoughts.azkarra.commons.error.SafeDeserializerConfig.SAFE_DESERIALIZER_CIRCUIT_BREAKER_THRESHOLD_CONFIG;
+import static io.streamthoughts.azkarra.commons.error.SafeDeserializerConfig.SAFE_DESERIALIZER_CIRCUIT_BREAKER_WINDOW_MS_CONFIG;
+
+public class SafeDeserializerTest {
+
+    private static final String TOPIC = "t";
+    private static final byte[] CORRUPTED_RECORD = "bad".getBytes();
+    private static final byte[] VALID_RECORD = new LongSerializer().serialize(TOPIC, 42L);
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    private SafeDeserializer<Long> deserializer;
+
+    @BeforeEach
+    public void setUp() {
+        final Time time = Mockito.mock(Time.class);
+        Mockito.when(time.milliseconds()).thenAnswer(invocation -> now.get());
+        deserializer = new SafeDeserializer<>(new LongDeserializer(), -1L, null, time);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deserializer.close();
+    }
+
+    @Test
+    public void shouldCountRecordsAndErrorsPerTopic() {
+        deserializer.configure(Map.of(), false);
+        Assertions.assertEquals(42L, deserializer.deserialize(TOPIC, VALID_RECORD));
+        Assertions.assertEquals(-1L, deserializer.deserialize(TOPIC, CORRUPTED_RECORD));
+        Assertions.assertEquals(-1L, deserializer.deserialize("other", CORRUPTED_RECORD));
+
+        Assertions.assertEquals(2L, deserializer.metrics().records(TOPIC));
+        Assertions.assertEquals(1L, deserializer.metrics().errors(TOPIC));
+        Assertions.assertEquals(1L, deserializer.metrics().errors("other"));
+    }
+
+    @Test
+    public void shouldOpenCircuitBreakerGivenErrorRatioAboveThresholdForWindow() {
+        deserializer.configure(Map.of(
+            SAFE_DESERIALIZER_CIRCUIT_BREAKER_ENABLE_CONFIG, true,
+            SAFE_DESERIALIZER_CIRCUIT_BREAKER_THRESHOLD_CONFIG, 0.5,
+            SAFE_DESERIALIZER_CIRCUIT_BREAKER_WINDOW_MS_CONFIG, 2000L,
+            SAFE_DESERIALIZER_CIRCUIT_BREAKER_MIN_RECORDS_CONFIG, 2
+        ), false);
+
+        // error ratio is below threshold : the breaker never opens.
+        for (int i = 0; i < 5; i++) {
+            deserializer.deserialize(TOPIC, VALID_RECORD);
+            deserializer.deserialize(TOPIC, VALID_RECORD);
+            deserializer.deserialize(TOPIC, CORRUPTED_RECORD);
+            now.addAndGet(1000);
+        }
+
+        // error ratio is above threshold during 2 seconds.
+        deserializer.deserialize(TOPIC, CORRUPTED_RECORD);
+        deserializer.deserialize(TOPIC, CORRUPTED_RECORD);
+        now.addAndGet(1000);
+        deserializer.deserialize(TOPIC, CORRUPTED_RECORD);
+        deserializer.deserialize(TOPIC, CORRUPTED_RECORD);
+        now.addAndGet(1000);
+        // a valid record never opens the circuit breaker.
+        Assertions.assertEquals(42L, deserializer.deserialize(TOPIC, VALID_RECORD));
+        Assertions.assertThrows(
+            DeserializationCircuitBreakerException.class,
+            () -> deserializer.deserialize(TOPIC, CORRUPTED_RECORD));
+
+        // once open, the circuit breaker stays open.
+        now.addAndGet(1000);
+        Assertions.assertThrows(
+            DeserializationCircuitBreakerException.class,
+            () -> deserializer.deserialize(TOPIC, CORRUPTED_RECORD));
+    }
+
+    @Test
+    public void shouldShareCountersGivenDeserializersOfSameApplication() {
+        deserializer.configure(Map.of(StreamsConfig.APPLICATION_ID_CONFIG, "test-app"), false);
+        SafeDeserializer<Long> other = new SafeDeserializer<>(new LongDeserializer(), -1L);
+        other.configure(Map.of(StreamsConfig.APPLICATION_ID_CONFIG, "test-app"), false);
+
+        deserializer.deserialize(TOPIC, CORRUPTED_RECORD);
+        other.deserialize(TOPIC, VALID_RECORD);
+        other.close();
+
+        final Map<String, Object> values = SafeDeserializerMetrics.metrics("test-app").entrySet()
+            .stream()
+            .collect(Collectors.toMap(e -> e.getKey().name(), e -> e.getValue().metricValue()));
+        Assertions.assertEquals(2L, values.get("records-total"));
+        Assertions.assertEquals(1L, values.get("errors-total"));
+    }
+
+    @Test
+    public void shouldReportRatesAndCircuitBreakerState() {
+        deserializer.configure(Map.of(
+            StreamsConfig.APPLICATION_ID_CONFIG, "test-app-rates",
+            SAFE_DESERIALIZER_CIRCUIT_BREAKER_ENABLE_CONFIG, true,
+            SAFE_DESERIALIZER_CIRCUIT_BREAKER_THRESHOLD_CONFIG, 0.5,
+            SAFE_DESERIALIZER_CIRCUIT_BREAKER_WINDOW_MS_CONFIG, 2000L,
+            SAFE_DESERIALIZER_CIRCUIT_BREAKER_MIN_RECORDS_CONFIG, 1
+        ), false);
+
+        deserializer.deserialize(TOPIC, VALID_RECORD);
+        deserializer.deserialize(TOPIC, CORRUPTED_RECORD);
+        Map<String, Object> values = metricValues("test-app-rates");
+        Assertions.assertTrue((double) values.get("records-rate") > 0);
+        Assertions.assertEquals(0.5, (double) values.get("error-ratio"), 0.001);
+        Assertions.assertEquals(0, values.get("circuit-breaker-open"));
+
+        now.addAndGet(1000);
+        deserializer.deserialize(TOPIC, CORRUPTED_RECORD);
+        now.addAndGet(1000);
+        Assertions.assertThrows(
+            DeserializationCircuitBreakerException.class,
+            () -> deserializer.deserialize(TOPIC, CORRUPTED_RECORD));
+        Assertions.assertEquals(1, metricValues("test-app-rates").get("circuit-breaker-open"));
+
+        // the circuit breaker of a closed deserializer is no longer reported.
+        deserializer.close();
+        Assertions.assertEquals(0, metricValues("test-app-rates").get("circuit-breaker-open"));
+    }
+
+    private static Map<String, Object> metricValues(final String applicationId) {
+        return SafeDeserializerMetrics.metrics(applicationId).entrySet()
+            .stream()
+            .collect(Collectors.toMap(e -> e.getKey().name(), e -> e.getValue().metricValue()));
+    }
+}
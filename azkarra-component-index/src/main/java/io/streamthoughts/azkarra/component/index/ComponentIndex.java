@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.component.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+/**
+ * The index of the classes annotated with {@code @Component} or {@code @Factory} which is generated at
+ * compile time by the {@link ComponentIndexProcessor}.
+ *
+ * The index is a UTF-8 text file, located at {@link #LOCATION}, containing one class per line prefixed by
+ * its kind (i.e {@link #COMPONENT} or {@link #FACTORY}). Empty lines and lines starting with {@code #} are ignored.
+ */
+public final class ComponentIndex {
+
+    public static final String LOCATION = "META-INF/azkarra/components.index";
+
+    static final String COMPONENT = "component";
+    static final String FACTORY = "factory";
+
+    private static final String COMMENT = "#";
+
+    private final List<String> components;
+
+    private final List<String> factories;
+
+    /**
+     * Reads the component index of the specified classpath entry.
+     *
+     * Only directories and jar files located on the local file system are supported.
+     *
+     * @param root  the {@link URL} of a classpath entry.
+     * @return      the {@link ComponentIndex}, or {@link Optional#empty()} if the entry contains no index.
+     * @throws IOException  if an error happens while reading the index.
+     */
+    public static Optional<ComponentIndex> read(final URL root) throws IOException {
+        Objects.requireNonNull(root, "root cannot be null");
+        if (!"file".equals(root.getProtocol())) return Optional.empty();
+
+        final Path path;
+        try {
+            path = Paths.get(root.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (Files.isDirectory(path)) {
+            return readFromDirectory(path);
+        }
+        if (Files.isRegularFile(path) && path.toString().endsWith(".jar")) {
+            return readFromJar(path);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<ComponentIndex> readFromDirectory(final Path directory) throws IOException {
+        final Path index = directory.resolve(LOCATION);
+        if (!Files.isRegularFile(index)) return Optional.empty();
+        try (InputStream is = Files.newInputStream(index)) {
+            return Optional.of(read(is));
+        }
+    }
+
+    private static Optional<ComponentIndex> readFromJar(final Path file) throws IOException {
+        try (JarFile jar = new JarFile(file.toFile())) {
+            final ZipEntry entry = jar.getEntry(LOCATION);
+            if (entry == null) return Optional.empty();
+            try (InputStream is = jar.getInputStream(entry)) {
+                return Optional.of(read(is));
+            }
+        }
+    }
+
+    /**
+     * Reads a component index from the specified stream.
+     *
+     * @param is    the {@link InputStream} to read.
+     * @return      a new {@link ComponentIndex}.
+     * @throws IOException  if an error happens while reading the index.
+     */
+    public static ComponentIndex read(final InputStream is) throws IOException {
+        final List<String> components = new ArrayList<>();
+        final List<String> factories = new ArrayList<>();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith(COMMENT)) continue;
+            final int separator = line.indexOf(' ');
+            if (separator < 0) continue;
+            final String kind = line.substring(0, separator);
+            final String className = line.substring(separator + 1).trim();
+            // unknown kinds are ignored for forward compatibility.
+            if (COMPONENT.equals(kind)) {
+                components.add(className);
+            } else if (FACTORY.equals(kind)) {
+                factories.add(className);
+            }
+        }
+        return new ComponentIndex(components, factories);
+    }
+
+    /**
+     * Creates a new {@link ComponentIndex} instance.
+     *
+     * @param components    the binary names of the classes annotated with {@code @Component}.
+     * @param factories     the binary names of the classes annotated with {@code @Factory}.
+     */
+    ComponentIndex(final List<String> components, final List<String> factories) {
+        this.components = Collections.unmodifiableList(components);
+        this.factories = Collections.unmodifiableList(factories);
+    }
+
+    /**
+     * Gets the classes annotated with {@code @Component}.
+     *
+     * @return  the list of binary class names.
+     */
+    public List<String> components() {
+        return components;
+    }
+
+    /**
+     * Gets the classes annotated with {@code @Factory}.
+     *
+     * @return  the list of binary class names.
+     */
+    public List<String> factories() {
+        return factories;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.component.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor which writes the {@link ComponentIndex} of the compiled classes.
+ *
+ * The processor supports all annotations so that an index is generated, even empty, for every compilation;
+ * this allows the component-scan to skip the classpath entries without components.
+ * Other annotations describing a component (e.g. {@code @Named}, {@code @Order}, {@code @Primary},
+ * {@code @Secondary}, {@code @ConditionalOn}) are read when the indexed class is registered.
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    static final String COMPONENT_ANNOTATION = "io.streamthoughts.azkarra.api.annotations.Component";
+    static final String FACTORY_ANNOTATION = "io.streamthoughts.azkarra.api.annotations.Factory";
+
+    private final Set<String> entries = new TreeSet<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+                           final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!roundEnv.errorRaised()) writeIndex();
+        } else {
+            collect(roundEnv, COMPONENT_ANNOTATION, ComponentIndex.COMPONENT);
+            collect(roundEnv, FACTORY_ANNOTATION, ComponentIndex.FACTORY);
+        }
+        // annotations are never claimed so that other processors can handle them.
+        return false;
+    }
+
+    private void collect(final RoundEnvironment roundEnv,
+                         final String annotationName,
+                         final String kind) {
+        final Elements elements = processingEnv.getElementUtils();
+        final TypeElement annotation = elements.getTypeElement(annotationName);
+        // the Azkarra annotations are not available on the compilation classpath.
+        if (annotation == null) return;
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            // methods annotated with @Component are registered through their @Factory class.
+            if (element instanceof TypeElement) {
+                entries.add(kind + " " + elements.getBinaryName((TypeElement) element));
+            }
+        }
+    }
+
+    private void writeIndex() {
+        final Set<String> index = new TreeSet<>(readPreviousEntries());
+        index.addAll(entries);
+        try {
+            final FileObject resource = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.LOCATION);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# Generated by " + ComponentIndexProcessor.class.getName() + "\n");
+                for (String entry : index) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.WARNING,
+                "Cannot write the Azkarra component index, components will be scanned at runtime: " + e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * Reads the entries of the index written by a previous compilation, which are still valid. Incremental
+     * builds only process the modified sources, so the entries of the other classes must be kept.
+     */
+    private Set<String> readPreviousEntries() {
+        final Set<String> previous = new TreeSet<>();
+        try {
+            final FileObject resource = processingEnv.getFiler()
+                .getResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.LOCATION);
+            final ComponentIndex index;
+            try (InputStream is = resource.openInputStream()) {
+                index = ComponentIndex.read(is);
+            }
+            for (String className : index.components()) {
+                if (isAnnotated(className, COMPONENT_ANNOTATION)) {
+                    previous.add(ComponentIndex.COMPONENT + " " + className);
+                }
+            }
+            for (String className : index.factories()) {
+                if (isAnnotated(className, FACTORY_ANNOTATION)) {
+                    previous.add(ComponentIndex.FACTORY + " " + className);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no index was written yet.
+        }
+        return previous;
+    }
+
+    private boolean isAnnotated(final String className, final String annotationName) {
+        final Elements elements = processingEnv.getElementUtils();
+        // classes that were removed or are no longer annotated are dropped from the index.
+        final TypeElement element = elements.getTypeElement(className.replace('$', '.'));
+        if (element == null) return false;
+        return elements.getAllAnnotationMirrors(element)
+            .stream()
+            .map(mirror -> (TypeElement) mirror.getAnnotationType().asElement())
+            .anyMatch(annotation -> annotation.getQualifiedName().contentEquals(annotationName));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.component.index;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public class ComponentIndexProcessorTest {
+
+    private static final String ANNOTATIONS_PACKAGE = "package io.streamthoughts.azkarra.api.annotations;\n";
+
+    @TempDir
+    Path output;
+
+    @Test
+    public void shouldWriteIndexForAnnotatedClasses() throws IOException {
+        compile(
+            source("io.streamthoughts.azkarra.api.annotations.Component", ANNOTATIONS_PACKAGE +
+                "@java.lang.annotation.Inherited public @interface Component {}"),
+            source("io.streamthoughts.azkarra.api.annotations.Factory", ANNOTATIONS_PACKAGE +
+                "public @interface Factory {}"),
+            source("test.TestComponent", "package test;\n" +
+                "@io.streamthoughts.azkarra.api.annotations.Component public class TestComponent {}"),
+            source("test.Outer", "package test;\n" +
+                "public class Outer { @io.streamthoughts.azkarra.api.annotations.Component " +
+                "public static class Inner {} }"),
+            source("test.TestFactory", "package test;\n" +
+                "@io.streamthoughts.azkarra.api.annotations.Factory public class TestFactory {\n" +
+                "  @io.streamthoughts.azkarra.api.annotations.Component public Object get() { return null; }\n" +
+                "}"),
+            source("test.NotAComponent", "package test;\npublic class NotAComponent {}")
+        );
+
+        final Optional<ComponentIndex> index = ComponentIndex.read(output.toUri().toURL());
+        Assertions.assertTrue(index.isPresent());
+        Assertions.assertEquals(List.of("test.Outer$Inner", "test.TestComponent"), index.get().components());
+        Assertions.assertEquals(List.of("test.TestFactory"), index.get().factories());
+    }
+
+    @Test
+    public void shouldMergePreviousIndexGivenIncrementalCompilation() throws IOException {
+        compile(
+            source("io.streamthoughts.azkarra.api.annotations.Component", ANNOTATIONS_PACKAGE +
+                "@java.lang.annotation.Inherited public @interface Component {}"),
+            source("test.TestComponent", "package test;\n" +
+                "@io.streamthoughts.azkarra.api.annotations.Component public class TestComponent {}"),
+            source("test.RemovedComponent", "package test;\n" +
+                "@io.streamthoughts.azkarra.api.annotations.Component public class RemovedComponent {}")
+        );
+        Files.delete(output.resolve("test/RemovedComponent.class"));
+
+        // only the modified sources are compiled.
+        compile(source("test.OtherComponent", "package test;\n" +
+            "@io.streamthoughts.azkarra.api.annotations.Component public class OtherComponent {}"));
+
+        final Optional<ComponentIndex> index = ComponentIndex.read(output.toUri().toURL());
+        Assertions.assertTrue(index.isPresent());
+        Assertions.assertEquals(List.of("test.OtherComponent", "test.TestComponent"), index.get().components());
+    }
+
+    @Test
+    public void shouldWriteEmptyIndexGivenNoAnnotatedClasses() throws IOException {
+        compile(source("test.NotAComponent", "package test;\npublic class NotAComponent {}"));
+
+        final Optional<ComponentIndex> index = ComponentIndex.read(output.toUri().toURL());
+        Assertions.assertTrue(index.isPresent());
+        Assertions.assertTrue(index.get().components().isEmpty());
+        Assertions.assertTrue(index.get().factories().isEmpty());
+    }
+
+    @Test
+    public void shouldIgnoreCommentsAndUnknownKinds() throws IOException {
+        final String content = "# comment\n\ncomponent a.B\nunknown c.D\nfactory e.F\n";
+        final ComponentIndex index = ComponentIndex.read(
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(List.of("a.B"), index.components());
+        Assertions.assertEquals(List.of("e.F"), index.factories());
+    }
+
+    private void compile(final JavaFileObject... sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output.toFile()));
+            fileManager.setLocation(StandardLocation.CLASS_PATH, List.of(output.toFile()));
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                null, fileManager, null, null, null, List.of(sources));
+            task.setProcessors(List.of(new ComponentIndexProcessor()));
+            Assertions.assertTrue(task.call());
+        }
+    }
+
+    private static JavaFileObject source(final String className, final String code) {
+        final URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
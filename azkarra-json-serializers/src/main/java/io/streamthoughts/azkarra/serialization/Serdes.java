@@ -22,6 +22,8 @@ import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.api.config.Configurable;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Interface for serializing and de-serializing object.
@@ -62,6 +64,22 @@ public interface Serdes<T> extends Configurable, Closeable, AutoCloseable {
      */
     T deserialize(final byte[] data) throws SerializationException;
 
+    /**
+     * Deserialize data from an {@link InputStream} into a value or object.
+     *
+     * Implementations should override this method to decode the data while it is read from the stream.
+     *
+     * @param is        the {@link InputStream} to read.
+     * @return          the deserialized typed data; may be null
+     */
+    default T deserialize(final InputStream is) throws SerializationException {
+        try {
+            return deserialize(is.readAllBytes());
+        } catch (IOException e) {
+            throw new SerializationException("Error while reading all bytes from input stream", e);
+        }
+    }
+
 
     /**
      * Close this {@link Serdes}.
@@ -43,8 +43,10 @@ import io.streamthoughts.azkarra.api.errors.AzkarraException;
 import io.streamthoughts.azkarra.api.providers.TopologyDescriptor;
 import io.streamthoughts.azkarra.api.streams.ApplicationId;
 import io.streamthoughts.azkarra.api.streams.ApplicationIdBuilder;
+import io.streamthoughts.azkarra.api.streams.ApplicationRegistry;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsFactory;
 import io.streamthoughts.azkarra.api.streams.TopologyProvider;
+import io.streamthoughts.azkarra.api.streams.admin.ClusterMetadataRegistry;
 import io.streamthoughts.azkarra.api.streams.errors.StreamThreadExceptionHandler;
 import io.streamthoughts.azkarra.runtime.components.ClassComponentAliasesGenerator;
 import io.streamthoughts.azkarra.runtime.components.DefaultComponentDescriptorFactory;
@@ -177,6 +179,10 @@ public class DefaultAzkarraContext implements AzkarraContext {
             withConditions(onPropertyTrue(WAIT_FOR_TOPICS_ENABLE_CONFIG)),
             withOrder(Ordered.LOWEST_ORDER)
         );
+        // Register the cluster metadata services shared by all interceptors.
+        componentFactory.registerSingleton(ClusterMetadataRegistry.class, ClusterMetadataRegistry::new);
+        // Register the registry indexing all streams instances running in this context.
+        componentFactory.registerSingleton(ApplicationRegistry.class, ApplicationRegistry::new);
     }
 
     /**
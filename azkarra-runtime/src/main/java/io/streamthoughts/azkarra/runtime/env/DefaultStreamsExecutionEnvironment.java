@@ -25,11 +25,13 @@ import io.streamthoughts.azkarra.api.State;
 import io.streamthoughts.azkarra.api.StreamsExecutionEnvironment;
 import io.streamthoughts.azkarra.api.StreamsLifecycleInterceptor;
 import io.streamthoughts.azkarra.api.annotations.VisibleForTesting;
+import io.streamthoughts.azkarra.api.components.ComponentFactory;
 import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.api.config.RocksDBConfig;
 import io.streamthoughts.azkarra.api.errors.AlreadyExistsException;
 import io.streamthoughts.azkarra.api.errors.AzkarraException;
 import io.streamthoughts.azkarra.api.streams.ApplicationId;
+import io.streamthoughts.azkarra.api.streams.ApplicationRegistry;
 import io.streamthoughts.azkarra.api.streams.ApplicationIdBuilder;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamContainerBuilder;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
@@ -38,7 +40,10 @@ import io.streamthoughts.azkarra.api.streams.TopologyProvider;
 import io.streamthoughts.azkarra.api.streams.errors.StreamThreadExceptionHandler;
 import io.streamthoughts.azkarra.api.streams.topology.TopologyContainer;
 import io.streamthoughts.azkarra.runtime.env.internal.EnvironmentAwareComponentSupplier;
+import io.streamthoughts.azkarra.runtime.env.internal.StreamsStartupConfig;
+import io.streamthoughts.azkarra.runtime.env.internal.StreamsStartupScheduler;
 import io.streamthoughts.azkarra.runtime.env.internal.TopologyContainerFactory;
+import io.streamthoughts.azkarra.runtime.interceptors.CloseDeadLetterTopicProducerInterceptor;
 import io.streamthoughts.azkarra.runtime.interceptors.WaitForSourceTopicsInterceptor;
 import io.streamthoughts.azkarra.runtime.streams.DefaultApplicationIdBuilder;
 import io.streamthoughts.azkarra.runtime.streams.errors.CloseKafkaStreamsOnThreadException;
@@ -51,11 +56,12 @@ import org.slf4j.LoggerFactory;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
@@ -142,10 +148,15 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
     private final List<InternalTopologyProvider> topologies;
 
     /**
-     * The list of streams instances currently started.
+     * The list of streams instances currently started (may be read from any thread).
      */
     private final Map<ApplicationId, KafkaStreamsContainer> activeStreams;
 
+    /**
+     * The registry of the context this environment belongs to, may be {@code null}.
+     */
+    private ApplicationRegistry applicationRegistry;
+
     private AzkarraContext context;
 
     private Supplier<KafkaStreamsFactory> kafkaStreamsFactory;
@@ -156,6 +167,11 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
 
     private Supplier<StreamThreadExceptionHandler> streamThreadExceptionHandler;
 
+    /**
+     * The scheduler used for preparing and starting topologies, created when the environment is started.
+     */
+    private StreamsStartupScheduler startupScheduler;
+
     /**
      * Creates a new {@link DefaultStreamsExecutionEnvironment} instance.
      *
@@ -175,11 +191,11 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
         Objects.requireNonNull(config, "config cannot be null");
         Objects.requireNonNull(envName, "envName cannot be null");
         this.configuration = config;
-        this.activeStreams = new HashMap<>();
+        this.activeStreams = new ConcurrentHashMap<>();
         this.interceptors = new LinkedList<>();
         this.kafkaStreamsFactory = () -> KafkaStreamsFactory.DEFAULT;
         this.topologyFactory = new TopologyContainerFactory(this, DefaultApplicationIdBuilder::new);
-        this.topologies = new LinkedList<>();
+        this.topologies = new CopyOnWriteArrayList<>();
         this.name = envName;
         setState(State.CREATED);
     }
@@ -253,7 +269,7 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
      */
     @Override
     public Collection<KafkaStreamsContainer> applications() {
-        return activeStreams.values();
+        return Collections.unmodifiableCollection(activeStreams.values());
     }
 
     /**
@@ -317,7 +333,11 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
     public ApplicationId addTopology(final Supplier<TopologyProvider> provider, final Executed executed) {
         final InternalTopologyProvider internalProvider = new InternalTopologyProvider(provider, executed);
         topologies.add(internalProvider);
-        return state == State.STARTED ? start(internalProvider) : null;
+        if (state != State.STARTED) {
+            return null;
+        }
+        startupScheduler.prepare(internalProvider::getTopology);
+        return start(internalProvider);
     }
 
     /**
@@ -329,6 +349,16 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
             throw new IllegalStateException(
                 "The environment is either already started or already stopped, cannot re-start");
         }
+        startupScheduler = new StreamsStartupScheduler(
+            name,
+            new StreamsStartupConfig(getStartupConfig()),
+            STREAMS_EXECUTOR
+        );
+        startupScheduler.prepareAll(
+            topologies.stream()
+                .map(t -> (Supplier<TopologyContainer>) t::getTopology)
+                .collect(Collectors.toList())
+        );
         topologies.forEach(this::start);
         setState(State.STARTED);
     }
@@ -361,9 +391,12 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
             .withKafkaStreamsFactory(topologyProvider.getKafkaStreamsFactory())
             .build();
 
+        if (applicationRegistry != null) {
+            applicationRegistry.register(streamsContainer, this);
+        }
         activeStreams.put(applicationId, streamsContainer);
 
-        streamsContainer.start(STREAMS_EXECUTOR);
+        streamsContainer.start(startupScheduler.executorFor(applicationId, streamsContainer));
 
         return applicationId;
     }
@@ -386,6 +419,7 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
         } catch (final Exception e) {
             LOG.error("Error happens while stopping Kafka Streams instance.", e);
         } finally {
+            startupScheduler.close();
             setState(State.STOPPED);
         }
     }
@@ -430,11 +464,18 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
         container.close(cleanUp, timeout);
         if (remove) {
             activeStreams.remove(id);
+            if (applicationRegistry != null) {
+                applicationRegistry.unregister(id);
+            }
             topologies.removeIf(t -> t.isApplication(id));
             LOG.info("Streams instance '{}' was removed from environment '{}'", id, name);
         }
     }
 
+    private Conf getStartupConfig() {
+        return configuration.withFallback(context != null ? context.getConfiguration() : Conf.empty());
+    }
+
     private void setState(final State started) {
         state = started;
     }
@@ -476,6 +517,10 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
     @Override
     public void setAzkarraContext(final AzkarraContext context) {
         this.context = context;
+        final ComponentFactory factory = context.getComponentFactory();
+        if (factory != null && factory.containsComponent(ApplicationRegistry.class)) {
+            applicationRegistry = factory.getComponent(ApplicationRegistry.class, context.getConfiguration());
+        }
     }
 
     private static final class EnvironmentNameGenerator {
@@ -519,6 +564,8 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
 
         private TopologyContainer container;
 
+        private Conf topologyConfig;
+
         /**
          * Creates a new {@link InternalTopologyProvider} instance.
          *
@@ -546,6 +593,9 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
                 if (waitForTopicToBeCreated)
                     allInterceptors.add(WaitForSourceTopicsInterceptor::new);
 
+                // the producer shared by the dead-letter topic exception handlers is closed with the streams.
+                allInterceptors.add(CloseDeadLetterTopicProducerInterceptor::new);
+
                 final Executed merged = new InternalExecuted()
                     .withName(executed.name())
                     .withDescription(executed.description())
@@ -568,10 +618,14 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
         }
 
         private Conf getTopologyConfig() {
-            // Merged all configurations
-            return executed.config()
-                .withFallback(DefaultStreamsExecutionEnvironment.this.getConfiguration())
-                .withFallback(context != null ? context.getConfiguration() : Conf.empty());
+            if (topologyConfig == null) {
+                // Merged all configurations
+                topologyConfig = executed.config()
+                    .withFallback(DefaultStreamsExecutionEnvironment.this.getConfiguration())
+                    .withFallback(context != null ? context.getConfiguration() : Conf.empty())
+                    .freeze();
+            }
+            return topologyConfig;
         }
     }
 
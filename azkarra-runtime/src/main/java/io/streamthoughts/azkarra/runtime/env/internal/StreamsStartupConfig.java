@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.env.internal;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration class for {@link StreamsStartupScheduler}.
+ */
+public class StreamsStartupConfig {
+
+    /** {@code startup.prepare.parallelism} */
+    public static final String STARTUP_PREPARE_PARALLELISM_CONFIG = "startup.prepare.parallelism";
+
+    /** {@code startup.max.concurrent.starts} */
+    public static final String STARTUP_MAX_CONCURRENT_STARTS_CONFIG = "startup.max.concurrent.starts";
+    public static final int STARTUP_MAX_CONCURRENT_STARTS_DEFAULT = 0;
+
+    /** {@code startup.stagger.ms} */
+    public static final String STARTUP_STAGGER_MS_CONFIG = "startup.stagger.ms";
+    public static final long STARTUP_STAGGER_MS_DEFAULT = 0;
+
+    /** {@code startup.stagger.jitter.ms} */
+    public static final String STARTUP_STAGGER_JITTER_MS_CONFIG = "startup.stagger.jitter.ms";
+    public static final long STARTUP_STAGGER_JITTER_MS_DEFAULT = 0;
+
+    /** {@code startup.join.timeout.ms} */
+    public static final String STARTUP_JOIN_TIMEOUT_MS_CONFIG = "startup.join.timeout.ms";
+    public static final long STARTUP_JOIN_TIMEOUT_MS_DEFAULT = 120_000;
+
+    private final Conf originals;
+
+    /**
+     * Creates a new {@link StreamsStartupConfig} instance.
+     *
+     * @param originals the {@link Conf} instance.
+     */
+    public StreamsStartupConfig(final Conf originals) {
+        this.originals = Objects.requireNonNull(originals, "originals cannot be null");
+    }
+
+    /**
+     * Get the maximum number of topologies built in parallel (Default is the number of available processors).
+     *
+     * @return the number of threads used for preparing topologies.
+     */
+    public int getPrepareParallelism() {
+        return Math.max(1, originals
+            .getOptionalInt(STARTUP_PREPARE_PARALLELISM_CONFIG)
+            .orElse(Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Get the maximum number of streams instances initializing at the same time (Default is 0, i.e. unbounded).
+     *
+     * @return the maximum number of concurrent starts, or {@code 0} for no limit.
+     */
+    public int getMaxConcurrentStarts() {
+        return Math.max(0, originals
+            .getOptionalInt(STARTUP_MAX_CONCURRENT_STARTS_CONFIG)
+            .orElse(STARTUP_MAX_CONCURRENT_STARTS_DEFAULT));
+    }
+
+    /**
+     * Get the minimum delay between two consecutive streams starts (Default is 0).
+     *
+     * @return the stagger delay.
+     */
+    public Duration getStagger() {
+        return Duration.ofMillis(originals
+            .getOptionalLong(STARTUP_STAGGER_MS_CONFIG)
+            .orElse(STARTUP_STAGGER_MS_DEFAULT));
+    }
+
+    /**
+     * Get the maximum random delay added to the stagger delay (Default is 0).
+     *
+     * @return the stagger jitter.
+     */
+    public Duration getStaggerJitter() {
+        return Duration.ofMillis(originals
+            .getOptionalLong(STARTUP_STAGGER_JITTER_MS_CONFIG)
+            .orElse(STARTUP_STAGGER_JITTER_MS_DEFAULT));
+    }
+
+    /**
+     * Get the maximum time a streams instance counts as initializing while waiting to be running (Default is 2min).
+     *
+     * @return the join timeout.
+     */
+    public Duration getJoinTimeout() {
+        return Duration.ofMillis(originals
+            .getOptionalLong(STARTUP_JOIN_TIMEOUT_MS_CONFIG)
+            .orElse(STARTUP_JOIN_TIMEOUT_MS_DEFAULT));
+    }
+}
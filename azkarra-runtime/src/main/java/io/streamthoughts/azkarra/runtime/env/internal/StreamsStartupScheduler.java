@@ -0,0 +1,381 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.env.internal;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+import io.streamthoughts.azkarra.api.streams.ApplicationId;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.State;
+import io.streamthoughts.azkarra.api.streams.StateChangeEvent;
+import io.streamthoughts.azkarra.api.streams.topology.TopologyContainer;
+import org.apache.kafka.common.utils.Time;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the startup of the streams instances of an environment.
+ *
+ * Topologies are built in parallel on a bounded pool of threads. Then, streams instances are started through
+ * the {@link Executor} returned by {@link #executorFor(ApplicationId, KafkaStreamsContainer)} which limits the number
+ * of instances initializing at the same time and spreads the starts over time, so that consumer group joins
+ * are not all sent to the brokers at once. An instance is initializing until it either becomes running or fails,
+ * or until the configured join timeout elapses.
+ */
+public class StreamsStartupScheduler implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamsStartupScheduler.class);
+
+    private final String name;
+
+    private final StreamsStartupConfig config;
+
+    private final Executor executor;
+
+    private final Semaphore permits;
+
+    private final Map<ApplicationId, StartupTiming> timings = new ConcurrentHashMap<>();
+
+    private final Time time = Time.SYSTEM;
+
+    private ExecutorService dispatcher;
+
+    private ScheduledExecutorService timeouts;
+
+    /**
+     * The time of the last start, only accessed by the dispatcher thread.
+     */
+    private long lastDispatchedAt = -1;
+
+    /**
+     * Creates a new {@link StreamsStartupScheduler} instance.
+     *
+     * @param name      the name of this scheduler, used for naming threads.
+     * @param config    the {@link StreamsStartupConfig} instance.
+     * @param executor  the {@link Executor} used for starting streams instances.
+     */
+    public StreamsStartupScheduler(final String name,
+                                   final StreamsStartupConfig config,
+                                   final Executor executor) {
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+        this.config = Objects.requireNonNull(config, "config cannot be null");
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+        final int maxConcurrentStarts = config.getMaxConcurrentStarts();
+        this.permits = maxConcurrentStarts > 0 ? new Semaphore(maxConcurrentStarts, true) : null;
+    }
+
+    /**
+     * Builds the specified topologies in parallel and waits for all of them to be built.
+     *
+     * @param suppliers the suppliers of {@link TopologyContainer}.
+     * @return          the list of {@link TopologyContainer}, in the same order than the suppliers.
+     *
+     * @throws AzkarraException if a topology cannot be built.
+     */
+    public List<TopologyContainer> prepareAll(final List<? extends Supplier<TopologyContainer>> suppliers) {
+        if (suppliers.isEmpty()) return Collections.emptyList();
+
+        final int threads = Math.min(config.getPrepareParallelism(), suppliers.size());
+        final AtomicInteger counter = new AtomicInteger();
+        final ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            final Thread thread = new Thread(r, "streams-topology-preparer-" + name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<TopologyContainer>> futures = new ArrayList<>(suppliers.size());
+            for (Supplier<TopologyContainer> supplier : suppliers) {
+                futures.add(pool.submit(() -> prepare(supplier)));
+            }
+            final List<TopologyContainer> containers = new ArrayList<>(futures.size());
+            for (Future<TopologyContainer> future : futures) {
+                containers.add(await(future));
+            }
+            return containers;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Builds the specified topology on the current thread.
+     *
+     * @param supplier  the supplier of {@link TopologyContainer}.
+     * @return          the {@link TopologyContainer}.
+     */
+    public TopologyContainer prepare(final Supplier<TopologyContainer> supplier) {
+        final long begin = time.milliseconds();
+        final TopologyContainer container = supplier.get();
+        final long tookMs = time.milliseconds() - begin;
+        timings.put(container.applicationId(), new StartupTiming(tookMs, -1, -1));
+        LOG.info("Prepared topology for id='{}' in {} ms.", container.applicationId(), tookMs);
+        return container;
+    }
+
+    /**
+     * Gets an {@link Executor} to be used for starting the streams instance for the specified application.
+     *
+     * @param id        the application id.
+     * @param container the {@link KafkaStreamsContainer} to be started.
+     * @return          a new {@link Executor} instance.
+     */
+    public Executor executorFor(final ApplicationId id, final KafkaStreamsContainer container) {
+        Objects.requireNonNull(id, "id cannot be null");
+        Objects.requireNonNull(container, "container cannot be null");
+        final boolean gated = permits != null || !config.getStagger().isZero() || !config.getStaggerJitter().isZero();
+        return task -> {
+            final long queuedAt = time.milliseconds();
+            if (gated) {
+                dispatcher().execute(() -> dispatch(id, container, queuedAt, task));
+            } else {
+                executor.execute(timed(id, container, queuedAt, task));
+            }
+        };
+    }
+
+    /**
+     * Gets the startup timing of the specified application.
+     *
+     * @param id    the application id.
+     * @return      an optional {@link StartupTiming}.
+     */
+    public Optional<StartupTiming> timing(final ApplicationId id) {
+        return Optional.ofNullable(timings.get(id));
+    }
+
+    /**
+     * Stops dispatching pending starts.
+     */
+    @Override
+    public synchronized void close() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+        if (timeouts != null) {
+            timeouts.shutdownNow();
+        }
+    }
+
+    private synchronized ExecutorService dispatcher() {
+        if (dispatcher == null) {
+            dispatcher = Executors.newSingleThreadExecutor(r -> {
+                final Thread thread = new Thread(r, "streams-startup-scheduler-" + name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return dispatcher;
+    }
+
+    private synchronized ScheduledExecutorService timeouts() {
+        if (timeouts == null) {
+            timeouts = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "streams-startup-timeouts-" + name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return timeouts;
+    }
+
+    private void dispatch(final ApplicationId id,
+                          final KafkaStreamsContainer container,
+                          final long queuedAt,
+                          final Runnable task) {
+        boolean acquired = false;
+        try {
+            if (permits != null) {
+                permits.acquire();
+                acquired = true;
+            }
+            awaitStaggerDelay();
+            executor.execute(timed(id, container, queuedAt, task));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Interrupted while waiting to start streams instance for id='{}'.", id);
+            if (acquired) permits.release();
+        } catch (RuntimeException e) {
+            LOG.error("Failed to start streams instance for id='{}'.", id, e);
+            if (acquired) permits.release();
+        }
+    }
+
+    private void awaitStaggerDelay() throws InterruptedException {
+        if (lastDispatchedAt >= 0) {
+            final long jitterMs = config.getStaggerJitter().toMillis();
+            final long delayMs = config.getStagger().toMillis()
+                + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+            final long remainingMs = lastDispatchedAt + delayMs - time.milliseconds();
+            if (remainingMs > 0) {
+                Thread.sleep(remainingMs);
+            }
+        }
+        lastDispatchedAt = time.milliseconds();
+    }
+
+    private Runnable timed(final ApplicationId id,
+                           final KafkaStreamsContainer container,
+                           final long queuedAt,
+                           final Runnable task) {
+        return () -> {
+            // the watcher is registered before starting, so that no state change can be missed.
+            final Permit permit = permits != null ? new Permit(id) : null;
+            if (permit != null) container.addStateChangeWatcher(permit);
+            final long startedAt = time.milliseconds();
+            try {
+                task.run();
+            } finally {
+                final long queuedMs = startedAt - queuedAt;
+                final long startMs = time.milliseconds() - startedAt;
+                final StartupTiming timing = timings.compute(id, (k, v) ->
+                    new StartupTiming(v != null ? v.prepareMs() : -1, queuedMs, startMs)
+                );
+                LOG.info("Started streams instance for id='{}' ({}).", id, timing);
+                if (permit != null) permit.releaseAfter(config.getJoinTimeout());
+            }
+        };
+    }
+
+    private static TopologyContainer await(final Future<TopologyContainer> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AzkarraException("Interrupted while preparing topologies", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new AzkarraException("Failed to prepare topology", cause);
+        }
+    }
+
+    /**
+     * A permit held by a streams instance until it joins its consumer group, i.e. it becomes running, or fails.
+     */
+    private final class Permit implements KafkaStreamsContainer.StateChangeWatcher {
+
+        private final ApplicationId id;
+
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        Permit(final ApplicationId id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean accept(final State newState) {
+            return newState == State.RUNNING
+                || newState == State.ERROR
+                || newState == State.PENDING_SHUTDOWN
+                || newState == State.NOT_RUNNING;
+        }
+
+        @Override
+        public void onChange(final StateChangeEvent event) {
+            release(event.newState().name());
+        }
+
+        void releaseAfter(final Duration timeout) {
+            if (released.get()) return;
+            try {
+                timeouts().schedule(() -> release("join timeout"), timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // the scheduler is closed, no more starts are pending.
+                release("scheduler closed");
+            }
+        }
+
+        private void release(final String reason) {
+            if (released.compareAndSet(false, true)) {
+                LOG.info("Released startup permit for id='{}' ({}).", id, reason);
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * The time spent in each startup phase of a streams instance, in milliseconds.
+     * A value of {@code -1} means that the phase was not observed.
+     */
+    public static final class StartupTiming {
+
+        private final long prepareMs;
+        private final long queuedMs;
+        private final long startMs;
+
+        StartupTiming(final long prepareMs, final long queuedMs, final long startMs) {
+            this.prepareMs = prepareMs;
+            this.queuedMs = queuedMs;
+            this.startMs = startMs;
+        }
+
+        /**
+         * @return the time spent building the topology.
+         */
+        public long prepareMs() {
+            return prepareMs;
+        }
+
+        /**
+         * @return the time spent waiting for a start slot.
+         */
+        public long queuedMs() {
+            return queuedMs;
+        }
+
+        /**
+         * @return the time spent initializing the streams instance.
+         */
+        public long startMs() {
+            return startMs;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "[prepareMs=" + prepareMs + ", queuedMs=" + queuedMs + ", startMs=" + startMs + ']';
+        }
+    }
+}
@@ -28,11 +28,11 @@ import io.streamthoughts.azkarra.api.components.qualifier.Qualifiers;
 import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.api.config.Configurable;
 import io.streamthoughts.azkarra.api.streams.State;
-import io.streamthoughts.azkarra.api.streams.admin.AdminClientUtils;
+import io.streamthoughts.azkarra.api.streams.admin.ClusterMetadataService;
+import io.streamthoughts.azkarra.api.streams.admin.ClusterMetadataServiceConfig;
 import io.streamthoughts.azkarra.runtime.streams.topology.TopologyUtils;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.errors.TopicExistsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,7 +44,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
@@ -102,6 +101,11 @@ public class AutoCreateTopicsInterceptor
 
     private final AdminClient adminClient;
 
+    /**
+     * The service wrapping the {@link AdminClient} provided by the user, if any.
+     */
+    private ClusterMetadataService metadataService;
+
     private AutoCreateTopicsInterceptorConfig interceptorConfig;
 
     /**
@@ -199,46 +203,50 @@ public class AutoCreateTopicsInterceptor
         }
     }
 
-    private void apply(final BiConsumer<AdminClient, StreamsLifecycleContext> consumer,
+    private void apply(final BiConsumer<ClusterMetadataService, StreamsLifecycleContext> consumer,
                        final StreamsLifecycleContext context) {
-        // use a one-shot AdminClient if no one is provided.
         if (adminClient == null) {
-            try (final AdminClient client = AdminClientUtils.newAdminClient(context.streamsConfig())) {
-                consumer.accept(client, context);
-            }
+            ClusterMetadataServices.apply(
+                getComponentFactory(),
+                getConfiguration(),
+                context.streamsConfig(),
+                service -> consumer.accept(service, context)
+            );
         } else {
-            consumer.accept(adminClient, context);
+            if (metadataService == null) {
+                metadataService = new ClusterMetadataService(
+                    adminClient,
+                    new ClusterMetadataServiceConfig(getConfiguration())
+                );
+            }
+            consumer.accept(metadataService, context);
         }
     }
 
-    private void listTopics(final AdminClient client, final StreamsLifecycleContext context) {
+    private void listTopics(final ClusterMetadataService service, final StreamsLifecycleContext context) {
         try {
             LOG.info("Listing all topics created by the streams application: {}", context.applicationId());
-            CompletableFuture<Collection<TopicListing>> future = AdminClientUtils.listTopics(client);
-            try {
-                final Collection<TopicListing> topics = future.get();
-                createdTopics.addAll(topics.stream()
-                    .map(TopicListing::name)
-                    .filter(name -> TopologyUtils.isInternalTopic(context.applicationId(), name))
-                    .collect(Collectors.toSet())
-                );
-                topicListed.set(true);
-            } catch (Exception e) {
-                LOG.warn("Failed to list topics", e);
-            }
-
+            final Set<String> topics = service.listTopicNames().get();
+            createdTopics.addAll(topics.stream()
+                .filter(name -> TopologyUtils.isInternalTopic(context.applicationId(), name))
+                .collect(Collectors.toSet())
+            );
+            topicListed.set(true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             LOG.warn("Failed to list topics", e);
         }
     }
 
-    private void deleteTopics(final AdminClient client, final StreamsLifecycleContext context) {
+    private void deleteTopics(final ClusterMetadataService service, final StreamsLifecycleContext context) {
         try {
             if (!topicListed.get()) {
-                listTopics(client, context);
+                listTopics(service, context);
             }
             LOG.info("Deleting topology topic(s): {}", createdTopics);
-            client.deleteTopics(createdTopics).all().get();
+            service.adminClient().deleteTopics(createdTopics).all().get();
+            service.invalidate();
             LOG.info("Topics deleted successfully");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -248,10 +256,11 @@ public class AutoCreateTopicsInterceptor
         }
     }
 
-    private void createTopics(final AdminClient client, final StreamsLifecycleContext context) {
+    private void createTopics(final ClusterMetadataService service, final StreamsLifecycleContext context) {
         LOG.info("Creating topology topic(s): {}", getTopicNames());
         try {
-            client.createTopics(newTopics).all().get();
+            service.adminClient().createTopics(newTopics).all().get();
+            service.invalidate();
         } catch (ExecutionException e) {
             Throwable cause = e.getCause();
             if (cause != null & cause instanceof TopicExistsException) {
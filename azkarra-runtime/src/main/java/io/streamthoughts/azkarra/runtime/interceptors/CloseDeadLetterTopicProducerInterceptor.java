@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.interceptors;
+
+import io.streamthoughts.azkarra.api.StreamsLifecycleChain;
+import io.streamthoughts.azkarra.api.StreamsLifecycleContext;
+import io.streamthoughts.azkarra.api.StreamsLifecycleInterceptor;
+import io.streamthoughts.azkarra.commons.error.DeadLetterTopicProducers;
+
+import java.time.Duration;
+
+/**
+ * This {@link StreamsLifecycleInterceptor} closes the producer shared by the
+ * {@link io.streamthoughts.azkarra.commons.error.DeadLetterTopicExceptionHandler} instances of a streams application,
+ * once the streams instance is stopped, so that pending rejected records are flushed.
+ */
+public class CloseDeadLetterTopicProducerInterceptor implements StreamsLifecycleInterceptor {
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onStop(final StreamsLifecycleContext context, final StreamsLifecycleChain chain) {
+        try {
+            chain.execute();
+        } finally {
+            DeadLetterTopicProducers.close(context.applicationId(), CLOSE_TIMEOUT);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.interceptors;
+
+import io.streamthoughts.azkarra.api.components.ComponentFactory;
+import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.api.streams.admin.AdminClientUtils;
+import io.streamthoughts.azkarra.api.streams.admin.ClusterMetadataRegistry;
+import io.streamthoughts.azkarra.api.streams.admin.ClusterMetadataService;
+import io.streamthoughts.azkarra.api.streams.admin.ClusterMetadataServiceConfig;
+
+import java.util.function.Consumer;
+
+/**
+ * Helper class to get the {@link ClusterMetadataService} to be used by an interceptor.
+ */
+final class ClusterMetadataServices {
+
+    private ClusterMetadataServices() {
+    }
+
+    /**
+     * Applies the specified consumer with the {@link ClusterMetadataService} shared through the
+     * {@link ClusterMetadataRegistry} component, or with a one-shot service if no registry is available.
+     *
+     * @param factory       the {@link ComponentFactory}, may be {@code null}.
+     * @param configuration the interceptor configuration, may be {@code null}.
+     * @param streamsConfig the streams configuration.
+     * @param consumer      the consumer to apply.
+     */
+    static void apply(final ComponentFactory factory,
+                      final Conf configuration,
+                      final Conf streamsConfig,
+                      final Consumer<ClusterMetadataService> consumer) {
+        final Conf conf = configuration != null ? configuration : Conf.empty();
+        if (factory != null && factory.containsComponent(ClusterMetadataRegistry.class)) {
+            final ClusterMetadataRegistry registry = factory.getComponent(ClusterMetadataRegistry.class, conf);
+            consumer.accept(registry.getOrCreate(streamsConfig));
+            return;
+        }
+        // use a one-shot service if no registry is provided.
+        try (final ClusterMetadataService service = ClusterMetadataService.create(
+                AdminClientUtils.getClientConfig(streamsConfig),
+                new ClusterMetadataServiceConfig(conf))) {
+            consumer.accept(service);
+        }
+    }
+}
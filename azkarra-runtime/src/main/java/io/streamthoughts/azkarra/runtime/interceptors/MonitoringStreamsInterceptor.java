@@ -91,9 +91,8 @@ public class MonitoringStreamsInterceptor implements StreamsLifecycleInterceptor
                 container.threadMetadata(),
                 container.offsets()
             ),
-            config.getIntervalMs(),
             producer,
-            config.getTopic()
+            config
         );
         startTask(container.applicationId());
         chain.execute();
@@ -19,6 +19,7 @@
 package io.streamthoughts.azkarra.runtime.interceptors;
 
 import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.runtime.interceptors.monitoring.ce.CloudEventsContentMode;
 import io.streamthoughts.azkarra.runtime.interceptors.monitoring.ce.CloudEventsExtension;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.producer.KafkaProducer;
@@ -60,6 +61,18 @@ public class MonitoringStreamsInterceptorConfig {
     /** {@code monitoring.streams.interceptor.ce.extensions} */
     public static final String MONITORING_INTERCEPTOR_EXTENSIONS_CONFIG = "monitoring.streams.interceptor.ce.extensions";
 
+    /** {@code monitoring.streams.interceptor.ce.mode} */
+    public static final String MONITORING_INTERCEPTOR_CE_MODE_CONFIG = "monitoring.streams.interceptor.ce.mode";
+    public static final String MONITORING_INTERCEPTOR_CE_MODE_DEFAULT = CloudEventsContentMode.STRUCTURED.name();
+
+    /** {@code monitoring.streams.interceptor.snapshot.every.events} */
+    public static final String MONITORING_INTERCEPTOR_SNAPSHOT_EVERY_CONFIG = "monitoring.streams.interceptor.snapshot.every.events";
+    public static final int MONITORING_INTERCEPTOR_SNAPSHOT_EVERY_DEFAULT = 1;
+
+    /** {@code monitoring.streams.interceptor.batch.window.ms} */
+    public static final String MONITORING_INTERCEPTOR_BATCH_WINDOW_MS_CONFIG = "monitoring.streams.interceptor.batch.window.ms";
+    public static final long MONITORING_INTERCEPTOR_BATCH_WINDOW_MS_DEFAULT = 0L;
+
     private static final Map<String, Object> PRODUCER_DEFAULT_OVERRIDES = Map.of(
         ProducerConfig.LINGER_MS_CONFIG, "100",
         ProducerConfig.ACKS_CONFIG, "1",
@@ -122,6 +135,41 @@ public class MonitoringStreamsInterceptorConfig {
             .orElse(MONITORING_INTERCEPTOR_TOPIC_DEFAULT);
     }
 
+    /**
+     * Get the CloudEvents content mode used for encoding monitoring events (Default is STRUCTURED).
+     *
+     * @return  the {@link CloudEventsContentMode}.
+     */
+    public CloudEventsContentMode getContentMode() {
+        final String mode = originals
+            .getOptionalString(MONITORING_INTERCEPTOR_CE_MODE_CONFIG)
+            .orElse(MONITORING_INTERCEPTOR_CE_MODE_DEFAULT);
+        return CloudEventsContentMode.valueOf(mode.toUpperCase());
+    }
+
+    /**
+     * Get the number of events between two full snapshots (Default is 1).
+     * Events sent between two snapshots only contain the fields that changed since the previous event.
+     *
+     * @return  the number of events.
+     */
+    public int getSnapshotEveryEvents() {
+        return originals
+            .getOptionalInt(MONITORING_INTERCEPTOR_SNAPSHOT_EVERY_CONFIG)
+            .orElse(MONITORING_INTERCEPTOR_SNAPSHOT_EVERY_DEFAULT);
+    }
+
+    /**
+     * Get the time window during which successive state changes are coalesced into a single event (Default is 0).
+     *
+     * @return  the window in milliseconds.
+     */
+    public long getBatchWindowMs() {
+        return originals
+            .getOptionalLong(MONITORING_INTERCEPTOR_BATCH_WINDOW_MS_CONFIG)
+            .orElse(MONITORING_INTERCEPTOR_BATCH_WINDOW_MS_DEFAULT);
+    }
+
     /**
      * Get the list of extension attributes that should be included in monitoring events.
      *
@@ -21,8 +21,11 @@ package io.streamthoughts.azkarra.runtime.interceptors;
 import io.streamthoughts.azkarra.api.StreamsLifecycleChain;
 import io.streamthoughts.azkarra.api.StreamsLifecycleContext;
 import io.streamthoughts.azkarra.api.StreamsLifecycleInterceptor;
+import io.streamthoughts.azkarra.api.components.BaseComponentModule;
+import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.api.streams.State;
-import io.streamthoughts.azkarra.api.streams.admin.AdminClientUtils;
+import io.streamthoughts.azkarra.api.streams.admin.ClusterMetadataService;
+import io.streamthoughts.azkarra.api.streams.admin.ClusterMetadataServiceConfig;
 import io.streamthoughts.azkarra.runtime.streams.topology.TopologyUtils;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.slf4j.Logger;
@@ -41,12 +44,19 @@ import static io.streamthoughts.azkarra.runtime.streams.topology.TopologyUtils.g
  *
  * Kafka Streams fails if one of the source topic is missing (error: INCOMPLETE_SOURCE_TOPIC_METADATA);
  */
-public class WaitForSourceTopicsInterceptor implements StreamsLifecycleInterceptor {
+public class WaitForSourceTopicsInterceptor
+        extends BaseComponentModule
+        implements StreamsLifecycleInterceptor {
 
     private static final Logger LOG = LoggerFactory.getLogger(WaitForSourceTopicsInterceptor.class);
 
     private final AdminClient adminClient;
 
+    /**
+     * The service wrapping the {@link AdminClient} provided by the user, if any.
+     */
+    private ClusterMetadataService metadataService;
+
     /**
      * Creates a new {@link WaitForSourceTopicsInterceptor} instance.
      */
@@ -76,10 +86,10 @@ public class WaitForSourceTopicsInterceptor implements StreamsLifecycleIntercept
 
             if (!sourceTopics.isEmpty()) {
                 context.setState(State.WAITING_FOR_TOPICS);
-                apply(context, client -> {
+                apply(context, service -> {
                     LOG.info("Waiting for source topic(s) to be created: {}", sourceTopics);
                     try {
-                        AdminClientUtils.waitForTopicToExist(client, sourceTopics);
+                        service.waitForTopicsToExist(sourceTopics);
                     } catch (final InterruptedException e) {
                     Thread.currentThread().interrupt();
                     // ignore and attempts to start anyway;
@@ -91,14 +101,15 @@ public class WaitForSourceTopicsInterceptor implements StreamsLifecycleIntercept
         chain.execute();
     }
 
-    private void apply(final StreamsLifecycleContext context, final Consumer<AdminClient> consumer) {
-        // use a one-shot AdminClient if no one is provided.
+    private void apply(final StreamsLifecycleContext context, final Consumer<ClusterMetadataService> consumer) {
         if (adminClient == null) {
-            try (final AdminClient client = AdminClientUtils.newAdminClient(context.streamsConfig())) {
-                consumer.accept(client);
-            }
+            ClusterMetadataServices.apply(getComponentFactory(), getConfiguration(), context.streamsConfig(), consumer);
         } else {
-            consumer.accept(adminClient);
+            if (metadataService == null) {
+                final Conf conf = getConfiguration() != null ? getConfiguration() : Conf.empty();
+                metadataService = new ClusterMetadataService(adminClient, new ClusterMetadataServiceConfig(conf));
+            }
+            consumer.accept(metadataService);
         }
     }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.interceptors.monitoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Helper class to compute a JSON Merge Patch, as described in
+ * <a href="https://tools.ietf.org/html/rfc7386">RFC 7386</a>, between two JSON documents.
+ *
+ * Objects are compared field by field while arrays and values are replaced as a whole.
+ * Removed fields are represented with a {@code null} value. As a changed element would otherwise
+ * resend its whole array, documents can first be normalized with {@link #withKeyedArrays(ObjectNode)}.
+ */
+final class JsonMergePatch {
+
+    static final String CONTENT_TYPE = "application/merge-patch+json";
+
+    /**
+     * The fields identifying the elements of an array, e.g. threads, tasks and consumer clients.
+     */
+    private static final List<String> IDENTITY_FIELDS = List.of("task_id", "name", "client_id");
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * Computes the patch which must be applied to the source document to obtain the target one.
+     *
+     * @param source    the source object.
+     * @param target    the target object.
+     * @return          the {@link ObjectNode} patch, empty if both documents are equals.
+     */
+    static ObjectNode diff(final ObjectNode source, final ObjectNode target) {
+        Objects.requireNonNull(source, "source cannot be null");
+        Objects.requireNonNull(target, "target cannot be null");
+        final ObjectNode patch = JsonNodeFactory.instance.objectNode();
+
+        final Iterator<String> sourceFields = source.fieldNames();
+        while (sourceFields.hasNext()) {
+            final String field = sourceFields.next();
+            if (!target.has(field)) {
+                patch.putNull(field);
+            }
+        }
+
+        final Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+        while (targetFields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = targetFields.next();
+            final JsonNode previous = source.get(field.getKey());
+            final JsonNode current = field.getValue();
+            if (previous == null || !previous.equals(current)) {
+                patch.set(field.getKey(), diff(previous, current));
+            }
+        }
+        return patch;
+    }
+
+    private static JsonNode diff(final JsonNode previous, final JsonNode current) {
+        if (previous != null && previous.isObject() && current.isObject()) {
+            return diff((ObjectNode) previous, (ObjectNode) current);
+        }
+        return current;
+    }
+
+    /**
+     * Converts the arrays of the specified document into objects keyed by the identity of their elements
+     * (e.g. a thread name, a client id or a topic-partition), so that a patch only contains the changed elements.
+     * Arrays whose elements cannot be identified are sorted, so that their order does not change between documents.
+     *
+     * @param document  the document to normalize.
+     * @return          a new {@link ObjectNode}.
+     */
+    static ObjectNode withKeyedArrays(final ObjectNode document) {
+        final ObjectNode keyed = JsonNodeFactory.instance.objectNode();
+        document.fields().forEachRemaining(field -> keyed.set(field.getKey(), withKeyedArrays(field.getValue())));
+        return keyed;
+    }
+
+    private static JsonNode withKeyedArrays(final JsonNode node) {
+        if (node.isObject()) {
+            return withKeyedArrays((ObjectNode) node);
+        }
+        if (!node.isArray()) {
+            return node;
+        }
+        final List<JsonNode> elements = new ArrayList<>(node.size());
+        node.forEach(element -> elements.add(withKeyedArrays(element)));
+
+        final ObjectNode keyed = JsonNodeFactory.instance.objectNode();
+        for (JsonNode element : elements) {
+            final String key = identityOf(element);
+            if (key == null || keyed.has(key)) {
+                elements.sort(Comparator.comparing(JsonNode::toString));
+                final ArrayNode sorted = JsonNodeFactory.instance.arrayNode();
+                return sorted.addAll(elements);
+            }
+            keyed.set(key, element);
+        }
+        return keyed;
+    }
+
+    private static String identityOf(final JsonNode element) {
+        if (!element.isObject()) return null;
+        for (String field : IDENTITY_FIELDS) {
+            final JsonNode id = element.get(field);
+            if (id != null && id.isValueNode()) return id.asText();
+        }
+        final JsonNode tp = element.has("topicPartition") ? element.get("topicPartition") : element;
+        if (tp.hasNonNull("topic") && tp.hasNonNull("partition")) {
+            return tp.get("topic").asText() + "-" + tp.get("partition").asText();
+        }
+        return null;
+    }
+}
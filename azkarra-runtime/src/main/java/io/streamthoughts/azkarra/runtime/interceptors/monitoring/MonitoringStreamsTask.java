@@ -20,15 +20,18 @@ package io.streamthoughts.azkarra.runtime.interceptors.monitoring;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.api.time.Time;
+import io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig;
 import io.streamthoughts.azkarra.runtime.interceptors.monitoring.ce.CloudEventsBuilder;
 import io.streamthoughts.azkarra.runtime.interceptors.monitoring.ce.CloudEventsEntity;
 import io.streamthoughts.azkarra.runtime.interceptors.monitoring.ce.CloudEventsExtension;
+import io.streamthoughts.azkarra.runtime.interceptors.monitoring.ce.CloudEventsRecordEncoder;
 import io.streamthoughts.azkarra.serialization.json.AzkarraSimpleModule;
 import io.streamthoughts.azkarra.serialization.json.Json;
 import org.apache.kafka.clients.producer.Producer;
-import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,14 +39,30 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_INTERVAL_MS_CONFIG;
+import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_TOPIC_CONFIG;
 
 /**
  * Task for reporting {@link org.apache.kafka.streams.KafkaStreams} state changes.
+ *
+ * Events are keyed by application id and application server, so that the events of a given instance are always
+ * written to the same partition, and carry a per-instance sequence number in the {@code monitorseq} extension.
+ *
+ * When {@link MonitoringStreamsInterceptorConfig#getSnapshotEveryEvents()} is greater than one, only the first of
+ * every N events contains the full {@link KafkaStreamsMetadata}; the events in between are sent with the type
+ * {@link #DELTA_EVENT_TYPE} and contain a JSON Merge Patch of the last snapshot acknowledged by the broker, so that
+ * a lost delta never has to be replayed. In that mode, the arrays of snapshots (e.g. threads, tasks, consumers and
+ * positions) are sent as objects keyed by the identity of their elements, so that a delta only contains the changed
+ * entries. All events carry the id of the snapshot they apply to in the {@code monitorsnapshotid} extension attribute.
  */
 public final class MonitoringStreamsTask extends Thread {
 
@@ -51,6 +70,9 @@ public final class MonitoringStreamsTask extends Thread {
 
     private static final Json JSON = new Json(new ObjectMapper());
     private static final String DEFAULT_EVENT_TYPE = "io.streamthoughts.azkarra.streams.stateupdateevent";
+    public static final String DELTA_EVENT_TYPE = "io.streamthoughts.azkarra.streams.stateupdatedeltaevent";
+    private static final String SNAPSHOT_ID_EXTENSION = "monitorsnapshotid";
+    private static final String SEQUENCE_EXTENSION = "monitorseq";
     private static final String DEFAULT_CONTENT_TYPE = "application/json";
     private static final String CE_SPEC_VERSION = "1.0";
 
@@ -84,8 +106,24 @@ public final class MonitoringStreamsTask extends Thread {
 
     private final Reportable<? extends KafkaStreamsMetadata> reportable;
 
+    private final String instanceId;
+
     private final byte[] key;
 
+    private final CloudEventsRecordEncoder encoder;
+
+    private final int snapshotEveryEvents;
+
+    private final long batchWindowMs;
+
+    private final AtomicReference<Snapshot> lastAcknowledged = new AtomicReference<>();
+
+    private long sequence = 0L;
+
+    private int eventsSinceSnapshot = 0;
+
+    private volatile boolean forceSnapshot = false;
+
     /**
      * Creates a new {@link MonitoringStreamsTask} instance.
      */
@@ -96,16 +134,48 @@ public final class MonitoringStreamsTask extends Thread {
                                  final long intervalMs,
                                  final Producer<byte[], byte[]> producer,
                                  final String topic) {
+        this(
+            applicationId,
+            applicationServer,
+            customExtensions,
+            reportable,
+            producer,
+            new MonitoringStreamsInterceptorConfig(Conf.with(Map.of(
+                MONITORING_INTERCEPTOR_INTERVAL_MS_CONFIG, intervalMs,
+                MONITORING_INTERCEPTOR_TOPIC_CONFIG, Objects.requireNonNull(topic, "topic can't be null")
+            )))
+        );
+    }
+
+    /**
+     * Creates a new {@link MonitoringStreamsTask} instance.
+     *
+     * @param applicationId     the streams application id.
+     * @param applicationServer the server name included in events.
+     * @param customExtensions  the custom {@link CloudEventsExtension}.
+     * @param reportable        the {@link Reportable} used for getting the data to report periodically.
+     * @param producer          the {@link Producer} used for sending events.
+     * @param config            the {@link MonitoringStreamsInterceptorConfig}.
+     */
+    public MonitoringStreamsTask(final String applicationId,
+                                 final String applicationServer,
+                                 final CloudEventsExtension customExtensions,
+                                 final Reportable<? extends KafkaStreamsMetadata> reportable,
+                                 final Producer<byte[], byte[]> producer,
+                                 final MonitoringStreamsInterceptorConfig config) {
         Objects.requireNonNull(applicationId, "applicationId can't be null");
         Objects.requireNonNull(producer, "producer can't be null");
         Objects.requireNonNull(reportable, "reportable can't be null");
-        Objects.requireNonNull(topic, "topic can't be null");
+        Objects.requireNonNull(config, "config can't be null");
         this.applicationId = applicationId;
         this.applicationServer = applicationServer;
         this.reportable = reportable;
         this.producer = producer;
-        this.intervalMs = intervalMs;
-        this.topic = topic;
+        this.intervalMs = config.getIntervalMs();
+        this.topic = config.getTopic();
+        this.snapshotEveryEvents = config.getSnapshotEveryEvents();
+        this.batchWindowMs = config.getBatchWindowMs();
+        this.encoder = new CloudEventsRecordEncoder(JSON.unwrap(), config.getContentMode());
         this.isShutdownLatch = new CountDownLatch(1);
         this.shutdown = new AtomicBoolean(false);
         this.customExtensions = customExtensions;
@@ -116,7 +186,8 @@ public final class MonitoringStreamsTask extends Thread {
             .with("monitorintervalms", intervalMs)
             .build();
 
-        key = applicationId.getBytes(StandardCharsets.UTF_8);
+        instanceId = "appid:" + applicationId + ";appsrv:" + applicationServer;
+        key = instanceId.getBytes(StandardCharsets.UTF_8);
     }
 
     public void offer(final KafkaStreamsMetadata state) {
@@ -140,7 +211,7 @@ public final class MonitoringStreamsTask extends Thread {
                 final long start = Time.SYSTEM.milliseconds();
                 // Check if we do need do send an event.
                 if (maybeSendStatesEvent(start)) {
-                    report(buildEvent(reportable.report()));
+                    report(reportable.report());
                 }
                 try {
                     pollAndReportOrWait(shutdown.get() ? Duration.ZERO : timeUntilNextLoop());
@@ -162,10 +233,19 @@ public final class MonitoringStreamsTask extends Thread {
     }
 
     private void pollAndReportOrWait(final Duration duration) throws InterruptedException {
-        final KafkaStreamsMetadata change = changes.poll(duration.toMillis(), TimeUnit.MILLISECONDS);
-        if (change != null) {
-            report(buildEvent(change));
+        KafkaStreamsMetadata change = changes.poll(duration.toMillis(), TimeUnit.MILLISECONDS);
+        if (change == null) return;
+
+        // Coalesce the changes received during the batch window, only the most recent one is reported.
+        final long deadline = Time.SYSTEM.milliseconds() + batchWindowMs;
+        long remaining = batchWindowMs;
+        while (remaining > 0) {
+            final KafkaStreamsMetadata next = changes.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next == null) break;
+            change = next;
+            remaining = deadline - Time.SYSTEM.milliseconds();
         }
+        report(change);
     }
 
     private Duration timeUntilNextLoop() {
@@ -177,30 +257,65 @@ public final class MonitoringStreamsTask extends Thread {
         return now - lastSentEventTimeMs >= intervalMs;
     }
 
-    private CloudEventsEntity<KafkaStreamsMetadata> buildEvent(final KafkaStreamsMetadata data) {
+    private CloudEventsEntity<Object> nextEvent(final KafkaStreamsMetadata data,
+                                                final ZonedDateTime now,
+                                                final long seq,
+                                                final Consumer<Snapshot> onSnapshot) {
+        final String id = instanceId + ";seq:" + seq;
+        if (snapshotEveryEvents <= 1) {
+            return buildEvent(id, seq, now, DEFAULT_EVENT_TYPE, DEFAULT_CONTENT_TYPE, data, id);
+        }
 
-        final ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
-        return CloudEventsBuilder.<KafkaStreamsMetadata>newBuilder()
-            .withId(buildCloudEventId(now))
+        final ObjectNode current = JsonMergePatch.withKeyedArrays(JSON.unwrap().valueToTree(data));
+        final Snapshot acknowledged = lastAcknowledged.get();
+        if (acknowledged == null || forceSnapshot || eventsSinceSnapshot >= snapshotEveryEvents - 1) {
+            forceSnapshot = false;
+            eventsSinceSnapshot = 0;
+            onSnapshot.accept(new Snapshot(id, seq, current));
+            return buildEvent(id, seq, now, DEFAULT_EVENT_TYPE, DEFAULT_CONTENT_TYPE, current, id);
+        }
+        eventsSinceSnapshot++;
+        final ObjectNode patch = JsonMergePatch.diff(acknowledged.data, current);
+        return buildEvent(id, seq, now, DELTA_EVENT_TYPE, JsonMergePatch.CONTENT_TYPE, patch, acknowledged.id);
+    }
+
+    private CloudEventsEntity<Object> buildEvent(final String id,
+                                                 final long seq,
+                                                 final ZonedDateTime now,
+                                                 final String type,
+                                                 final String contentType,
+                                                 final Object data,
+                                                 final String snapshotId) {
+        final CloudEventsBuilder<Object> builder = CloudEventsBuilder.<Object>newBuilder()
+            .withId(id)
             .withSource("azkarra/ks/" + applicationServer)
-            .withType(DEFAULT_EVENT_TYPE)
+            .withType(type)
             .withSpecVersion(CE_SPEC_VERSION)
             .withTime(now)
             .withData(data)
-            .withDataContentType(DEFAULT_CONTENT_TYPE)
+            .withDataContentType(contentType)
             .withExtension(azkarraExtensions)
             .withExtension(customExtensions)
-            .build();
-    }
-
-    private String buildCloudEventId(final ZonedDateTime now) {
-        return "appid:" + applicationId + ";appsrv:" + applicationServer + ";ts:" + now.toInstant().toEpochMilli();
+            .withExtension(CloudEventsExtension.of(SEQUENCE_EXTENSION, seq))
+            .withExtension(CloudEventsExtension.of(SNAPSHOT_ID_EXTENSION, snapshotId));
+        return builder.build();
     }
 
-    private void report(final CloudEventsEntity<KafkaStreamsMetadata> event) {
-        final byte[] byteValue = JSON.serialize(event).getBytes(StandardCharsets.UTF_8);
-        producer.send(new ProducerRecord<>(topic, key, byteValue));
-        lastSentEventTimeMs = event.attributes().time().toInstant().toEpochMilli();
+    private synchronized void report(final KafkaStreamsMetadata data) {
+        final ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        final AtomicReference<Snapshot> sent = new AtomicReference<>();
+        final CloudEventsEntity<Object> event = nextEvent(data, now, sequence++, sent::set);
+        final Snapshot snapshot = sent.get();
+        producer.send(encoder.encode(topic, key, event), (metadata, exception) -> {
+            if (snapshot == null) return;
+            if (exception == null) {
+                // Deltas are only computed against a snapshot the consumers are guaranteed to have received.
+                lastAcknowledged.accumulateAndGet(snapshot, Snapshot::mostRecent);
+            } else {
+                forceSnapshot = true;
+            }
+        });
+        lastSentEventTimeMs = now.toInstant().toEpochMilli();
     }
 
     public void shutdown() {
@@ -214,6 +329,23 @@ public final class MonitoringStreamsTask extends Thread {
         }
     }
 
+    private static final class Snapshot {
+
+        private final String id;
+        private final long seq;
+        private final ObjectNode data;
+
+        Snapshot(final String id, final long seq, final ObjectNode data) {
+            this.id = id;
+            this.seq = seq;
+            this.data = data;
+        }
+
+        static Snapshot mostRecent(final Snapshot current, final Snapshot acknowledged) {
+            return current == null || acknowledged.seq > current.seq ? acknowledged : current;
+        }
+    }
+
     public interface Reportable<T> {
 
         /**
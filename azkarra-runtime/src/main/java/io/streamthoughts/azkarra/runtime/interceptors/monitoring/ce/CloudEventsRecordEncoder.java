@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.interceptors.monitoring.ce;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.streamthoughts.azkarra.serialization.SerializationException;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Encodes {@link CloudEventsEntity} into Kafka records, following the CloudEvents
+ * <a href="https://github.com/cloudevents/spec/blob/v1.0/kafka-protocol-binding.md">Kafka Protocol Binding</a>.
+ *
+ * Events are written directly as UTF-8 bytes into a buffer which is reused across calls.
+ * Thus, this class is not thread-safe.
+ */
+public class CloudEventsRecordEncoder {
+
+    private static final String CE_HEADER_PREFIX = "ce_";
+    private static final String CONTENT_TYPE_HEADER = "content-type";
+    private static final String STRUCTURED_CONTENT_TYPE = "application/cloudevents+json; charset=UTF-8";
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    private final ObjectMapper mapper;
+
+    private final CloudEventsContentMode mode;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+
+    /**
+     * Creates a new {@link CloudEventsRecordEncoder} instance.
+     *
+     * @param mapper    the {@link ObjectMapper} used for serializing events.
+     * @param mode      the {@link CloudEventsContentMode}.
+     */
+    public CloudEventsRecordEncoder(final ObjectMapper mapper,
+                                    final CloudEventsContentMode mode) {
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+        this.mode = Objects.requireNonNull(mode, "mode cannot be null");
+    }
+
+    /**
+     * Encodes the specified event into a new {@link ProducerRecord}.
+     *
+     * @param topic the topic name.
+     * @param key   the record key.
+     * @param event the {@link CloudEventsEntity} to encode.
+     * @return      a new {@link ProducerRecord} instance.
+     */
+    public ProducerRecord<byte[], byte[]> encode(final String topic,
+                                                 final byte[] key,
+                                                 final CloudEventsEntity<?> event) {
+        final Headers headers = new RecordHeaders();
+        final byte[] value;
+        if (mode == CloudEventsContentMode.BINARY) {
+            writeAttributesHeaders(headers, event);
+            value = write(event.data());
+        } else {
+            addHeader(headers, CONTENT_TYPE_HEADER, STRUCTURED_CONTENT_TYPE);
+            value = write(event);
+        }
+        return new ProducerRecord<>(topic, null, key, value, headers);
+    }
+
+    private static void writeAttributesHeaders(final Headers headers, final CloudEventsEntity<?> event) {
+        final CloudEventsAttributes attributes = event.attributes();
+        addHeader(headers, CE_HEADER_PREFIX + "specversion", attributes.specVersion());
+        addHeader(headers, CE_HEADER_PREFIX + "id", attributes.id());
+        addHeader(headers, CE_HEADER_PREFIX + "source", attributes.source());
+        addHeader(headers, CE_HEADER_PREFIX + "type", attributes.type());
+        if (attributes.time() != null) {
+            addHeader(headers, CE_HEADER_PREFIX + "time", TIME_FORMATTER.format(attributes.time()));
+        }
+        addHeader(headers, CONTENT_TYPE_HEADER, attributes.dataContentType());
+        for (Map.Entry<String, Object> extension : event.extensions().entrySet()) {
+            addHeader(headers, CE_HEADER_PREFIX + extension.getKey(), String.valueOf(extension.getValue()));
+        }
+    }
+
+    private static void addHeader(final Headers headers, final String key, final String value) {
+        if (value != null) {
+            headers.add(key, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private byte[] write(final Object value) {
+        buffer.reset();
+        try {
+            mapper.writeValue(buffer, value);
+        } catch (IOException e) {
+            throw new SerializationException("Error happens while serializing object '" + value + "'", e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -22,6 +22,7 @@ import io.streamthoughts.azkarra.api.AzkarraContext;
 import io.streamthoughts.azkarra.api.AzkarraStreamsService;
 import io.streamthoughts.azkarra.api.Executed;
 import io.streamthoughts.azkarra.api.StreamsExecutionEnvironment;
+import io.streamthoughts.azkarra.api.components.ComponentFactory;
 import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.api.errors.Error;
 import io.streamthoughts.azkarra.api.errors.InvalidStreamsStateException;
@@ -34,6 +35,8 @@ import io.streamthoughts.azkarra.api.model.StreamsTopologyGraph;
 import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.api.providers.TopologyDescriptor;
 import io.streamthoughts.azkarra.api.query.DistributedQuery;
+import io.streamthoughts.azkarra.api.query.LatencyTracker;
+import io.streamthoughts.azkarra.api.query.NearCache;
 import io.streamthoughts.azkarra.api.query.Queried;
 import io.streamthoughts.azkarra.api.query.QueryParams;
 import io.streamthoughts.azkarra.api.query.RemoteQueryClient;
@@ -44,14 +47,19 @@ import io.streamthoughts.azkarra.api.query.result.QueryResult;
 import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
 import io.streamthoughts.azkarra.api.query.result.QueryStatus;
 import io.streamthoughts.azkarra.api.streams.ApplicationId;
+import io.streamthoughts.azkarra.api.streams.ApplicationRegistry;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import io.streamthoughts.azkarra.api.streams.StreamsServerInfo;
 import io.streamthoughts.azkarra.api.streams.consumer.ConsumerGroupOffsets;
+import io.streamthoughts.azkarra.api.streams.rocksdb.RocksDBStatisticsRegistry;
 import io.streamthoughts.azkarra.api.time.Time;
+import io.streamthoughts.azkarra.commons.error.SafeDeserializerMetrics;
 import io.streamthoughts.azkarra.runtime.env.DefaultStreamsExecutionEnvironment;
 import org.apache.kafka.common.MetricName;
 
+import java.io.Closeable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -61,18 +69,46 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * The default {@link AzkarraStreamsService} implementations.
  */
-public class LocalAzkarraStreamsService implements AzkarraStreamsService {
+public class LocalAzkarraStreamsService implements AzkarraStreamsService, Closeable {
 
     private final AzkarraContext context;
 
     private RemoteQueryClient remoteQueryClient;
 
+    /**
+     * The executor used for querying state stores in parallel.
+     */
+    private final ScheduledExecutorService queryExecutor;
+
+    /**
+     * Is the query executor created, and so closed, by this service.
+     */
+    private final boolean ownsQueryExecutor;
+
+    /**
+     * The latencies of remote instances, used for sending hedged queries.
+     */
+    private final LatencyTracker latencies = new LatencyTracker();
+
+    /**
+     * The near-cache used for serving key-queries, may be {@code null}.
+     */
+    private final NearCache nearCache;
+
+    /**
+     * The registry of all streams instances, resolved lazily from the context.
+     */
+    private volatile ApplicationRegistry applicationRegistry;
+
     /**
      * Creates a new {@link LocalAzkarraStreamsService} instance.
      *
@@ -81,10 +117,64 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
      */
     public LocalAzkarraStreamsService(final AzkarraContext context,
                                       final RemoteQueryClient remoteQueryClient) {
+        this(context, remoteQueryClient, null, null);
+    }
+
+    /**
+     * Creates a new {@link LocalAzkarraStreamsService} instance.
+     *
+     * @param context           the {@link AzkarraContext} instance.
+     * @param remoteQueryClient the {@link RemoteQueryClient} instance.
+     * @param nearCache         the {@link NearCache} used for serving key-queries, may be {@code null}.
+     */
+    public LocalAzkarraStreamsService(final AzkarraContext context,
+                                      final RemoteQueryClient remoteQueryClient,
+                                      final NearCache nearCache) {
+        this(context, remoteQueryClient, null, nearCache);
+    }
+
+    /**
+     * Creates a new {@link LocalAzkarraStreamsService} instance.
+     *
+     * @param context           the {@link AzkarraContext} instance.
+     * @param remoteQueryClient the {@link RemoteQueryClient} instance.
+     * @param queryExecutor     the {@link ScheduledExecutorService} used for querying state stores in parallel.
+     */
+    public LocalAzkarraStreamsService(final AzkarraContext context,
+                                      final RemoteQueryClient remoteQueryClient,
+                                      final ScheduledExecutorService queryExecutor) {
+        this(context, remoteQueryClient, Objects.requireNonNull(queryExecutor, "queryExecutor cannot be null"), null);
+    }
+
+    /**
+     * Creates a new {@link LocalAzkarraStreamsService} instance.
+     *
+     * @param context           the {@link AzkarraContext} instance.
+     * @param remoteQueryClient the {@link RemoteQueryClient} instance.
+     * @param queryExecutor     the {@link ScheduledExecutorService} used for querying state stores in parallel,
+     *                          or {@code null} to create a default one which is shut down when this service is closed.
+     * @param nearCache         the {@link NearCache} used for serving key-queries, may be {@code null}.
+     */
+    public LocalAzkarraStreamsService(final AzkarraContext context,
+                                      final RemoteQueryClient remoteQueryClient,
+                                      final ScheduledExecutorService queryExecutor,
+                                      final NearCache nearCache) {
         Objects.requireNonNull(context, "context cannot be null");
         Objects.requireNonNull(remoteQueryClient, "remoteQueryClient cannot be null");
-        this.context = context;;
+        this.context = context;
         this.remoteQueryClient = remoteQueryClient;
+        this.ownsQueryExecutor = queryExecutor == null;
+        this.queryExecutor = ownsQueryExecutor ? newDefaultQueryExecutor() : queryExecutor;
+        this.nearCache = nearCache;
+    }
+
+    private static ScheduledExecutorService newDefaultQueryExecutor() {
+        final AtomicInteger threadId = new AtomicInteger(0);
+        return Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+            final Thread thread = new Thread(r, "azkarra-query-executor-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
@@ -92,6 +182,10 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
      */
     @Override
     public Collection<String> getAllStreams() {
+        final ApplicationRegistry registry = applicationRegistry();
+        if (registry != null) {
+            return new ArrayList<>(registry.applicationIds());
+        }
         return containers()
             .stream()
             .map(KafkaStreamsContainer::applicationId)
@@ -111,10 +205,13 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
      */
     @Override
     public KafkaStreamsContainer getStreamsById(final String applicationId) {
-        final Optional<KafkaStreamsContainer> container = containers()
-            .stream()
-            .filter(o -> o.applicationId().equals(applicationId))
-            .findFirst();
+        final ApplicationRegistry registry = applicationRegistry();
+        final Optional<KafkaStreamsContainer> container = registry != null ?
+            registry.getContainer(applicationId) :
+            containers()
+                .stream()
+                .filter(o -> o.applicationId().equals(applicationId))
+                .findFirst();
 
         if (container.isPresent()) {
             return container.get();
@@ -178,10 +275,12 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
                                                   final Predicate<Tuple<String, Metric>> filter) {
         KafkaStreamsContainer container = getStreamsById(applicationId);
 
-        Map<MetricName, ? extends org.apache.kafka.common.Metric> metrics = container.metrics();
+        Map<MetricName, org.apache.kafka.common.Metric> metrics = new HashMap<>(container.metrics());
+        // the metrics of the safe deserializers are not reported through the KafkaStreams metrics registry.
+        metrics.putAll(SafeDeserializerMetrics.metrics(applicationId));
 
         Map<String, List<Metric>> m = new HashMap<>(metrics.size());
-        for (Map.Entry<MetricName, ? extends org.apache.kafka.common.Metric> elem : metrics.entrySet()) {
+        for (Map.Entry<MetricName, org.apache.kafka.common.Metric> elem : metrics.entrySet()) {
             final MetricName metricName = elem.getKey();
             final org.apache.kafka.common.Metric metricValue = elem.getValue();
 
@@ -198,6 +297,14 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
             }
         }
 
+        // RocksDB statistics are not reported through the KafkaStreams metrics registry.
+        final String group = RocksDBStatisticsRegistry.GROUP;
+        for (Metric metric : RocksDBStatisticsRegistry.getInstance().metrics(container.applicationId())) {
+            if (filter.test(Tuple.of(group, metric))) {
+                m.computeIfAbsent(group, k -> new LinkedList<>()).add(metric);
+            }
+        }
+
         return m.entrySet()
                 .stream()
                 .map(e -> new MetricGroup(e.getKey(), e.getValue()))
@@ -281,10 +388,12 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
      */
     @Override
     public void deleteStreams(final String applicationId) {
-
-        StreamsExecutionEnvironment env = null;
+        final ApplicationRegistry registry = applicationRegistry();
+        StreamsExecutionEnvironment env = registry != null ?
+            registry.get(applicationId).map(ApplicationRegistry.Entry::environment).orElse(null) :
+            null;
         Iterator<StreamsExecutionEnvironment> it = context.environments().iterator();
-        while (it.hasNext() && env == null) {
+        while (registry == null && it.hasNext() && env == null) {
             StreamsExecutionEnvironment e = it.next();
             boolean exists = e.applications()
                     .stream()
@@ -329,10 +438,27 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
             .build();
         }
 
-        final DistributedQuery<K, V> distributed = new DistributedQuery<>(remoteQueryClient, query.prepare(parameters));
+        final DistributedQuery<K, V> distributed = new DistributedQuery<>(
+            remoteQueryClient,
+            query.prepare(parameters),
+            queryExecutor,
+            latencies,
+            nearCache
+        );
         return distributed.query(streams, options);
     }
 
+    /**
+     * Closes this service. The default query executor is shut down, while an executor given
+     * at construction is left to its owner.
+     */
+    @Override
+    public void close() {
+        if (ownsQueryExecutor) {
+            queryExecutor.shutdownNow();
+        }
+    }
+
     private void checkIsRunning(final KafkaStreamsContainer streams) {
         if (streams.isNotRunning()) {
             throw new InvalidStreamsStateException(
@@ -342,6 +468,16 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
         }
     }
 
+    private ApplicationRegistry applicationRegistry() {
+        if (applicationRegistry == null) {
+            final ComponentFactory factory = context.getComponentFactory();
+            if (factory != null && factory.containsComponent(ApplicationRegistry.class)) {
+                applicationRegistry = factory.getComponent(ApplicationRegistry.class, context.getConfiguration());
+            }
+        }
+        return applicationRegistry;
+    }
+
     private Collection<KafkaStreamsContainer> containers() {
         return context.environments().stream()
                 .flatMap(environment -> environment.applications().stream())
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.env.internal;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.api.streams.ApplicationId;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer.StateChangeWatcher;
+import io.streamthoughts.azkarra.api.streams.State;
+import io.streamthoughts.azkarra.api.streams.StateChangeEvent;
+import io.streamthoughts.azkarra.api.streams.topology.TopologyContainer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static io.streamthoughts.azkarra.runtime.env.internal.StreamsStartupConfig.STARTUP_JOIN_TIMEOUT_MS_CONFIG;
+import static io.streamthoughts.azkarra.runtime.env.internal.StreamsStartupConfig.STARTUP_MAX_CONCURRENT_STARTS_CONFIG;
+import static io.streamthoughts.azkarra.runtime.env.internal.StreamsStartupConfig.STARTUP_PREPARE_PARALLELISM_CONFIG;
+import static io.streamthoughts.azkarra.runtime.env.internal.StreamsStartupConfig.STARTUP_STAGGER_MS_CONFIG;
+
+public class StreamsStartupSchedulerTest {
+
+    private static final Executor THREAD_PER_TASK = r -> new Thread(r).start();
+
+    private static final ApplicationId APP_1 = new ApplicationId("app-1");
+    private static final ApplicationId APP_2 = new ApplicationId("app-2");
+
+    @Test
+    public void shouldPrepareTopologiesInParallel() {
+        final StreamsStartupScheduler scheduler = newScheduler(Conf.with(STARTUP_PREPARE_PARALLELISM_CONFIG, 2));
+
+        final CountDownLatch latch = new CountDownLatch(2);
+        final List<TopologyContainer> containers = scheduler.prepareAll(List.of(
+            awaitingSupplier(latch, APP_1),
+            awaitingSupplier(latch, APP_2)
+        ));
+
+        Assertions.assertEquals(APP_1, containers.get(0).applicationId());
+        Assertions.assertEquals(APP_2, containers.get(1).applicationId());
+        Assertions.assertTrue(scheduler.timing(APP_1).isPresent());
+        Assertions.assertTrue(scheduler.timing(APP_2).isPresent());
+    }
+
+    @Test
+    public void shouldRethrowExceptionGivenTopologyFailingToBePrepared() {
+        final StreamsStartupScheduler scheduler = newScheduler(Conf.empty());
+        final IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () ->
+            scheduler.prepareAll(List.<Supplier<TopologyContainer>>of(() -> {
+                throw new IllegalStateException("failed");
+            }))
+        );
+        Assertions.assertEquals("failed", e.getMessage());
+    }
+
+    @Test
+    public void shouldLimitConcurrentStarts() throws InterruptedException {
+        final StreamsStartupScheduler scheduler = newScheduler(Conf.with(STARTUP_MAX_CONCURRENT_STARTS_CONFIG, 1));
+
+        final List<StateChangeWatcher> watchers = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch secondStarted = new CountDownLatch(1);
+        scheduler.executorFor(APP_1, newContainer(watchers)).execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ignore) {
+            }
+        });
+        scheduler.executorFor(APP_2, newContainer(new CopyOnWriteArrayList<>())).execute(secondStarted::countDown);
+
+        Assertions.assertFalse(secondStarted.await(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        changeState(watchers, State.RUNNING);
+        Assertions.assertTrue(secondStarted.await(5, TimeUnit.SECONDS));
+        scheduler.close();
+    }
+
+    @Test
+    public void shouldLimitConcurrentStartsUntilInstancesAreRunning() throws InterruptedException {
+        final StreamsStartupScheduler scheduler = newScheduler(Conf.with(STARTUP_MAX_CONCURRENT_STARTS_CONFIG, 1));
+
+        final List<StateChangeWatcher> watchers = new CopyOnWriteArrayList<>();
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch secondStarted = new CountDownLatch(1);
+        scheduler.executorFor(APP_1, newContainer(watchers)).execute(firstStarted::countDown);
+        scheduler.executorFor(APP_2, newContainer(new CopyOnWriteArrayList<>())).execute(secondStarted::countDown);
+
+        // the first instance is started but is still joining its consumer group.
+        Assertions.assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        changeState(watchers, State.REBALANCING);
+        Assertions.assertFalse(secondStarted.await(200, TimeUnit.MILLISECONDS));
+
+        changeState(watchers, State.RUNNING);
+        Assertions.assertTrue(secondStarted.await(5, TimeUnit.SECONDS));
+        scheduler.close();
+    }
+
+    @Test
+    public void shouldReleasePermitGivenJoinTimeoutElapsed() throws InterruptedException {
+        final StreamsStartupScheduler scheduler = newScheduler(Conf.with(STARTUP_MAX_CONCURRENT_STARTS_CONFIG, 1)
+            .withFallback(Conf.with(STARTUP_JOIN_TIMEOUT_MS_CONFIG, 100)));
+
+        final CountDownLatch secondStarted = new CountDownLatch(1);
+        scheduler.executorFor(APP_1, newContainer(new CopyOnWriteArrayList<>())).execute(() -> { });
+        scheduler.executorFor(APP_2, newContainer(new CopyOnWriteArrayList<>())).execute(secondStarted::countDown);
+
+        Assertions.assertTrue(secondStarted.await(5, TimeUnit.SECONDS));
+        scheduler.close();
+    }
+
+    @Test
+    public void shouldStaggerConsecutiveStarts() throws InterruptedException {
+        final StreamsStartupScheduler scheduler = newScheduler(Conf.with(STARTUP_STAGGER_MS_CONFIG, 200));
+
+        final CountDownLatch started = new CountDownLatch(2);
+        final AtomicLong first = new AtomicLong();
+        final AtomicLong second = new AtomicLong();
+        scheduler.executorFor(APP_1, newContainer(new CopyOnWriteArrayList<>())).execute(() -> {
+            first.set(System.currentTimeMillis());
+            started.countDown();
+        });
+        scheduler.executorFor(APP_2, newContainer(new CopyOnWriteArrayList<>())).execute(() -> {
+            second.set(System.currentTimeMillis());
+            started.countDown();
+        });
+
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(second.get() - first.get() >= 150);
+        scheduler.close();
+    }
+
+    private static StreamsStartupScheduler newScheduler(final Conf conf) {
+        return new StreamsStartupScheduler("test", new StreamsStartupConfig(conf), THREAD_PER_TASK);
+    }
+
+    private static KafkaStreamsContainer newContainer(final List<StateChangeWatcher> watchers) {
+        final KafkaStreamsContainer container = Mockito.mock(KafkaStreamsContainer.class);
+        Mockito.doAnswer(invocation -> watchers.add((StateChangeWatcher) invocation.getArguments()[0]))
+            .when(container).addStateChangeWatcher(Mockito.any());
+        return container;
+    }
+
+    private static void changeState(final List<StateChangeWatcher> watchers, final State state) {
+        for (StateChangeWatcher watcher : watchers) {
+            if (watcher.accept(state)) {
+                watcher.onChange(new StateChangeEvent(System.currentTimeMillis(), state, State.CREATED));
+            }
+        }
+    }
+
+    private static Supplier<TopologyContainer> awaitingSupplier(final CountDownLatch latch,
+                                                               final ApplicationId id) {
+        return () -> {
+            latch.countDown();
+            try {
+                // both topologies must be built at the same time for the latch to be released.
+                if (!latch.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("topologies are not prepared in parallel");
+                }
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            final TopologyContainer container = Mockito.mock(TopologyContainer.class);
+            Mockito.when(container.applicationId()).thenReturn(id);
+            return container;
+        };
+    }
+}
@@ -29,7 +29,6 @@ import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DeleteTopicsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.streams.StreamsBuilder;
 import org.apache.kafka.streams.TopologyDescription;
@@ -48,6 +47,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -84,13 +84,11 @@ public class AutoCreateTopicsInterceptorTest {
 
         // mock Listing topics
         ListTopicsResult mkListResult = mock(ListTopicsResult.class);
-        KafkaFuture<Collection<TopicListing>> mockListingFuture = mock(KafkaFuture.class);
-
-        when(mockListingFuture.get()).thenReturn(Arrays.asList(
-            new TopicListing("test-count-repartition", false),
-            new TopicListing("test-count-changelog", false)
+        KafkaFuture<Set<String>> listingFuture = KafkaFuture.completedFuture(Set.of(
+            "test-count-repartition",
+            "test-count-changelog"
         ));
-        when(mkListResult.listings()).thenReturn(mockListingFuture);
+        when(mkListResult.names()).thenReturn(listingFuture);
         when(mkClient.listTopics()).thenReturn(mkListResult);
 
         // mock Delete topics
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.interceptors.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonMergePatchTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void shouldReturnEmptyPatchGivenEqualsDocuments() throws Exception {
+        final ObjectNode doc = read("{\"state\":\"RUNNING\",\"threads\":[{\"name\":\"t1\"}]}");
+        assertTrue(JsonMergePatch.diff(doc, doc.deepCopy()).isEmpty());
+    }
+
+    @Test
+    public void shouldOnlyContainChangedFields() throws Exception {
+        final ObjectNode source = read("{\"state\":\"RUNNING\",\"offsets\":{\"group\":\"g\",\"lag\":10}}");
+        final ObjectNode target = read("{\"state\":\"RUNNING\",\"offsets\":{\"group\":\"g\",\"lag\":5}}");
+        assertEquals(read("{\"offsets\":{\"lag\":5}}"), JsonMergePatch.diff(source, target));
+    }
+
+    @Test
+    public void shouldReplaceArraysAndNullifyRemovedFields() throws Exception {
+        final ObjectNode source = read("{\"threads\":[1,2],\"removed\":true}");
+        final ObjectNode target = read("{\"threads\":[1,3],\"added\":{\"a\":1}}");
+        assertEquals(
+            read("{\"removed\":null,\"threads\":[1,3],\"added\":{\"a\":1}}"),
+            JsonMergePatch.diff(source, target)
+        );
+    }
+
+    @Test
+    public void shouldOnlyContainChangedElementsGivenKeyedArrays() throws Exception {
+        final ObjectNode source = JsonMergePatch.withKeyedArrays(read(
+            "{\"positions\":[{\"topicPartition\":{\"topic\":\"t\",\"partition\":0},\"lag\":1},"
+            + "{\"topicPartition\":{\"topic\":\"t\",\"partition\":1},\"lag\":2}]}"));
+        final ObjectNode target = JsonMergePatch.withKeyedArrays(read(
+            "{\"positions\":[{\"topicPartition\":{\"topic\":\"t\",\"partition\":1},\"lag\":3},"
+            + "{\"topicPartition\":{\"topic\":\"t\",\"partition\":0},\"lag\":1}]}"));
+        assertEquals(read("{\"positions\":{\"t-1\":{\"lag\":3}}}"), JsonMergePatch.diff(source, target));
+    }
+
+    @Test
+    public void shouldSortArraysGivenElementsWithoutIdentity() throws Exception {
+        final ObjectNode source = JsonMergePatch.withKeyedArrays(read("{\"clients\":[\"b\",\"a\"]}"));
+        final ObjectNode target = JsonMergePatch.withKeyedArrays(read("{\"clients\":[\"a\",\"b\"]}"));
+        assertTrue(JsonMergePatch.diff(source, target).isEmpty());
+    }
+
+    private static ObjectNode read(final String json) throws Exception {
+        return (ObjectNode) MAPPER.readTree(json);
+    }
+}
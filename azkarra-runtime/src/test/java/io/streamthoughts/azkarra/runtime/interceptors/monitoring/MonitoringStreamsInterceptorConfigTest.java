@@ -20,14 +20,18 @@ package io.streamthoughts.azkarra.runtime.interceptors.monitoring;
 
 import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig;
+import io.streamthoughts.azkarra.runtime.interceptors.monitoring.ce.CloudEventsContentMode;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
 
 import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_ADVERTISED_SERVER_CONFIG;
+import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_BATCH_WINDOW_MS_DEFAULT;
+import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_CE_MODE_CONFIG;
 import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_EXTENSIONS_CONFIG;
 import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_INTERVAL_MS_CONFIG;
 import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_INTERVAL_MS_DEFAULT;
+import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_SNAPSHOT_EVERY_DEFAULT;
 import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_TOPIC_CONFIG;
 import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_TOPIC_DEFAULT;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -43,6 +47,9 @@ public class MonitoringStreamsInterceptorConfigTest {
         assertEquals(MONITORING_INTERCEPTOR_TOPIC_DEFAULT, config.getTopic());
         assertTrue(config.getAdvertisedServer().isEmpty());
         assertTrue(config.getExtensions().toAttributesExtensions().isEmpty());
+        assertEquals(CloudEventsContentMode.STRUCTURED, config.getContentMode());
+        assertEquals(MONITORING_INTERCEPTOR_SNAPSHOT_EVERY_DEFAULT, config.getSnapshotEveryEvents());
+        assertEquals(MONITORING_INTERCEPTOR_BATCH_WINDOW_MS_DEFAULT, config.getBatchWindowMs());
     }
 
     @Test
@@ -61,6 +68,14 @@ public class MonitoringStreamsInterceptorConfigTest {
         assertEquals(5000L, config.getIntervalMs());
     }
 
+    @Test
+    public void shouldGetProvidedContentModeConfig() {
+        MonitoringStreamsInterceptorConfig config = new MonitoringStreamsInterceptorConfig(
+            Conf.with(MONITORING_INTERCEPTOR_CE_MODE_CONFIG, "binary")
+        );
+        assertEquals(CloudEventsContentMode.BINARY, config.getContentMode());
+    }
+
     @Test
     public void shouldGetProvidedTopicConfig() {
         MonitoringStreamsInterceptorConfig config = new MonitoringStreamsInterceptorConfig(
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.interceptors.monitoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.api.model.TimestampedValue;
+import io.streamthoughts.azkarra.api.streams.State;
+import io.streamthoughts.azkarra.api.streams.consumer.ConsumerGroupOffsets;
+import io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_INTERVAL_MS_CONFIG;
+import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_SNAPSHOT_EVERY_CONFIG;
+import static io.streamthoughts.azkarra.runtime.interceptors.MonitoringStreamsInterceptorConfig.MONITORING_INTERCEPTOR_TOPIC_CONFIG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class MonitoringStreamsTaskTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final KafkaStreamsMetadata REBALANCING = newMetadata(State.REBALANCING);
+    private static final KafkaStreamsMetadata RUNNING = newMetadata(State.RUNNING);
+
+    private MockProducer<byte[], byte[]> producer;
+
+    private MonitoringStreamsTask task;
+
+    @BeforeEach
+    public void setUp() {
+        producer = new MockProducer<>(false, new ByteArraySerializer(), new ByteArraySerializer());
+        final MonitoringStreamsInterceptorConfig config = new MonitoringStreamsInterceptorConfig(Conf.with(Map.of(
+            MONITORING_INTERCEPTOR_INTERVAL_MS_CONFIG, 3_600_000L,
+            MONITORING_INTERCEPTOR_TOPIC_CONFIG, "monitoring",
+            MONITORING_INTERCEPTOR_SNAPSHOT_EVERY_CONFIG, 10
+        )));
+        task = new MonitoringStreamsTask("app", "server", Collections::emptyMap, () -> REBALANCING, producer, config);
+        task.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        task.shutdown();
+    }
+
+    @Test
+    public void shouldKeyEventsByInstanceAndComputeDeltasAgainstAcknowledgedSnapshot() throws Exception {
+        final JsonNode snapshot = awaitEvent(0);
+        assertEquals("io.streamthoughts.azkarra.streams.stateupdateevent", snapshot.get("type").asText());
+        assertEquals("appid:app;appsrv:server", new String(producer.history().get(0).key(), StandardCharsets.UTF_8));
+        assertEquals(0L, snapshot.get("monitorseq").asLong());
+        assertEquals(snapshot.get("id").asText(), snapshot.get("monitorsnapshotid").asText());
+
+        producer.completeNext();
+        task.offer(RUNNING);
+        final JsonNode first = awaitEvent(1);
+        assertEquals(MonitoringStreamsTask.DELTA_EVENT_TYPE, first.get("type").asText());
+        assertEquals(1L, first.get("monitorseq").asLong());
+        assertEquals(snapshot.get("id").asText(), first.get("monitorsnapshotid").asText());
+        assertEquals("RUNNING", first.get("data").get("state").asText());
+
+        // the first delta is never acknowledged, the next one must still apply to the snapshot.
+        task.offer(REBALANCING);
+        final JsonNode second = awaitEvent(2);
+        assertEquals(MonitoringStreamsTask.DELTA_EVENT_TYPE, second.get("type").asText());
+        assertEquals(2L, second.get("monitorseq").asLong());
+        assertEquals(snapshot.get("id").asText(), second.get("monitorsnapshotid").asText());
+        assertEquals(0, second.get("data").size());
+    }
+
+    @Test
+    public void shouldSendSnapshotGivenNoAcknowledgedSnapshot() throws Exception {
+        final JsonNode snapshot = awaitEvent(0);
+        task.offer(RUNNING);
+        final JsonNode next = awaitEvent(1);
+        assertEquals("io.streamthoughts.azkarra.streams.stateupdateevent", next.get("type").asText());
+        assertEquals(next.get("id").asText(), next.get("monitorsnapshotid").asText());
+        assertNotEquals(snapshot.get("id").asText(), next.get("id").asText());
+    }
+
+    private JsonNode awaitEvent(final int index) throws Exception {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (producer.history().size() <= index && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        final ProducerRecord<byte[], byte[]> record = producer.history().get(index);
+        return MAPPER.readTree(record.value());
+    }
+
+    private static KafkaStreamsMetadata newMetadata(final State state) {
+        return new KafkaStreamsMetadata(
+            new TimestampedValue<>(0L, state),
+            Collections.emptySet(),
+            new ConsumerGroupOffsets("app", Collections.emptySet())
+        );
+    }
+}
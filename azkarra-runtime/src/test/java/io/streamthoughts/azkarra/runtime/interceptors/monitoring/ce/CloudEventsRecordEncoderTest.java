@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.interceptors.monitoring.ce;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CloudEventsRecordEncoderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final CloudEventsEntity<Map<String, Object>> EVENT = CloudEventsBuilder
+        .<Map<String, Object>>newBuilder()
+        .withId("id")
+        .withSource("source")
+        .withType("type")
+        .withSpecVersion("1.0")
+        .withDataContentType("application/json")
+        .withData(Map.of("state", "RUNNING"))
+        .withExtension(CloudEventsExtension.of("ext", "value"))
+        .build();
+
+    @Test
+    public void shouldEncodeEventGivenStructuredMode() throws Exception {
+        final CloudEventsRecordEncoder encoder = new CloudEventsRecordEncoder(MAPPER, CloudEventsContentMode.STRUCTURED);
+        final ProducerRecord<byte[], byte[]> record = encoder.encode("topic", null, EVENT);
+
+        final JsonNode value = MAPPER.readTree(record.value());
+        assertEquals("id", value.get("id").asText());
+        assertEquals("value", value.get("ext").asText());
+        assertEquals("RUNNING", value.get("data").get("state").asText());
+        assertNull(record.headers().lastHeader("ce_id"));
+    }
+
+    @Test
+    public void shouldEncodeEventAttributesInHeadersGivenBinaryMode() throws Exception {
+        final CloudEventsRecordEncoder encoder = new CloudEventsRecordEncoder(MAPPER, CloudEventsContentMode.BINARY);
+        // encode twice to check that the buffer is correctly reused.
+        encoder.encode("topic", null, EVENT);
+        final ProducerRecord<byte[], byte[]> record = encoder.encode("topic", null, EVENT);
+
+        assertEquals("{\"state\":\"RUNNING\"}", new String(record.value(), StandardCharsets.UTF_8));
+        assertEquals("id", header(record, "ce_id"));
+        assertEquals("source", header(record, "ce_source"));
+        assertEquals("type", header(record, "ce_type"));
+        assertEquals("1.0", header(record, "ce_specversion"));
+        assertEquals("value", header(record, "ce_ext"));
+        assertEquals("application/json", header(record, "content-type"));
+    }
+
+    private static String header(final ProducerRecord<byte[], byte[]> record, final String key) {
+        return new String(record.headers().lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+}
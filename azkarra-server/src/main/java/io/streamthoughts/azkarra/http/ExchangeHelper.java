@@ -22,7 +22,9 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
 import io.streamthoughts.azkarra.http.error.InvalidHttpQueryParamException;
+import io.streamthoughts.azkarra.http.serialization.binary.BinaryQueryResultSerdes;
 import io.streamthoughts.azkarra.http.serialization.json.GenericRecordSerializer;
 import io.streamthoughts.azkarra.serialization.SerializationException;
 import io.streamthoughts.azkarra.serialization.json.AzkarraSimpleModule;
@@ -32,6 +34,7 @@ import io.undertow.util.Headers;
 import io.undertow.util.StatusCodes;
 import org.apache.avro.generic.GenericRecord;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Deque;
 import java.util.Map;
@@ -46,6 +49,8 @@ public class ExchangeHelper {
 
     static final Json JSON = new Json(new ObjectMapper());
 
+    static final BinaryQueryResultSerdes BINARY_SERDES = new BinaryQueryResultSerdes(JSON);
+
     static {
         final SimpleModule module = new SimpleModule();
         module.addSerializer(GenericRecord.class, new GenericRecordSerializer());
@@ -134,6 +139,25 @@ public class ExchangeHelper {
         exchange.getResponseSender().send(JSON.serialize(response), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Static helper that can be used to write a {@link QueryResult} to HTTP-response with {@link StatusCodes#OK}.
+     *
+     * The result is written using the compact binary format if accepted by the client, or JSON otherwise.
+     *
+     * @param exchange  the {@link HttpServerExchange} instance.
+     * @param result    the {@link QueryResult} to serialize.
+     */
+    public static void sendQueryResponse(final HttpServerExchange exchange, final QueryResult<?, ?> result) {
+        final String accept = exchange.getRequestHeaders().getFirst(Headers.ACCEPT);
+        if (accept != null && accept.contains(BinaryQueryResultSerdes.CONTENT_TYPE)) {
+            exchange.setStatusCode(StatusCodes.OK);
+            exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, BINARY_SERDES.contentType());
+            exchange.getResponseSender().send(ByteBuffer.wrap(BINARY_SERDES.serialize(result)));
+        } else {
+            sendJsonResponse(exchange, result);
+        }
+    }
+
     private static Optional<String> getFirst(final String name,
                                              final Map<String, Deque<String>> parameters) {
         Deque<String> parameter = parameters.get(name);
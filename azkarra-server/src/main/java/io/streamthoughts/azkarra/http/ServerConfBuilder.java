@@ -35,6 +35,7 @@ public class ServerConfBuilder {
     public static final String HTTP_LISTENER_LISTER_CONFIG         = "listener";
     public static final String HTTP_ENABLE_UI                      = "enable.ui";
     public static final String HTTP_REST_EXTENSIONS_ENABLE         = "rest.extensions.enable";
+    public static final String HTTP_REMOTE_QUERY_BINARY_ENABLE     = "remote.query.binary.enable";
 
     private final Map<String, Object> configs;
 
@@ -71,6 +72,17 @@ public class ServerConfBuilder {
         return this;
     }
 
+    /**
+     * Sets if the compact binary format must be used for queries forwarded to remote instances.
+     *
+     * @param enable    {@code true} to enable the binary format, {@code false} to always use JSON.
+     * @return  {@code this}.
+     */
+    public ServerConfBuilder enableRemoteQueryBinary(final boolean enable) {
+        configs.put(HTTP_REMOTE_QUERY_BINARY_ENABLE, enable);
+        return this;
+    }
+
     /**
      * Sets if the Web UI must be enable.
      *
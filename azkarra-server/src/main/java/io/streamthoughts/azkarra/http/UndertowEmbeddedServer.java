@@ -22,11 +22,11 @@ import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
 import io.streamthoughts.azkarra.api.AzkarraContext;
 import io.streamthoughts.azkarra.api.AzkarraContextAware;
-import io.streamthoughts.azkarra.api.AzkarraStreamsService;
 import io.streamthoughts.azkarra.api.annotations.VisibleForTesting;
 import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.api.config.Configurable;
 import io.streamthoughts.azkarra.api.errors.AzkarraException;
+import io.streamthoughts.azkarra.api.query.NearCache;
 import io.streamthoughts.azkarra.api.query.result.QueryResult;
 import io.streamthoughts.azkarra.api.server.AzkarraRestExtension;
 import io.streamthoughts.azkarra.api.server.AzkarraRestExtensionContext;
@@ -36,7 +36,12 @@ import io.streamthoughts.azkarra.http.error.AzkarraExceptionMapper;
 import io.streamthoughts.azkarra.http.error.ExceptionDefaultHandler;
 import io.streamthoughts.azkarra.http.error.ExceptionDefaultResponseListener;
 import io.streamthoughts.azkarra.http.handler.HeadlessHttpHandler;
+import io.streamthoughts.azkarra.http.handler.NearCacheMetricsHandler;
+import io.streamthoughts.azkarra.http.handler.RemoteQueryClientMetricsHandler;
 import io.streamthoughts.azkarra.http.query.HttpRemoteQueryBuilder;
+import io.streamthoughts.azkarra.http.query.HttpRemoteQueryClient;
+import io.streamthoughts.azkarra.http.query.NearCacheConfig;
+import io.streamthoughts.azkarra.http.query.RemoteQueryClientConfig;
 import io.streamthoughts.azkarra.http.routes.WebUIHttpRoutes;
 import io.streamthoughts.azkarra.http.security.SSLContextFactory;
 import io.streamthoughts.azkarra.http.security.SecurityConfig;
@@ -80,6 +85,8 @@ public class UndertowEmbeddedServer implements EmbeddedHttpServer {
 
     private static final int HTTP_PORT_DEFAULT = 8080;
     private static final String HTTP_LISTENER_DEFAULT = "localhost";
+    private static final String PATH_REMOTE_QUERY_CLIENT_METRICS = APIVersions.PATH_V1 + "/metrics/remote-query-client";
+    private static final String PATH_NEAR_CACHE_METRICS = APIVersions.PATH_V1 + "/metrics/query-near-cache";
 
     private final Object monitor = new Object();
 
@@ -89,7 +96,7 @@ public class UndertowEmbeddedServer implements EmbeddedHttpServer {
 
     private ServerInfo serverInfo;
 
-    private AzkarraStreamsService service;
+    private LocalAzkarraStreamsService service;
 
     private Undertow server;
 
@@ -178,7 +185,16 @@ public class UndertowEmbeddedServer implements EmbeddedHttpServer {
     private void initializeAzkarraStreamsServiceComponent() {
         HttpRemoteQueryBuilder httpRemoteQueryBuilder = new HttpRemoteQueryBuilder()
                 .setBasePath(APIVersions.PATH_V1)
-                .setSerdes(new SpecificJsonSerdes<>(ExchangeHelper.JSON, QueryResult.class));
+                .setClientConfig(new RemoteQueryClientConfig(config));
+
+        final SpecificJsonSerdes<QueryResult> jsonSerdes =
+            new SpecificJsonSerdes<>(ExchangeHelper.JSON, QueryResult.class);
+        if (isRemoteQueryBinaryEnable()) {
+            // remote servers which do not support the binary format will still respond using JSON.
+            httpRemoteQueryBuilder.setSerdes(ExchangeHelper.BINARY_SERDES).addFallbackSerdes(jsonSerdes);
+        } else {
+            httpRemoteQueryBuilder.setSerdes(jsonSerdes);
+        }
 
         if (securityConfig.isSslEnable()) {
             httpRemoteQueryBuilder.setSSLContextFactory(sslContextFactory);
@@ -189,7 +205,17 @@ public class UndertowEmbeddedServer implements EmbeddedHttpServer {
             httpRemoteQueryBuilder.enablePasswordAuthentication(true);
         }
 
-        service = new LocalAzkarraStreamsService(context, httpRemoteQueryBuilder.build());
+        final HttpRemoteQueryClient remoteQueryClient = httpRemoteQueryBuilder.build();
+        routing.get(PATH_REMOTE_QUERY_CLIENT_METRICS, new RemoteQueryClientMetricsHandler(remoteQueryClient));
+
+        // cached results are weighed by their size in the binary format used between instances.
+        final NearCache nearCache = new NearCacheConfig(config)
+            .newNearCache(result -> ExchangeHelper.BINARY_SERDES.serialize(result).length);
+        if (nearCache != null) {
+            routing.get(PATH_NEAR_CACHE_METRICS, new NearCacheMetricsHandler(nearCache));
+        }
+
+        service = new LocalAzkarraStreamsService(context, remoteQueryClient, nearCache);
         context.registerSingleton(service);
     }
 
@@ -198,6 +224,11 @@ public class UndertowEmbeddedServer implements EmbeddedHttpServer {
         return config.getOptionalBoolean(ServerConfBuilder.HTTP_REST_EXTENSIONS_ENABLE).orElse(false);
     }
 
+    private boolean isRemoteQueryBinaryEnable() {
+        // by default the binary format should be used between instances.
+        return config.getOptionalBoolean(ServerConfBuilder.HTTP_REMOTE_QUERY_BINARY_ENABLE).orElse(true);
+    }
+
     private boolean isWebUIEnable() {
         // by default Web UI should always be enable.
         return config.getOptionalBoolean(ServerConfBuilder.HTTP_ENABLE_UI).orElse(true);
@@ -367,6 +398,9 @@ public class UndertowEmbeddedServer implements EmbeddedHttpServer {
                     LOG.error("Failed to stop Undertow embedded REST server", ex);
                 }
             }
+            if (service != null) {
+                service.close();
+            }
         }
     }
 
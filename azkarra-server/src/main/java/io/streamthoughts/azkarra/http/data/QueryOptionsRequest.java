@@ -19,13 +19,17 @@
 package io.streamthoughts.azkarra.http.data;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.streamthoughts.azkarra.api.query.QueryCursor;
 
 /**
  * Class which is used for serializing and de-serializing state store query options.
  */
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
+// the partitions of a query are internal, i.e. only sent between instances through a dedicated header.
+@JsonIgnoreProperties({"partitions"})
 public class QueryOptionsRequest {
 
     private final Integer retries;
@@ -38,17 +42,54 @@ public class QueryOptionsRequest {
 
     private final Long limit;
 
+    private final QueryCursor cursor;
+
+    private final Boolean parallel;
+
+    private final Double hedgingPercentile;
+
+    private final Long maxOffsetLag;
+
+    private final Boolean nearCache;
+
+    public QueryOptionsRequest(final Integer retries,
+                               final Long retryBackoff,
+                               final Long queryTimeout,
+                               final Boolean remoteAccessAllowed,
+                               final Long limit) {
+        this(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, null);
+    }
+
+    public QueryOptionsRequest(final Integer retries,
+                               final Long retryBackoff,
+                               final Long queryTimeout,
+                               final Boolean remoteAccessAllowed,
+                               final Long limit,
+                               final QueryCursor cursor) {
+        this(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, cursor, null, null, null, null);
+    }
+
     @JsonCreator
     public QueryOptionsRequest(@JsonProperty("retries") final Integer retries,
                                @JsonProperty("retry_backoff_ms") final Long retryBackoff,
                                @JsonProperty("query_timeout_ms") final Long queryTimeout,
                                @JsonProperty("remote_access_allowed") final Boolean remoteAccessAllowed,
-                               @JsonProperty("limit") final Long limit) {
+                               @JsonProperty("limit") final Long limit,
+                               @JsonProperty("cursor") final QueryCursor cursor,
+                               @JsonProperty("parallel") final Boolean parallel,
+                               @JsonProperty("hedging_percentile") final Double hedgingPercentile,
+                               @JsonProperty("max_offset_lag") final Long maxOffsetLag,
+                               @JsonProperty("near_cache") final Boolean nearCache) {
         this.retries = retries;
         this.retryBackoff = retryBackoff;
         this.queryTimeout = queryTimeout;
         this.remoteAccessAllowed = remoteAccessAllowed;
         this.limit = limit;
+        this.cursor = cursor;
+        this.parallel = parallel;
+        this.hedgingPercentile = hedgingPercentile;
+        this.maxOffsetLag = maxOffsetLag;
+        this.nearCache = nearCache;
     }
 
     @JsonProperty("retries")
@@ -75,4 +116,29 @@ public class QueryOptionsRequest {
     public Long limit() {
         return limit;
     }
+
+    @JsonProperty("cursor")
+    public QueryCursor cursor() {
+        return cursor;
+    }
+
+    @JsonProperty("parallel")
+    public Boolean isParallel() {
+        return parallel;
+    }
+
+    @JsonProperty("hedging_percentile")
+    public Double hedgingPercentile() {
+        return hedgingPercentile;
+    }
+
+    @JsonProperty("max_offset_lag")
+    public Long maxOffsetLag() {
+        return maxOffsetLag;
+    }
+
+    @JsonProperty("near_cache")
+    public Boolean isNearCache() {
+        return nearCache;
+    }
 }
@@ -22,6 +22,8 @@ import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.api.query.Queried;
 import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.internal.Query;
+import io.streamthoughts.azkarra.http.error.BadRequestException;
+import io.streamthoughts.azkarra.http.query.HttpRemoteQueryClient;
 import io.streamthoughts.azkarra.http.query.JsonQuerySerde;
 import io.streamthoughts.azkarra.http.ExchangeHelper;
 import io.streamthoughts.azkarra.api.AzkarraStreamsService;
@@ -29,6 +31,9 @@ import io.streamthoughts.azkarra.api.query.result.QueryResult;
 import io.undertow.server.HttpServerExchange;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class ApplicationQueryStoreHandler extends AbstractStreamHttpHandler implements WithApplication {
 
@@ -54,15 +59,37 @@ public class ApplicationQueryStoreHandler extends AbstractStreamHttpHandler impl
         Tuple<QueryInfo, Queried> deserialized = JsonQuerySerde.deserialize(store, data);
 
         QueryInfo queryInfo = deserialized.left();
+        final Queried options = withQueriedPartitions(exchange, deserialized.right());
 
         Query<Object, Object> query = queryInfo.type().buildQuery(queryInfo.storeName(), queryInfo.operation());
         final QueryResult<Object, Object> result = service.query(
                 applicationId,
                 query,
                 queryInfo.parameters(),
-                deserialized.right()
+                options
         );
-        ExchangeHelper.sendJsonResponse(exchange, result);
+        ExchangeHelper.sendQueryResponse(exchange, result);
+    }
+
+    /**
+     * Restricts the query to the partitions sent by the querying instance. Partitions are only accepted for
+     * a query which is not forwarded to other instances, i.e. for a query sent by another instance.
+     */
+    private static Queried withQueriedPartitions(final HttpServerExchange exchange, final Queried options) {
+        final String header = exchange.getRequestHeaders().getFirst(HttpRemoteQueryClient.QUERY_PARTITIONS_HEADER);
+        if (header == null || options.remoteAccessAllowed()) {
+            return options;
+        }
+        try {
+            final Set<Integer> partitions = Arrays.stream(header.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .collect(Collectors.toSet());
+            return options.withPartitions(partitions);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid header '" + HttpRemoteQueryClient.QUERY_PARTITIONS_HEADER
+                + "': " + header);
+        }
     }
 }
 
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.handler;
+
+import io.streamthoughts.azkarra.api.query.NearCache;
+import io.streamthoughts.azkarra.http.ExchangeHelper;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+
+import java.util.Objects;
+
+public class NearCacheMetricsHandler implements HttpHandler {
+
+    private final NearCache nearCache;
+
+    /**
+     * Creates a new {@link NearCacheMetricsHandler} instance.
+     *
+     * @param nearCache the {@link NearCache} instance.
+     */
+    public NearCacheMetricsHandler(final NearCache nearCache) {
+        this.nearCache = Objects.requireNonNull(nearCache, "nearCache cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleRequest(final HttpServerExchange exchange) {
+        ExchangeHelper.sendJsonResponse(exchange, nearCache.metrics());
+    }
+}
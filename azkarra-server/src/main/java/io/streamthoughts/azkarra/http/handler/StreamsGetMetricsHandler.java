@@ -18,7 +18,6 @@
  */
 package io.streamthoughts.azkarra.http.handler;
 
-import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.exporter.common.TextFormat;
 import io.streamthoughts.azkarra.api.errors.AzkarraException;
 import io.streamthoughts.azkarra.api.model.Metric;
@@ -30,27 +29,45 @@ import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.http.ExchangeHelper;
 import io.streamthoughts.azkarra.api.AzkarraStreamsService;
 import io.streamthoughts.azkarra.http.error.MetricNotFoundException;
-import io.streamthoughts.azkarra.http.prometheus.KafkaStreamsMetricsCollector;
+import io.streamthoughts.azkarra.http.prometheus.StreamsPrometheusExporter;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.Headers;
+import org.apache.kafka.common.MetricName;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.util.Collections;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
 public class StreamsGetMetricsHandler extends AbstractStreamHttpHandler implements WithApplication {
 
+    private final StreamsPrometheusExporter exporter;
+
     /**
      * Creates a new {@link StreamsGetMetricsHandler} instance.
      *
      * @param service   the {@link AzkarraStreamsService} instance.
      */
     public StreamsGetMetricsHandler(final AzkarraStreamsService service) {
+        this(service, new StreamsPrometheusExporter(service));
+    }
+
+    /**
+     * Creates a new {@link StreamsGetMetricsHandler} instance.
+     *
+     * @param service   the {@link AzkarraStreamsService} instance.
+     * @param exporter  the {@link StreamsPrometheusExporter} used for Prometheus scrapping.
+     */
+    public StreamsGetMetricsHandler(final AzkarraStreamsService service,
+                                    final StreamsPrometheusExporter exporter) {
         super(service);
+        this.exporter = Objects.requireNonNull(exporter, "exporter cannot be null");
     }
 
     /**
@@ -63,29 +80,18 @@ public class StreamsGetMetricsHandler extends AbstractStreamHttpHandler implemen
         final Optional<String> name  = ExchangeHelper.getOptionalQueryParam(exchange, "metric");
         final Optional<String> format  = ExchangeHelper.getOptionalQueryParam(exchange, "format");
 
-        Optional<Predicate<Tuple<String, Metric>>> all = Optional.of(t -> true);
-
-        Predicate<Tuple<String, Metric>> filter = all
-            .map(predicate -> empty.map(f -> new NonNullMetricFilter()).map(predicate::and).orElse(predicate))
-            .map(predicate -> group.map(GroupMetricFilter::new).map(predicate::and).orElse(predicate))
-            .map(predicate -> name.map(NameMetricFilter::new).map(predicate::and).orElse(predicate))
-            .get();
-
         if (format.isPresent() && format.get().equals("prometheus")) {
-
-            CollectorRegistry registry = new CollectorRegistry();
-            new KafkaStreamsMetricsCollector(service, filter, applicationId).register(registry);
-
             exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, TextFormat.CONTENT_TYPE_004);
 
-            OutputStream outputStream = exchange.getOutputStream();
-            try (OutputStreamWriter writer = new OutputStreamWriter(outputStream)) {
-                TextFormat.write004(writer, registry.filteredMetricFamilySamples(Collections.emptySet()));
+            final OutputStreamWriter os = new OutputStreamWriter(exchange.getOutputStream(), StandardCharsets.UTF_8);
+            try (Writer writer = new BufferedWriter(os)) {
+                exporter.write(writer, applicationId, newPrometheusFilter(empty, group, name));
             } catch (final IOException e) {
                 throw new AzkarraException("Unexpected error happens while writing metrics", e);
             }
         } else {
-            Set<MetricGroup> groupSet = service.getStreamsMetricsById(applicationId, filter);
+            final Predicate<Tuple<String, Metric>> filter = newMetricFilter(empty, group, name);
+            final Set<MetricGroup> groupSet = service.getStreamsMetricsById(applicationId, filter);
 
             final Optional<Metric> metric = groupSet.stream()
                     .flatMap(g -> g.metrics().stream())
@@ -107,4 +113,33 @@ public class StreamsGetMetricsHandler extends AbstractStreamHttpHandler implemen
             }
         }
     }
-}
\ No newline at end of file
+
+    private static Predicate<Tuple<String, Metric>> newMetricFilter(final Optional<String> empty,
+                                                                    final Optional<String> group,
+                                                                    final Optional<String> name) {
+        Optional<Predicate<Tuple<String, Metric>>> all = Optional.of(t -> true);
+
+        return all
+            .map(predicate -> empty.map(f -> new NonNullMetricFilter()).map(predicate::and).orElse(predicate))
+            .map(predicate -> group.map(GroupMetricFilter::new).map(predicate::and).orElse(predicate))
+            .map(predicate -> name.map(NameMetricFilter::new).map(predicate::and).orElse(predicate))
+            .get();
+    }
+
+    private static BiPredicate<MetricName, Object> newPrometheusFilter(final Optional<String> empty,
+                                                                       final Optional<String> group,
+                                                                       final Optional<String> name) {
+        // metrics are filtered before being converted so that no intermediate objects are created.
+        BiPredicate<MetricName, Object> filter = (metricName, value) -> true;
+        if (empty.isPresent()) {
+            filter = filter.and((metricName, value) -> NonNullMetricFilter.isNotEmpty(value));
+        }
+        if (group.isPresent()) {
+            filter = filter.and((metricName, value) -> metricName.group().equals(group.get()));
+        }
+        if (name.isPresent()) {
+            filter = filter.and((metricName, value) -> metricName.name().equals(name.get()));
+        }
+        return filter;
+    }
+}
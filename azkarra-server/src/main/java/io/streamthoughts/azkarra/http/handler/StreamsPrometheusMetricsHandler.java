@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.handler;
+
+import io.prometheus.client.exporter.common.TextFormat;
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+import io.streamthoughts.azkarra.http.prometheus.StreamsPrometheusExporter;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Exports the metrics of all running streams applications for Prometheus scrapping.
+ */
+public class StreamsPrometheusMetricsHandler implements HttpHandler {
+
+    private final StreamsPrometheusExporter exporter;
+
+    /**
+     * Creates a new {@link StreamsPrometheusMetricsHandler} instance.
+     *
+     * @param exporter  the {@link StreamsPrometheusExporter} instance.
+     */
+    public StreamsPrometheusMetricsHandler(final StreamsPrometheusExporter exporter) {
+        this.exporter = Objects.requireNonNull(exporter, "exporter cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleRequest(final HttpServerExchange exchange) {
+        exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, TextFormat.CONTENT_TYPE_004);
+
+        final OutputStreamWriter os = new OutputStreamWriter(exchange.getOutputStream(), StandardCharsets.UTF_8);
+        try (Writer writer = new BufferedWriter(os)) {
+            exporter.writeAll(writer);
+        } catch (final IOException e) {
+            throw new AzkarraException("Unexpected error happens while writing metrics", e);
+        }
+    }
+}
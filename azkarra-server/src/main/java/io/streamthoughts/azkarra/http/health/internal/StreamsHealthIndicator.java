@@ -23,11 +23,13 @@ import io.streamthoughts.azkarra.api.AzkarraContextAware;
 import io.streamthoughts.azkarra.api.AzkarraStreamsService;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import io.streamthoughts.azkarra.api.streams.State;
+import io.streamthoughts.azkarra.api.streams.restore.StateRestoreProgress;
 import io.streamthoughts.azkarra.http.health.Health;
 import io.streamthoughts.azkarra.http.health.HealthIndicator;
 import io.streamthoughts.azkarra.http.health.Status;
 import io.streamthoughts.azkarra.http.health.StatusAggregator;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,6 +40,7 @@ public class StreamsHealthIndicator implements HealthIndicator, AzkarraContextAw
 
     private static final String STATE_DETAIL = "state";
     private static final String APPLICATIONS = "applications";
+    private static final String RESTORE_DETAIL = "restore";
 
     private AzkarraStreamsService service;
 
@@ -64,6 +67,7 @@ public class StreamsHealthIndicator implements HealthIndicator, AzkarraContextAw
                 .Builder()
                 .withDetails(STATE_DETAIL, container.state().value());
             setHealthStatus(container, builder);
+            setRestoreDetails(container, builder);
             healths.put(container.applicationId(), builder.build());
         }
         Health.Builder builder = new Health.Builder();
@@ -95,6 +99,20 @@ public class StreamsHealthIndicator implements HealthIndicator, AzkarraContextAw
         }
     }
 
+    private void setRestoreDetails(final KafkaStreamsContainer container,
+                                   final Health.Builder builder) {
+        final StateRestoreProgress progress = container.restoreProgress();
+        // details are only reported while stores are restoring, so that they can be used to gate readiness.
+        if (progress.restoring()) {
+            final Map<String, Object> details = new LinkedHashMap<>();
+            details.put("remaining_records", progress.remainingRecords());
+            details.put("records_rate", progress.recordsRate());
+            details.put("bytes_rate", progress.bytesRate());
+            details.put("eta_ms", progress.etaMs());
+            builder.withDetails(RESTORE_DETAIL, details);
+        }
+    }
+
     private List<KafkaStreamsContainer> getAllStreams() {
         return this.service.getAllStreams()
                     .stream()
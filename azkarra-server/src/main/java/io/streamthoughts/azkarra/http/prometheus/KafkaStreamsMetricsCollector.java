@@ -38,7 +38,10 @@ import java.util.stream.Collectors;
 /**
  * Simple {@link Collector} implementation for collecting
  * metrics from {@link org.apache.kafka.streams.KafkaStreams} instance.
+ *
+ * @deprecated use {@link StreamsPrometheusExporter} which caches metric descriptors across scrapes.
  */
+@Deprecated
 public class KafkaStreamsMetricsCollector extends Collector {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaStreamsMetricsCollector.class);
@@ -0,0 +1,492 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.prometheus;
+
+import io.prometheus.client.Collector;
+import io.streamthoughts.azkarra.api.AzkarraStreamsService;
+import io.streamthoughts.azkarra.api.errors.NotFoundException;
+import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.consumer.ConsumerClientOffsets;
+import io.streamthoughts.azkarra.api.streams.consumer.ConsumerLogOffsets;
+import io.streamthoughts.azkarra.api.streams.restore.StoreRestoreProgress;
+import io.streamthoughts.azkarra.api.streams.rocksdb.RocksDBStatisticsRegistry;
+import io.streamthoughts.azkarra.commons.error.SafeDeserializerMetrics;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.metrics.KafkaMetric;
+import org.apache.kafka.common.metrics.stats.CumulativeSum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A long-lived exporter which writes the metrics of {@link org.apache.kafka.streams.KafkaStreams} instances
+ * using the Prometheus text format (version 0.0.4).
+ *
+ * The family name, type, help and labels of each metric are computed only once and cached for subsequent scrapes.
+ * All samples sharing the same name are grouped into a single family and written directly to the given writer.
+ * Kafka metrics measured with a cumulative sum or count are exported as counters, all others as gauges.
+ *
+ * The safe deserializer metrics and the RocksDB statistics are exported along with the Kafka metrics.
+ * The lag of each consumed topic-partition, in records and in time, is exported under the
+ * {@code consumer-lag-metrics} group. The restoration progress of each state store
+ * partition is exported under the {@code state-restore-metrics} group.
+ */
+public class StreamsPrometheusExporter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamsPrometheusExporter.class);
+
+    private static final String LABEL_METRIC_GROUP = "group";
+    private static final String LABEL_APPLICATION  = "id";
+    private static final String METRIC_NAMESPACE   = "streams_";
+    private static final String LABEL_VALUE = "value";
+
+    private static final String TYPE_COUNTER = "counter";
+    private static final String TYPE_GAUGE = "gauge";
+
+    private static final BiPredicate<MetricName, Object> ALL = (name, value) -> true;
+
+    private static final String LAG_METRIC_GROUP = "consumer-lag-metrics";
+
+    private static final List<DerivedMetric<ConsumerLogOffsets>> LAG_METRICS = List.of(
+        new DerivedMetric<>(LAG_METRIC_GROUP, "consumer-lag-records",
+            "The number of records the consumer is lagging behind",
+            ConsumerLogOffsets::lag),
+        new DerivedMetric<>(LAG_METRIC_GROUP, "consumer-lag-ms",
+            "The age of the last consumed record in ms, or zero if not lagging",
+            o -> o.lagEstimate().lagMs()),
+        new DerivedMetric<>(LAG_METRIC_GROUP, "consumer-consume-rate",
+            "The number of records consumed per second",
+            o -> o.lagEstimate().consumeRate()),
+        new DerivedMetric<>(LAG_METRIC_GROUP, "consumer-produce-rate",
+            "The number of records produced per second",
+            o -> o.lagEstimate().produceRate()),
+        new DerivedMetric<>(LAG_METRIC_GROUP, "consumer-catch-up-eta-ms",
+            "The estimated time in ms for consuming the current lag",
+            o -> o.lagEstimate().catchUpEtaMs())
+    );
+
+    private static final String RESTORE_METRIC_GROUP = "state-restore-metrics";
+
+    private static final List<DerivedMetric<StoreRestoreProgress>> RESTORE_METRICS = List.of(
+        new DerivedMetric<>(RESTORE_METRIC_GROUP, "restore-total-restored",
+            "The number of records restored so far",
+            StoreRestoreProgress::totalRestored),
+        new DerivedMetric<>(RESTORE_METRIC_GROUP, "restore-remaining-records",
+            "The number of records remaining to be restored",
+            StoreRestoreProgress::remainingRecords),
+        new DerivedMetric<>(RESTORE_METRIC_GROUP, "restore-records-rate",
+            "The moving average of the number of records restored per second",
+            StoreRestoreProgress::restoreRate),
+        new DerivedMetric<>(RESTORE_METRIC_GROUP, "restore-eta-ms",
+            "The estimated time in ms for completing the restoration",
+            StoreRestoreProgress::etaMs)
+    );
+
+    private final AzkarraStreamsService service;
+
+    private final Map<String, Map<MetricName, MetricDescriptor>> descriptors = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<TopicPartition, MetricDescriptor[]>> lagDescriptors = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<Tuple<String, TopicPartition>, MetricDescriptor[]>> restoreDescriptors =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link StreamsPrometheusExporter} instance.
+     *
+     * @param service   the {@link AzkarraStreamsService} instance.
+     */
+    public StreamsPrometheusExporter(final AzkarraStreamsService service) {
+        this.service = Objects.requireNonNull(service, "service cannot be null");
+    }
+
+    /**
+     * Writes the metrics of all running streams applications.
+     *
+     * @param writer    the {@link Writer} to write to.
+     * @throws IOException if an error happens while writing metrics.
+     */
+    public void writeAll(final Writer writer) throws IOException {
+        final Collection<String> applications = service.getAllStreams();
+        // drop the descriptors of the applications that have been stopped since the last scrape.
+        descriptors.keySet().retainAll(applications);
+        lagDescriptors.keySet().retainAll(applications);
+        restoreDescriptors.keySet().retainAll(applications);
+
+        final Map<String, FamilySamples> families = new LinkedHashMap<>();
+        for (String application : applications) {
+            try {
+                collect(application, ALL, families);
+            } catch (NotFoundException e) {
+                LOG.debug("Streams application '{}' was removed while collecting metrics", application);
+            }
+        }
+        write(writer, families.values());
+    }
+
+    /**
+     * Writes the metrics of the specified streams application.
+     *
+     * @param writer        the {@link Writer} to write to.
+     * @param application   the application id.
+     * @param filter        the predicate used to filter metrics by name and value.
+     * @throws IOException if an error happens while writing metrics.
+     */
+    public void write(final Writer writer,
+                      final String application,
+                      final BiPredicate<MetricName, Object> filter) throws IOException {
+        final Map<String, FamilySamples> families = new LinkedHashMap<>();
+        collect(application, filter, families);
+        write(writer, families.values());
+    }
+
+    private void collect(final String application,
+                         final BiPredicate<MetricName, Object> filter,
+                         final Map<String, FamilySamples> families) {
+        final KafkaStreamsContainer container = service.getStreamsById(application);
+        final Map<MetricName, Metric> metrics = new HashMap<>(container.metrics());
+        // the metrics of the safe deserializers and the RocksDB statistics are not reported
+        // through the KafkaStreams metrics registry.
+        metrics.putAll(SafeDeserializerMetrics.metrics(application));
+        for (var metric : RocksDBStatisticsRegistry.getInstance().metrics(application)) {
+            final RegistryMetric registryMetric = new RegistryMetric(RocksDBStatisticsRegistry.GROUP, metric);
+            metrics.put(registryMetric.metricName(), registryMetric);
+        }
+
+        final Map<MetricName, MetricDescriptor> cached =
+            descriptors.computeIfAbsent(application, k -> new ConcurrentHashMap<>());
+
+        for (Map.Entry<MetricName, Metric> entry : metrics.entrySet()) {
+            final MetricName name = entry.getKey();
+            final Object value = entry.getValue().metricValue();
+            if (value == null || !filter.test(name, value)) continue;
+
+            final MetricDescriptor descriptor = cached.computeIfAbsent(
+                name,
+                k -> newDescriptor(application, k, entry.getValue())
+            );
+            families.computeIfAbsent(descriptor.family, k -> new FamilySamples(descriptor)).add(descriptor, value);
+        }
+
+        // metrics are removed when tasks or threads are closed, so stale descriptors must be evicted.
+        if (cached.size() > metrics.size()) {
+            cached.keySet().retainAll(metrics.keySet());
+        }
+
+        collectLag(application, container, filter, families);
+        collectRestore(application, container, filter, families);
+    }
+
+    private void collectLag(final String application,
+                            final KafkaStreamsContainer container,
+                            final BiPredicate<MetricName, Object> filter,
+                            final Map<String, FamilySamples> families) {
+        final Map<TopicPartition, MetricDescriptor[]> cached =
+            lagDescriptors.computeIfAbsent(application, k -> new ConcurrentHashMap<>());
+
+        final Set<TopicPartition> partitions = new HashSet<>();
+        for (ConsumerClientOffsets consumer : container.offsets().consumers()) {
+            for (ConsumerLogOffsets position : consumer.positions()) {
+                partitions.add(position.topicPartition());
+                final MetricDescriptor[] partitionDescriptors = cached.computeIfAbsent(
+                    position.topicPartition(),
+                    tp -> newDerivedDescriptors(application, LAG_METRICS, tags(null, tp))
+                );
+                // negative values mean the lag cannot be estimated yet.
+                addDerivedSamples(LAG_METRICS, partitionDescriptors, position, filter, families);
+            }
+        }
+
+        if (cached.size() > partitions.size()) {
+            cached.keySet().retainAll(partitions);
+        }
+    }
+
+    private void collectRestore(final String application,
+                                final KafkaStreamsContainer container,
+                                final BiPredicate<MetricName, Object> filter,
+                                final Map<String, FamilySamples> families) {
+        final Map<Tuple<String, TopicPartition>, MetricDescriptor[]> cached =
+            restoreDescriptors.computeIfAbsent(application, k -> new ConcurrentHashMap<>());
+
+        final Set<Tuple<String, TopicPartition>> stores = new HashSet<>();
+        for (StoreRestoreProgress progress : container.restoreProgress().stores()) {
+            final Tuple<String, TopicPartition> key = Tuple.of(progress.storeName(), progress.topicPartition());
+            stores.add(key);
+            final MetricDescriptor[] storeDescriptors = cached.computeIfAbsent(
+                key,
+                k -> newDerivedDescriptors(application, RESTORE_METRICS, tags(k.left(), k.right()))
+            );
+            // negative values mean the rate or the ETA cannot be estimated yet.
+            addDerivedSamples(RESTORE_METRICS, storeDescriptors, progress, filter, families);
+        }
+
+        if (cached.size() > stores.size()) {
+            cached.keySet().retainAll(stores);
+        }
+    }
+
+    private static <T> void addDerivedSamples(final List<DerivedMetric<T>> metrics,
+                                              final MetricDescriptor[] descriptors,
+                                              final T source,
+                                              final BiPredicate<MetricName, Object> filter,
+                                              final Map<String, FamilySamples> families) {
+        for (int i = 0; i < metrics.size(); i++) {
+            final DerivedMetric<T> metric = metrics.get(i);
+            final double value = metric.value.applyAsDouble(source);
+            if (value < 0 || !filter.test(metric.name, value)) continue;
+            final MetricDescriptor descriptor = descriptors[i];
+            families.computeIfAbsent(descriptor.family, k -> new FamilySamples(descriptor)).add(descriptor, value);
+        }
+    }
+
+    private static Map<String, String> tags(final String store, final TopicPartition tp) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        if (store != null) tags.put("store", store);
+        tags.put("topic", tp.topic());
+        tags.put("partition", String.valueOf(tp.partition()));
+        return tags;
+    }
+
+    private static MetricDescriptor[] newDerivedDescriptors(final String application,
+                                                            final List<? extends DerivedMetric<?>> metrics,
+                                                            final Map<String, String> tags) {
+        final MetricDescriptor[] descriptors = new MetricDescriptor[metrics.size()];
+        for (int i = 0; i < descriptors.length; i++) {
+            final MetricName name = metrics.get(i).name;
+            descriptors[i] = newDescriptor(
+                application,
+                new MetricName(name.name(), name.group(), name.description(), tags),
+                null
+            );
+        }
+        return descriptors;
+    }
+
+    private static void write(final Writer writer, final Collection<FamilySamples> families) throws IOException {
+        for (FamilySamples family : families) {
+            family.write(writer);
+        }
+        writer.flush();
+    }
+
+    private static MetricDescriptor newDescriptor(final String application,
+                                                  final MetricName name,
+                                                  final Metric metric) {
+        final String family = METRIC_NAMESPACE + sanitize(name.name());
+        final StringBuilder labels = new StringBuilder(family)
+            .append('{')
+            .append(LABEL_METRIC_GROUP).append("=\"").append(escapeLabelValue(name.group())).append('"')
+            .append(',')
+            .append(LABEL_APPLICATION).append("=\"").append(escapeLabelValue(application)).append('"');
+
+        for (Map.Entry<String, String> tag : name.tags().entrySet()) {
+            labels.append(',')
+                .append(sanitize(tag.getKey()))
+                .append("=\"")
+                .append(escapeLabelValue(tag.getValue()))
+                .append('"');
+        }
+        return new MetricDescriptor(family, escapeHelp(name.description()), typeOf(name, metric), labels.toString());
+    }
+
+    private static String typeOf(final MetricName name, final Metric metric) {
+        if (metric instanceof KafkaMetric) {
+            try {
+                return ((KafkaMetric) metric).measurable() instanceof CumulativeSum ? TYPE_COUNTER : TYPE_GAUGE;
+            } catch (IllegalStateException e) {
+                // the metric is not measurable, i.e. it is a gauge.
+                return TYPE_GAUGE;
+            }
+        }
+        return name.name().endsWith("-total") ? TYPE_COUNTER : TYPE_GAUGE;
+    }
+
+    static String sanitize(final String name) {
+        final char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (!isValidNameChar(chars[i], i == 0)) chars[i] = '_';
+        }
+        return new String(chars);
+    }
+
+    private static boolean isValidNameChar(final char c, final boolean first) {
+        if (c >= '0' && c <= '9') return !first;
+        if (c == '_' || c == ':') return true;
+        final int lower = c | 0x20;
+        return lower >= 'a' && lower <= 'z';
+    }
+
+    private static String escapeLabelValue(final String value) {
+        return escape(value, true);
+    }
+
+    private static String escapeHelp(final String help) {
+        return escape(help == null ? "" : help, false);
+    }
+
+    private static String escape(final String s, final boolean quote) {
+        StringBuilder sb = null;
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            final String replacement;
+            if (c == '\\') {
+                replacement = "\\\\";
+            } else if (c == '\n') {
+                replacement = "\\n";
+            } else if (quote && c == '"') {
+                replacement = "\\\"";
+            } else {
+                if (sb != null) sb.append(c);
+                continue;
+            }
+            if (sb == null) sb = new StringBuilder(s.length() + 8).append(s, 0, i);
+            sb.append(replacement);
+        }
+        return sb == null ? s : sb.toString();
+    }
+
+    /**
+     * A metric which is computed by Azkarra rather than registered by Kafka Streams.
+     */
+    private static final class DerivedMetric<T> {
+
+        final MetricName name;
+        final ToDoubleFunction<T> value;
+
+        DerivedMetric(final String group,
+                      final String name,
+                      final String description,
+                      final ToDoubleFunction<T> value) {
+            this.name = new MetricName(name, group, description, Map.of());
+            this.value = value;
+        }
+    }
+
+    private static final class MetricDescriptor {
+
+        final String family;
+        final String help;
+        final String type;
+        // the sample name and all labels, without the closing brace.
+        final String labels;
+
+        MetricDescriptor(final String family,
+                         final String help,
+                         final String type,
+                         final String labels) {
+            this.family = family;
+            this.help = help;
+            this.type = type;
+            this.labels = labels;
+        }
+    }
+
+    private static final class FamilySamples {
+
+        private final MetricDescriptor first;
+        private final List<MetricDescriptor> descriptors = new ArrayList<>();
+        private final List<Object> values = new ArrayList<>();
+
+        FamilySamples(final MetricDescriptor first) {
+            this.first = first;
+        }
+
+        void add(final MetricDescriptor descriptor, final Object value) {
+            descriptors.add(descriptor);
+            values.add(value);
+        }
+
+        void write(final Writer writer) throws IOException {
+            writer.write("# HELP ");
+            writer.write(first.family);
+            writer.write(' ');
+            writer.write(first.help);
+            writer.write("\n# TYPE ");
+            writer.write(first.family);
+            writer.write(' ');
+            writer.write(first.type);
+            writer.write('\n');
+
+            for (int i = 0; i < descriptors.size(); i++) {
+                writer.write(descriptors.get(i).labels);
+                final Object value = values.get(i);
+                if (value instanceof Number) {
+                    writer.write("} ");
+                    writer.write(Collector.doubleToGoString(((Number) value).doubleValue()));
+                } else {
+                    // non-numeric values (e.g. versions) are exposed through a label.
+                    writer.write(',');
+                    writer.write(LABEL_VALUE);
+                    writer.write("=\"");
+                    writer.write(escapeLabelValue(value.toString()));
+                    writer.write("\"} 0.0");
+                }
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * A metric polled by a registry other than the KafkaStreams one.
+     */
+    private static final class RegistryMetric implements Metric {
+
+        private final MetricName name;
+        private final Object value;
+
+        RegistryMetric(final String group, final io.streamthoughts.azkarra.api.model.Metric metric) {
+            this.name = new MetricName(metric.name(), group, metric.description(), metric.tags());
+            this.value = metric.value();
+        }
+
+        @Override
+        public MetricName metricName() {
+            return name;
+        }
+
+        @Override
+        @Deprecated
+        public double value() {
+            return value instanceof Number ? ((Number) value).doubleValue() : 0.0;
+        }
+
+        @Override
+        public Object metricValue() {
+            return value;
+        }
+    }
+}
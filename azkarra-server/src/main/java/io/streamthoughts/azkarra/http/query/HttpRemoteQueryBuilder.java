@@ -28,14 +28,22 @@ import io.streamthoughts.azkarra.http.security.auth.AuthenticationContextHolder;
 import io.streamthoughts.azkarra.http.security.auth.PasswordCredentials;
 import io.streamthoughts.azkarra.serialization.Serdes;
 import okhttp3.Authenticator;
+import okhttp3.ConnectionPool;
 import okhttp3.Credentials;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.Route;
 
 import javax.net.ssl.SSLContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Builder class for creating a new {@link HttpRemoteQueryClient} instance.
@@ -52,11 +60,39 @@ public class HttpRemoteQueryBuilder {
 
     private Serdes<QueryResult> serdes;
 
+    private RemoteQueryClientConfig clientConfig;
+
+    private final List<Serdes<QueryResult>> fallbackSerdes = new ArrayList<>();
+
     public HttpRemoteQueryBuilder setSerdes(final Serdes<QueryResult> serdes) {
         this.serdes = serdes;
         return this;
     }
 
+    /**
+     * Adds a {@link Serdes} to be accepted when a remote server does not support the preferred one.
+     *
+     * @param serdes    the {@link Serdes} instance.
+     * @return  {@code this}
+     */
+    public HttpRemoteQueryBuilder addFallbackSerdes(final Serdes<QueryResult> serdes) {
+        Objects.requireNonNull(serdes, "serdes cannot be null");
+        this.fallbackSerdes.add(serdes);
+        return this;
+    }
+
+    /**
+     * Sets the configuration of the HTTP client, i.e. connection pool, concurrency and timeouts.
+     *
+     * @param clientConfig  the {@link RemoteQueryClientConfig} instance.
+     * @return  {@code this}
+     */
+    public HttpRemoteQueryBuilder setClientConfig(final RemoteQueryClientConfig clientConfig) {
+        Objects.requireNonNull(clientConfig, "clientConfig cannot be null");
+        this.clientConfig = clientConfig;
+        return this;
+    }
+
     /**
      * Sets the {@link SSLContextFactory} which is used for initializing HTTP client with SSL.
      *
@@ -125,8 +161,45 @@ public class HttpRemoteQueryBuilder {
         if (enablePasswordAuthentication) {
             builder.authenticator(getPasswordAuthenticator());
         }
+
+        long maxResponseBytes = -1;
+        if (clientConfig != null) {
+            configureHttpClient(builder, clientConfig, sslContextFactory == null);
+            maxResponseBytes = clientConfig.getMaxResponseBytes();
+        }
         OkHttpClient httpClient = builder.build();
-        return new HttpRemoteQueryClient(httpClient, new DefaultQueryURLBuilder(schema, basePath), serdes);
+
+        final List<Serdes<QueryResult>> accepted = new ArrayList<>();
+        accepted.add(Objects.requireNonNull(serdes, "serdes cannot be null"));
+        accepted.addAll(fallbackSerdes);
+        return new HttpRemoteQueryClient(
+            httpClient,
+            new DefaultQueryURLBuilder(schema, basePath),
+            accepted,
+            maxResponseBytes);
+    }
+
+    private static void configureHttpClient(final OkHttpClient.Builder builder,
+                                            final RemoteQueryClientConfig config,
+                                            final boolean cleartext) {
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(config.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(config.getMaxRequestsPerHost());
+
+        final Duration keepAlive = config.getKeepAlive();
+        builder
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(
+                config.getMaxIdleConnections(),
+                keepAlive.toMillis(),
+                TimeUnit.MILLISECONDS))
+            .connectTimeout(config.getConnectTimeout())
+            .readTimeout(config.getReadTimeout());
+
+        // HTTP/2 is negotiated using ALPN over TLS, the prior knowledge mode is only used for cleartext.
+        if (cleartext && config.isHttp2PriorKnowledgeEnable()) {
+            builder.protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+        }
     }
 
     private Authenticator getPasswordAuthenticator() {
@@ -19,6 +19,8 @@
 package io.streamthoughts.azkarra.http.query;
 
 import io.streamthoughts.azkarra.api.errors.AzkarraRetriableException;
+import io.streamthoughts.azkarra.api.model.Metric;
+import io.streamthoughts.azkarra.api.model.MetricGroup;
 import io.streamthoughts.azkarra.api.query.Queried;
 import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.RemoteQueryClient;
@@ -31,6 +33,8 @@ import io.streamthoughts.azkarra.api.streams.StreamsServerInfo;
 import io.streamthoughts.azkarra.serialization.Serdes;
 import okhttp3.Call;
 import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -40,10 +44,18 @@ import okhttp3.ResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class HttpRemoteQueryClient implements RemoteQueryClient {
 
@@ -53,23 +65,81 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
 
     private final QueryURLBuilder queryURLBuilder;
 
-    private final Serdes<QueryResult> serdes;
+    private static final String METRIC_GROUP = "remote-query-client";
 
-    private final MediaType mediaType;
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
+
+    /**
+     * The header used for restricting a query forwarded to a remote instance to some partitions.
+     * This option is internal and so is not part of the JSON query options.
+     */
+    public static final String QUERY_PARTITIONS_HEADER = "Azkarra-Query-Partitions";
+
+    private final Map<String, Serdes<QueryResult>> serdesByContentType;
+
+    private final Serdes<QueryResult> defaultSerdes;
+
+    private final String accept;
+
+    private final long maxResponseBytes;
 
     /**
      * Creates a new {@link HttpRemoteQueryClient} instance.
      *
      * @param httpClient        the {@link OkHttpClient} instance.
      * @param queryURLBuilder   the {@link QueryURLBuilder} instance.
+     * @param serdes            the {@link Serdes} used to read query results.
      */
     public HttpRemoteQueryClient(final OkHttpClient httpClient,
                                  final QueryURLBuilder queryURLBuilder,
                                  final Serdes<QueryResult> serdes) {
+        this(httpClient, queryURLBuilder, Collections.singletonList(serdes));
+    }
+
+    /**
+     * Creates a new {@link HttpRemoteQueryClient} instance.
+     *
+     * The content types of the given serdes are sent, in order of preference, into the 'Accept' header
+     * so that the remote server can choose the format of the response.
+     *
+     * @param httpClient        the {@link OkHttpClient} instance.
+     * @param queryURLBuilder   the {@link QueryURLBuilder} instance.
+     * @param serdes            the list of {@link Serdes} used to read query results, in order of preference.
+     */
+    public HttpRemoteQueryClient(final OkHttpClient httpClient,
+                                 final QueryURLBuilder queryURLBuilder,
+                                 final List<Serdes<QueryResult>> serdes) {
+        this(httpClient, queryURLBuilder, serdes, -1);
+    }
+
+    /**
+     * Creates a new {@link HttpRemoteQueryClient} instance.
+     *
+     * @param httpClient        the {@link OkHttpClient} instance.
+     * @param queryURLBuilder   the {@link QueryURLBuilder} instance.
+     * @param serdes            the list of {@link Serdes} used to read query results, in order of preference.
+     * @param maxResponseBytes  the maximum size of a response body, or {@code -1} for no limit.
+     */
+    public HttpRemoteQueryClient(final OkHttpClient httpClient,
+                                 final QueryURLBuilder queryURLBuilder,
+                                 final List<Serdes<QueryResult>> serdes,
+                                 final long maxResponseBytes) {
+        this.maxResponseBytes = maxResponseBytes;
         this.client =  Objects.requireNonNull(httpClient, "httpClient cannot be null");
         this.queryURLBuilder = Objects.requireNonNull(queryURLBuilder, "queryURLBuilder cannot be null");
-        this.serdes = Objects.requireNonNull(serdes, "serdes cannot be null");
-        this.mediaType = MediaType.get(serdes.contentType());
+        Objects.requireNonNull(serdes, "serdes cannot be null");
+        if (serdes.isEmpty()) {
+            throw new IllegalArgumentException("serdes cannot be empty");
+        }
+        this.defaultSerdes = serdes.get(0);
+        this.serdesByContentType = new LinkedHashMap<>();
+        serdes.forEach(s -> serdesByContentType.putIfAbsent(mimeTypeOf(s.contentType()), s));
+        this.accept = serdes.stream().map(Serdes::contentType).collect(Collectors.joining(", "));
+    }
+
+    private static String mimeTypeOf(final String contentType) {
+        final MediaType mediaType = MediaType.get(contentType);
+        return mediaType.type() + "/" + mediaType.subtype();
     }
 
     /**
@@ -85,12 +155,15 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
 
         final String json = JsonQuerySerde.serialize(query, options);
 
-        Request request = new Request.Builder()
+        final Request.Builder requestBuilder = new Request.Builder()
                 .url(path)
-                .addHeader("Accept", mediaType.toString())
-                .addHeader("Content-type", mediaType.toString())
-                .post(RequestBody.create(json, mediaType))
-                .build();
+                .addHeader("Accept", accept)
+                .addHeader("Content-type", JSON_MEDIA_TYPE.toString())
+                .post(RequestBody.create(json, JSON_MEDIA_TYPE));
+        options.partitions().ifPresent(partitions -> requestBuilder.addHeader(
+            QUERY_PARTITIONS_HEADER,
+            partitions.stream().map(String::valueOf).collect(Collectors.joining(","))));
+        final Request request = requestBuilder.build();
 
         final QueryResultBuilder<K, V> builder = QueryResultBuilder.<K, V>newBuilder()
                 .setServer(server)
@@ -100,32 +173,79 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
         final CompletableFuture<QueryResult<K, V>> future = new CompletableFuture<>();
 
         LOG.debug("Forwarding state store query to remote server {}", server);
-        client.newCall(request).enqueue(new AsyncQueryCallback<>(server, future, builder, serdes));
+        final AsyncQueryCallback<K, V> callback = new AsyncQueryCallback<>(
+            server,
+            future,
+            builder,
+            this::serdesFor,
+            maxResponseBytes);
+        client.newCall(request).enqueue(callback);
         return future;
     }
 
+    /**
+     * Gets the metrics of the connection pool and of the dispatcher used for forwarding queries.
+     *
+     * @return  a new {@link MetricGroup} instance.
+     */
+    public MetricGroup metrics() {
+        final ConnectionPool pool = client.connectionPool();
+        final Dispatcher dispatcher = client.dispatcher();
+        final List<Metric> metrics = new ArrayList<>();
+        metrics.add(newMetric("connection-count",
+            "The number of open connections.", pool.connectionCount()));
+        metrics.add(newMetric("idle-connection-count",
+            "The number of idle connections.", pool.idleConnectionCount()));
+        metrics.add(newMetric("running-calls-count",
+            "The number of queries currently being executed.", dispatcher.runningCallsCount()));
+        metrics.add(newMetric("queued-calls-count",
+            "The number of queries waiting to be executed.", dispatcher.queuedCallsCount()));
+        metrics.add(newMetric("max-requests",
+            "The maximum number of queries to execute concurrently.", dispatcher.getMaxRequests()));
+        metrics.add(newMetric("max-requests-per-host",
+            "The maximum number of queries to execute concurrently per host.", dispatcher.getMaxRequestsPerHost()));
+        return new MetricGroup(METRIC_GROUP, metrics);
+    }
+
+    private static Metric newMetric(final String name, final String description, final int value) {
+        return new Metric(name, METRIC_GROUP, description, Collections.emptyMap(), value);
+    }
+
+    private Serdes<QueryResult> serdesFor(final MediaType contentType) {
+        if (contentType == null) return defaultSerdes;
+        final Serdes<QueryResult> serdes = serdesByContentType.get(contentType.type() + "/" + contentType.subtype());
+        if (serdes == null) {
+            throw new IllegalStateException("Unsupported content-type from remote server: " + contentType);
+        }
+        return serdes;
+    }
+
     private static class AsyncQueryCallback<K, V> implements Callback {
 
         private final String remoteServerName;
         private final QueryResultBuilder<K, V> builder;
         private final CompletableFuture<QueryResult<K, V>> completableFuture;
-        private final Serdes<QueryResult> serdes;
+        private final Function<MediaType, Serdes<QueryResult>> serdes;
+        private final long maxResponseBytes;
 
         /**
          * Creates a new {@link AsyncQueryCallback} instance.
          *
          * @param completableFuture the {@link CompletableFuture} instance.
          * @param builder           the {@link QueryResultBuilder} to be used.
+         * @param serdes            the function used to resolve the {@link Serdes} for the response content-type.
+         * @param maxResponseBytes  the maximum size of a response body, or {@code -1} for no limit.
          */
         AsyncQueryCallback(final String remoteServerName,
                            final CompletableFuture<QueryResult<K, V>> completableFuture,
                            final QueryResultBuilder<K, V> builder,
-                           final Serdes<QueryResult> serdes) {
+                           final Function<MediaType, Serdes<QueryResult>> serdes,
+                           final long maxResponseBytes) {
             this.remoteServerName = remoteServerName;
             this.completableFuture = completableFuture;
             this.builder = builder;
             this.serdes = serdes;
-
+            this.maxResponseBytes = maxResponseBytes;
         }
 
         /**
@@ -145,14 +265,15 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
         public void onResponse(final Call call, final Response response) {
             try (ResponseBody responseBody = response.body()) {
                 try {
-                    final byte[] payload = responseBody.bytes();
                     int code = response.code();
                     if (code >= 200 && code < 300) {
-                        completableFuture.complete(serdes.deserialize(payload));
+                        // responses are decoded while read from the network.
+                        final Serdes<QueryResult> serdes = this.serdes.apply(responseBody.contentType());
+                        completableFuture.complete(serdes.deserialize(limit(responseBody)));
                     } else {
                         final QueryError error = new QueryError(
                             "Invalid response from remote server (code:'" + code + "') : "
-                            + Arrays.toString(payload));
+                            + responseBody.string());
                         final QueryResult<K, V> result = buildQueryResultFor(remoteServerName, error);
                         completableFuture.complete(result);
                     }
@@ -162,6 +283,41 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
             }
         }
 
+        private InputStream limit(final ResponseBody responseBody) throws IOException {
+            if (maxResponseBytes < 0) {
+                return responseBody.byteStream();
+            }
+            if (responseBody.contentLength() > maxResponseBytes) {
+                throw new IOException(tooLargeMessage());
+            }
+            return new FilterInputStream(responseBody.byteStream()) {
+                private long remaining = maxResponseBytes;
+
+                @Override
+                public int read() throws IOException {
+                    final int b = super.read();
+                    if (b != -1) consume(1);
+                    return b;
+                }
+
+                @Override
+                public int read(final byte[] b, final int off, final int len) throws IOException {
+                    final int n = super.read(b, off, len);
+                    if (n > 0) consume(n);
+                    return n;
+                }
+
+                private void consume(final int n) throws IOException {
+                    remaining -= n;
+                    if (remaining < 0) throw new IOException(tooLargeMessage());
+                }
+            };
+        }
+
+        private String tooLargeMessage() {
+            return "Response from remote server exceeds the maximum size of " + maxResponseBytes + " bytes";
+        }
+
         private QueryResult<K, V> buildQueryResultFor(final String remoteServerName, final QueryError e) {
             final ErrorResultSet result = new ErrorResultSet(remoteServerName, true, e);
             return builder.setStatus(QueryStatus.ERROR)
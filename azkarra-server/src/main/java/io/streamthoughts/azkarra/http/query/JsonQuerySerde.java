@@ -26,6 +26,7 @@ import io.streamthoughts.azkarra.api.query.QueryParams;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.http.data.QueryOptionsRequest;
+import io.streamthoughts.azkarra.http.error.BadRequestException;
 import io.streamthoughts.azkarra.http.error.InvalidStateStoreQueryException;
 import io.streamthoughts.azkarra.serialization.SerializationException;
 import io.streamthoughts.azkarra.serialization.json.Json;
@@ -92,7 +93,7 @@ public class JsonQuerySerde {
 
                 Map<String, Object> params = StreamSupport
                         .stream(spliteratorUnknownSize(entry.getValue().fields(), 0), false)
-                        .collect(Collectors.toMap(Map.Entry::getKey, e -> getJsonNodeValue(e.getValue())));
+                        .collect(Collectors.toMap(Map.Entry::getKey, e -> getJsonNodeValue(e.getKey(), e.getValue())));
 
                 queries.add(Tuple.of(storeOperation.get(), new QueryParams(params)));
             }
@@ -116,7 +117,9 @@ public class JsonQuerySerde {
         }
     }
 
-    private static Object getJsonNodeValue(final JsonNode jsonNode) {
+    private static Object getJsonNodeValue(final String param, final JsonNode jsonNode) {
+        if (jsonNode.isNull())
+            throw new BadRequestException("Invalid JSON query: parameter '" + param + "' cannot contain null values");
         if (jsonNode.isBoolean())
             return jsonNode.asBoolean();
         if (jsonNode.isLong())
@@ -125,6 +128,11 @@ public class JsonQuerySerde {
             return jsonNode.asInt();
         if (jsonNode.isDouble())
             return jsonNode.doubleValue();
+        if (jsonNode.isArray())
+            return StreamSupport
+                .stream(spliteratorUnknownSize(jsonNode.elements(), 0), false)
+                .map(node -> getJsonNodeValue(param, node))
+                .collect(Collectors.toList());
 
         return jsonNode.asText();
     }
@@ -141,20 +149,41 @@ public class JsonQuerySerde {
                 options.retryBackoff().toMillis(),
                 options.queryTimeout().toMillis(),
                 options.remoteAccessAllowed(),
-                options.limit()
+                options.limit(),
+                options.cursor().orElse(null),
+                options.isParallel() ? true : null,
+                options.hedgingPercentile() > 0 ? options.hedgingPercentile() : null,
+                options.maxOffsetLag().orElse(null),
+                // the near-cache is only used by the querying instance.
+                null
         ));
         return JSON.serialize(json);
     }
 
+    private static double hedgingPercentile(final QueryOptionsRequest options) {
+        final double percentile = Optional.ofNullable(options.hedgingPercentile()).orElse(0.0);
+        if (percentile < 0 || percentile >= 1) {
+            throw new BadRequestException(
+                "Invalid query option 'hedging_percentile': must be in range [0, 1), was: " + percentile);
+        }
+        return percentile;
+    }
+
     private static Queried newQueried(final QueryOptionsRequest options) {
-        return options == null ?
-            Queried.immediately() :
-            new Queried(
+        if (options == null) {
+            return Queried.immediately();
+        }
+        final Queried queried = new Queried(
                 Optional.ofNullable(options.getRetries()).orElse(0),
                 Duration.ofMillis(Optional.ofNullable(options.getRetryBackoff()).orElse(0L)),
                 Duration.ofMillis(Optional.ofNullable(options.getQueryTimeout()).orElse(0L)),
                 Optional.ofNullable(options.isRemoteAccessAllowed()).orElse(true),
-                Optional.ofNullable(options.limit()).orElse(-1L)
-            );
+                Optional.ofNullable(options.limit()).orElse(-1L),
+                options.cursor()
+            )
+            .withParallel(Optional.ofNullable(options.isParallel()).orElse(false))
+            .withHedgingPercentile(hedgingPercentile(options))
+            .withNearCache(Optional.ofNullable(options.isNearCache()).orElse(false));
+        return Optional.ofNullable(options.maxOffsetLag()).map(queried::withMaxOffsetLag).orElse(queried);
     }
 }
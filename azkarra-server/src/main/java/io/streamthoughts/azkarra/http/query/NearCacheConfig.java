@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.query;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.api.config.ConfBuilder;
+import io.streamthoughts.azkarra.api.query.NearCache;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * The configuration of the near-cache used for serving key-queries on the querying instance.
+ */
+public class NearCacheConfig {
+
+    public static final String NEAR_CACHE_ENABLE_CONFIG = "query.near.cache.enable";
+    public static final String NEAR_CACHE_MAX_ENTRIES_CONFIG = "query.near.cache.max.entries";
+    public static final String NEAR_CACHE_MAX_BYTES_CONFIG = "query.near.cache.max.bytes";
+    public static final String NEAR_CACHE_TTL_MS_CONFIG = "query.near.cache.ttl.ms";
+    public static final String NEAR_CACHE_STORES_CONFIG = "query.near.cache.stores";
+
+    private static final Conf DEFAULT_CONF = ConfBuilder.newConf()
+        // the near-cache may serve results that lag behind the stores, so it must be explicitly enabled.
+        .with(NEAR_CACHE_ENABLE_CONFIG, false)
+        .with(NEAR_CACHE_MAX_ENTRIES_CONFIG, 10_000)
+        .with(NEAR_CACHE_MAX_BYTES_CONFIG, 64L * 1024 * 1024)
+        .with(NEAR_CACHE_TTL_MS_CONFIG, Duration.ofSeconds(30).toMillis())
+        // by default, the near-cache is only used by queries requesting it.
+        .with(NEAR_CACHE_STORES_CONFIG, "")
+        .build();
+
+    private final Conf conf;
+
+    /**
+     * Creates a new {@link NearCacheConfig} instance.
+     *
+     * @param conf  the {@link Conf} instance, cannot be {@code null}.
+     */
+    public NearCacheConfig(final Conf conf) {
+        Objects.requireNonNull(conf, "conf cannot be null");
+        this.conf = conf.withFallback(DEFAULT_CONF);
+    }
+
+    public boolean isEnable() {
+        return conf.getBoolean(NEAR_CACHE_ENABLE_CONFIG);
+    }
+
+    public int getMaxEntries() {
+        return conf.getInt(NEAR_CACHE_MAX_ENTRIES_CONFIG);
+    }
+
+    public long getMaxBytes() {
+        return conf.getLong(NEAR_CACHE_MAX_BYTES_CONFIG);
+    }
+
+    public Duration getTtl() {
+        return Duration.ofMillis(conf.getLong(NEAR_CACHE_TTL_MS_CONFIG));
+    }
+
+    /**
+     * Gets the stores for which the near-cache is always used.
+     *
+     * @return  the set of store names, or "*" for all stores.
+     */
+    public Set<String> getStores() {
+        return conf.getStringList(NEAR_CACHE_STORES_CONFIG)
+            .stream()
+            .map(String::trim)
+            .filter(store -> !store.isEmpty())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Creates a new {@link NearCache} from this configuration.
+     *
+     * @param weigher   the function computing the size in bytes of a cached result.
+     * @return          a new {@link NearCache} instance, or {@code null} if the near-cache is disabled.
+     */
+    public NearCache newNearCache(final ToLongFunction<QueryResult<?, ?>> weigher) {
+        if (!isEnable()) return null;
+        return new NearCache(getMaxEntries(), getMaxBytes(), getTtl(), getStores(), weigher);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.query;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.api.config.ConfBuilder;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration of the HTTP client used for forwarding queries to remote instances.
+ */
+public class RemoteQueryClientConfig {
+
+    public static final String CLIENT_MAX_IDLE_CONNECTIONS_CONFIG = "remote.query.client.max.idle.connections";
+    public static final String CLIENT_KEEP_ALIVE_MS_CONFIG = "remote.query.client.keep.alive.ms";
+    public static final String CLIENT_MAX_REQUESTS_CONFIG = "remote.query.client.max.requests";
+    public static final String CLIENT_MAX_HOST_REQUESTS_CONFIG = "remote.query.client.max.host.requests";
+    public static final String CLIENT_HTTP2_PRIOR_KNOWLEDGE_CONFIG = "remote.query.client.http2.prior.knowledge.enable";
+    public static final String CLIENT_CONNECT_TIMEOUT_MS_CONFIG = "remote.query.client.connect.timeout.ms";
+    public static final String CLIENT_READ_TIMEOUT_MS_CONFIG = "remote.query.client.read.timeout.ms";
+    public static final String CLIENT_MAX_RESPONSE_BYTES_CONFIG = "remote.query.client.max.response.bytes";
+
+    private static final Conf DEFAULT_CONF = ConfBuilder.newConf()
+        .with(CLIENT_MAX_IDLE_CONNECTIONS_CONFIG, 32)
+        .with(CLIENT_KEEP_ALIVE_MS_CONFIG, Duration.ofMinutes(5).toMillis())
+        .with(CLIENT_MAX_REQUESTS_CONFIG, 256)
+        // queries are forwarded to a few instances only, the OkHttp default (5) would queue concurrent queries.
+        .with(CLIENT_MAX_HOST_REQUESTS_CONFIG, 64)
+        .with(CLIENT_HTTP2_PRIOR_KNOWLEDGE_CONFIG, false)
+        .with(CLIENT_CONNECT_TIMEOUT_MS_CONFIG, Duration.ofSeconds(10).toMillis())
+        .with(CLIENT_READ_TIMEOUT_MS_CONFIG, Duration.ofSeconds(30).toMillis())
+        .with(CLIENT_MAX_RESPONSE_BYTES_CONFIG, -1L)
+        .build();
+
+    private final Conf conf;
+
+    /**
+     * Creates a new {@link RemoteQueryClientConfig} instance.
+     *
+     * @param conf  the {@link Conf} instance, cannot be {@code null}.
+     */
+    public RemoteQueryClientConfig(final Conf conf) {
+        Objects.requireNonNull(conf, "conf cannot be null");
+        this.conf = conf.withFallback(DEFAULT_CONF);
+    }
+
+    public int getMaxIdleConnections() {
+        return conf.getInt(CLIENT_MAX_IDLE_CONNECTIONS_CONFIG);
+    }
+
+    public Duration getKeepAlive() {
+        return Duration.ofMillis(conf.getLong(CLIENT_KEEP_ALIVE_MS_CONFIG));
+    }
+
+    public int getMaxRequests() {
+        return conf.getInt(CLIENT_MAX_REQUESTS_CONFIG);
+    }
+
+    public int getMaxRequestsPerHost() {
+        return conf.getInt(CLIENT_MAX_HOST_REQUESTS_CONFIG);
+    }
+
+    public boolean isHttp2PriorKnowledgeEnable() {
+        return conf.getBoolean(CLIENT_HTTP2_PRIOR_KNOWLEDGE_CONFIG);
+    }
+
+    public Duration getConnectTimeout() {
+        return Duration.ofMillis(conf.getLong(CLIENT_CONNECT_TIMEOUT_MS_CONFIG));
+    }
+
+    public Duration getReadTimeout() {
+        return Duration.ofMillis(conf.getLong(CLIENT_READ_TIMEOUT_MS_CONFIG));
+    }
+
+    /**
+     * Gets the maximum size of a response body.
+     *
+     * @return  the maximum number of bytes, or {@code -1} for no limit.
+     */
+    public long getMaxResponseBytes() {
+        return conf.getLong(CLIENT_MAX_RESPONSE_BYTES_CONFIG);
+    }
+}
@@ -26,10 +26,13 @@ import io.streamthoughts.azkarra.http.handler.StreamsGetDetailsHandler;
 import io.streamthoughts.azkarra.http.handler.StreamsGetListHandler;
 import io.streamthoughts.azkarra.http.handler.StreamsGetMetricsHandler;
 import io.streamthoughts.azkarra.http.handler.StreamsGetOffsetsHandler;
+import io.streamthoughts.azkarra.http.handler.StreamsGetRestoreProgressHandler;
 import io.streamthoughts.azkarra.http.handler.StreamsGetStatusHandler;
 import io.streamthoughts.azkarra.http.handler.StreamsPostHandler;
+import io.streamthoughts.azkarra.http.handler.StreamsPrometheusMetricsHandler;
 import io.streamthoughts.azkarra.http.handler.StreamsRestartHandler;
 import io.streamthoughts.azkarra.http.handler.StreamsStopHandler;
+import io.streamthoughts.azkarra.http.prometheus.StreamsPrometheusExporter;
 import io.streamthoughts.azkarra.http.spi.RoutingHandlerProvider;
 import io.undertow.Handlers;
 import io.undertow.server.RoutingHandler;
@@ -48,6 +51,8 @@ public class ApiStreamsRoutes implements RoutingHandlerProvider {
             = "/streams/{id}/status";
     private static final String PATH_STREAMS_OFFSETS
             = "/streams/{id}/offsets";
+    private static final String PATH_STREAMS_RESTORE
+            = "/streams/{id}/restore";
     private static final String PATH_STREAMS_CONFIG
             = "/streams/{id}/config";
     private static final String PATH_STREAMS_METRICS
@@ -58,6 +63,8 @@ public class ApiStreamsRoutes implements RoutingHandlerProvider {
             = "/streams/{id}/metrics/group/{group}/metric/{metric}";
     private static final String PATH_STREAMS_METRICS_GROUP_METRIC_VALUE
             = "/streams/{id}/metrics/group/{group}/metric/{metric}/value";
+    private static final String PATH_STREAMS_METRICS_PROMETHEUS
+            = "/metrics/prometheus";
     private static final String PATH_STREAMS_RESTART
             = "/streams/{id}/restart";
     private static final String PATH_STREAMS_STOP
@@ -75,7 +82,9 @@ public class ApiStreamsRoutes implements RoutingHandlerProvider {
     @Override
     public RoutingHandler handler(final AzkarraStreamsService service) {
 
-        final BlockingHandler metricsHandler = new BlockingHandler(new StreamsGetMetricsHandler(service));
+        // the exporter caches the Prometheus descriptors of all metrics, so it must be shared across scrapes.
+        final StreamsPrometheusExporter exporter = new StreamsPrometheusExporter(service);
+        final BlockingHandler metricsHandler = new BlockingHandler(new StreamsGetMetricsHandler(service, exporter));
 
         return Handlers.routing()
             .get(APIVersions.PATH_V1 + PATH_STREAMS,
@@ -96,9 +105,13 @@ public class ApiStreamsRoutes implements RoutingHandlerProvider {
                 new StreamsDeleteHandler(service))
             .get(APIVersions.PATH_V1 + PATH_STREAMS_OFFSETS,
                 new StreamsGetOffsetsHandler(service))
+            .get(APIVersions.PATH_V1 + PATH_STREAMS_RESTORE,
+                new StreamsGetRestoreProgressHandler(service))
             .get(APIVersions.PATH_V1 + PATH_STREAMS_METRICS, metricsHandler)
             .get(APIVersions.PATH_V1 + PATH_STREAMS_METRICS_GROUP, metricsHandler)
             .get(APIVersions.PATH_V1 + PATH_STREAMS_METRICS_GROUP_METRIC, metricsHandler)
-            .get(APIVersions.PATH_V1 + PATH_STREAMS_METRICS_GROUP_METRIC_VALUE, metricsHandler);
+            .get(APIVersions.PATH_V1 + PATH_STREAMS_METRICS_GROUP_METRIC_VALUE, metricsHandler)
+            .get(APIVersions.PATH_V1 + PATH_STREAMS_METRICS_PROMETHEUS,
+                new BlockingHandler(new StreamsPrometheusMetricsHandler(exporter)));
     }
 }
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.serialization.binary;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.QueryCursor;
+import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
+import io.streamthoughts.azkarra.api.query.result.GlobalResultSet;
+import io.streamthoughts.azkarra.api.query.result.QueryError;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.serialization.Serdes;
+import io.streamthoughts.azkarra.serialization.SerializationException;
+import io.streamthoughts.azkarra.serialization.json.Json;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A compact binary {@link Serdes} for {@link QueryResult} which is used for forwarding queries between instances.
+ *
+ * All strings and records are length-prefixed. Keys and values are written using a type tag followed by
+ * their binary representation; primitive types, strings and byte arrays are encoded as-is while any other
+ * types fall back to a JSON representation.
+ *
+ * Results are decoded while they are read from the input stream. As a corrupted length prefix must never lead to
+ * allocating more memory than the actual input, byte arrays are read in bounded chunks and the initial capacity
+ * of lists is capped.
+ */
+public final class BinaryQueryResultSerdes implements Serdes<QueryResult> {
+
+    public static final String CONTENT_TYPE = "application/vnd.azkarra.query-result+binary";
+
+    private static final byte MAGIC_BYTE = 0x2;
+
+    private static final int NULL_LENGTH = -1;
+
+    private static final int MAX_INITIAL_LIST_CAPACITY = 1024;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_FLOAT = 5;
+    private static final byte TYPE_BOOLEAN = 6;
+    private static final byte TYPE_BYTES = 7;
+    private static final byte TYPE_SHORT = 8;
+    private static final byte TYPE_JSON = 9;
+
+    private final Json json;
+
+    /**
+     * Creates a new {@link BinaryQueryResultSerdes} instance.
+     *
+     * @param json  the {@link Json} object used for types that have no binary representation.
+     */
+    public BinaryQueryResultSerdes(final Json json) {
+        this.json = Objects.requireNonNull(json, "the Json object cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] serialize(final QueryResult object) throws SerializationException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeQueryResult(out, object);
+        } catch (IOException e) {
+            throw new SerializationException("Error while serializing query result to binary", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public QueryResult deserialize(final byte[] data) throws SerializationException {
+        return deserialize(new ByteArrayInputStream(data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public QueryResult deserialize(final InputStream is) throws SerializationException {
+        try {
+            return readQueryResult(new DataInputStream(new BufferedInputStream(is)));
+        } catch (IOException e) {
+            throw new SerializationException("Error while deserializing query result from binary", e);
+        }
+    }
+
+    private void writeQueryResult(final DataOutputStream out,
+                                  final QueryResult<?, ?> result) throws IOException {
+        out.writeByte(MAGIC_BYTE);
+        out.writeLong(result.getTook());
+        out.writeBoolean(result.isTimeout());
+        writeString(out, result.getServer());
+        writeString(out, result.getStatus() != null ? result.getStatus().name() : null);
+        final QueryCursor cursor = result.getCursor();
+        writeBytes(out, cursor != null ? json.serialize(cursor).getBytes(StandardCharsets.UTF_8) : null);
+
+        final GlobalResultSet<?, ?> rs = result.getResult();
+        out.writeBoolean(rs != null);
+        if (rs == null) return;
+
+        writeString(out, rs.getStore());
+        writeString(out, rs.getType());
+        writeString(out, rs.getError());
+        writeList(out, rs.getFailure(), this::writeErrorResultSet);
+        writeList(out, rs.getSuccess(), this::writeSuccessResultSet);
+    }
+
+    private void writeErrorResultSet(final DataOutputStream out, final ErrorResultSet rs) throws IOException {
+        writeString(out, rs.getServer());
+        out.writeBoolean(rs.isRemote());
+        writeList(out, rs.getErrors(), (o, error) -> writeString(o, error.message()));
+    }
+
+    private void writeSuccessResultSet(final DataOutputStream out,
+                                       final SuccessResultSet<?, ?> rs) throws IOException {
+        writeString(out, rs.getServer());
+        out.writeBoolean(rs.isRemote());
+        writeList(out, rs.getRecords(), this::writeRecord);
+        final QueryCursor.Position position = rs.getPosition();
+        writeBytes(out, position != null ? json.serialize(position).getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private void writeRecord(final DataOutputStream out, final KV<?, ?> record) throws IOException {
+        writeObject(out, record.key());
+        writeObject(out, record.value());
+        out.writeBoolean(record.timestamp() != null);
+        if (record.timestamp() != null) out.writeLong(record.timestamp());
+    }
+
+    private QueryResult<Object, Object> readQueryResult(final DataInputStream in) throws IOException {
+        final byte magic = in.readByte();
+        if (magic != MAGIC_BYTE) {
+            throw new IOException("Unsupported binary query result version: " + magic);
+        }
+        final QueryResultBuilder<Object, Object> builder = QueryResultBuilder.newBuilder()
+            .setTook(in.readLong())
+            .setTimeout(in.readBoolean())
+            .setServer(readString(in));
+
+        final String status = readString(in);
+        if (status != null) builder.setStatus(QueryStatus.valueOf(status));
+
+        final byte[] cursor = readBytes(in);
+        if (cursor != null) builder.setCursor(json.deserialize(cursor, QueryCursor.class));
+
+        if (!in.readBoolean()) {
+            return builder.build();
+        }
+
+        return builder
+            .setStoreName(readString(in))
+            .setStoreType(readString(in))
+            .setError(readString(in))
+            .setFailedResultSet(readList(in, this::readErrorResultSet))
+            .setSuccessResultSet(readList(in, this::readSuccessResultSet))
+            .build();
+    }
+
+    private ErrorResultSet readErrorResultSet(final DataInputStream in) throws IOException {
+        final String server = readString(in);
+        final boolean remote = in.readBoolean();
+        return new ErrorResultSet(server, remote, readList(in, i -> new QueryError(readString(i))));
+    }
+
+    private SuccessResultSet<Object, Object> readSuccessResultSet(final DataInputStream in) throws IOException {
+        final String server = readString(in);
+        final boolean remote = in.readBoolean();
+        final List<KV<Object, Object>> records = readList(in, this::readRecord);
+        final byte[] position = readBytes(in);
+        return new SuccessResultSet<>(
+            server,
+            remote,
+            records,
+            position != null ? json.deserialize(position, QueryCursor.Position.class) : null
+        );
+    }
+
+    private KV<Object, Object> readRecord(final DataInputStream in) throws IOException {
+        final Object key = readObject(in);
+        final Object value = readObject(in);
+        final Long timestamp = in.readBoolean() ? in.readLong() : null;
+        return KV.of(key, value, timestamp);
+    }
+
+    private static <T> void writeList(final DataOutputStream out,
+                                      final List<T> list,
+                                      final Writer<T> writer) throws IOException {
+        if (list == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(list.size());
+        for (T element : list) {
+            writer.write(out, element);
+        }
+    }
+
+    private static <T> List<T> readList(final DataInputStream in,
+                                        final Reader<T> reader) throws IOException {
+        final int size = readLength(in);
+        if (size == NULL_LENGTH) return null;
+        final List<T> list = new ArrayList<>(Math.min(size, MAX_INITIAL_LIST_CAPACITY));
+        for (int i = 0; i < size; i++) {
+            list.add(reader.read(in));
+        }
+        return list;
+    }
+
+    private void writeObject(final DataOutputStream out, final Object o) throws IOException {
+        if (o == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (o instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, (String) o);
+        } else if (o instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) o);
+        } else if (o instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt((Integer) o);
+        } else if (o instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) o);
+        } else if (o instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) o);
+        } else if (o instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) o);
+        } else if (o instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort((Short) o);
+        } else if (o instanceof byte[]) {
+            out.writeByte(TYPE_BYTES);
+            writeBytes(out, (byte[]) o);
+        } else {
+            out.writeByte(TYPE_JSON);
+            writeBytes(out, json.serialize(o).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private Object readObject(final DataInputStream in) throws IOException {
+        final byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL: return null;
+            case TYPE_STRING: return readString(in);
+            case TYPE_LONG: return in.readLong();
+            case TYPE_INTEGER: return in.readInt();
+            case TYPE_DOUBLE: return in.readDouble();
+            case TYPE_FLOAT: return in.readFloat();
+            case TYPE_BOOLEAN: return in.readBoolean();
+            case TYPE_SHORT: return in.readShort();
+            case TYPE_BYTES: return readBytes(in);
+            case TYPE_JSON: return json.deserialize(readBytes(in), Object.class);
+            default:
+                throw new IOException("Unknown binary type tag: " + type);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String s) throws IOException {
+        writeBytes(out, s != null ? s.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final byte[] bytes = readBytes(in);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private static void writeBytes(final DataOutputStream out, final byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(NULL_LENGTH);
+        } else {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static byte[] readBytes(final DataInputStream in) throws IOException {
+        final int length = readLength(in);
+        if (length == NULL_LENGTH) return null;
+        // bytes are buffered in bounded chunks, so a corrupted length fails at the end of the input.
+        final byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("Invalid length prefix " + length + ", only " + bytes.length + " bytes remaining");
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads a length prefix, either of a byte array or of a list.
+     */
+    private static int readLength(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < NULL_LENGTH) {
+            throw new IOException("Invalid length prefix " + length);
+        }
+        return length;
+    }
+
+    @FunctionalInterface
+    private interface Writer<T> {
+        void write(final DataOutputStream out, final T element) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(final DataInputStream in) throws IOException;
+    }
+}
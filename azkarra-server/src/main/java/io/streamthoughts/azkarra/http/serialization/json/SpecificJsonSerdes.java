@@ -22,6 +22,8 @@ import io.streamthoughts.azkarra.serialization.Serdes;
 import io.streamthoughts.azkarra.serialization.SerializationException;
 import io.streamthoughts.azkarra.serialization.json.Json;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
@@ -65,5 +67,17 @@ public final class SpecificJsonSerdes<T> implements Serdes<T> {
     public T deserialize(final byte[] data) throws SerializationException {
         return json.deserialize(data, type);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T deserialize(final InputStream is) throws SerializationException {
+        try {
+            return json.unwrap().readValue(is, type);
+        } catch (IOException e) {
+            throw new SerializationException(e.getMessage(), e);
+        }
+    }
 }
 
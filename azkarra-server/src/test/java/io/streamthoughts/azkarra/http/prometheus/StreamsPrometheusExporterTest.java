@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.prometheus;
+
+import io.streamthoughts.azkarra.api.AzkarraStreamsService;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.rocksdb.RocksDBStatisticsRegistry;
+import io.streamthoughts.azkarra.api.streams.consumer.ConsumerGroupOffsets;
+import io.streamthoughts.azkarra.api.streams.restore.StateRestoreProgress;
+import io.streamthoughts.azkarra.api.streams.restore.StateRestoreTracker;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.metrics.Gauge;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Value;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.rocksdb.RocksDB;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.when;
+
+public class StreamsPrometheusExporterTest {
+
+    private static final String APPLICATION_ID = "test-app";
+    private static final String GROUP = "stream-thread-metrics";
+
+    private Metrics metrics;
+    private AzkarraStreamsService service;
+    private StreamsPrometheusExporter exporter;
+    private StateRestoreTracker restoreTracker;
+
+    @BeforeEach
+    public void setUp() {
+        metrics = new Metrics();
+        final KafkaStreamsContainer container = Mockito.mock(KafkaStreamsContainer.class);
+        Mockito.doAnswer(invocation -> metrics.metrics()).when(container).metrics();
+        when(container.offsets()).thenReturn(new ConsumerGroupOffsets(APPLICATION_ID, Set.of()));
+        restoreTracker = new StateRestoreTracker();
+        Mockito.doAnswer(invocation -> new StateRestoreProgress(restoreTracker.progress(), -1))
+            .when(container).restoreProgress();
+
+        service = Mockito.mock(AzkarraStreamsService.class);
+        when(service.getAllStreams()).thenReturn(List.of(APPLICATION_ID));
+        when(service.getStreamsById(APPLICATION_ID)).thenReturn(container);
+        exporter = new StreamsPrometheusExporter(service);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        metrics.close();
+    }
+
+    @Test
+    public void shouldExportCumulativeCountAsCounterAndValueAsGauge() throws IOException {
+        final Sensor sensor = metrics.sensor("commit");
+        sensor.add(metricName("commit-total", "thread-1"), new CumulativeCount());
+        sensor.add(metricName("commit-latency", "thread-1"), new Value());
+        sensor.record(5);
+
+        final String output = writeAll();
+
+        Assertions.assertTrue(output.contains("# TYPE streams_commit_total counter\n"));
+        Assertions.assertTrue(output.contains(
+            "streams_commit_total{group=\"stream-thread-metrics\",id=\"test-app\",thread_id=\"thread-1\"} 1.0\n"));
+        Assertions.assertTrue(output.contains("# TYPE streams_commit_latency gauge\n"));
+        Assertions.assertTrue(output.contains(
+            "streams_commit_latency{group=\"stream-thread-metrics\",id=\"test-app\",thread_id=\"thread-1\"} 5.0\n"));
+    }
+
+    @Test
+    public void shouldGroupSamplesWithSameNameIntoOneFamily() throws IOException {
+        metrics.addMetric(metricName("poll-rate", "thread-1"), (Gauge<Double>) (config, now) -> 1.0);
+        metrics.addMetric(metricName("poll-rate", "thread-2"), (Gauge<Double>) (config, now) -> 2.0);
+
+        final String output = writeAll();
+
+        Assertions.assertEquals(1, count(output, "# TYPE streams_poll_rate gauge"));
+        Assertions.assertTrue(output.contains("thread_id=\"thread-1\"} 1.0\n"));
+        Assertions.assertTrue(output.contains("thread_id=\"thread-2\"} 2.0\n"));
+    }
+
+    @Test
+    public void shouldExportNonNumericValueAsLabel() throws IOException {
+        metrics.addMetric(metricName("version", "thread-1"), (Gauge<String>) (config, now) -> "2.5.\"0\"");
+
+        final String output = writeAll();
+
+        Assertions.assertTrue(output.contains(
+            "thread_id=\"thread-1\",value=\"2.5.\\\"0\\\"\"} 0.0\n"));
+    }
+
+    @Test
+    public void shouldApplyFilterAndRemoveStaleMetrics() throws IOException {
+        final MetricName removed = metricName("process-rate", "thread-1");
+        metrics.addMetric(removed, (Gauge<Double>) (config, now) -> 1.0);
+        metrics.addMetric(metricName("poll-rate", "thread-1"), (Gauge<Double>) (config, now) -> 1.0);
+
+        StringWriter writer = new StringWriter();
+        exporter.write(writer, APPLICATION_ID, (name, value) -> name.name().equals("poll-rate"));
+        Assertions.assertFalse(writer.toString().contains("streams_process_rate"));
+        Assertions.assertTrue(writer.toString().contains("streams_poll_rate"));
+
+        metrics.removeMetric(removed);
+        Assertions.assertFalse(writeAll().contains("streams_process_rate"));
+    }
+
+    @Test
+    public void shouldExportRocksDBStatisticsAsCounterAndGauge() throws Exception {
+        RocksDB.loadLibrary();
+        final RocksDBStatisticsRegistry registry = RocksDBStatisticsRegistry.getInstance();
+        registry.acquire(APPLICATION_ID, "store", 10L);
+        try {
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (registry.metrics(APPLICATION_ID).isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            final String output = writeAll();
+            Assertions.assertTrue(output.contains("# TYPE streams_block_cache_hit_total counter\n"));
+            Assertions.assertTrue(output.contains("# TYPE streams_block_cache_hit_ratio gauge\n"));
+            Assertions.assertTrue(output.contains(
+                "{group=\"stream-rocksdb-statistics-metrics\",id=\"test-app\",store_name=\"store\"}"));
+        } finally {
+            registry.release(APPLICATION_ID, "store");
+        }
+    }
+
+    @Test
+    public void shouldExportRestoreProgressPerStorePartition() throws IOException {
+        restoreTracker.onRestoreStart(new TopicPartition("changelog", 0), "store", 0L, 100L);
+        restoreTracker.onBatchRestored(new TopicPartition("changelog", 0), "store", 40L, 40L);
+
+        final String output = writeAll();
+
+        Assertions.assertTrue(output.contains("# TYPE streams_restore_remaining_records gauge\n"));
+        Assertions.assertTrue(output.contains(
+            "streams_restore_remaining_records{group=\"state-restore-metrics\",id=\"test-app\"," +
+            "store=\"store\",topic=\"changelog\",partition=\"0\"} 60.0\n"));
+        Assertions.assertTrue(output.contains("streams_restore_total_restored{"));
+    }
+
+    private String writeAll() throws IOException {
+        final StringWriter writer = new StringWriter();
+        exporter.writeAll(writer);
+        return writer.toString();
+    }
+
+    private MetricName metricName(final String name, final String thread) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("thread-id", thread);
+        return metrics.metricName(name, GROUP, "The " + name + " metric", tags);
+    }
+
+    private static int count(final String s, final String sub) {
+        int count = 0;
+        int index = s.indexOf(sub);
+        while (index >= 0) {
+            count++;
+            index = s.indexOf(sub, index + sub.length());
+        }
+        return count;
+    }
+}
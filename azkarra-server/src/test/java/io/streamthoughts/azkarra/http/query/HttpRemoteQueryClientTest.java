@@ -18,6 +18,7 @@
  */
 package io.streamthoughts.azkarra.http.query;
 
+import io.streamthoughts.azkarra.api.config.ConfBuilder;
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.query.Queried;
 import io.streamthoughts.azkarra.api.query.QueryInfo;
@@ -30,11 +31,14 @@ import io.streamthoughts.azkarra.api.query.result.QueryStatus;
 import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
 import io.streamthoughts.azkarra.api.streams.StreamsServerInfo;
 import io.streamthoughts.azkarra.http.APIVersions;
+import io.streamthoughts.azkarra.http.serialization.binary.BinaryQueryResultSerdes;
 import io.streamthoughts.azkarra.http.serialization.json.SpecificJsonSerdes;
 import io.streamthoughts.azkarra.serialization.Serdes;
 import io.streamthoughts.azkarra.serialization.json.Json;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +46,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -104,6 +109,91 @@ public class HttpRemoteQueryClientTest {
         Assertions.assertEquals(queryResult, response);
     }
 
+    @Test
+    public void shouldSendPartitionsInHeaderGivenPartitionedQuery() throws Exception {
+        QueryInfo query = new QueryInfo(
+            TEST_STORE_NAME,
+            StoreType.KEY_VALUE,
+            StoreOperation.ALL,
+            QueryParams.empty()
+        );
+
+        server.enqueue(new MockResponse()
+            .setResponseCode(HttpURLConnection.HTTP_OK)
+            .setBody(new String(SERDES.serialize(newQueryResult())))
+        );
+
+        final Queried options = Queried.immediately().withRemoteAccessAllowed(false).withPartitions(Set.of(2));
+        client.query(SERVER_INFO, query, options).get();
+
+        RecordedRequest request = server.takeRequest();
+        Assertions.assertEquals("2", request.getHeader(HttpRemoteQueryClient.QUERY_PARTITIONS_HEADER));
+        Assertions.assertFalse(request.getBody().readUtf8().contains("partitions"));
+    }
+
+    @Test
+    public void shouldQueryRemoteServerGivenBinaryResponse() throws Exception {
+        final BinaryQueryResultSerdes binary = new BinaryQueryResultSerdes(Json.getDefault());
+        client = new HttpRemoteQueryBuilder()
+            .setSerdes(binary)
+            .addFallbackSerdes(SERDES)
+            .setBasePath(APIVersions.PATH_V1)
+            .build();
+
+        QueryInfo query = new QueryInfo(
+            TEST_STORE_NAME,
+            StoreType.KEY_VALUE,
+            StoreOperation.ALL,
+            QueryParams.empty()
+        );
+
+        QueryResult<String, String> queryResult = newQueryResult();
+
+        server.enqueue(new MockResponse()
+            .setResponseCode(HttpURLConnection.HTTP_OK)
+            .setHeader("Content-Type", binary.contentType())
+            .setBody(new Buffer().write(binary.serialize(queryResult)))
+        );
+
+        CompletableFuture<QueryResult<Object, Object>> future = client.query(SERVER_INFO, query, Queried.immediately());
+        QueryResult<Object, Object> response = future.get();
+        Assertions.assertEquals(queryResult, response);
+
+        RecordedRequest request = server.takeRequest();
+        Assertions.assertEquals(binary.contentType() + ", " + SERDES.contentType(), request.getHeader("Accept"));
+    }
+
+    @Test
+    public void shouldReturnErrorGivenResponseExceedingMaxSize() throws Exception {
+        client = new HttpRemoteQueryBuilder()
+            .setSerdes(SERDES)
+            .setBasePath(APIVersions.PATH_V1)
+            .setClientConfig(new RemoteQueryClientConfig(ConfBuilder.newConf()
+                .with(RemoteQueryClientConfig.CLIENT_MAX_RESPONSE_BYTES_CONFIG, 10L)
+                .with(RemoteQueryClientConfig.CLIENT_MAX_HOST_REQUESTS_CONFIG, 128)
+                .build()))
+            .build();
+
+        QueryInfo query = new QueryInfo(
+            TEST_STORE_NAME,
+            StoreType.KEY_VALUE,
+            StoreOperation.ALL,
+            QueryParams.empty()
+        );
+
+        server.enqueue(new MockResponse()
+            .setResponseCode(HttpURLConnection.HTTP_OK)
+            .setHeader("Content-Type", SERDES.contentType())
+            .setBody(new String(SERDES.serialize(newQueryResult())))
+        );
+
+        QueryResult<Object, Object> response = client.query(SERVER_INFO, query, Queried.immediately()).get();
+        Assertions.assertEquals(QueryStatus.ERROR, response.getStatus());
+        Assertions.assertEquals(128, client.metrics().metrics().stream()
+            .filter(m -> m.name().equals("max-requests-per-host"))
+            .findFirst().get().value());
+    }
+
     private QueryResult<String, String> newQueryResult() {
         return QueryResultBuilder.<String, String>newBuilder()
             .setServer(SERVER_INFO.hostAndPort())
@@ -22,12 +22,17 @@ import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.api.query.QueryParams;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.Queried;
+import io.streamthoughts.azkarra.api.query.QueryCursor;
 import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.StoreType;
+import io.streamthoughts.azkarra.http.error.BadRequestException;
 import io.streamthoughts.azkarra.http.error.InvalidStateStoreQueryException;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -75,6 +80,19 @@ public class JsonQuerySerdeTest {
         assertEquals(42, tuple.right().retryBackoff().toMillis());
     }
 
+    @Test
+    public void shouldIgnorePartitionsGivenJsonQueryWithOptions() {
+        String dataString = " { \"type\" : \"key_value\", \"query\" : {  \"all\" : {} }, \"set_options\" : {\"partitions\": [0]} }";
+        Tuple<QueryInfo, Queried> tuple = JsonQuerySerde.deserialize("store", dataString.getBytes());
+        assertTrue(tuple.right().partitions().isEmpty());
+    }
+
+    @Test
+    public void shouldThrowBadRequestGivenJsonQueryWithInvalidHedgingPercentile() {
+        String dataString = " { \"type\" : \"key_value\", \"query\" : {  \"all\" : {} }, \"set_options\" : {\"hedging_percentile\": 1.5} }";
+        assertThrows(BadRequestException.class, () -> JsonQuerySerde.deserialize("store", dataString.getBytes()));
+    }
+
     @Test
     public void shouldThrowExceptionGivenJsonQueryWithInvalidStoreType() {
         InvalidStateStoreQueryException exception = assertThrows(InvalidStateStoreQueryException.class, () -> {
@@ -108,4 +126,31 @@ public class JsonQuerySerdeTest {
             "\"retries\":0,\"retry_backoff_ms\":0,\"query_timeout_ms\":0,\"remote_access_allowed\":false,\"limit\":-1}}"
             , json);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldDeserializeGivenValidJsonQueryWithCursor() {
+        String dataString = " { \"type\" : \"key_value\", \"query\" : {  \"all\" : {} }, " +
+            "\"set_options\" : {\"limit\": 100, \"cursor\": {\"positions\": {\"localhost:8080\": {\"after\": \"Zm9v\"}}}} }";
+        Tuple<QueryInfo, Queried> tuple = JsonQuerySerde.deserialize("store", dataString.getBytes());
+        assertTrue(tuple.right().isPaginated());
+        assertEquals(
+            new QueryCursor.Position("Zm9v"),
+            tuple.right().cursor().get().positionFor("localhost:8080").get()
+        );
+        assertFalse(tuple.right().cursor().get().isCompleted("localhost:8080"));
+    }
+
+    @Test
+    public void shouldDeserializeGivenValidJsonMultiGetQuery() {
+        String dataString = " { \"type\" : \"key_value\", \"query\" : {  \"multi_get\" : {\"keys\" : [\"foo\", \"bar\"]} } }";
+        Tuple<QueryInfo, Queried> tuple = JsonQuerySerde.deserialize("store", dataString.getBytes());
+        assertEquals(StoreOperation.MULTI_GET, tuple.left().operation());
+        assertEquals(List.of("foo", "bar"), tuple.left().parameters().getValue("keys"));
+    }
+
+    @Test
+    public void shouldThrowBadRequestGivenJsonMultiGetQueryWithNullKey() {
+        String dataString = " { \"type\" : \"key_value\", \"query\" : {  \"multi_get\" : {\"keys\" : [\"foo\", null]} } }";
+        assertThrows(BadRequestException.class, () -> JsonQuerySerde.deserialize("store", dataString.getBytes()));
+    }
+}
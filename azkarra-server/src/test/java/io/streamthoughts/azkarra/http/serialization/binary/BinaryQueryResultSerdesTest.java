@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.serialization.binary;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.QueryCursor;
+import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
+import io.streamthoughts.azkarra.api.query.result.QueryError;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.serialization.SerializationException;
+import io.streamthoughts.azkarra.serialization.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+
+public class BinaryQueryResultSerdesTest {
+
+    private final BinaryQueryResultSerdes serdes = new BinaryQueryResultSerdes(Json.getDefault());
+
+    @Test
+    public void shouldSerializeAndDeserializeQueryResult() {
+        final QueryResult<Object, Object> result = QueryResultBuilder.newBuilder()
+            .setServer("localhost:8080")
+            .setStatus(QueryStatus.PARTIAL)
+            .setStoreName("store")
+            .setStoreType("key_value")
+            .setTook(42)
+            .setCursor(QueryCursor.first().withPosition("localhost:8080", new QueryCursor.Position("azI=")))
+            .setFailedResultSet(new ErrorResultSet("localhost:8081", true, new QueryError("error")))
+            .setSuccessResultSet(singletonList(
+                new SuccessResultSet<>("localhost:8080", false, Arrays.asList(
+                    KV.of("k1", 1L, 10L),
+                    KV.of("k2", null),
+                    KV.of(3, Map.of("field", "value"))
+                ), new QueryCursor.Position("azI="))
+            ))
+            .build();
+
+        final QueryResult deserialized = serdes.deserialize(serdes.serialize(result));
+        Assertions.assertEquals(result, deserialized);
+    }
+
+    @Test
+    public void shouldDeserializeGivenStreamReadByteByByte() {
+        final QueryResult<Object, Object> result = QueryResultBuilder.newBuilder()
+            .setServer("localhost:8080")
+            .setStatus(QueryStatus.SUCCESS)
+            .setSuccessResultSet(singletonList(
+                new SuccessResultSet<>("localhost:8080", false, singletonList(KV.of("k1", "v1")))
+            ))
+            .build();
+
+        // a network stream does not know how many bytes remain.
+        final ByteArrayInputStream bytes = new ByteArrayInputStream(serdes.serialize(result));
+        final InputStream is = new InputStream() {
+            @Override
+            public int read() {
+                return bytes.read();
+            }
+        };
+        Assertions.assertEquals(result, serdes.deserialize(is));
+    }
+
+    @Test
+    public void shouldThrowGivenBytesLengthGreaterThanRemaining() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = writeHeader(bytes);
+        out.writeInt(Integer.MAX_VALUE); // server
+        Assertions.assertThrows(SerializationException.class, () -> serdes.deserialize(bytes.toByteArray()));
+    }
+
+    @Test
+    public void shouldThrowGivenListSizeGreaterThanRemaining() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = writeHeader(bytes);
+        out.writeInt(-1); // server
+        out.writeInt(-1); // status
+        out.writeInt(-1); // cursor
+        out.writeBoolean(true);
+        out.writeInt(-1); // store
+        out.writeInt(-1); // type
+        out.writeInt(-1); // error
+        out.writeInt(Integer.MAX_VALUE); // failures
+        Assertions.assertThrows(
+            SerializationException.class,
+            () -> serdes.deserialize(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private static DataOutputStream writeHeader(final ByteArrayOutputStream bytes) throws IOException {
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(0x2);
+        out.writeLong(42L);
+        out.writeBoolean(false);
+        return out;
+    }
+}
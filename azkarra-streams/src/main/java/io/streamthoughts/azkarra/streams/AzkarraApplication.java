@@ -79,6 +79,7 @@ public class AzkarraApplication {
 
     private static final String HTTP_SERVER_CONFIG = "azkarra.server";
     private static final String COMPONENT_PATHS_CONFIG = "azkarra.component.paths";
+    private static final String COMPONENT_INDEX_ENABLE_CONFIG = "azkarra.component.index.enable";
 
     public static AzkarraContext run() {
         return run(new Class<?>[0], new String[0]);
@@ -278,7 +279,10 @@ public class AzkarraApplication {
         }
 
         if (enableComponentScan) {
-            ComponentScanner scanner = new ComponentScanner(context.getComponentFactory());
+            final boolean useComponentIndex = configuration
+                .getOptionalBoolean(COMPONENT_INDEX_ENABLE_CONFIG)
+                .orElse(true);
+            ComponentScanner scanner = new ComponentScanner(context.getComponentFactory(), useComponentIndex);
 
             // Scan all sub-packages of the root package of Azkarra for declared components.
             scanner.scanForPackage("io.streamthoughts.azkarra");
@@ -30,6 +30,7 @@ import io.streamthoughts.azkarra.api.components.ComponentRegistry;
 import io.streamthoughts.azkarra.api.components.condition.Conditions;
 import io.streamthoughts.azkarra.api.errors.AzkarraException;
 import io.streamthoughts.azkarra.api.util.ClassUtils;
+import io.streamthoughts.azkarra.component.index.ComponentIndex;
 import io.streamthoughts.azkarra.runtime.components.BasicComponentFactory;
 import io.streamthoughts.azkarra.streams.components.isolation.ComponentClassLoader;
 import io.streamthoughts.azkarra.streams.components.isolation.ComponentResolver;
@@ -48,6 +49,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Named;
 import javax.inject.Singleton;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.nio.file.InvalidPathException;
@@ -57,6 +59,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -72,6 +75,10 @@ import static org.reflections.ReflectionUtils.withAnnotation;
 /**
  * The {@link ComponentScanner} class can be used used to scan the classpath for automatically
  * registering declared classes annotated with {@link Component} and {@link ComponentFactory} classes.
+ *
+ * The classpath entries containing a {@link ComponentIndex} generated at compile time are not scanned;
+ * only the classes listed in the index are loaded. All other entries, as well as the entries for which
+ * an indexed class cannot be loaded, are scanned using reflection.
  */
 public class ComponentScanner {
 
@@ -83,14 +90,28 @@ public class ComponentScanner {
 
     private final ComponentRegistry registry;
 
+    private final boolean useComponentIndex;
+
     /**
      * Creates a new {@link ComponentScanner} instance.
      *
      * @param registry  the {@link ComponentRegistry} used to register providers.
      */
     public ComponentScanner(final ComponentRegistry registry) {
+        this(registry, true);
+    }
+
+    /**
+     * Creates a new {@link ComponentScanner} instance.
+     *
+     * @param registry          the {@link ComponentRegistry} used to register providers.
+     * @param useComponentIndex {@code true} if the component indexes generated at compile time should be used,
+     *                          {@code false} to always scan the classpath using reflection.
+     */
+    public ComponentScanner(final ComponentRegistry registry, final boolean useComponentIndex) {
         Objects.requireNonNull(registry, "registry cannot be null");
         this.registry = registry;
+        this.useComponentIndex = useComponentIndex;
     }
 
     /**
@@ -169,12 +190,24 @@ public class ComponentScanner {
     private void scanUrlsForComponents(final URL[] urls,
                                        final ClassLoader classLoader,
                                        final com.google.common.base.Predicate<String> filterBy) {
+        final List<URL> unindexed = new ArrayList<>(urls.length);
+        for (URL url : urls) {
+            final Optional<ComponentIndex> index = readComponentIndex(url);
+            if (index.isPresent() && registerIndexedComponents(url, index.get(), classLoader, filterBy)) {
+                LOG.info("Loaded components from index : {}", url.getPath());
+            } else {
+                unindexed.add(url);
+            }
+        }
+
+        if (unindexed.isEmpty()) return;
+
         LOG.info("Scanning components from paths : {}",
-            Arrays.stream(urls).map(URL::getPath).collect(Collectors.joining("\n\t", "\n\t", "")));
+            unindexed.stream().map(URL::getPath).collect(Collectors.joining("\n\t", "\n\t", "")));
 
         ConfigurationBuilder builder = new ConfigurationBuilder();
         builder.setClassLoaders(new ClassLoader[]{classLoader});
-        builder.addUrls(urls);
+        builder.addUrls(unindexed);
         builder.filterInputsBy(filterBy);
         builder.setScanners(new SubTypesScanner(), new TypeAnnotationsScanner());
         builder.useParallelExecutor();
@@ -185,15 +218,73 @@ public class ComponentScanner {
         registerClassesAnnotatedFactory(reflections, classLoader);
     }
 
+    private Optional<ComponentIndex> readComponentIndex(final URL url) {
+        if (!useComponentIndex) return Optional.empty();
+        try {
+            return ComponentIndex.read(url);
+        } catch (IOException e) {
+            LOG.warn("Cannot read component index from '{}', scanning path instead : {}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Registers the components listed in the specified index, only if all the indexed classes can be loaded.
+     *
+     * @return {@code true} if the components were registered, {@code false} if the index is stale.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean registerIndexedComponents(final URL url,
+                                              final ComponentIndex index,
+                                              final ClassLoader classLoader,
+                                              final com.google.common.base.Predicate<String> filterBy) {
+        final Optional<List<Class<?>>> components = loadIndexedClasses(url, index.components(), classLoader, filterBy);
+        final Optional<List<Class<?>>> factories = loadIndexedClasses(url, index.factories(), classLoader, filterBy);
+        if (components.isEmpty() || factories.isEmpty()) {
+            return false;
+        }
+        components.get()
+            .stream()
+            .filter(ClassUtils::canBeInstantiated)
+            .forEach(cls -> registerComponentClass((Class<Object>) cls, classLoader));
+        factories.get().forEach(cls -> registerFactoryClass(cls, classLoader));
+        return true;
+    }
+
+    private static Optional<List<Class<?>>> loadIndexedClasses(
+            final URL url,
+            final List<String> classNames,
+            final ClassLoader classLoader,
+            final com.google.common.base.Predicate<String> filterBy) {
+        final List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            // filters are applied to the qualified names of the class files, like when scanning paths.
+            if (!filterBy.apply(className + ".class")) continue;
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOG.warn("Cannot load indexed component '{}' from '{}', scanning path instead : {}",
+                    className, url.getPath(), e.getMessage());
+                return Optional.empty();
+            }
+        }
+        return Optional.of(classes);
+    }
+
     private void registerClassesAnnotatedFactory(final Reflections reflections,
                                                  final ClassLoader classLoader) {
         final Set<Class<?>> factoryClasses = reflections.getTypesAnnotatedWith(Factory.class, true);
         for (Class<?> factoryClass : factoryClasses) {
-            if (ClassUtils.canBeInstantiated(factoryClass)) {
-                Set<Method> components = getAllMethods(factoryClass, withAnnotation(Component.class));
-                for (Method method : components) {
-                    registerComponentMethod(factoryClass, method, classLoader);
-                }
+            registerFactoryClass(factoryClass, classLoader);
+        }
+    }
+
+    private void registerFactoryClass(final Class<?> factoryClass,
+                                      final ClassLoader classLoader) {
+        if (ClassUtils.canBeInstantiated(factoryClass)) {
+            Set<Method> components = getAllMethods(factoryClass, withAnnotation(Component.class));
+            for (Method method : components) {
+                registerComponentMethod(factoryClass, method, classLoader);
             }
         }
     }
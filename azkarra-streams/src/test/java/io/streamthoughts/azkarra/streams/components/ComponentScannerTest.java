@@ -24,6 +24,7 @@ import io.streamthoughts.azkarra.api.components.ComponentDescriptorModifier;
 import io.streamthoughts.azkarra.api.components.qualifier.Qualifiers;
 import io.streamthoughts.azkarra.api.streams.TopologyProvider;
 import io.streamthoughts.azkarra.api.util.Version;
+import io.streamthoughts.azkarra.component.index.ComponentIndex;
 import io.streamthoughts.azkarra.runtime.components.DefaultComponentDescriptorFactory;
 import io.streamthoughts.azkarra.runtime.components.DefaultComponentFactory;
 import io.streamthoughts.azkarra.streams.MockTopologyProvider;
@@ -44,6 +45,7 @@ import org.mockito.Mockito;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -75,6 +77,17 @@ public class ComponentScannerTest {
             Mockito.any(Supplier.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldScanAndRegisterDeclaredComponentsGivenComponentIndexDisabled() {
+        new ComponentScanner(factory, false).scanForPackage(TestAnnotatedComponent.class.getPackage());
+
+        Mockito.verify(factory).registerComponent(
+            Matchers.isNull(String.class),
+            Mockito.argThat(new ClassMatcher(TestAnnotatedComponent.class)),
+            Mockito.any(Supplier.class));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void shouldScanAndRegisterDeclaredSupplier() {
@@ -164,15 +177,38 @@ public class ComponentScannerTest {
         assertTrue(Version.isEqual(descriptorV20.get().version(), "2.0"));
     }
 
+    @Test
+    public void shouldScanComponentPathGivenStaleComponentIndex(@TempDir final Path componentPath) throws IOException {
+        final File component = new File(componentPath.toFile(), "component-stale-index");
+        generateTopologyProviderClass("test.IndexedTopologyProvider", "1.0", component);
+
+        // the index does not list the generated class but a class which cannot be loaded.
+        final Path index = component.toPath().resolve(ComponentIndex.LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "component test.MissingTopologyProvider\n");
+
+        scanner.scan(componentPath.toString());
+
+        assertTrue(factory.findDescriptorByAlias(
+            "test.IndexedTopologyProvider", Qualifiers.byVersion("1.0")).isPresent());
+    }
+
     private void generateTopologyProviderClass(final String version, final String path) throws IOException {
+        final File location = new File(COMPONENT_PATH.toFile(), path);
+        generateTopologyProviderClass("test.ByteBuddyTopologyProvider", version, location);
+    }
+
+    private void generateTopologyProviderClass(final String className,
+                                               final String version,
+                                               final File path) throws IOException {
         new ByteBuddy()
             .subclass(TopologyProvider.class)
-            .name("test.ByteBuddyTopologyProvider")
+            .name(className)
             .annotateType(AnnotationDescription.Builder.ofType(Component.class).build())
             .method(ElementMatchers.named("version"))
             .intercept(FixedValue.value(version))
             .make()
-            .saveIn(new File(COMPONENT_PATH.toFile(), path));
+            .saveIn(path);
     }
 
     public static class ClassMatcher extends ArgumentMatcher<Class> {